@@ -0,0 +1,75 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.benchmarks;
+
+import org.openjdk.jmh.results.format.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+/**
+ * Entry point of the benchmark suite. Accepts the usual JMH command line options, but writes the
+ * results by default in JSON format to the file {@value #DEFAULT_RESULT_FILE}, so that the results
+ * of different releases can be compared.
+ *
+ * <p>
+ * For example, the following runs all shortest path benchmarks on grids:
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar "alg.shortestpath" -p family=GRID -rff shortestpath.json
+ * </pre>
+ *
+ * @author agent
+ */
+public class BenchmarkRunner
+{
+    /**
+     * Default file to write the results to
+     */
+    public static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+    private BenchmarkRunner()
+    {
+    }
+
+    /**
+     * Run the benchmarks.
+     *
+     * @param args JMH command line options
+     * @throws CommandLineOptionException in case of invalid options
+     * @throws RunnerException in case of a benchmark failure
+     */
+    public static void main(String[] args)
+        throws CommandLineOptionException,
+        RunnerException
+    {
+        CommandLineOptions cmdOptions = new CommandLineOptions(args);
+
+        ChainedOptionsBuilder builder = new OptionsBuilder().parent(cmdOptions);
+        if (!cmdOptions.getResultFormat().hasValue()) {
+            builder.resultFormat(ResultFormatType.JSON);
+        }
+        if (!cmdOptions.getResult().hasValue()) {
+            builder.result(DEFAULT_RESULT_FILE);
+        }
+
+        new Runner(builder.build()).run();
+    }
+
+}
+
+// End BenchmarkRunner.java
@@ -0,0 +1,173 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.benchmarks;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+/**
+ * Families of generated graphs used as benchmark inputs. All graphs are simple, weighted, have
+ * vertices $0, \ldots, n-1$ and edge weights drawn uniformly from $[1, 100)$. Generation depends
+ * only on the parameters, so results of different runs are comparable.
+ *
+ * @author agent
+ */
+public enum GraphFamily
+{
+    /**
+     * Erdős–Rényi $G(n, p)$ graphs with $p$ chosen to match the average degree.
+     */
+    GNP {
+        @Override
+        void generateTopology(
+            Graph<Integer, DefaultWeightedEdge> target, int n, int degree, long seed)
+        {
+            double p = Math.min(1d, (double) degree / (n - 1));
+            new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(n, p, seed, false)
+                .generateGraph(target);
+        }
+    },
+
+    /**
+     * Barabási-Albert preferential attachment graphs, each new vertex attaching with half the
+     * average degree.
+     */
+    BARABASI_ALBERT {
+        @Override
+        void generateTopology(
+            Graph<Integer, DefaultWeightedEdge> target, int n, int degree, long seed)
+        {
+            int m = Math.max(1, Math.min(degree / 2, n - 1));
+            new BarabasiAlbertGraphGenerator<Integer, DefaultWeightedEdge>(m + 1, m, n, seed)
+                .generateGraph(target);
+        }
+    },
+
+    /**
+     * Watts-Strogatz small world graphs with rewiring probability $0.1$.
+     */
+    WATTS_STROGATZ {
+        @Override
+        void generateTopology(
+            Graph<Integer, DefaultWeightedEdge> target, int n, int degree, long seed)
+        {
+            int k = Math.max(2, Math.min(degree, n - 2) & ~1);
+            new WattsStrogatzGraphGenerator<Integer, DefaultWeightedEdge>(n, k, 0.1, seed)
+                .generateGraph(target);
+        }
+    },
+
+    /**
+     * Two dimensional grids with $\lceil \sqrt{n} \rceil$ columns, as a road-network like family.
+     * The average degree is ignored. Directed grids contain both directions of each edge.
+     */
+    GRID {
+        @Override
+        void generateTopology(
+            Graph<Integer, DefaultWeightedEdge> target, int n, int degree, long seed)
+        {
+            int cols = (int) Math.ceil(Math.sqrt(n));
+            for (int i = 0; i < n; i++) {
+                target.addVertex();
+            }
+            for (int i = 0; i < n; i++) {
+                if ((i + 1) % cols != 0 && i + 1 < n) {
+                    addGridEdge(target, i, i + 1);
+                }
+                if (i + cols < n) {
+                    addGridEdge(target, i, i + cols);
+                }
+            }
+        }
+
+        private void addGridEdge(Graph<Integer, DefaultWeightedEdge> target, int u, int v)
+        {
+            target.addEdge(u, v);
+            if (target.getType().isDirected()) {
+                target.addEdge(v, u);
+            }
+        }
+    };
+
+    /**
+     * Generate the topology of a graph of this family.
+     *
+     * @param target the empty graph to fill
+     * @param n the number of vertices
+     * @param degree the average degree
+     * @param seed the seed
+     */
+    abstract void generateTopology(
+        Graph<Integer, DefaultWeightedEdge> target, int n, int degree, long seed);
+
+    /**
+     * Generate a graph of this family.
+     *
+     * @param n the number of vertices
+     * @param degree the average degree (out-degree for directed graphs)
+     * @param directed whether the graph should be directed
+     * @param seed the seed
+     * @return the generated graph
+     */
+    public Graph<Integer, DefaultWeightedEdge> generate(
+        int n, int degree, boolean directed, long seed)
+    {
+        Graph<Integer, DefaultWeightedEdge> g = createGraph(directed);
+        generateTopology(g, n, degree, seed);
+        assignWeights(g, seed);
+        return g;
+    }
+
+    /**
+     * Create an empty simple weighted graph with vertices $0, 1, \ldots$.
+     *
+     * @param directed whether the graph should be directed
+     * @return the graph
+     */
+    public static Graph<Integer, DefaultWeightedEdge> createGraph(boolean directed)
+    {
+        if (directed) {
+            return new SimpleDirectedWeightedGraph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        } else {
+            return new SimpleWeightedGraph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        }
+    }
+
+    /**
+     * Assign edge weights drawn uniformly from $[1, 100)$.
+     *
+     * @param g the graph
+     * @param seed the seed
+     */
+    public static void assignWeights(Graph<Integer, DefaultWeightedEdge> g, long seed)
+    {
+        Random rng = new Random(seed);
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            g.setEdgeWeight(e, 1d + 99d * rng.nextDouble());
+        }
+    }
+
+}
+
+// End GraphFamily.java
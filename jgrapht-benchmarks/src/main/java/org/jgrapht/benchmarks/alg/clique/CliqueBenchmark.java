@@ -0,0 +1,108 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.benchmarks.alg.clique;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.clique.*;
+import org.jgrapht.benchmarks.*;
+import org.jgrapht.graph.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks of the maximal clique enumeration algorithms.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CliqueBenchmark
+{
+    public static final long SEED = 17l;
+
+    @State(Scope.Benchmark)
+    public static class GraphState
+    {
+        @Param({ "GNP", "BARABASI_ALBERT", "WATTS_STROGATZ", "GRID" })
+        public GraphFamily family;
+
+        @Param({ "1000", "10000" })
+        public int size;
+
+        @Param({ "8", "32" })
+        public int degree;
+
+        Graph<Integer, DefaultWeightedEdge> graph;
+
+        @Setup(Level.Trial)
+        public void setup()
+        {
+            graph = family.generate(size, degree, false, SEED);
+        }
+    }
+
+    @Benchmark
+    public int bronKerbosch(GraphState state)
+    {
+        return count(new BronKerboschCliqueFinder<>(state.graph));
+    }
+
+    @Benchmark
+    public int pivotBronKerbosch(GraphState state)
+    {
+        return count(new PivotBronKerboschCliqueFinder<>(state.graph));
+    }
+
+    @Benchmark
+    public int degeneracyBronKerbosch(GraphState state)
+    {
+        return count(new DegeneracyBronKerboschCliqueFinder<>(state.graph));
+    }
+
+    @Benchmark
+    public int parallelDegeneracyBronKerbosch(GraphState state)
+    {
+        return count(new ParallelDegeneracyBronKerboschCliqueFinder<>(state.graph));
+    }
+
+    @Benchmark
+    public int parallelDegeneracyBronKerboschStreaming(GraphState state)
+    {
+        int[] count = new int[1];
+        new ParallelDegeneracyBronKerboschCliqueFinder<>(state.graph)
+            .forEachClique(clique -> count[0] += clique.size());
+        return count[0];
+    }
+
+    private static int count(Iterable<Set<Integer>> cliques)
+    {
+        int count = 0;
+        for (Set<Integer> clique : cliques) {
+            count += clique.size();
+        }
+        return count;
+    }
+
+}
+
+// End CliqueBenchmark.java
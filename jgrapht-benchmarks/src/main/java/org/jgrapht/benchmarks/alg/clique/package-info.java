@@ -0,0 +1,4 @@
+/**
+ * Benchmarks of clique algorithms.
+ */
+package org.jgrapht.benchmarks.alg.clique;
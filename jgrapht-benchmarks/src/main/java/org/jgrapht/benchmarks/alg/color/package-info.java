@@ -0,0 +1,4 @@
+/**
+ * Benchmarks of coloring algorithms.
+ */
+package org.jgrapht.benchmarks.alg.color;
@@ -0,0 +1,142 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.benchmarks.alg.connectivity;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.connectivity.*;
+import org.jgrapht.benchmarks.*;
+import org.jgrapht.graph.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks of connectivity queries under edge deletions. Each invocation performs a fixed
+ * number of rounds, where a random edge is removed, a connectivity query is answered and the edge
+ * is inserted back.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DynamicConnectivityBenchmark
+{
+    public static final long SEED = 17l;
+    public static final int ROUNDS = 100;
+
+    @State(Scope.Benchmark)
+    public static class GraphState
+    {
+        @Param({ "GNP", "BARABASI_ALBERT", "WATTS_STROGATZ", "GRID" })
+        public GraphFamily family;
+
+        @Param({ "10000", "100000" })
+        public int size;
+
+        @Param({ "2", "8" })
+        public int degree;
+
+        ListenableGraph<Integer, DefaultWeightedEdge> graph;
+        List<DefaultWeightedEdge> edges;
+        List<Integer> vertices;
+        Random rng;
+
+        @Setup(Level.Trial)
+        public void setup()
+        {
+            graph = new DefaultListenableGraph<>(family.generate(size, degree, false, SEED));
+            edges = new ArrayList<>(graph.edgeSet());
+            vertices = new ArrayList<>(graph.vertexSet());
+            rng = new Random(SEED);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class RecomputingState
+        extends GraphState
+    {
+        ConnectivityInspector<Integer, DefaultWeightedEdge> inspector;
+
+        @Override
+        @Setup(Level.Trial)
+        public void setup()
+        {
+            super.setup();
+            inspector = new ConnectivityInspector<>(graph);
+            graph.addGraphListener(inspector);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class DynamicState
+        extends GraphState
+    {
+        DynamicConnectivityInspector<Integer, DefaultWeightedEdge> inspector;
+
+        @Override
+        @Setup(Level.Trial)
+        public void setup()
+        {
+            super.setup();
+            inspector = new DynamicConnectivityInspector<>(graph);
+            graph.addGraphListener(inspector);
+        }
+    }
+
+    @Benchmark
+    public int recomputing(RecomputingState state)
+    {
+        return run(state, state.inspector::pathExists);
+    }
+
+    @Benchmark
+    public int dynamic(DynamicState state)
+    {
+        return run(state, state.inspector::pathExists);
+    }
+
+    private static int run(GraphState state, BiPredicate<Integer, Integer> pathExists)
+    {
+        Graph<Integer, DefaultWeightedEdge> g = state.graph;
+        int count = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            DefaultWeightedEdge e = state.edges.get(state.rng.nextInt(state.edges.size()));
+            Integer source = g.getEdgeSource(e);
+            Integer target = g.getEdgeTarget(e);
+            g.removeEdge(e);
+            if (pathExists.test(randomVertex(state), randomVertex(state))) {
+                count++;
+            }
+            g.addEdge(source, target, e);
+        }
+        return count;
+    }
+
+    private static Integer randomVertex(GraphState state)
+    {
+        return state.vertices.get(state.rng.nextInt(state.vertices.size()));
+    }
+
+}
+
+// End DynamicConnectivityBenchmark.java
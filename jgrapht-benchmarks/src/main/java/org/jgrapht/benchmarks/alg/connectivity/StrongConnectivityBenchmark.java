@@ -0,0 +1,85 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.benchmarks.alg.connectivity;
+
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.connectivity.*;
+import org.jgrapht.benchmarks.*;
+import org.jgrapht.graph.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks of the strongly connected components algorithms.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StrongConnectivityBenchmark
+{
+    public static final long SEED = 17l;
+
+    @State(Scope.Benchmark)
+    public static class GraphState
+    {
+        @Param({ "GNP", "BARABASI_ALBERT", "WATTS_STROGATZ", "GRID" })
+        public GraphFamily family;
+
+        @Param({ "10000", "100000" })
+        public int size;
+
+        @Param({ "2", "8" })
+        public int degree;
+
+        Graph<Integer, DefaultWeightedEdge> graph;
+
+        @Setup(Level.Trial)
+        public void setup()
+        {
+            graph = family.generate(size, degree, true, SEED);
+        }
+    }
+
+    @Benchmark
+    public int gabow(GraphState state)
+    {
+        return new GabowStrongConnectivityInspector<>(state.graph).stronglyConnectedSets().size();
+    }
+
+    @Benchmark
+    public int kosaraju(GraphState state)
+    {
+        return new KosarajuStrongConnectivityInspector<>(state.graph)
+            .stronglyConnectedSets().size();
+    }
+
+    @Benchmark
+    public int parallel(GraphState state)
+    {
+        return new ParallelStrongConnectivityInspector<>(state.graph)
+            .getStronglyConnectedIndexSets().size();
+    }
+
+}
+
+// End StrongConnectivityBenchmark.java
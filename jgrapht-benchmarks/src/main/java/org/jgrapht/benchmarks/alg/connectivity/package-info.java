@@ -0,0 +1,4 @@
+/**
+ * Benchmarks of connectivity algorithms.
+ */
+package org.jgrapht.benchmarks.alg.connectivity;
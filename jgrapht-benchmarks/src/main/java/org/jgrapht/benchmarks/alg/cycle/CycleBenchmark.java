@@ -0,0 +1,164 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.benchmarks.alg.cycle;
+
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.cycle.*;
+import org.jgrapht.benchmarks.*;
+import org.jgrapht.graph.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks of the cycle algorithms. The number of simple cycles grows exponentially, therefore
+ * their enumeration is benchmarked on small sparse graphs.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CycleBenchmark
+{
+    public static final long SEED = 17l;
+
+    /**
+     * Small sparse directed graphs for the enumeration of simple cycles.
+     */
+    @State(Scope.Benchmark)
+    public static class SimpleCyclesState
+    {
+        @Param({ "GNP", "GRID" })
+        public GraphFamily family;
+
+        @Param({ "16", "25" })
+        public int size;
+
+        Graph<Integer, DefaultWeightedEdge> graph;
+
+        @Setup(Level.Trial)
+        public void setup()
+        {
+            graph = family.generate(size, 2, true, SEED);
+        }
+    }
+
+    /**
+     * Directed graphs for cycle detection.
+     */
+    @State(Scope.Benchmark)
+    public static class DirectedGraphState
+    {
+        @Param({ "GNP", "BARABASI_ALBERT", "WATTS_STROGATZ", "GRID" })
+        public GraphFamily family;
+
+        @Param({ "1000", "10000" })
+        public int size;
+
+        Graph<Integer, DefaultWeightedEdge> graph;
+
+        @Setup(Level.Trial)
+        public void setup()
+        {
+            graph = family.generate(size, 4, true, SEED);
+        }
+    }
+
+    /**
+     * Undirected graphs for cycle bases.
+     */
+    @State(Scope.Benchmark)
+    public static class UndirectedGraphState
+    {
+        @Param({ "GNP", "BARABASI_ALBERT", "WATTS_STROGATZ", "GRID" })
+        public GraphFamily family;
+
+        @Param({ "1000", "10000" })
+        public int size;
+
+        Graph<Integer, DefaultWeightedEdge> graph;
+
+        @Setup(Level.Trial)
+        public void setup()
+        {
+            graph = family.generate(size, 4, false, SEED);
+        }
+    }
+
+    @Benchmark
+    public int tarjanSimpleCycles(SimpleCyclesState state)
+    {
+        return new TarjanSimpleCycles<>(state.graph).findSimpleCycles().size();
+    }
+
+    @Benchmark
+    public int johnsonSimpleCycles(SimpleCyclesState state)
+    {
+        return new JohnsonSimpleCycles<>(state.graph).findSimpleCycles().size();
+    }
+
+    @Benchmark
+    public long johnsonSimpleCyclesStreaming(SimpleCyclesState state)
+    {
+        long[] count = new long[1];
+        new JohnsonSimpleCycles<>(state.graph).simpleCycles(c -> count[0]++);
+        return count[0];
+    }
+
+    @Benchmark
+    public long parallelJohnsonSimpleCycles(SimpleCyclesState state)
+    {
+        return new ParallelJohnsonSimpleCycles<>(state.graph).countSimpleCycles();
+    }
+
+    @Benchmark
+    public int szwarcfiterLauerSimpleCycles(SimpleCyclesState state)
+    {
+        return new SzwarcfiterLauerSimpleCycles<>(state.graph).findSimpleCycles().size();
+    }
+
+    @Benchmark
+    public long hawickJamesSimpleCycles(SimpleCyclesState state)
+    {
+        return new HawickJamesSimpleCycles<>(state.graph).countSimpleCycles();
+    }
+
+    @Benchmark
+    public int cycleDetector(DirectedGraphState state)
+    {
+        return new CycleDetector<>(state.graph).findCycles().size();
+    }
+
+    @Benchmark
+    public int patonCycleBase(UndirectedGraphState state)
+    {
+        return new PatonCycleBase<>(state.graph).getCycleBasis().getLength();
+    }
+
+    @Benchmark
+    public int queueBFSFundamentalCycleBasis(UndirectedGraphState state)
+    {
+        return new QueueBFSFundamentalCycleBasis<>(state.graph).getCycleBasis().getLength();
+    }
+
+}
+
+// End CycleBenchmark.java
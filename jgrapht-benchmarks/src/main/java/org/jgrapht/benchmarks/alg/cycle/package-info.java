@@ -0,0 +1,4 @@
+/**
+ * Benchmarks of cycle algorithms.
+ */
+package org.jgrapht.benchmarks.alg.cycle;
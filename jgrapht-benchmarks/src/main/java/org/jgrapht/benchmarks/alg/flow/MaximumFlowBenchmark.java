@@ -0,0 +1,85 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.benchmarks.alg.flow;
+
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.flow.*;
+import org.jgrapht.benchmarks.*;
+import org.jgrapht.graph.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks of the maximum flow algorithms. The flow is computed between the first and the last
+ * vertex, using the edge weights as capacities.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MaximumFlowBenchmark
+{
+    public static final long SEED = 17l;
+    public static final int DEGREE = 8;
+
+    @State(Scope.Benchmark)
+    public static class GraphState
+    {
+        @Param({ "GNP", "BARABASI_ALBERT", "WATTS_STROGATZ", "GRID" })
+        public GraphFamily family;
+
+        @Param({ "1000", "10000" })
+        public int size;
+
+        @Param({ "false", "true" })
+        public boolean directed;
+
+        Graph<Integer, DefaultWeightedEdge> graph;
+
+        @Setup(Level.Trial)
+        public void setup()
+        {
+            graph = family.generate(size, DEGREE, directed, SEED);
+        }
+    }
+
+    @Benchmark
+    public double edmondsKarp(GraphState state)
+    {
+        return new EdmondsKarpMFImpl<>(state.graph).calculateMaximumFlow(0, state.size - 1);
+    }
+
+    @Benchmark
+    public double pushRelabel(GraphState state)
+    {
+        return new PushRelabelMFImpl<>(state.graph).calculateMaximumFlow(0, state.size - 1);
+    }
+
+    @Benchmark
+    public double dinic(GraphState state)
+    {
+        return new DinicMFImpl<>(state.graph).calculateMaximumFlow(0, state.size - 1);
+    }
+
+}
+
+// End MaximumFlowBenchmark.java
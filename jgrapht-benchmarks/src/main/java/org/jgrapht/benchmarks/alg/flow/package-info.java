@@ -0,0 +1,4 @@
+/**
+ * Benchmarks of flow algorithms.
+ */
+package org.jgrapht.benchmarks.alg.flow;
@@ -0,0 +1,154 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.benchmarks.alg.isomorphism;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.isomorphism.*;
+import org.jgrapht.benchmarks.*;
+import org.jgrapht.graph.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks of the isomorphism algorithms. Each graph is compared against a copy with randomly
+ * permuted vertices, inserted in random order.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class IsomorphismBenchmark
+{
+    public static final long SEED = 17l;
+    public static final int DEGREE = 6;
+
+    @State(Scope.Benchmark)
+    public static class GraphState
+    {
+        @Param({ "GNP", "BARABASI_ALBERT", "WATTS_STROGATZ", "GRID" })
+        public GraphFamily family;
+
+        @Param({ "100", "1000" })
+        public int size;
+
+        @Param({ "false", "true" })
+        public boolean directed;
+
+        Graph<Integer, DefaultWeightedEdge> graph;
+        Graph<Integer, DefaultWeightedEdge> permutedGraph;
+
+        @Setup(Level.Trial)
+        public void setup()
+        {
+            graph = family.generate(size, DEGREE, directed, SEED);
+            permutedGraph = permute(graph, new Random(SEED));
+        }
+    }
+
+    /**
+     * Larger graphs searched for all induced occurrences of a path with three vertices.
+     */
+    @State(Scope.Benchmark)
+    public static class MotifState
+    {
+        @Param({ "GNP", "BARABASI_ALBERT", "WATTS_STROGATZ", "GRID" })
+        public GraphFamily family;
+
+        @Param({ "10000" })
+        public int size;
+
+        @Param({ "false", "true" })
+        public boolean directed;
+
+        Graph<Integer, DefaultWeightedEdge> graph;
+        Graph<Integer, DefaultWeightedEdge> motif;
+
+        @Setup(Level.Trial)
+        public void setup()
+        {
+            graph = family.generate(size, DEGREE, directed, SEED);
+            motif = GraphFamily.createGraph(directed);
+            Graphs.addAllVertices(motif, Arrays.asList(0, 1, 2));
+            motif.addEdge(0, 1);
+            motif.addEdge(1, 2);
+        }
+    }
+
+    @Benchmark
+    public boolean vf2GraphIsomorphism(GraphState state)
+    {
+        return new VF2GraphIsomorphismInspector<>(state.graph, state.permutedGraph)
+            .isomorphismExists();
+    }
+
+    @Benchmark
+    public boolean vf2SubgraphIsomorphism(GraphState state)
+    {
+        return new VF2SubgraphIsomorphismInspector<>(state.graph, state.permutedGraph)
+            .isomorphismExists();
+    }
+
+    @Benchmark
+    public long vf2MotifsSequential(MotifState state)
+    {
+        long count = 0;
+        Iterator<GraphMapping<Integer, DefaultWeightedEdge>> it =
+            new VF2SubgraphIsomorphismInspector<>(state.graph, state.motif, false).getMappings();
+        while (it.hasNext()) {
+            it.next();
+            count++;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long vf2MotifsParallel(MotifState state)
+    {
+        return new VF2SubgraphIsomorphismInspector<>(state.graph, state.motif, false)
+            .forEachMapping(m -> true);
+    }
+
+    private static Graph<Integer, DefaultWeightedEdge> permute(
+        Graph<Integer, DefaultWeightedEdge> graph, Random rng)
+    {
+        int n = graph.vertexSet().size();
+        List<Integer> permutation = new ArrayList<>(graph.vertexSet());
+        Collections.shuffle(permutation, rng);
+
+        Graph<Integer, DefaultWeightedEdge> result =
+            GraphFamily.createGraph(graph.getType().isDirected());
+        for (int i = 0; i < n; i++) {
+            result.addVertex(permutation.get(i));
+        }
+        List<DefaultWeightedEdge> edges = new ArrayList<>(graph.edgeSet());
+        Collections.shuffle(edges, rng);
+        for (DefaultWeightedEdge e : edges) {
+            result.addEdge(
+                permutation.get(graph.getEdgeSource(e)), permutation.get(graph.getEdgeTarget(e)));
+        }
+        return result;
+    }
+
+}
+
+// End IsomorphismBenchmark.java
@@ -0,0 +1,135 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.benchmarks.alg.matching;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.matching.*;
+import org.jgrapht.benchmarks.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks of the matching algorithms.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MatchingBenchmark
+{
+    public static final long SEED = 17l;
+    public static final int DEGREE = 8;
+
+    /**
+     * General graphs.
+     */
+    @State(Scope.Benchmark)
+    public static class GraphState
+    {
+        @Param({ "GNP", "BARABASI_ALBERT", "WATTS_STROGATZ", "GRID" })
+        public GraphFamily family;
+
+        @Param({ "1000", "10000" })
+        public int size;
+
+        Graph<Integer, DefaultWeightedEdge> graph;
+
+        @Setup(Level.Trial)
+        public void setup()
+        {
+            graph = family.generate(size, DEGREE, false, SEED);
+        }
+    }
+
+    /**
+     * Random bipartite graphs.
+     */
+    @State(Scope.Benchmark)
+    public static class BipartiteGraphState
+    {
+        @Param({ "1000", "10000" })
+        public int size;
+
+        Graph<Integer, DefaultWeightedEdge> graph;
+        Set<Integer> firstPartition;
+        Set<Integer> secondPartition;
+
+        @Setup(Level.Trial)
+        public void setup()
+        {
+            int half = size / 2;
+            GnpRandomBipartiteGraphGenerator<Integer, DefaultWeightedEdge> generator =
+                new GnpRandomBipartiteGraphGenerator<>(
+                    half, size - half, (double) DEGREE / (size - half), SEED);
+            graph = GraphFamily.createGraph(false);
+            generator.generateGraph(graph);
+            GraphFamily.assignWeights(graph, SEED);
+            firstPartition = generator.getFirstPartition();
+            secondPartition = generator.getSecondPartition();
+        }
+    }
+
+    @Benchmark
+    public double edmondsMaximumCardinality(GraphState state)
+    {
+        return new EdmondsMaximumCardinalityMatching<>(state.graph).getMatching().getWeight();
+    }
+
+    @Benchmark
+    public double greedyMaximumCardinality(GraphState state)
+    {
+        return new GreedyMaximumCardinalityMatching<>(state.graph, false)
+            .getMatching().getWeight();
+    }
+
+    @Benchmark
+    public double greedyWeighted(GraphState state)
+    {
+        return new GreedyWeightedMatching<>(state.graph, false).getMatching().getWeight();
+    }
+
+    @Benchmark
+    public double pathGrowingWeighted(GraphState state)
+    {
+        return new PathGrowingWeightedMatching<>(state.graph).getMatching().getWeight();
+    }
+
+    @Benchmark
+    public double hopcroftKarpBipartite(BipartiteGraphState state)
+    {
+        return new HopcroftKarpMaximumCardinalityBipartiteMatching<>(
+            state.graph, state.firstPartition, state.secondPartition).getMatching().getWeight();
+    }
+
+    @Benchmark
+    public double maximumWeightBipartite(BipartiteGraphState state)
+    {
+        return new MaximumWeightBipartiteMatching<>(
+            state.graph, state.firstPartition, state.secondPartition).getMatching().getWeight();
+    }
+
+}
+
+// End MatchingBenchmark.java
@@ -0,0 +1,4 @@
+/**
+ * Benchmarks of matching algorithms.
+ */
+package org.jgrapht.benchmarks.alg.matching;
@@ -0,0 +1,145 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.benchmarks.alg.scoring;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.scoring.*;
+import org.jgrapht.benchmarks.*;
+import org.jgrapht.graph.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks of the vertex scoring algorithms.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ScoringBenchmark
+{
+    public static final long SEED = 17l;
+    public static final int DEGREE = 8;
+
+    /**
+     * Graphs for the algorithms with near linear running time per iteration.
+     */
+    @State(Scope.Benchmark)
+    public static class LargeGraphState
+    {
+        @Param({ "GNP", "BARABASI_ALBERT", "WATTS_STROGATZ", "GRID" })
+        public GraphFamily family;
+
+        @Param({ "10000", "100000" })
+        public int size;
+
+        @Param({ "false", "true" })
+        public boolean directed;
+
+        Graph<Integer, DefaultWeightedEdge> graph;
+
+        @Setup(Level.Trial)
+        public void setup()
+        {
+            graph = family.generate(size, DEGREE, directed, SEED);
+        }
+    }
+
+    /**
+     * Undirected graphs for the algorithms which are defined only for undirected graphs.
+     */
+    @State(Scope.Benchmark)
+    public static class UndirectedGraphState
+    {
+        @Param({ "GNP", "BARABASI_ALBERT", "WATTS_STROGATZ", "GRID" })
+        public GraphFamily family;
+
+        @Param({ "10000", "100000" })
+        public int size;
+
+        Graph<Integer, DefaultWeightedEdge> graph;
+
+        @Setup(Level.Trial)
+        public void setup()
+        {
+            graph = family.generate(size, DEGREE, false, SEED);
+        }
+    }
+
+    /**
+     * Graphs for the algorithms which compute all shortest paths.
+     */
+    @State(Scope.Benchmark)
+    public static class SmallGraphState
+    {
+        @Param({ "GNP", "BARABASI_ALBERT", "WATTS_STROGATZ", "GRID" })
+        public GraphFamily family;
+
+        @Param({ "500", "2000" })
+        public int size;
+
+        @Param({ "false", "true" })
+        public boolean directed;
+
+        Graph<Integer, DefaultWeightedEdge> graph;
+
+        @Setup(Level.Trial)
+        public void setup()
+        {
+            graph = family.generate(size, DEGREE, directed, SEED);
+        }
+    }
+
+    @Benchmark
+    public Map<Integer, Double> pageRank(LargeGraphState state)
+    {
+        return new PageRank<>(state.graph).getScores();
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> coreness(UndirectedGraphState state)
+    {
+        return new Coreness<>(state.graph).getScores();
+    }
+
+    @Benchmark
+    public Map<Integer, Double> betweennessCentrality(SmallGraphState state)
+    {
+        return new BetweennessCentrality<>(state.graph).getScores();
+    }
+
+    @Benchmark
+    public Map<Integer, Double> closenessCentrality(SmallGraphState state)
+    {
+        return new ClosenessCentrality<>(state.graph).getScores();
+    }
+
+    @Benchmark
+    public Map<Integer, Double> harmonicCentrality(SmallGraphState state)
+    {
+        return new HarmonicCentrality<>(state.graph).getScores();
+    }
+
+}
+
+// End ScoringBenchmark.java
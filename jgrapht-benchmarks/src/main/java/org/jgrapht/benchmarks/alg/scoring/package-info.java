@@ -0,0 +1,4 @@
+/**
+ * Benchmarks of scoring algorithms.
+ */
+package org.jgrapht.benchmarks.alg.scoring;
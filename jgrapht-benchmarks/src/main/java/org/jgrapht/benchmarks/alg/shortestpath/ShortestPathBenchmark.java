@@ -0,0 +1,244 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.benchmarks.alg.shortestpath;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.benchmarks.*;
+import org.jgrapht.graph.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks of the shortest path algorithms.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ShortestPathBenchmark
+{
+    public static final long SEED = 17l;
+    public static final int DEGREE = 8;
+    public static final int PAIRS = 10;
+    public static final int LANDMARKS = 16;
+
+    /**
+     * Graphs for single pair and single source queries.
+     */
+    @State(Scope.Benchmark)
+    public static class SinglePairState
+    {
+        @Param({ "GNP", "BARABASI_ALBERT", "WATTS_STROGATZ", "GRID" })
+        public GraphFamily family;
+
+        @Param({ "1000", "10000", "100000" })
+        public int size;
+
+        @Param({ "false", "true" })
+        public boolean directed;
+
+        Graph<Integer, DefaultWeightedEdge> graph;
+        int[] sources;
+        int[] targets;
+
+        @Setup(Level.Trial)
+        public void setup()
+        {
+            graph = family.generate(size, DEGREE, directed, SEED);
+            Random rng = new Random(SEED);
+            sources = new int[PAIRS];
+            targets = new int[PAIRS];
+            for (int i = 0; i < PAIRS; i++) {
+                sources[i] = rng.nextInt(size);
+                targets[i] = rng.nextInt(size);
+            }
+        }
+    }
+
+    /**
+     * Graphs for single pair queries with a precomputed contraction hierarchy.
+     */
+    @State(Scope.Benchmark)
+    public static class HierarchyState
+        extends
+        SinglePairState
+    {
+        ContractionHierarchy<Integer, DefaultWeightedEdge> hierarchy;
+
+        @Setup(Level.Trial)
+        public void setupHierarchy()
+        {
+            hierarchy = new ContractionHierarchy<>(graph);
+        }
+    }
+
+    /**
+     * Graphs for single pair queries with a precomputed landmark index.
+     */
+    @State(Scope.Benchmark)
+    public static class LandmarkState
+        extends
+        SinglePairState
+    {
+        ALTLandmarkIndex<Integer, DefaultWeightedEdge> index;
+
+        @Setup(Level.Trial)
+        public void setupLandmarks()
+        {
+            index = new ALTLandmarkIndex<>(graph, LANDMARKS);
+        }
+    }
+
+    /**
+     * Smaller graphs for the single source algorithms with super-linear running time and the all
+     * pairs algorithms.
+     */
+    @State(Scope.Benchmark)
+    public static class AllPairsState
+    {
+        @Param({ "GNP", "BARABASI_ALBERT", "WATTS_STROGATZ", "GRID" })
+        public GraphFamily family;
+
+        @Param({ "100", "500" })
+        public int size;
+
+        @Param({ "false", "true" })
+        public boolean directed;
+
+        Graph<Integer, DefaultWeightedEdge> graph;
+
+        @Setup(Level.Trial)
+        public void setup()
+        {
+            graph = family.generate(size, DEGREE, directed, SEED);
+        }
+    }
+
+    @Benchmark
+    public double dijkstra(SinglePairState state)
+    {
+        return pathWeights(new DijkstraShortestPath<>(state.graph), state);
+    }
+
+    @Benchmark
+    public double bidirectionalDijkstra(SinglePairState state)
+    {
+        return pathWeights(new BidirectionalDijkstraShortestPath<>(state.graph), state);
+    }
+
+    @Benchmark
+    public int contractionHierarchyPreprocessing(SinglePairState state)
+    {
+        return new ContractionHierarchy<>(state.graph).getNumberOfShortcuts();
+    }
+
+    @Benchmark
+    public double contractionHierarchyQuery(HierarchyState state)
+    {
+        return pathWeights(new ContractionHierarchyShortestPath<>(state.hierarchy), state);
+    }
+
+    @Benchmark
+    public int altPreprocessing(SinglePairState state)
+    {
+        return new ALTLandmarkIndex<>(state.graph, LANDMARKS).getLandmarks().size();
+    }
+
+    @Benchmark
+    public double altQuery(LandmarkState state)
+    {
+        double total = 0d;
+        for (int i = 0; i < PAIRS; i++) {
+            GraphPath<Integer, DefaultWeightedEdge> path =
+                state.index.getPath(state.sources[i], state.targets[i]);
+            if (path != null) {
+                total += path.getWeight();
+            }
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double dijkstraSingleSource(SinglePairState state)
+    {
+        ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> paths =
+            new DijkstraShortestPath<>(state.graph).getPaths(state.sources[0]);
+        return paths.getWeight(state.targets[0]);
+    }
+
+    @Benchmark
+    public double bellmanFord(AllPairsState state)
+    {
+        ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> paths =
+            new BellmanFordShortestPath<>(state.graph).getPaths(0);
+        return paths.getWeight(state.size - 1);
+    }
+
+    @Benchmark
+    public double floydWarshall(AllPairsState state)
+    {
+        return new FloydWarshallShortestPaths<>(state.graph).getPathWeight(0, state.size - 1);
+    }
+
+    @Benchmark
+    public double johnson(AllPairsState state)
+    {
+        return new JohnsonShortestPaths<>(state.graph).getPathWeight(0, state.size - 1);
+    }
+
+    @Benchmark
+    public double diameterAllPairs(AllPairsState state)
+    {
+        return new GraphMeasurer<>(state.graph).getDiameter();
+    }
+
+    @Benchmark
+    public double diameterBounding(AllPairsState state)
+    {
+        return new BoundingGraphMeasurer<>(state.graph).getDiameter();
+    }
+
+    @Benchmark
+    public double diameterBoundingLarge(SinglePairState state)
+    {
+        return new BoundingGraphMeasurer<>(state.graph).getDiameter();
+    }
+
+    private static double pathWeights(
+        ShortestPathAlgorithm<Integer, DefaultWeightedEdge> algorithm, SinglePairState state)
+    {
+        double total = 0d;
+        for (int i = 0; i < PAIRS; i++) {
+            double weight = algorithm.getPathWeight(state.sources[i], state.targets[i]);
+            if (weight != Double.POSITIVE_INFINITY) {
+                total += weight;
+            }
+        }
+        return total;
+    }
+
+}
+
+// End ShortestPathBenchmark.java
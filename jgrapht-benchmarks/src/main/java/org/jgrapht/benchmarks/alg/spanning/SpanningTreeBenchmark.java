@@ -0,0 +1,89 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.benchmarks.alg.spanning;
+
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.spanning.*;
+import org.jgrapht.benchmarks.*;
+import org.jgrapht.graph.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks of the minimum spanning tree algorithms.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SpanningTreeBenchmark
+{
+    public static final long SEED = 17l;
+
+    @State(Scope.Benchmark)
+    public static class GraphState
+    {
+        @Param({ "GNP", "BARABASI_ALBERT", "WATTS_STROGATZ", "GRID" })
+        public GraphFamily family;
+
+        @Param({ "10000", "100000" })
+        public int size;
+
+        @Param({ "4", "16" })
+        public int degree;
+
+        Graph<Integer, DefaultWeightedEdge> graph;
+
+        @Setup(Level.Trial)
+        public void setup()
+        {
+            graph = family.generate(size, degree, false, SEED);
+        }
+    }
+
+    @Benchmark
+    public double kruskal(GraphState state)
+    {
+        return new KruskalMinimumSpanningTree<>(state.graph).getSpanningTree().getWeight();
+    }
+
+    @Benchmark
+    public double prim(GraphState state)
+    {
+        return new PrimMinimumSpanningTree<>(state.graph).getSpanningTree().getWeight();
+    }
+
+    @Benchmark
+    public double boruvka(GraphState state)
+    {
+        return new BoruvkaMinimumSpanningTree<>(state.graph).getSpanningTree().getWeight();
+    }
+
+    @Benchmark
+    public double parallelBoruvka(GraphState state)
+    {
+        return new ParallelBoruvkaMinimumSpanningTree<>(state.graph).getSpanningTree().getWeight();
+    }
+
+}
+
+// End SpanningTreeBenchmark.java
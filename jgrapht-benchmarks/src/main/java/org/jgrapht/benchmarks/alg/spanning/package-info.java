@@ -0,0 +1,4 @@
+/**
+ * Benchmarks of spanning tree algorithms.
+ */
+package org.jgrapht.benchmarks.alg.spanning;
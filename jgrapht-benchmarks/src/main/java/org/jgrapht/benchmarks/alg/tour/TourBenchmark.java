@@ -0,0 +1,122 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.benchmarks.alg.tour;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.tour.*;
+import org.jgrapht.benchmarks.*;
+import org.jgrapht.graph.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks of the traveling salesman algorithms. The inputs are complete graphs whose edge
+ * weights are the euclidean distances of random points in the unit square, and therefore metric.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TourBenchmark
+{
+    public static final long SEED = 17l;
+
+    /**
+     * Complete euclidean graphs for the heuristics.
+     */
+    @State(Scope.Benchmark)
+    public static class EuclideanGraphState
+    {
+        @Param({ "100", "500" })
+        public int size;
+
+        Graph<Integer, DefaultWeightedEdge> graph;
+
+        @Setup(Level.Trial)
+        public void setup()
+        {
+            graph = createEuclideanGraph(size, SEED);
+        }
+    }
+
+    /**
+     * Small complete euclidean graphs for the exact algorithms.
+     */
+    @State(Scope.Benchmark)
+    public static class SmallEuclideanGraphState
+    {
+        @Param({ "10", "14" })
+        public int size;
+
+        Graph<Integer, DefaultWeightedEdge> graph;
+
+        @Setup(Level.Trial)
+        public void setup()
+        {
+            graph = createEuclideanGraph(size, SEED);
+        }
+    }
+
+    @Benchmark
+    public double twoApproxMetric(EuclideanGraphState state)
+    {
+        return new TwoApproxMetricTSP<Integer, DefaultWeightedEdge>()
+            .getTour(state.graph).getWeight();
+    }
+
+    @Benchmark
+    public double twoOptHeuristic(EuclideanGraphState state)
+    {
+        return new TwoOptHeuristicTSP<Integer, DefaultWeightedEdge>(1, SEED)
+            .getTour(state.graph).getWeight();
+    }
+
+    @Benchmark
+    public double heldKarp(SmallEuclideanGraphState state)
+    {
+        return new HeldKarpTSP<Integer, DefaultWeightedEdge>().getTour(state.graph).getWeight();
+    }
+
+    private static Graph<Integer, DefaultWeightedEdge> createEuclideanGraph(int n, long seed)
+    {
+        Random rng = new Random(seed);
+        double[] x = new double[n];
+        double[] y = new double[n];
+        Graph<Integer, DefaultWeightedEdge> graph = GraphFamily.createGraph(false);
+        for (int i = 0; i < n; i++) {
+            x[i] = rng.nextDouble();
+            y[i] = rng.nextDouble();
+            graph.addVertex();
+        }
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                DefaultWeightedEdge e = graph.addEdge(i, j);
+                graph.setEdgeWeight(e, Math.hypot(x[i] - x[j], y[i] - y[j]));
+            }
+        }
+        return graph;
+    }
+
+}
+
+// End TourBenchmark.java
@@ -0,0 +1,4 @@
+/**
+ * Benchmarks of tour (traveling salesman) algorithms.
+ */
+package org.jgrapht.benchmarks.alg.tour;
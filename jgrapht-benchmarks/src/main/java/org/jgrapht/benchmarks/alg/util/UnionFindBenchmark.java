@@ -0,0 +1,111 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.benchmarks.alg.util;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
+
+import org.jgrapht.alg.util.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks of the union-find data structures. Each benchmark creates a data structure with $n$
+ * elements and performs $2n$ random unions.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class UnionFindBenchmark
+{
+    public static final long SEED = 17l;
+
+    @State(Scope.Benchmark)
+    public static class UnionState
+    {
+        @Param({ "100000", "1000000" })
+        public int size;
+
+        Set<Integer> elements;
+        int[] first;
+        int[] second;
+
+        @Setup(Level.Trial)
+        public void setup()
+        {
+            elements = new LinkedHashSet<>();
+            for (int i = 0; i < size; i++) {
+                elements.add(i);
+            }
+            Random rng = new Random(SEED);
+            first = new int[2 * size];
+            second = new int[2 * size];
+            for (int k = 0; k < first.length; k++) {
+                first[k] = rng.nextInt(size);
+                second[k] = rng.nextInt(size);
+            }
+        }
+    }
+
+    @Benchmark
+    public int unionFind(UnionState state)
+    {
+        UnionFind<Integer> uf = new UnionFind<>(state.elements);
+        for (int k = 0; k < state.first.length; k++) {
+            uf.union(state.first[k], state.second[k]);
+        }
+        return uf.numberOfSets();
+    }
+
+    @Benchmark
+    public int intUnionFind(UnionState state)
+    {
+        IntUnionFind uf = new IntUnionFind(state.size);
+        for (int k = 0; k < state.first.length; k++) {
+            uf.union(state.first[k], state.second[k]);
+        }
+        return uf.numberOfSets();
+    }
+
+    @Benchmark
+    public int concurrentIntUnionFindSequential(UnionState state)
+    {
+        ConcurrentIntUnionFind uf = new ConcurrentIntUnionFind(state.size);
+        for (int k = 0; k < state.first.length; k++) {
+            uf.union(state.first[k], state.second[k]);
+        }
+        return uf.numberOfSets();
+    }
+
+    @Benchmark
+    public int concurrentIntUnionFindParallel(UnionState state)
+    {
+        ConcurrentIntUnionFind uf = new ConcurrentIntUnionFind(state.size);
+        IntStream
+            .range(0, state.first.length).parallel()
+            .forEach(k -> uf.union(state.first[k], state.second[k]));
+        return uf.numberOfSets();
+    }
+
+}
+
+// End UnionFindBenchmark.java
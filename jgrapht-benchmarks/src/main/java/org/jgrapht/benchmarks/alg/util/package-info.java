@@ -0,0 +1,4 @@
+/**
+ * Benchmarks of utility data structures used by the algorithms.
+ */
+package org.jgrapht.benchmarks.alg.util;
@@ -0,0 +1,126 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.benchmarks.io;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.io.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks of importing an edge list using {@link CSVImporter} and {@link FastCSVImporter}.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CSVImporterBenchmark
+{
+    public static final long SEED = 17l;
+
+    @State(Scope.Benchmark)
+    public static class InputState
+    {
+        @Param({ "100000", "1000000" })
+        public int edges;
+
+        @Param({ "1", "4" })
+        public int threads;
+
+        File file;
+        ForkJoinPool pool;
+
+        @Setup(Level.Trial)
+        public void setup()
+            throws IOException
+        {
+            int n = Math.max(1, edges / 10);
+            Random rng = new Random(SEED);
+            file = File.createTempFile("jgrapht", ".csv");
+            try (Writer out = new BufferedWriter(
+                new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)))
+            {
+                for (int i = 0; i < edges; i++) {
+                    out.write(rng.nextInt(n) + "," + rng.nextInt(n) + "\n");
+                }
+            }
+            pool = new ForkJoinPool(threads);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown()
+        {
+            pool.shutdown();
+            file.delete();
+        }
+    }
+
+    @Benchmark
+    public Graph<String, DefaultEdge> antlr(InputState state)
+        throws ImportException, IOException
+    {
+        Graph<String, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        CSVImporter<String, DefaultEdge> importer = new CSVImporter<>(
+            (l, a) -> l, (f, t, l, a) -> new DefaultEdge(), CSVFormat.EDGE_LIST, ',');
+        try (Reader in = new BufferedReader(
+            new InputStreamReader(new FileInputStream(state.file), StandardCharsets.UTF_8)))
+        {
+            importer.importGraph(g, in);
+        }
+        return g;
+    }
+
+    @Benchmark
+    public Graph<String, DefaultEdge> fastMapped(InputState state)
+        throws ImportException
+    {
+        Graph<String, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        createFastImporter(state).importGraph(g, state.file);
+        return g;
+    }
+
+    @Benchmark
+    public Graph<String, DefaultEdge> fastReader(InputState state)
+        throws ImportException, IOException
+    {
+        Graph<String, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        try (Reader in =
+            new InputStreamReader(new FileInputStream(state.file), StandardCharsets.UTF_8))
+        {
+            createFastImporter(state).importGraph(g, in);
+        }
+        return g;
+    }
+
+    private static FastCSVImporter<String, DefaultEdge> createFastImporter(InputState state)
+    {
+        return new FastCSVImporter<>(
+            (l, a) -> l, (f, t, l, a) -> new DefaultEdge(), CSVFormat.EDGE_LIST, ',', state.pool);
+    }
+
+}
+
+// End CSVImporterBenchmark.java
@@ -0,0 +1,4 @@
+/**
+ * Benchmarks of graph importers.
+ */
+package org.jgrapht.benchmarks.io;
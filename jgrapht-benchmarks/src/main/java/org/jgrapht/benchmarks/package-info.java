@@ -0,0 +1,13 @@
+/**
+ * JMH benchmarks of the graph algorithms, organized in subpackages which mirror the algorithm
+ * packages. Each benchmark runs on several generated graph families and sizes, see
+ * {@link org.jgrapht.benchmarks.GraphFamily}. Benchmarks of the importers are contained in
+ * {@link org.jgrapht.benchmarks.io}.
+ *
+ * <p>
+ * The benchmarks are built by enabling the {@code benchmarks} profile
+ * ({@code mvn -P benchmarks package}) and are run using {@code java -jar
+ * jgrapht-benchmarks/target/benchmarks.jar}. Results are written in JSON format, which allows
+ * comparing different releases by running the suite on each of them.
+ */
+package org.jgrapht.benchmarks;
@@ -0,0 +1,395 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.connectivity.*;
+
+/**
+ * An index answering reachability queries on a directed graph, without materializing its
+ * transitive closure.
+ *
+ * <p>
+ * The index first condenses the strongly connected components of the graph, using the iterative
+ * {@link ParallelStrongConnectivityInspector} which does not overflow the stack on long paths.
+ * Vertices of the same component reach each other, thus all remaining queries are answered on the
+ * condensation, which is a directed acyclic graph. The components are numbered according to a
+ * topological order of the condensation and each component is assigned a small number of interval
+ * labels, computed by depth-first traversals of the condensation in randomized order, as described
+ * in the following paper: H. Yildirim, V. Chaoji, and M. J. Zaki. GRAIL: Scalable Reachability
+ * Index for Large Graphs. Proceedings of the VLDB Endowment, 3(1-2):276--284, 2010.
+ *
+ * <p>
+ * A query from component $a$ to component $b$ is answered in constant time whenever
+ * <ul>
+ * <li>$a$ comes after $b$ in the topological order, in which case $b$ is not reachable,</li>
+ * <li>the interval of $b$ is not contained in the interval of $a$ for some label, in which case $b$
+ * is not reachable, or</li>
+ * <li>$b$ is a descendant of $a$ in the depth-first tree of the first traversal, in which case $b$
+ * is reachable.</li>
+ * </ul>
+ * Otherwise the query falls back to a depth-first search on the condensation, which is pruned using
+ * the same tests. Construction takes $O(k(|V|+|E|))$ time where $k$ is the number of labels. The
+ * index uses $O(|V|)$ space in addition to the edges of the condensation, compared to the
+ * $O(|V|^2)$ edges which {@link TransitiveClosure} might add to the graph.
+ *
+ * <p>
+ * The index is computed once, on instantiation, and does not reflect later changes of the graph.
+ * Queries reuse internal buffers and are not thread-safe.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+public class ReachabilityIndex<V, E>
+{
+    /**
+     * Default number of interval labels.
+     */
+    public static final int DEFAULT_NUMBER_OF_LABELS = 3;
+
+    private final Map<V, Integer> componentOf;
+    private final int componentCount;
+
+    // condensation, components are numbered in topological order
+    private final int[] successorsStart;
+    private final int[] successors;
+
+    // interval labels of the depth-first traversals
+    private final int[][] low;
+    private final int[][] post;
+
+    // start of the subtree of each component in the first traversal
+    private final int[] treeLow;
+
+    // buffers for the fallback search
+    private final int[] visited;
+    private final int[] stack;
+    private int query;
+
+    /**
+     * Create a new reachability index using the default number of labels.
+     *
+     * @param graph the input graph
+     * @throws IllegalArgumentException if the graph is not directed
+     */
+    public ReachabilityIndex(Graph<V, E> graph)
+    {
+        this(graph, DEFAULT_NUMBER_OF_LABELS, new Random());
+    }
+
+    /**
+     * Create a new reachability index. More labels increase the construction time and the memory
+     * of the index, but reduce the number of queries which need to fall back to a search.
+     *
+     * @param graph the input graph
+     * @param numberOfLabels the number of interval labels, at least one
+     * @param rng the random number generator used to randomize the traversals
+     * @throws IllegalArgumentException if the graph is not directed or the number of labels is not
+     *         positive
+     */
+    public ReachabilityIndex(Graph<V, E> graph, int numberOfLabels, Random rng)
+    {
+        GraphTests.requireDirected(graph);
+        if (numberOfLabels < 1) {
+            throw new IllegalArgumentException("Number of labels must be positive");
+        }
+        Objects.requireNonNull(rng, "Random number generator cannot be null");
+
+        List<Set<V>> components =
+            new ParallelStrongConnectivityInspector<>(graph).stronglyConnectedSets();
+        this.componentCount = components.size();
+        this.componentOf = new HashMap<>(graph.vertexSet().size());
+        for (int i = 0; i < componentCount; i++) {
+            for (V v : components.get(i)) {
+                componentOf.put(v, i);
+            }
+        }
+
+        /*
+         * Compute the condensation in compressed form, without parallel edges.
+         */
+        int[] start = new int[componentCount + 1];
+        int[] targets = new int[Math.max(16, componentCount)];
+        int[] mark = new int[componentCount];
+        Arrays.fill(mark, -1);
+        int m = 0;
+        for (int i = 0; i < componentCount; i++) {
+            start[i] = m;
+            for (V v : components.get(i)) {
+                for (E e : graph.outgoingEdgesOf(v)) {
+                    int j = componentOf.get(graph.getEdgeTarget(e));
+                    if (j != i && mark[j] != i) {
+                        mark[j] = i;
+                        if (m == targets.length) {
+                            targets = Arrays.copyOf(targets, 2 * m);
+                        }
+                        targets[m++] = j;
+                    }
+                }
+            }
+        }
+        start[componentCount] = m;
+
+        /*
+         * Renumber the components in topological order.
+         */
+        int[] order = topologicalOrder(start, targets);
+        int[] rank = new int[componentCount];
+        for (int r = 0; r < componentCount; r++) {
+            rank[order[r]] = r;
+        }
+        for (Map.Entry<V, Integer> entry : componentOf.entrySet()) {
+            entry.setValue(rank[entry.getValue()]);
+        }
+        this.successorsStart = new int[componentCount + 1];
+        this.successors = new int[m];
+        int k = 0;
+        for (int r = 0; r < componentCount; r++) {
+            successorsStart[r] = k;
+            int i = order[r];
+            for (int p = start[i]; p < start[i + 1]; p++) {
+                successors[k++] = rank[targets[p]];
+            }
+        }
+        successorsStart[componentCount] = k;
+
+        /*
+         * Compute the labels.
+         */
+        this.visited = new int[componentCount];
+        this.stack = new int[componentCount];
+        this.low = new int[numberOfLabels][];
+        this.post = new int[numberOfLabels][];
+        this.treeLow = new int[componentCount];
+        for (int i = 0; i < componentCount; i++) {
+            order[i] = i;
+        }
+        for (int l = 0; l < numberOfLabels; l++) {
+            if (l > 0) {
+                shuffle(order, rng);
+            }
+            label(l, order, l == 0 ? null : rng);
+        }
+        this.query = numberOfLabels;
+    }
+
+    /**
+     * Check whether there is a directed path from a vertex to another. Every vertex is reachable
+     * from itself.
+     *
+     * @param source the source vertex
+     * @param target the target vertex
+     * @return true if the target is reachable from the source, false otherwise
+     * @throws IllegalArgumentException if any of the vertices is not contained in the graph
+     */
+    public boolean isReachable(V source, V target)
+    {
+        int a = componentOf(source);
+        int b = componentOf(target);
+        if (a == b) {
+            return true;
+        }
+        if (a > b || !contains(a, b)) {
+            return false;
+        }
+        if (treeContains(a, b)) {
+            return true;
+        }
+
+        /*
+         * Fallback to a search, pruned by the labels.
+         */
+        if (++query == Integer.MAX_VALUE) {
+            Arrays.fill(visited, 0);
+            query = 1;
+        }
+        int top = 0;
+        stack[top++] = a;
+        visited[a] = query;
+        while (top > 0) {
+            int x = stack[--top];
+            for (int p = successorsStart[x]; p < successorsStart[x + 1]; p++) {
+                int s = successors[p];
+                if (s == b) {
+                    return true;
+                }
+                if (s > b || visited[s] == query) {
+                    continue;
+                }
+                visited[s] = query;
+                if (!contains(s, b)) {
+                    continue;
+                }
+                if (treeContains(s, b)) {
+                    return true;
+                }
+                stack[top++] = s;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the number of strongly connected components of the graph, which is also the number of
+     * vertices of the condensation used by the index.
+     *
+     * @return the number of strongly connected components
+     */
+    public int getNumberOfComponents()
+    {
+        return componentCount;
+    }
+
+    private int componentOf(V v)
+    {
+        Integer c = componentOf.get(v);
+        if (c == null) {
+            throw new IllegalArgumentException("no such vertex in graph: " + v);
+        }
+        return c;
+    }
+
+    /*
+     * Whether the labels of a component contain the labels of another.
+     */
+    private boolean contains(int a, int b)
+    {
+        for (int l = 0; l < post.length; l++) {
+            if (low[l][a] > low[l][b] || post[l][b] > post[l][a]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /*
+     * Whether a component is a descendant of another in the tree of the first traversal.
+     */
+    private boolean treeContains(int a, int b)
+    {
+        int pb = post[0][b];
+        return treeLow[a] <= pb && pb <= post[0][a];
+    }
+
+    /*
+     * Kahn's algorithm on the condensation.
+     */
+    private int[] topologicalOrder(int[] start, int[] targets)
+    {
+        int[] inDegree = new int[componentCount];
+        for (int p = 0; p < start[componentCount]; p++) {
+            inDegree[targets[p]]++;
+        }
+        int[] order = new int[componentCount];
+        int head = 0, tail = 0;
+        for (int i = 0; i < componentCount; i++) {
+            if (inDegree[i] == 0) {
+                order[tail++] = i;
+            }
+        }
+        while (head < tail) {
+            int i = order[head++];
+            for (int p = start[i]; p < start[i + 1]; p++) {
+                if (--inDegree[targets[p]] == 0) {
+                    order[tail++] = targets[p];
+                }
+            }
+        }
+        assert tail == componentCount;
+        return order;
+    }
+
+    /*
+     * Compute one label using an iterative depth-first traversal which starts from the roots in
+     * the given order. When a random number generator is given, the successors of each component
+     * are visited starting from a random position.
+     */
+    private void label(int l, int[] roots, Random rng)
+    {
+        int[] lowL = new int[componentCount];
+        int[] postL = new int[componentCount];
+        int[] offset = new int[componentCount];
+        int[] next = new int[componentCount];
+        int stamp = l + 1;
+        int counter = 0;
+
+        for (int root : roots) {
+            if (visited[root] == stamp) {
+                continue;
+            }
+            int top = 0;
+            stack[top++] = root;
+            visited[root] = stamp;
+            start(root, l, counter, offset, next, rng);
+            while (top > 0) {
+                int x = stack[top - 1];
+                int degree = successorsStart[x + 1] - successorsStart[x];
+                if (next[x] < degree) {
+                    int s = successors[successorsStart[x] + (offset[x] + next[x]++) % degree];
+                    if (visited[s] != stamp) {
+                        visited[s] = stamp;
+                        start(s, l, counter, offset, next, rng);
+                        stack[top++] = s;
+                    }
+                } else {
+                    top--;
+                    postL[x] = counter++;
+                }
+            }
+        }
+
+        // low is the minimum post order number of any reachable component
+        for (int x = componentCount - 1; x >= 0; x--) {
+            int min = postL[x];
+            for (int p = successorsStart[x]; p < successorsStart[x + 1]; p++) {
+                min = Math.min(min, lowL[successors[p]]);
+            }
+            lowL[x] = min;
+        }
+
+        low[l] = lowL;
+        post[l] = postL;
+    }
+
+    private void start(int x, int l, int counter, int[] offset, int[] next, Random rng)
+    {
+        if (l == 0) {
+            treeLow[x] = counter;
+        }
+        int degree = successorsStart[x + 1] - successorsStart[x];
+        offset[x] = (rng == null || degree == 0) ? 0 : rng.nextInt(degree);
+        next[x] = 0;
+    }
+
+    private static void shuffle(int[] a, Random rng)
+    {
+        for (int i = a.length - 1; i > 0; i--) {
+            int j = rng.nextInt(i + 1);
+            int t = a[i];
+            a[i] = a[j];
+            a[j] = t;
+        }
+    }
+
+}
+
+// End ReachabilityIndex.java
@@ -26,6 +26,10 @@ import org.jgrapht.traverse.*;
 /**
  * Constructs the transitive closure of the input graph.
  *
+ * <p>
+ * The closure may add a quadratic number of edges to the graph. When only reachability queries are
+ * needed, consider using a {@link ReachabilityIndex} instead.
+ *
  * @author Vinayak R. Borkar
  * @since May 5, 2007
  */
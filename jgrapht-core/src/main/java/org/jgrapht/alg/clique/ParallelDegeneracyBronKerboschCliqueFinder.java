@@ -0,0 +1,582 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.clique;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+import org.jgrapht.*;
+import org.jgrapht.traverse.*;
+import org.jgrapht.util.*;
+
+/**
+ * Parallel Bron-Kerbosch maximal clique enumeration algorithm with pivot and degeneracy ordering.
+ *
+ * <p>
+ * The algorithm solves the same subproblems as {@link DegeneracyBronKerboschCliqueFinder}. For each
+ * vertex $v$ in the degeneracy ordering it enumerates the maximal cliques which contain $v$ and
+ * otherwise only neighbors of $v$ later in the ordering. The subproblems are independent and are
+ * executed in parallel using a {@link ForkJoinPool}. Ranges of vertices are split recursively into
+ * tasks, and subproblems with many candidates are further split into one task per top-level branch,
+ * so that idle threads can steal work from skewed subproblems.
+ *
+ * <p>
+ * Each subproblem is first translated to the local neighborhood of its vertex. The later neighbors
+ * are numbered first, followed by the earlier neighbors which are adjacent to at least one later
+ * neighbor, as the remaining earlier neighbors cannot affect maximality. The sets of candidate and
+ * excluded vertices, as well as the adjacency inside the neighborhood, are then represented as
+ * bitsets over these local indices. The size of the candidate sets is bounded by the degeneracy
+ * $d$ of the graph, and the running time remains $O(d n 3^{d/3})$.
+ *
+ * <p>
+ * The cliques can be delivered to a consumer as soon as they are found using
+ * {@link #forEachClique(Consumer)}, without storing them. The iterators of this class first compute
+ * and store all maximal cliques. In both cases the timeout given at construction applies to each
+ * computation.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see DegeneracyBronKerboschCliqueFinder
+ *
+ * @author agent
+ */
+public class ParallelDegeneracyBronKerboschCliqueFinder<V, E>
+    extends BaseBronKerboschCliqueFinder<V, E>
+{
+    /**
+     * Number of consecutive vertices of the ordering whose subproblems are solved by a single task.
+     */
+    private static final int RANGE_GRAIN = 32;
+
+    /**
+     * Minimum number of candidates of a subproblem in order to split it into one task per branch.
+     */
+    private static final int SPLIT_THRESHOLD = 32;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructs a new clique finder using the common pool.
+     *
+     * @param graph the input graph; must be simple
+     */
+    public ParallelDegeneracyBronKerboschCliqueFinder(Graph<V, E> graph)
+    {
+        this(graph, 0L, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Constructs a new clique finder using the common pool.
+     *
+     * @param graph the input graph; must be simple
+     * @param timeout the maximum time to wait, if zero no timeout
+     * @param unit the time unit of the timeout argument
+     */
+    public ParallelDegeneracyBronKerboschCliqueFinder(
+        Graph<V, E> graph, long timeout, TimeUnit unit)
+    {
+        this(graph, timeout, unit, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a new clique finder.
+     *
+     * @param graph the input graph; must be simple
+     * @param timeout the maximum time to wait, if zero no timeout
+     * @param unit the time unit of the timeout argument
+     * @param pool the pool executing the computation
+     */
+    public ParallelDegeneracyBronKerboschCliqueFinder(
+        Graph<V, E> graph, long timeout, TimeUnit unit, ForkJoinPool pool)
+    {
+        super(graph, timeout, unit);
+        this.pool = Objects.requireNonNull(pool, "Fork-join pool cannot be null");
+    }
+
+    /**
+     * Enumerate all maximal cliques of the graph and deliver each one to a consumer as soon as it
+     * is found. The cliques are not stored. The consumer is invoked by the threads of the pool
+     * while holding a lock, thus it is never invoked concurrently. If the time limit is reached,
+     * the enumeration stops and {@link #isTimeLimitReached()} returns true.
+     *
+     * @param consumer the consumer of the maximal cliques
+     * @return the number of maximal cliques delivered to the consumer
+     * @throws IllegalArgumentException if the graph is not simple
+     */
+    public long forEachClique(Consumer<? super Set<V>> consumer)
+    {
+        Objects.requireNonNull(consumer, "Consumer cannot be null");
+        if (!GraphTests.isSimple(graph)) {
+            throw new IllegalArgumentException("Graph must be simple");
+        }
+
+        long nanosTimeLimit;
+        try {
+            nanosTimeLimit = Math.addExact(System.nanoTime(), nanos);
+        } catch (ArithmeticException ignore) {
+            nanosTimeLimit = Long.MAX_VALUE;
+        }
+
+        Search search = new Search(consumer, nanosTimeLimit);
+        if (search.n > 0) {
+            pool.invoke(search.new RangeTask(0, search.n));
+        }
+        timeLimitReached = search.timeLimitReached;
+        return search.count;
+    }
+
+    /**
+     * Lazily execute the enumeration algorithm.
+     */
+    @Override
+    protected void lazyRun()
+    {
+        if (allMaximalCliques == null) {
+            List<Set<V>> cliques = new ArrayList<>();
+            maxSize = 0;
+            forEachClique(c -> {
+                cliques.add(c);
+                maxSize = Math.max(maxSize, c.size());
+            });
+            allMaximalCliques = cliques;
+        }
+    }
+
+    /**
+     * A single enumeration. The graph is stored as adjacency arrays over the positions of the
+     * vertices in the degeneracy ordering.
+     */
+    private class Search
+    {
+        private final Consumer<? super Set<V>> consumer;
+        private final long nanosTimeLimit;
+
+        private final int n;
+        private final List<V> vertices;
+        private final int[] start;
+        private final int[] adj;
+
+        /*
+         * Arrays mapping positions to local indices, filled with -1 when not in use.
+         */
+        private final ConcurrentLinkedQueue<int[]> localIndices;
+
+        private final Object lock;
+        private volatile boolean timeLimitReached;
+        private long count;
+
+        Search(Consumer<? super Set<V>> consumer, long nanosTimeLimit)
+        {
+            this.consumer = consumer;
+            this.nanosTimeLimit = nanosTimeLimit;
+
+            this.vertices = new ArrayList<>(graph.vertexSet().size());
+            new DegeneracyOrderingIterator<V, E>(graph).forEachRemaining(vertices::add);
+            this.n = vertices.size();
+
+            Map<V, Integer> position = CollectionUtil.newHashMapWithExpectedSize(n);
+            for (int i = 0; i < n; i++) {
+                position.put(vertices.get(i), i);
+            }
+            this.start = new int[n + 1];
+            for (int i = 0; i < n; i++) {
+                start[i + 1] = start[i] + graph.edgesOf(vertices.get(i)).size();
+            }
+            this.adj = new int[start[n]];
+            for (int i = 0; i < n; i++) {
+                V v = vertices.get(i);
+                int k = start[i];
+                for (E e : graph.edgesOf(v)) {
+                    adj[k++] = position.get(Graphs.getOppositeVertex(graph, e, v));
+                }
+            }
+
+            this.localIndices = new ConcurrentLinkedQueue<>();
+            this.lock = new Object();
+        }
+
+        /**
+         * Solve the subproblem of the vertex at a given position of the ordering.
+         *
+         * @param i the position of the vertex
+         * @param tasks the list to add the branches of the subproblem to, if split
+         */
+        private void solve(int i, List<BranchTask> tasks)
+        {
+            Subproblem s = createSubproblem(i);
+            if (s == null) {
+                return;
+            }
+
+            long[] P = new long[s.pWords];
+            for (int u = 0; u < s.p; u++) {
+                P[u >>> 6] |= 1L << u;
+            }
+            long[] X = new long[s.dWords];
+            for (int u = s.p; u < s.d; u++) {
+                X[u >>> 6] |= 1L << u;
+            }
+
+            if (s.p < SPLIT_THRESHOLD) {
+                s.expand(P, X, new int[s.p], 0);
+                return;
+            }
+
+            // split the top-level branches into separate tasks
+            long[] candidates = s.candidates(P, X);
+            for (int k = 0; k < candidates.length; k++) {
+                long word = candidates[k];
+                while (word != 0L) {
+                    int v = (k << 6) + Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                    tasks.add(new BranchTask(s, s.intersect(P, v), s.intersect(X, v), v));
+                    P[v >>> 6] &= ~(1L << v);
+                    X[v >>> 6] |= 1L << v;
+                }
+            }
+        }
+
+        /**
+         * Translate the subproblem of a vertex to its local neighborhood. Subproblems which are
+         * trivially solved are handled directly.
+         *
+         * @param i the position of the vertex
+         * @return the subproblem or null if already solved
+         */
+        private Subproblem createSubproblem(int i)
+        {
+            int[] local = localIndices.poll();
+            if (local == null) {
+                local = new int[n];
+                Arrays.fill(local, -1);
+            }
+
+            // later neighbors
+            int[] globals = new int[start[i + 1] - start[i]];
+            int p = 0;
+            boolean hasEarlier = false;
+            for (int k = start[i]; k < start[i + 1]; k++) {
+                int w = adj[k];
+                if (w > i) {
+                    if (local[w] < 0) {
+                        local[w] = p;
+                        globals[p++] = w;
+                    }
+                } else {
+                    hasEarlier = true;
+                }
+            }
+
+            if (p == 0) {
+                localIndices.offer(local);
+                if (!hasEarlier) {
+                    Set<V> clique = new HashSet<>();
+                    clique.add(vertices.get(i));
+                    report(clique);
+                }
+                return null;
+            }
+
+            // earlier neighbors adjacent to some later neighbor, with their rows over the later
+            int pWords = words(p);
+            int d = p;
+            long[][] rows = new long[globals.length][];
+            for (int k = start[i]; k < start[i + 1]; k++) {
+                int w = adj[k];
+                if (w > i || local[w] >= 0) {
+                    continue;
+                }
+                long[] row = null;
+                for (int l = start[w]; l < start[w + 1]; l++) {
+                    int u = local[adj[l]];
+                    if (u >= 0 && u < p) {
+                        if (row == null) {
+                            row = new long[pWords];
+                        }
+                        row[u >>> 6] |= 1L << u;
+                    }
+                }
+                if (row != null) {
+                    local[w] = d;
+                    rows[d] = row;
+                    globals[d++] = w;
+                }
+            }
+
+            // rows of the later neighbors over the whole neighborhood
+            int dWords = words(d);
+            for (int u = 0; u < p; u++) {
+                long[] row = new long[dWords];
+                int w = globals[u];
+                for (int l = start[w]; l < start[w + 1]; l++) {
+                    int x = local[adj[l]];
+                    if (x >= 0) {
+                        row[x >>> 6] |= 1L << x;
+                    }
+                }
+                rows[u] = row;
+            }
+
+            for (int u = 0; u < d; u++) {
+                local[globals[u]] = -1;
+            }
+            localIndices.offer(local);
+
+            return new Subproblem(i, globals, rows, p, d);
+        }
+
+        /**
+         * Deliver a maximal clique to the consumer.
+         *
+         * @param clique the clique
+         */
+        private void report(Set<V> clique)
+        {
+            synchronized (lock) {
+                if (!timeLimitReached) {
+                    consumer.accept(clique);
+                    count++;
+                }
+            }
+        }
+
+        /**
+         * The subproblem of a vertex, over its local neighborhood. Local indices $[0, p)$ are the
+         * later neighbors and $[p, d)$ the remaining earlier neighbors. The rows of the later
+         * neighbors cover the whole neighborhood, while the rows of the earlier neighbors cover
+         * only the later neighbors.
+         */
+        private class Subproblem
+        {
+            private final int vertex;
+            private final int[] globals;
+            private final long[][] rows;
+            private final int p;
+            private final int d;
+            private final int pWords;
+            private final int dWords;
+
+            Subproblem(int vertex, int[] globals, long[][] rows, int p, int d)
+            {
+                this.vertex = vertex;
+                this.globals = globals;
+                this.rows = rows;
+                this.p = p;
+                this.d = d;
+                this.pWords = words(p);
+                this.dWords = words(d);
+            }
+
+            /**
+             * Recursive implementation of the Bron-Kerbosch with pivot.
+             *
+             * @param P vertices to consider adding to the clique
+             * @param X vertices which must be excluded from the clique
+             * @param R the local vertices added to the clique of the subproblem vertex
+             * @param depth the number of vertices in R
+             */
+            void expand(long[] P, long[] X, int[] R, int depth)
+            {
+                if (timeLimitReached) {
+                    return;
+                }
+
+                /*
+                 * Check if maximal clique
+                 */
+                if (isEmpty(P)) {
+                    if (isEmpty(X)) {
+                        Set<V> clique = new HashSet<>();
+                        clique.add(vertices.get(vertex));
+                        for (int k = 0; k < depth; k++) {
+                            clique.add(vertices.get(globals[R[k]]));
+                        }
+                        report(clique);
+                    }
+                    return;
+                }
+
+                /*
+                 * Check if timeout
+                 */
+                if (nanosTimeLimit - System.nanoTime() < 0) {
+                    timeLimitReached = true;
+                    return;
+                }
+
+                /*
+                 * Main loop
+                 */
+                long[] candidates = candidates(P, X);
+                for (int k = 0; k < candidates.length; k++) {
+                    long word = candidates[k];
+                    while (word != 0L) {
+                        int v = (k << 6) + Long.numberOfTrailingZeros(word);
+                        word &= word - 1;
+                        R[depth] = v;
+                        expand(intersect(P, v), intersect(X, v), R, depth + 1);
+                        P[v >>> 6] &= ~(1L << v);
+                        X[v >>> 6] |= 1L << v;
+                    }
+                }
+            }
+
+            /**
+             * Choose a pivot from P and X with the most neighbors in P and return the candidates
+             * of P which are not adjacent to it.
+             *
+             * @param P vertices to consider adding to the clique
+             * @param X vertices which must be excluded from the clique
+             * @return the candidates for addition
+             */
+            long[] candidates(long[] P, long[] X)
+            {
+                int max = -1;
+                long[] pivotRow = null;
+                for (long[] S : Arrays.asList(P, X)) {
+                    for (int k = 0; k < S.length; k++) {
+                        long word = S[k];
+                        while (word != 0L) {
+                            int u = (k << 6) + Long.numberOfTrailingZeros(word);
+                            word &= word - 1;
+                            long[] row = rows[u];
+                            int c = 0;
+                            for (int l = 0; l < pWords; l++) {
+                                c += Long.bitCount(P[l] & row[l]);
+                            }
+                            if (c > max) {
+                                max = c;
+                                pivotRow = row;
+                            }
+                        }
+                    }
+                }
+
+                long[] candidates = new long[pWords];
+                for (int l = 0; l < pWords; l++) {
+                    candidates[l] = P[l] & ~pivotRow[l];
+                }
+                return candidates;
+            }
+
+            /**
+             * Intersect a set with the neighbors of a later neighbor.
+             *
+             * @param S the set
+             * @param v the later neighbor
+             * @return a new set
+             */
+            long[] intersect(long[] S, int v)
+            {
+                long[] row = rows[v];
+                long[] result = new long[S.length];
+                for (int l = 0; l < S.length; l++) {
+                    result[l] = S[l] & row[l];
+                }
+                return result;
+            }
+        }
+
+        /**
+         * Task which solves the subproblems of the vertices in the range [from, to) of the
+         * ordering.
+         */
+        private class RangeTask
+            extends RecursiveAction
+        {
+            private static final long serialVersionUID = 6314981260213476587L;
+
+            private final int from;
+            private final int to;
+
+            RangeTask(int from, int to)
+            {
+                this.from = from;
+                this.to = to;
+            }
+
+            @Override
+            protected void compute()
+            {
+                if (timeLimitReached) {
+                    return;
+                }
+                if (to - from > RANGE_GRAIN) {
+                    int mid = (from + to) >>> 1;
+                    invokeAll(new RangeTask(from, mid), new RangeTask(mid, to));
+                    return;
+                }
+                List<BranchTask> tasks = new ArrayList<>();
+                for (int i = from; i < to && !timeLimitReached; i++) {
+                    solve(i, tasks);
+                }
+                invokeAll(tasks);
+            }
+        }
+
+        /**
+         * Task which solves a top-level branch of a subproblem.
+         */
+        private class BranchTask
+            extends RecursiveAction
+        {
+            private static final long serialVersionUID = -2497368025532715640L;
+
+            private final Subproblem s;
+            private final long[] P;
+            private final long[] X;
+            private final int v;
+
+            BranchTask(Subproblem s, long[] P, long[] X, int v)
+            {
+                this.s = s;
+                this.P = P;
+                this.X = X;
+                this.v = v;
+            }
+
+            @Override
+            protected void compute()
+            {
+                int[] R = new int[s.p];
+                R[0] = v;
+                s.expand(P, X, R, 1);
+            }
+        }
+    }
+
+    private static int words(int bits)
+    {
+        return (bits + 63) >>> 6;
+    }
+
+    private static boolean isEmpty(long[] S)
+    {
+        for (long word : S) {
+            if (word != 0L) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
+
+// End ParallelDegeneracyBronKerboschCliqueFinder.java
@@ -43,6 +43,13 @@ import java.util.*;
  * is added as listener to a graph other than the one it inspects, results are undefined.
  * </p>
  *
+ * <p>
+ * Edge insertions merge the smaller component into the larger one, in place, thus sets previously
+ * returned by {@link #connectedSetOf(Object)} and {@link #connectedSets()} may grow. Deletions of
+ * edges and vertices invalidate the cached results. For graphs with many deletions use
+ * {@link DynamicConnectivityInspector}, which maintains the components under arbitrary updates.
+ * </p>
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  *
@@ -149,21 +156,31 @@ public class ConnectivityInspector<V, E>
     @Override
     public void edgeAdded(GraphEdgeChangeEvent<V, E> e)
     {
+        if (connectedSets == null) {
+            // not computed yet, drop any sets cached by connectedSetOf since they may be merged
+            init();
+            return;
+        }
         V source=e.getEdgeSource();
         V target=e.getEdgeTarget();
         Set<V> sourceSet=connectedSetOf(source);
         Set<V> targetSet=connectedSetOf(target);
 
-        //If source and target are in the same set, do nothing, otherwise, merge sets
-        if(sourceSet != targetSet){
-            Set<V> merge=new HashSet<>();
-            merge.addAll(sourceSet);
-            merge.addAll(targetSet);
-            connectedSets.remove(sourceSet);
-            connectedSets.remove(targetSet);
-            connectedSets.add(merge);
-            for(V v : merge)
-                vertexToConnectedSet.put(v, merge);
+        // If source and target are in the same set, do nothing, otherwise, merge the smaller set
+        // into the larger one. Each vertex changes set O(log n) times over all insertions.
+        if (sourceSet != targetSet) {
+            Set<V> large = sourceSet.size() >= targetSet.size() ? sourceSet : targetSet;
+            Set<V> small = large == sourceSet ? targetSet : sourceSet;
+            large.addAll(small);
+            for (V v : small) {
+                vertexToConnectedSet.put(v, large);
+            }
+            for (Iterator<Set<V>> it = connectedSets.iterator(); it.hasNext();) {
+                if (it.next() == small) {
+                    it.remove();
+                    break;
+                }
+            }
         }
     }
 
@@ -198,6 +215,10 @@ public class ConnectivityInspector<V, E>
     @Override
     public void vertexAdded(GraphVertexChangeEvent<V> e)
     {
+        if (connectedSets == null) {
+            // not computed yet, the vertex will be found lazily
+            return;
+        }
         Set<V> component=new HashSet<>();
         component.add(e.getVertex());
         connectedSets.add(component);
@@ -0,0 +1,693 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.connectivity;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.event.*;
+
+/**
+ * Maintains the connected components of a graph under insertions and deletions of vertices and
+ * edges. For a directed graph the weakly connected components are maintained.
+ *
+ * <p>
+ * The inspector is a {@link GraphListener} and should be added as a listener to the inspected
+ * graph, for example a {@link org.jgrapht.graph.DefaultListenableGraph}. Contrary to
+ * {@link ConnectivityInspector}, which recomputes all components after a deletion, this class
+ * implements the fully dynamic connectivity algorithm described in
+ * <ul>
+ * <li>Jacob Holm, Kristian de Lichtenberg and Mikkel Thorup. Poly-logarithmic deterministic
+ * fully-dynamic algorithms for connectivity, minimum spanning tree, 2-edge, and biconnectivity.
+ * Journal of the ACM, 48(4):723--760, 2001.</li>
+ * </ul>
+ *
+ * <p>
+ * Every edge has a level, initially zero. For each level $i$ the edges with level at least $i$
+ * which belong to a spanning forest are stored as Euler tours, represented as balanced binary
+ * trees. When a forest edge is deleted, a replacement edge is searched among the non-forest edges
+ * of the smaller of the two resulting trees, starting from the level of the deleted edge. Edges
+ * which are examined without becoming replacements are moved one level up, which bounds the total
+ * work. Insertions and deletions take $O(\log^2 n)$ amortized time, where $n$ is the number of
+ * vertices, and {@link #pathExists(Object, Object)} takes $O(\log n)$ time. The method
+ * {@link #connectedSetOf(Object)} takes time linear in the size of the returned set.
+ *
+ * <p>
+ * If the inspector is added as a listener to a graph other than the one it inspects, results are
+ * undefined. This class is not thread-safe.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+public class DynamicConnectivityInspector<V, E>
+    implements GraphListener<V, E>
+{
+    private final Map<V, VertexData<V>> vertices;
+    private final Map<E, EdgeData<V>> edges;
+    private final Random random;
+    private int components;
+
+    /**
+     * Creates a connectivity inspector for the specified graph. The current vertices and edges of
+     * the graph are inserted in time $O(m \log n)$.
+     *
+     * @param graph the graph to inspect
+     */
+    public DynamicConnectivityInspector(Graph<V, E> graph)
+    {
+        Objects.requireNonNull(graph, "Graph cannot be null");
+        this.vertices = new LinkedHashMap<>();
+        this.edges = new HashMap<>();
+        this.random = new Random();
+        for (V v : graph.vertexSet()) {
+            addVertex(v);
+        }
+        for (E e : graph.edgeSet()) {
+            addEdge(e, graph.getEdgeSource(e), graph.getEdgeTarget(e));
+        }
+    }
+
+    /**
+     * Test if the inspected graph is connected. An empty graph is <i>not</i> considered connected.
+     *
+     * @return true if and only if the inspected graph is connected
+     */
+    public boolean isConnected()
+    {
+        return components == 1;
+    }
+
+    /**
+     * Tests whether two vertices belong to the same connected component.
+     *
+     * @param sourceVertex one end of the path
+     * @param targetVertex another end of the path
+     * @return true if and only if the two vertices belong to the same connected component
+     * @throws IllegalArgumentException if a vertex is not contained in the graph
+     */
+    public boolean pathExists(V sourceVertex, V targetVertex)
+    {
+        VertexData<V> s = getVertexData(sourceVertex);
+        VertexData<V> t = getVertexData(targetVertex);
+        return s == t || root(s.nodes.get(0)) == root(t.nodes.get(0));
+    }
+
+    /**
+     * Returns the set of all vertices that are in the connected component of the specified
+     * vertex.
+     *
+     * @param vertex the vertex
+     * @return the set of all vertices that are in the connected component of the vertex
+     * @throws IllegalArgumentException if the vertex is not contained in the graph
+     */
+    public Set<V> connectedSetOf(V vertex)
+    {
+        Node<V> root = root(getVertexData(vertex).nodes.get(0));
+        Set<V> set = new HashSet<>();
+        Deque<Node<V>> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            Node<V> x = stack.pop();
+            if (x.vertex != null) {
+                set.add(x.vertex.vertex);
+            }
+            if (x.left != null) {
+                stack.push(x.left);
+            }
+            if (x.right != null) {
+                stack.push(x.right);
+            }
+        }
+        return set;
+    }
+
+    /**
+     * Returns a list of sets, where each set contains all vertices that are in the same connected
+     * component. All graph vertices occur in exactly one set.
+     *
+     * @return a list of sets, one for each connected component
+     */
+    public List<Set<V>> connectedSets()
+    {
+        Map<Node<V>, Set<V>> sets = new IdentityHashMap<>();
+        List<Set<V>> result = new ArrayList<>(components);
+        for (VertexData<V> data : vertices.values()) {
+            Set<V> set = sets.get(root(data.nodes.get(0)));
+            if (set == null) {
+                set = new HashSet<>();
+                sets.put(root(data.nodes.get(0)), set);
+                result.add(set);
+            }
+            set.add(data.vertex);
+        }
+        return result;
+    }
+
+    @Override
+    public void edgeAdded(GraphEdgeChangeEvent<V, E> e)
+    {
+        addEdge(e.getEdge(), e.getEdgeSource(), e.getEdgeTarget());
+    }
+
+    @Override
+    public void edgeRemoved(GraphEdgeChangeEvent<V, E> e)
+    {
+        removeEdge(e.getEdge());
+    }
+
+    @Override
+    public void vertexAdded(GraphVertexChangeEvent<V> e)
+    {
+        addVertex(e.getVertex());
+    }
+
+    @Override
+    public void vertexRemoved(GraphVertexChangeEvent<V> e)
+    {
+        VertexData<V> data = vertices.get(e.getVertex());
+        if (data == null) {
+            return;
+        }
+        // the incident edges are normally removed before the vertex
+        if (root(data.nodes.get(0)).size > 1 || hasNonTreeEdges(data)) {
+            List<E> incident = new ArrayList<>();
+            for (Map.Entry<E, EdgeData<V>> entry : edges.entrySet()) {
+                EdgeData<V> edge = entry.getValue();
+                if (edge.source == data || edge.target == data) {
+                    incident.add(entry.getKey());
+                }
+            }
+            for (E edge : incident) {
+                removeEdge(edge);
+            }
+        }
+        vertices.remove(e.getVertex());
+        components--;
+    }
+
+    private VertexData<V> getVertexData(V vertex)
+    {
+        VertexData<V> data = vertices.get(vertex);
+        if (data == null) {
+            throw new IllegalArgumentException("no such vertex in graph: " + vertex);
+        }
+        return data;
+    }
+
+    private VertexData<V> addVertex(V vertex)
+    {
+        VertexData<V> data = vertices.get(vertex);
+        if (data == null) {
+            data = new VertexData<>(vertex);
+            node(data, 0);
+            vertices.put(vertex, data);
+            components++;
+        }
+        return data;
+    }
+
+    private void addEdge(E e, V source, V target)
+    {
+        if (edges.containsKey(e)) {
+            return;
+        }
+        EdgeData<V> edge = new EdgeData<>(addVertex(source), addVertex(target));
+        edges.put(e, edge);
+        if (edge.source == edge.target) {
+            // self-loops do not affect connectivity
+            return;
+        }
+        if (root(node(edge.source, 0)) == root(node(edge.target, 0))) {
+            addNonTreeEdge(edge);
+        } else {
+            addTreeEdge(edge, 0);
+            components--;
+        }
+    }
+
+    private void removeEdge(E e)
+    {
+        EdgeData<V> edge = edges.remove(e);
+        if (edge == null || edge.source == edge.target) {
+            return;
+        }
+        if (!edge.tree) {
+            removeNonTreeEdge(edge);
+            return;
+        }
+
+        for (int i = 0; i <= edge.level; i++) {
+            cut(edge.arcs.get(i));
+        }
+        edge.tree = false;
+        edge.arcs = null;
+
+        for (int i = edge.level; i >= 0; i--) {
+            if (replace(edge.source, edge.target, i)) {
+                return;
+            }
+        }
+        components++;
+    }
+
+    /**
+     * Search for a replacement edge at a level, after the deletion of a forest edge which
+     * separated two vertices. The forest edges of the smaller tree at this level, and the
+     * non-forest edges examined without success, are moved one level up.
+     *
+     * @param u the first vertex
+     * @param v the second vertex
+     * @param level the level
+     * @return true if a replacement edge was found
+     */
+    private boolean replace(VertexData<V> u, VertexData<V> v, int level)
+    {
+        Node<V> ru = root(node(u, level));
+        Node<V> rv = root(node(v, level));
+        Node<V> small = ru.vertexCount <= rv.vertexCount ? ru : rv;
+
+        for (Node<V> arc : collect(small, false)) {
+            EdgeData<V> edge = arc.edge;
+            setTreeMark(arc, false);
+            edge.level = level + 1;
+            link(edge, level + 1);
+            setTreeMark(edge.arcs.get(level + 1).first, true);
+        }
+
+        for (Node<V> x : collect(small, true)) {
+            VertexData<V> data = x.vertex;
+            Iterator<EdgeData<V>> it = data.nonTree.get(level).iterator();
+            while (it.hasNext()) {
+                EdgeData<V> edge = it.next();
+                VertexData<V> other = edge.source == data ? edge.target : edge.source;
+                it.remove();
+                other.nonTree.get(level).remove(edge);
+                updateNonTreeMark(other, level);
+
+                if (root(node(other, level)) != small) {
+                    updateNonTreeMark(data, level);
+                    addTreeEdge(edge, level);
+                    return true;
+                }
+                edge.level = level + 1;
+                addNonTreeEdge(edge);
+            }
+            updateNonTreeMark(data, level);
+        }
+        return false;
+    }
+
+    private void addTreeEdge(EdgeData<V> edge, int level)
+    {
+        edge.tree = true;
+        edge.level = level;
+        edge.arcs = new ArrayList<>(level + 1);
+        for (int i = 0; i <= level; i++) {
+            link(edge, i);
+        }
+        setTreeMark(edge.arcs.get(level).first, true);
+    }
+
+    private void addNonTreeEdge(EdgeData<V> edge)
+    {
+        nonTree(edge.source, edge.level).add(edge);
+        nonTree(edge.target, edge.level).add(edge);
+        updateNonTreeMark(edge.source, edge.level);
+        updateNonTreeMark(edge.target, edge.level);
+    }
+
+    private void removeNonTreeEdge(EdgeData<V> edge)
+    {
+        edge.source.nonTree.get(edge.level).remove(edge);
+        edge.target.nonTree.get(edge.level).remove(edge);
+        updateNonTreeMark(edge.source, edge.level);
+        updateNonTreeMark(edge.target, edge.level);
+    }
+
+    private boolean hasNonTreeEdges(VertexData<V> data)
+    {
+        for (Set<EdgeData<V>> set : data.nonTree) {
+            if (set != null && !set.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the node of a vertex in the Euler tours of a level, creating it if needed.
+     */
+    private Node<V> node(VertexData<V> data, int level)
+    {
+        while (data.nodes.size() <= level) {
+            data.nodes.add(null);
+        }
+        Node<V> x = data.nodes.get(level);
+        if (x == null) {
+            x = new Node<>(data, null, random.nextInt());
+            data.nodes.set(level, x);
+        }
+        return x;
+    }
+
+    /**
+     * Get the non-forest edges of a vertex with a given level, creating the set if needed.
+     */
+    private Set<EdgeData<V>> nonTree(VertexData<V> data, int level)
+    {
+        while (data.nonTree.size() <= level) {
+            data.nonTree.add(null);
+        }
+        Set<EdgeData<V>> set = data.nonTree.get(level);
+        if (set == null) {
+            set = new HashSet<>();
+            data.nonTree.set(level, set);
+        }
+        return set;
+    }
+
+    private void updateNonTreeMark(VertexData<V> data, int level)
+    {
+        Set<EdgeData<V>> set = level < data.nonTree.size() ? data.nonTree.get(level) : null;
+        boolean mark = set != null && !set.isEmpty();
+        Node<V> x = node(data, level);
+        if (x.nonTreeMark != mark) {
+            x.nonTreeMark = mark;
+            updateToRoot(x);
+        }
+    }
+
+    private void setTreeMark(Node<V> arc, boolean mark)
+    {
+        if (arc.treeMark != mark) {
+            arc.treeMark = mark;
+            updateToRoot(arc);
+        }
+    }
+
+    /**
+     * Collect the marked nodes of the Euler tour with the given root.
+     *
+     * @param root the root
+     * @param nonTree whether to collect the vertices with non-forest edges or the forest edges
+     * @return the marked nodes
+     */
+    private List<Node<V>> collect(Node<V> root, boolean nonTree)
+    {
+        List<Node<V>> result = new ArrayList<>();
+        Deque<Node<V>> stack = new ArrayDeque<>();
+        if (nonTree ? root.anyNonTree : root.anyTree) {
+            stack.push(root);
+        }
+        while (!stack.isEmpty()) {
+            Node<V> x = stack.pop();
+            if (nonTree ? x.nonTreeMark : x.treeMark) {
+                result.add(x);
+            }
+            if (x.left != null && (nonTree ? x.left.anyNonTree : x.left.anyTree)) {
+                stack.push(x.left);
+            }
+            if (x.right != null && (nonTree ? x.right.anyNonTree : x.right.anyTree)) {
+                stack.push(x.right);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Link the Euler tours of the endpoints of a forest edge at a level.
+     */
+    private void link(EdgeData<V> edge, int level)
+    {
+        Node<V> a = new Node<>(null, edge, random.nextInt());
+        Node<V> b = new Node<>(null, edge, random.nextInt());
+        edge.arcs.add(new Arc<>(a, b));
+        Node<V> s = reroot(node(edge.source, level));
+        Node<V> t = reroot(node(edge.target, level));
+        merge(merge(s, a), merge(t, b));
+    }
+
+    /**
+     * Cut the Euler tour of a forest edge, given the nodes of its two arcs.
+     */
+    private void cut(Arc<V> arc)
+    {
+        Node<V> a = arc.first;
+        Node<V> b = arc.second;
+        int ia = index(a);
+        int ib = index(b);
+        if (ia > ib) {
+            Node<V> tmp = a;
+            a = b;
+            b = tmp;
+            int itmp = ia;
+            ia = ib;
+            ib = itmp;
+        }
+        Pair<Node<V>, Node<V>> p1 = split(root(a), ia);
+        Pair<Node<V>, Node<V>> p2 = split(p1.getSecond(), ib - ia + 1);
+        Pair<Node<V>, Node<V>> p3 = split(p2.getFirst(), 1);
+        split(p3.getSecond(), ib - ia - 1);
+        merge(p1.getFirst(), p2.getSecond());
+    }
+
+    /**
+     * Rotate the Euler tour of a node so that it starts at the node.
+     *
+     * @return the root of the rotated tour
+     */
+    private static <V> Node<V> reroot(Node<V> x)
+    {
+        int k = index(x);
+        Node<V> r = root(x);
+        if (k == 0) {
+            return r;
+        }
+        Pair<Node<V>, Node<V>> p = split(r, k);
+        return merge(p.getSecond(), p.getFirst());
+    }
+
+    private static <V> Node<V> root(Node<V> x)
+    {
+        while (x.parent != null) {
+            x = x.parent;
+        }
+        return x;
+    }
+
+    /**
+     * Get the position of a node in its Euler tour.
+     */
+    private static <V> int index(Node<V> x)
+    {
+        int k = size(x.left);
+        while (x.parent != null) {
+            if (x == x.parent.right) {
+                k += size(x.parent.left) + 1;
+            }
+            x = x.parent;
+        }
+        return k;
+    }
+
+    private static <V> void updateToRoot(Node<V> x)
+    {
+        while (x != null) {
+            x.update();
+            x = x.parent;
+        }
+    }
+
+    private static <V> int size(Node<V> x)
+    {
+        return x == null ? 0 : x.size;
+    }
+
+    /**
+     * Concatenate two tours given their roots.
+     *
+     * @return the root of the concatenation
+     */
+    private static <V> Node<V> merge(Node<V> a, Node<V> b)
+    {
+        if (a == null) {
+            if (b != null) {
+                b.parent = null;
+            }
+            return b;
+        }
+        if (b == null) {
+            a.parent = null;
+            return a;
+        }
+        if (a.priority > b.priority) {
+            a.right = merge(a.right, b);
+            a.right.parent = a;
+            a.update();
+            a.parent = null;
+            return a;
+        } else {
+            b.left = merge(a, b.left);
+            b.left.parent = b;
+            b.update();
+            b.parent = null;
+            return b;
+        }
+    }
+
+    /**
+     * Split a tour, given its root, into its first k nodes and the rest.
+     *
+     * @return the roots of the two parts
+     */
+    private static <V> Pair<Node<V>, Node<V>> split(Node<V> t, int k)
+    {
+        if (t == null) {
+            return Pair.of(null, null);
+        }
+        if (size(t.left) >= k) {
+            Pair<Node<V>, Node<V>> p = split(t.left, k);
+            t.left = p.getSecond();
+            if (t.left != null) {
+                t.left.parent = t;
+            }
+            t.update();
+            t.parent = null;
+            return Pair.of(p.getFirst(), t);
+        } else {
+            Pair<Node<V>, Node<V>> p = split(t.right, k - size(t.left) - 1);
+            t.right = p.getFirst();
+            if (t.right != null) {
+                t.right.parent = t;
+            }
+            t.update();
+            t.parent = null;
+            return Pair.of(t, p.getSecond());
+        }
+    }
+
+    /**
+     * A vertex with its nodes and non-forest edges per level.
+     */
+    private static final class VertexData<V>
+    {
+        final V vertex;
+        final List<Node<V>> nodes;
+        final List<Set<EdgeData<V>>> nonTree;
+
+        VertexData(V vertex)
+        {
+            this.vertex = vertex;
+            this.nodes = new ArrayList<>(1);
+            this.nonTree = new ArrayList<>(1);
+        }
+    }
+
+    /**
+     * An edge with its level and, if it belongs to the spanning forest, the nodes of its arcs per
+     * level.
+     */
+    private static final class EdgeData<V>
+    {
+        final VertexData<V> source;
+        final VertexData<V> target;
+        int level;
+        boolean tree;
+        List<Arc<V>> arcs;
+
+        EdgeData(VertexData<V> source, VertexData<V> target)
+        {
+            this.source = source;
+            this.target = target;
+        }
+    }
+
+    /**
+     * The nodes of the two arcs of a forest edge in the Euler tour of a level.
+     */
+    private static final class Arc<V>
+    {
+        final Node<V> first;
+        final Node<V> second;
+
+        Arc(Node<V> first, Node<V> second)
+        {
+            this.first = first;
+            this.second = second;
+        }
+    }
+
+    /**
+     * A node of an Euler tour, stored in a treap keyed by position. A node is either the single
+     * occurrence of a vertex or one of the two arcs of a forest edge. Vertex nodes are marked if
+     * the vertex has non-forest edges at the level of the tour, and the first arc of a forest edge
+     * is marked at the level of the edge.
+     */
+    private static final class Node<V>
+    {
+        final VertexData<V> vertex;
+        final EdgeData<V> edge;
+        final int priority;
+        Node<V> left;
+        Node<V> right;
+        Node<V> parent;
+
+        boolean nonTreeMark;
+        boolean treeMark;
+
+        // aggregates over the subtree
+        int size;
+        int vertexCount;
+        boolean anyNonTree;
+        boolean anyTree;
+
+        Node(VertexData<V> vertex, EdgeData<V> edge, int priority)
+        {
+            this.vertex = vertex;
+            this.edge = edge;
+            this.priority = priority;
+            update();
+        }
+
+        void update()
+        {
+            size = 1;
+            vertexCount = vertex != null ? 1 : 0;
+            anyNonTree = nonTreeMark;
+            anyTree = treeMark;
+            if (left != null) {
+                size += left.size;
+                vertexCount += left.vertexCount;
+                anyNonTree |= left.anyNonTree;
+                anyTree |= left.anyTree;
+            }
+            if (right != null) {
+                size += right.size;
+                vertexCount += right.vertexCount;
+                anyNonTree |= right.anyNonTree;
+                anyTree |= right.anyTree;
+            }
+        }
+    }
+
+}
+
+// End DynamicConnectivityInspector.java
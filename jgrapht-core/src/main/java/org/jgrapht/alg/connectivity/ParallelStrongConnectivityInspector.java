@@ -0,0 +1,524 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.connectivity;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+
+/**
+ * Computes the strongly connected components of a directed graph, using iterative and parallel
+ * algorithms over primitive arrays.
+ *
+ * <p>
+ * The vertices are first mapped to integer indices and the graph is copied into adjacency arrays.
+ * Unlike {@link GabowStrongConnectivityInspector} and {@link KosarajuStrongConnectivityInspector},
+ * no algorithm recurses along the edges of the graph, thus long paths do not require a large thread
+ * stack. The computation is executed on a {@link ForkJoinPool}:
+ * <ul>
+ * <li>If the pool has a parallelism of one, or the graph is small, Tarjan's algorithm is executed
+ * using an explicit stack, in time $O(|V|+|E|)$.</li>
+ * <li>Otherwise, the vertices without incoming or outgoing edges are first removed in parallel as
+ * trivial components. The remaining vertices are then split using the forward-backward algorithm.
+ * The vertices reachable both from and to a pivot vertex form a component, and the vertices
+ * reachable only from the pivot, only to the pivot, and neither, form three independent
+ * subproblems which are solved in parallel. The pivot is the vertex with the largest product of
+ * in-degree and out-degree, which usually belongs to the largest component. Each subproblem is
+ * identified by a color of its vertices and searches only inside its color. Small subproblems, as
+ * well as the subproblems of a split which did not substantially reduce the size of the largest
+ * subproblem, are solved using Tarjan's algorithm. Thus the algorithm performs at most a
+ * logarithmic number of splits along each path of subproblems and its running time is
+ * $O((|V|+|E|) \log |V|)$.</li>
+ * </ul>
+ *
+ * <p>
+ * Besides the sets of vertices, the components are available as arrays of vertex indices using
+ * {@link #getStronglyConnectedIndexSets()} and {@link #getComponentIds()}, together with the
+ * mapping of the vertices to indices. The numbering of the components is unspecified.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+public class ParallelStrongConnectivityInspector<V, E>
+    extends AbstractStrongConnectivityInspector<V, E>
+{
+    /**
+     * Subproblems with less vertices are solved using Tarjan's algorithm.
+     */
+    private static final int SEQUENTIAL_THRESHOLD = 4096;
+
+    /**
+     * A split is productive if the largest resulting subproblem has at most this fraction of the
+     * vertices of the split subproblem.
+     */
+    private static final double SPLIT_RATIO = 0.75;
+
+    /**
+     * Number of vertices processed by a single task while trimming.
+     */
+    private static final int VERTEX_GRAIN = 4096;
+
+    /**
+     * Color of the vertices which have been assigned to a component.
+     */
+    private static final int DONE = -1;
+
+    private final ForkJoinPool pool;
+
+    private VertexToIntegerMapping<V> mapping;
+    private int[] componentIds;
+    private List<int[]> indexSets;
+
+    /**
+     * Constructs a new inspector using the common pool.
+     *
+     * @param graph the graph to inspect
+     * @throws NullPointerException in case the graph is null
+     */
+    public ParallelStrongConnectivityInspector(Graph<V, E> graph)
+    {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a new inspector.
+     *
+     * @param graph the graph to inspect
+     * @param pool the pool executing the computation
+     * @throws NullPointerException in case the graph or the pool is null
+     */
+    public ParallelStrongConnectivityInspector(Graph<V, E> graph, ForkJoinPool pool)
+    {
+        super(graph);
+        this.pool = Objects.requireNonNull(pool, "Fork-join pool cannot be null");
+    }
+
+    @Override
+    public List<Set<V>> stronglyConnectedSets()
+    {
+        if (stronglyConnectedSets == null) {
+            List<int[]> sets = getStronglyConnectedIndexSets();
+            stronglyConnectedSets = new ArrayList<>(sets.size());
+            for (int[] set : sets) {
+                Set<V> component = new HashSet<>();
+                for (int v : set) {
+                    component.add(mapping.getVertex(v));
+                }
+                stronglyConnectedSets.add(component);
+            }
+        }
+        return stronglyConnectedSets;
+    }
+
+    /**
+     * Get the mapping of the vertices to the indices used by {@link #getComponentIds()} and
+     * {@link #getStronglyConnectedIndexSets()}.
+     *
+     * @return the mapping of the vertices to indices
+     */
+    public VertexToIntegerMapping<V> getVertexToIntegerMapping()
+    {
+        compute();
+        return mapping;
+    }
+
+    /**
+     * Get the component of each vertex. Position $i$ of the returned array contains the component
+     * of the vertex with index $i$, and the components are numbered from zero, in the order of
+     * {@link #getStronglyConnectedIndexSets()}.
+     *
+     * @return the component of each vertex index
+     */
+    public int[] getComponentIds()
+    {
+        compute();
+        return componentIds.clone();
+    }
+
+    /**
+     * Get the strongly connected components as arrays of vertex indices. The arrays must not be
+     * modified.
+     *
+     * @return an unmodifiable list of the components, each as an array of vertex indices
+     */
+    public List<int[]> getStronglyConnectedIndexSets()
+    {
+        compute();
+        return indexSets;
+    }
+
+    private void compute()
+    {
+        if (indexSets == null) {
+            mapping = new VertexToIntegerMapping<>(graph.vertexSet());
+            Computation c = new Computation();
+            c.run();
+            componentIds = c.component;
+            int[][] sets = new int[c.nextComponent.get()][];
+            for (int[] set : c.sets) {
+                sets[componentIds[set[0]]] = set;
+            }
+            indexSets = Collections.unmodifiableList(Arrays.asList(sets));
+        }
+    }
+
+    /**
+     * The computation over adjacency arrays of the indexed graph.
+     */
+    private class Computation
+    {
+        private final int n;
+        private final int[] outStart;
+        private final int[] out;
+        private final int[] inStart;
+        private final int[] in;
+
+        // color of the subproblem containing each vertex, DONE once assigned to a component
+        private final int[] color;
+        private final AtomicInteger nextColor;
+
+        // state of Tarjan's algorithm, each vertex touched by a single subproblem
+        private final int[] index;
+        private final int[] low;
+
+        private final int[] component;
+        private final AtomicInteger nextComponent;
+        private final Queue<int[]> sets;
+
+        Computation()
+        {
+            this.n = mapping.size();
+            Map<V, Integer> vertexMap = mapping.getVertexMap();
+            List<V> vertices = mapping.getIndexList();
+
+            this.outStart = new int[n + 1];
+            this.inStart = new int[n + 1];
+            for (int v = 0; v < n; v++) {
+                outStart[v + 1] = outStart[v] + graph.outDegreeOf(vertices.get(v));
+                inStart[v + 1] = inStart[v] + graph.inDegreeOf(vertices.get(v));
+            }
+            this.out = new int[outStart[n]];
+            this.in = new int[inStart[n]];
+            for (int v = 0; v < n; v++) {
+                V vertex = vertices.get(v);
+                int k = outStart[v];
+                for (E e : graph.outgoingEdgesOf(vertex)) {
+                    out[k++] = vertexMap.get(Graphs.getOppositeVertex(graph, e, vertex));
+                }
+                k = inStart[v];
+                for (E e : graph.incomingEdgesOf(vertex)) {
+                    in[k++] = vertexMap.get(Graphs.getOppositeVertex(graph, e, vertex));
+                }
+            }
+
+            this.color = new int[n];
+            this.nextColor = new AtomicInteger(1);
+            this.index = new int[n];
+            Arrays.fill(index, -1);
+            this.low = new int[n];
+            this.component = new int[n];
+            this.nextComponent = new AtomicInteger();
+            this.sets = new ConcurrentLinkedQueue<>();
+        }
+
+        void run()
+        {
+            if (pool.getParallelism() == 1 || n < SEQUENTIAL_THRESHOLD) {
+                int[] all = new int[n];
+                for (int v = 0; v < n; v++) {
+                    all[v] = v;
+                }
+                tarjan(all, 0);
+                return;
+            }
+
+            // remove vertices without incoming or outgoing edges
+            pool.invoke(new TrimTask(0, n));
+            int remaining = 0;
+            for (int v = 0; v < n; v++) {
+                if (color[v] != DONE) {
+                    remaining++;
+                }
+            }
+            int[] vertices = new int[remaining];
+            int k = 0;
+            for (int v = 0; v < n; v++) {
+                if (color[v] != DONE) {
+                    vertices[k++] = v;
+                }
+            }
+            pool.invoke(new ForwardBackwardTask(vertices, 0, true));
+        }
+
+        /**
+         * Whether a vertex has an incoming or outgoing edge, ignoring self-loops.
+         */
+        private boolean hasEdge(int v, int[] start, int[] adj)
+        {
+            for (int k = start[v]; k < start[v + 1]; k++) {
+                if (adj[k] != v) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Split a subproblem around a pivot, reporting the component of the pivot.
+         *
+         * @param vertices the vertices of the subproblem
+         * @param c the color of the subproblem
+         * @return the three remaining subproblems
+         */
+        private List<ForwardBackwardTask> split(int[] vertices, int c)
+        {
+            int pivot = vertices[0];
+            long maxDegrees = -1;
+            for (int v : vertices) {
+                long degrees =
+                    (long) (outStart[v + 1] - outStart[v]) * (inStart[v + 1] - inStart[v]);
+                if (degrees > maxDegrees) {
+                    maxDegrees = degrees;
+                    pivot = v;
+                }
+            }
+            int fColor = nextColor.getAndIncrement();
+            int bColor = nextColor.getAndIncrement();
+
+            // forward search
+            int[] forward = new int[vertices.length];
+            int fCount = 0;
+            color[pivot] = fColor;
+            forward[fCount++] = pivot;
+            for (int head = 0; head < fCount; head++) {
+                int v = forward[head];
+                for (int k = outStart[v]; k < outStart[v + 1]; k++) {
+                    int w = out[k];
+                    if (color[w] == c) {
+                        color[w] = fColor;
+                        forward[fCount++] = w;
+                    }
+                }
+            }
+
+            // backward search, splitting the reached vertices to the component and the rest
+            int[] backward = new int[vertices.length];
+            int bCount = 0;
+            int[] scc = new int[fCount];
+            int sccCount = 0;
+            color[pivot] = DONE;
+            scc[sccCount++] = pivot;
+            backward[bCount++] = pivot;
+            for (int head = 0; head < bCount; head++) {
+                int v = backward[head];
+                for (int k = inStart[v]; k < inStart[v + 1]; k++) {
+                    int w = in[k];
+                    if (color[w] == fColor) {
+                        color[w] = DONE;
+                        scc[sccCount++] = w;
+                        backward[bCount++] = w;
+                    } else if (color[w] == c) {
+                        color[w] = bColor;
+                        backward[bCount++] = w;
+                    }
+                }
+            }
+            report(Arrays.copyOf(scc, sccCount));
+
+            int[] fOnly = new int[fCount - sccCount];
+            int k = 0;
+            for (int i = 0; i < fCount; i++) {
+                if (color[forward[i]] == fColor) {
+                    fOnly[k++] = forward[i];
+                }
+            }
+            int[] bOnly = new int[bCount - sccCount];
+            k = 0;
+            for (int i = 0; i < bCount; i++) {
+                if (color[backward[i]] == bColor) {
+                    bOnly[k++] = backward[i];
+                }
+            }
+            int[] rest = new int[vertices.length - fCount - bOnly.length];
+            k = 0;
+            for (int v : vertices) {
+                if (color[v] == c) {
+                    rest[k++] = v;
+                }
+            }
+
+            int max = Math.max(rest.length, Math.max(fOnly.length, bOnly.length));
+            boolean productive = max <= SPLIT_RATIO * vertices.length;
+            return Arrays.asList(
+                new ForwardBackwardTask(fOnly, fColor, productive),
+                new ForwardBackwardTask(bOnly, bColor, productive),
+                new ForwardBackwardTask(rest, c, productive));
+        }
+
+        /**
+         * Tarjan's algorithm with an explicit stack, restricted to the vertices of a color.
+         *
+         * @param vertices the vertices of the subproblem
+         * @param c the color of the subproblem
+         */
+        private void tarjan(int[] vertices, int c)
+        {
+            int counter = 0;
+            int[] stack = new int[vertices.length];
+            int sp = 0;
+            int[] callVertex = new int[vertices.length];
+            int[] callEdge = new int[vertices.length];
+            int cp = 0;
+
+            for (int s : vertices) {
+                if (color[s] != c || index[s] != -1) {
+                    continue;
+                }
+                index[s] = low[s] = counter++;
+                stack[sp++] = s;
+                callVertex[cp] = s;
+                callEdge[cp++] = outStart[s];
+
+                while (cp > 0) {
+                    int v = callVertex[cp - 1];
+                    int k = callEdge[cp - 1];
+                    if (k < outStart[v + 1]) {
+                        callEdge[cp - 1]++;
+                        int w = out[k];
+                        if (color[w] != c) {
+                            continue;
+                        }
+                        if (index[w] == -1) {
+                            index[w] = low[w] = counter++;
+                            stack[sp++] = w;
+                            callVertex[cp] = w;
+                            callEdge[cp++] = outStart[w];
+                        } else {
+                            // vertices of the color which have been visited are on the stack
+                            low[v] = Math.min(low[v], index[w]);
+                        }
+                        continue;
+                    }
+
+                    cp--;
+                    if (low[v] == index[v]) {
+                        int top = sp;
+                        do {
+                            color[stack[--sp]] = DONE;
+                        } while (stack[sp] != v);
+                        report(Arrays.copyOfRange(stack, sp, top));
+                    }
+                    if (cp > 0) {
+                        int u = callVertex[cp - 1];
+                        low[u] = Math.min(low[u], low[v]);
+                    }
+                }
+            }
+        }
+
+        private void report(int[] scc)
+        {
+            int id = nextComponent.getAndIncrement();
+            for (int v : scc) {
+                component[v] = id;
+            }
+            sets.add(scc);
+        }
+
+        /**
+         * Task which removes the vertices in the range [from, to) without incoming or outgoing
+         * edges as trivial components.
+         */
+        private class TrimTask
+            extends RecursiveAction
+        {
+            private static final long serialVersionUID = 5742069283170496741L;
+
+            private final int from;
+            private final int to;
+
+            TrimTask(int from, int to)
+            {
+                this.from = from;
+                this.to = to;
+            }
+
+            @Override
+            protected void compute()
+            {
+                if (to - from > VERTEX_GRAIN) {
+                    int mid = (from + to) >>> 1;
+                    invokeAll(new TrimTask(from, mid), new TrimTask(mid, to));
+                    return;
+                }
+                for (int v = from; v < to; v++) {
+                    if (!hasEdge(v, outStart, out) || !hasEdge(v, inStart, in)) {
+                        color[v] = DONE;
+                        report(new int[] { v });
+                    }
+                }
+            }
+        }
+
+        /**
+         * Task which computes the components of a subproblem.
+         */
+        private class ForwardBackwardTask
+            extends RecursiveAction
+        {
+            private static final long serialVersionUID = -8137664302419953810L;
+
+            private final int[] vertices;
+            private final int c;
+            private final boolean split;
+
+            /**
+             * @param vertices the vertices of the subproblem
+             * @param c the color of the subproblem
+             * @param split whether the subproblem may be split further
+             */
+            ForwardBackwardTask(int[] vertices, int c, boolean split)
+            {
+                this.vertices = vertices;
+                this.c = c;
+                this.split = split;
+            }
+
+            @Override
+            protected void compute()
+            {
+                if (vertices.length == 0) {
+                    return;
+                }
+                if (!split || vertices.length < SEQUENTIAL_THRESHOLD) {
+                    tarjan(vertices, c);
+                    return;
+                }
+                invokeAll(split(vertices, c));
+            }
+        }
+    }
+
+}
+
+// End ParallelStrongConnectivityInspector.java
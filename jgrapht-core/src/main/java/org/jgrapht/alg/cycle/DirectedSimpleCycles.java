@@ -18,6 +18,7 @@
 package org.jgrapht.alg.cycle;
 
 import java.util.*;
+import java.util.function.*;
 
 import org.jgrapht.*;
 
@@ -57,6 +58,22 @@ public interface DirectedSimpleCycles<V, E>
      * @return The list of all simple cycles. Possibly empty but never <code>null</code>.
      */
     List<List<V>> findSimpleCycles();
+
+    /**
+     * Find the simple cycles of the graph and pass each one to a consumer, as soon as it is found.
+     * Contrary to {@link #findSimpleCycles()}, the cycles are not collected in memory by
+     * implementations which override this method.
+     *
+     * <p>
+     * The default implementation finds all cycles using {@link #findSimpleCycles()} and then
+     * passes them to the consumer.
+     *
+     * @param consumer the consumer of the cycles
+     */
+    default void simpleCycles(Consumer<List<V>> consumer)
+    {
+        findSimpleCycles().forEach(consumer);
+    }
 }
 
 // End DirectedSimpleCycles.java
@@ -18,6 +18,7 @@
 package org.jgrapht.alg.cycle;
 
 import java.util.*;
+import java.util.function.*;
 
 import org.jgrapht.*;
 
@@ -29,6 +30,11 @@ import org.jgrapht.*;
  * K. A. Hawick, H. A. James. Enumerating Circuits and Loops in Graphs with Self-Arcs and
  * Multiple-Arcs. Computational Science Technical Note CSTN-013, 2008
  *
+ * <p>
+ * The search can be bounded by a maximum cycle length, see {@link #setMaxCycleLength(int)}, and
+ * stopped after a maximum number of cycles, see {@link #setMaxCycleCount(long)}. The bounds apply
+ * to all enumeration, printing and counting methods.
+ *
  * @param <V> the vertex type.
  * @param <E> the edge type.
  *
@@ -53,8 +59,12 @@ public class HawickJamesSimpleCycles<V, E>
     // Number of simple cycles
     private long nCycles = 0;
 
-    // Simple cycles found
-    private List<List<V>> cycles = null;
+    // Consumer of the simple cycles found
+    private Consumer<List<V>> cycleConsumer = null;
+
+    // The bounds of the search
+    private int maxCycleLength = Integer.MAX_VALUE;
+    private long maxCycleCount = Long.MAX_VALUE;
 
     // The main state of the algorithm
     private Integer start = 0;
@@ -93,9 +103,6 @@ public class HawickJamesSimpleCycles<V, E>
     {
         nCycles = 0;
         nVertices = graph.vertexSet().size();
-        if (o == Operation.ENUMERATE) {
-            cycles = new ArrayList<>();
-        }
         blocked = new boolean[nVertices];
         stack = new ArrayDeque<>(nVertices);
 
@@ -136,6 +143,7 @@ public class HawickJamesSimpleCycles<V, E>
     private void clearState()
     {
         Ak = null;
+        cycleConsumer = null;
         nVertices = 0;
         blocked = null;
         stack = null;
@@ -154,6 +162,9 @@ public class HawickJamesSimpleCycles<V, E>
         blocked[v] = true;
 
         for (Integer w : Ak[v]) {
+            if (nCycles >= maxCycleCount) {
+                break;
+            }
             if (w < start) {
                 continue;
             }
@@ -166,7 +177,7 @@ public class HawickJamesSimpleCycles<V, E>
                         cycle.add(iToV[aStack]);
                     }
 
-                    cycles.add(cycle);
+                    cycleConsumer.accept(cycle);
                 }
 
                 if (o == Operation.PRINT_ONLY) {
@@ -180,7 +191,10 @@ public class HawickJamesSimpleCycles<V, E>
 
                 f = true;
             } else if (!blocked[w]) {
-                if (circuit(w, o)) {
+                if (stack.size() >= maxCycleLength) {
+                    // not explored due to the length bound, so the vertex must not stay blocked
+                    f = true;
+                } else if (circuit(w, o)) {
                     f = true;
                 }
             }
@@ -260,20 +274,63 @@ public class HawickJamesSimpleCycles<V, E>
         this.graph = GraphTests.requireDirected(graph, "Graph must be directed");
     }
 
+    /**
+     * Set the maximum length, in number of vertices, of the cycles to find. Longer cycles are not
+     * explored. The default is unbounded.
+     *
+     * @param maxCycleLength the maximum cycle length
+     * @throws IllegalArgumentException if the length is not positive
+     */
+    public void setMaxCycleLength(int maxCycleLength)
+    {
+        if (maxCycleLength < 1) {
+            throw new IllegalArgumentException("Maximum cycle length must be positive");
+        }
+        this.maxCycleLength = maxCycleLength;
+    }
+
+    /**
+     * Set the maximum number of cycles to find. The search stops as soon as this number of cycles
+     * has been found. The default is unbounded.
+     *
+     * @param maxCycleCount the maximum number of cycles
+     * @throws IllegalArgumentException if the count is not positive
+     */
+    public void setMaxCycleCount(long maxCycleCount)
+    {
+        if (maxCycleCount < 1) {
+            throw new IllegalArgumentException("Maximum cycle count must be positive");
+        }
+        this.maxCycleCount = maxCycleCount;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public List<List<V>> findSimpleCycles()
         throws IllegalArgumentException
+    {
+        List<List<V>> result = new ArrayList<>();
+        simpleCycles(result::add);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void simpleCycles(Consumer<List<V>> consumer)
+        throws IllegalArgumentException
     {
         if (graph == null) {
             throw new IllegalArgumentException("Null graph.");
         }
 
         initState(Operation.ENUMERATE);
+        cycleConsumer = consumer;
 
-        for (int i = 0; i < nVertices; i++) {
+        for (int i = 0; i < nVertices && nCycles < maxCycleCount; i++) {
             for (int j = 0; j < nVertices; j++) {
                 blocked[j] = false;
                 B[j].clear();
@@ -283,9 +340,7 @@ public class HawickJamesSimpleCycles<V, E>
             circuit(start, Operation.ENUMERATE);
         }
 
-        List<List<V>> result = cycles;
         clearState();
-        return result;
     }
 
     /**
@@ -300,7 +355,7 @@ public class HawickJamesSimpleCycles<V, E>
 
         initState(Operation.PRINT_ONLY);
 
-        for (int i = 0; i < nVertices; i++) {
+        for (int i = 0; i < nVertices && nCycles < maxCycleCount; i++) {
             for (int j = 0; j < nVertices; j++) {
                 blocked[j] = false;
                 B[j].clear();
@@ -326,7 +381,7 @@ public class HawickJamesSimpleCycles<V, E>
 
         initState(Operation.COUNT_ONLY);
 
-        for (int i = 0; i < nVertices; i++) {
+        for (int i = 0; i < nVertices && nCycles < maxCycleCount; i++) {
             for (int j = 0; j < nVertices; j++) {
                 blocked[j] = false;
                 B[j].clear();
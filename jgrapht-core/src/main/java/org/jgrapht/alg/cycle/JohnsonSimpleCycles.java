@@ -18,6 +18,7 @@
 package org.jgrapht.alg.cycle;
 
 import java.util.*;
+import java.util.function.*;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.util.Pair;
@@ -31,6 +32,12 @@ import org.jgrapht.graph.builder.GraphTypeBuilder;
  * D.B.Johnson, Finding all the elementary circuits of a directed graph, SIAM J. Comput., 4 (1975),
  * pp. 77-84.
  *
+ * <p>
+ * The search can be bounded by a maximum cycle length, see {@link #setMaxCycleLength(int)}, and
+ * stopped after a maximum number of cycles, see {@link #setMaxCycleCount(long)}. For large graphs
+ * prefer {@link #simpleCycles(Consumer)} which does not keep the cycles in memory. See
+ * {@link ParallelJohnsonSimpleCycles} for a parallel version of the algorithm.
+ *
  * @param <V> the vertex type.
  * @param <E> the edge type.
  *
@@ -43,8 +50,13 @@ public class JohnsonSimpleCycles<V, E>
     // The graph.
     private Graph<V, E> graph;
 
+    // The bounds of the search.
+    private int maxCycleLength = Integer.MAX_VALUE;
+    private long maxCycleCount = Long.MAX_VALUE;
+
     // The main state of the algorithm.
-    private List<List<V>> cycles = null;
+    private Consumer<List<V>> cycleConsumer = null;
+    private long cycleCount = 0;
     private V[] iToV = null;
     private Map<V, Integer> vToI = null;
     private Set<V> blocked = null;
@@ -112,20 +124,61 @@ public class JohnsonSimpleCycles<V, E>
         }
     }
 
+    /**
+     * Set the maximum length, in number of vertices, of the cycles to find. Longer cycles are not
+     * explored. The default is unbounded.
+     *
+     * @param maxCycleLength the maximum cycle length
+     * @throws IllegalArgumentException if the length is not positive
+     */
+    public void setMaxCycleLength(int maxCycleLength)
+    {
+        if (maxCycleLength < 1) {
+            throw new IllegalArgumentException("Maximum cycle length must be positive");
+        }
+        this.maxCycleLength = maxCycleLength;
+    }
+
+    /**
+     * Set the maximum number of cycles to find. The search stops as soon as this number of cycles
+     * has been found. The default is unbounded.
+     *
+     * @param maxCycleCount the maximum number of cycles
+     * @throws IllegalArgumentException if the count is not positive
+     */
+    public void setMaxCycleCount(long maxCycleCount)
+    {
+        if (maxCycleCount < 1) {
+            throw new IllegalArgumentException("Maximum cycle count must be positive");
+        }
+        this.maxCycleCount = maxCycleCount;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public List<List<V>> findSimpleCycles()
+    {
+        List<List<V>> result = new ArrayList<>();
+        simpleCycles(result::add);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void simpleCycles(Consumer<List<V>> consumer)
     {
         if (graph == null) {
             throw new IllegalArgumentException("Null graph.");
         }
-        initState();
+        initState(consumer);
 
         int startIndex = 0;
         int size = graph.vertexSet().size();
-        while (startIndex < size) {
+        while (startIndex < size && cycleCount < maxCycleCount) {
             Pair<Graph<V, E>, Integer> minSCCGResult = findMinSCSG(startIndex);
             if (minSCCGResult != null) {
                 startIndex = minSCCGResult.getSecond();
@@ -143,9 +196,7 @@ public class JohnsonSimpleCycles<V, E>
             }
         }
 
-        List<List<V>> result = cycles;
         clearState();
-        return result;
     }
 
     private Pair<Graph<V, E>, Integer> findMinSCSG(int startIndex)
@@ -277,16 +328,25 @@ public class JohnsonSimpleCycles<V, E>
         blocked.add(vertex);
 
         for (E e : scg.outgoingEdgesOf(vertex)) {
+            if (cycleCount >= maxCycleCount) {
+                break;
+            }
             V successor = scg.getEdgeTarget(e);
             int successorIndex = toI(successor);
             if (successorIndex == startIndex) {
                 List<V> cycle = new ArrayList<>(stack.size());
                 stack.descendingIterator().forEachRemaining(cycle::add);
-                cycles.add(cycle);
+                cycleConsumer.accept(cycle);
+                cycleCount++;
                 foundCycle = true;
             } else if (!blocked.contains(successor)) {
-                boolean gotCycle = findCyclesInSCG(startIndex, successorIndex, scg);
-                foundCycle = foundCycle || gotCycle;
+                if (stack.size() < maxCycleLength) {
+                    boolean gotCycle = findCyclesInSCG(startIndex, successorIndex, scg);
+                    foundCycle = foundCycle || gotCycle;
+                } else {
+                    // not explored due to the length bound, so the vertex must not stay blocked
+                    foundCycle = true;
+                }
             }
         }
         if (foundCycle) {
@@ -316,9 +376,10 @@ public class JohnsonSimpleCycles<V, E>
     }
 
     @SuppressWarnings("unchecked")
-    private void initState()
+    private void initState(Consumer<List<V>> consumer)
     {
-        cycles = new LinkedList<>();
+        cycleConsumer = consumer;
+        cycleCount = 0;
         iToV = (V[]) graph.vertexSet().toArray();
         vToI = new HashMap<>();
         blocked = new HashSet<>();
@@ -332,7 +393,7 @@ public class JohnsonSimpleCycles<V, E>
 
     private void clearState()
     {
-        cycles = null;
+        cycleConsumer = null;
         iToV = null;
         vToI = null;
         blocked = null;
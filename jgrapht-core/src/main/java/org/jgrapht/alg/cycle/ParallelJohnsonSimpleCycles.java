@@ -0,0 +1,502 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.cycle;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.connectivity.*;
+import org.jgrapht.alg.util.*;
+
+/**
+ * Find all simple cycles of a directed graph using Johnson's algorithm, processing different start
+ * vertices in parallel.
+ *
+ * <p>
+ * See:<br>
+ * D.B.Johnson, Finding all the elementary circuits of a directed graph, SIAM J. Comput., 4 (1975),
+ * pp. 77-84.
+ *
+ * <p>
+ * Vertices are numbered and each cycle is reported from its vertex with the smallest number. The
+ * cycles with a given smallest vertex $s$ are found by a search from $s$ which only visits larger
+ * vertices that can reach $s$ through larger vertices, found by a backward search from $s$. Those
+ * searches are independent and are executed as separate tasks of a {@link ForkJoinPool}. Each
+ * worker thread keeps the blocked flags, the blocking sets and the search stack of Johnson's
+ * algorithm in primitive arrays, which are reset lazily between start vertices. The search is
+ * iterative, thus long cycles do not overflow the call stack. Multiple edges are ignored and each
+ * cycle is reported once.
+ *
+ * <p>
+ * The cycles are passed to the consumer of {@link #simpleCycles(Consumer)} as soon as they are
+ * found, while holding a lock, thus the consumer is never invoked concurrently. The order of the
+ * cycles is unspecified. The search can be bounded by a maximum cycle length, see
+ * {@link #setMaxCycleLength(int)}, and stopped after a maximum number of cycles, see
+ * {@link #setMaxCycleCount(long)}.
+ *
+ * @param <V> the vertex type.
+ * @param <E> the edge type.
+ *
+ * @author agent
+ */
+public class ParallelJohnsonSimpleCycles<V, E>
+    implements DirectedSimpleCycles<V, E>
+{
+    private Graph<V, E> graph;
+    private final ForkJoinPool pool;
+    private int maxCycleLength = Integer.MAX_VALUE;
+    private long maxCycleCount = Long.MAX_VALUE;
+
+    /**
+     * Create a simple cycle finder for the specified graph, using the common fork-join pool.
+     *
+     * @param graph the directed graph in which to find cycles
+     * @throws IllegalArgumentException if the graph is not directed
+     */
+    public ParallelJohnsonSimpleCycles(Graph<V, E> graph)
+    {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Create a simple cycle finder for the specified graph.
+     *
+     * @param graph the directed graph in which to find cycles
+     * @param pool the fork-join pool to use
+     * @throws IllegalArgumentException if the graph is not directed
+     */
+    public ParallelJohnsonSimpleCycles(Graph<V, E> graph, ForkJoinPool pool)
+    {
+        this.graph = GraphTests.requireDirected(graph, "Graph must be directed");
+        this.pool = Objects.requireNonNull(pool, "Fork-join pool cannot be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @deprecated As not really needed.
+     */
+    @Override
+    @Deprecated
+    public Graph<V, E> getGraph()
+    {
+        return graph;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @deprecated As not really needed.
+     */
+    @Override
+    @Deprecated
+    public void setGraph(Graph<V, E> graph)
+    {
+        this.graph = GraphTests.requireDirected(graph, "Graph must be directed");
+    }
+
+    /**
+     * Set the maximum length, in number of vertices, of the cycles to find. Longer cycles are not
+     * explored. The default is unbounded.
+     *
+     * @param maxCycleLength the maximum cycle length
+     * @throws IllegalArgumentException if the length is not positive
+     */
+    public void setMaxCycleLength(int maxCycleLength)
+    {
+        if (maxCycleLength < 1) {
+            throw new IllegalArgumentException("Maximum cycle length must be positive");
+        }
+        this.maxCycleLength = maxCycleLength;
+    }
+
+    /**
+     * Set the maximum number of cycles to find. The search stops as soon as this number of cycles
+     * has been found. The default is unbounded.
+     *
+     * @param maxCycleCount the maximum number of cycles
+     * @throws IllegalArgumentException if the count is not positive
+     */
+    public void setMaxCycleCount(long maxCycleCount)
+    {
+        if (maxCycleCount < 1) {
+            throw new IllegalArgumentException("Maximum cycle count must be positive");
+        }
+        this.maxCycleCount = maxCycleCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<List<V>> findSimpleCycles()
+    {
+        List<List<V>> result = new ArrayList<>();
+        simpleCycles(result::add);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void simpleCycles(Consumer<List<V>> consumer)
+    {
+        Objects.requireNonNull(consumer, "Consumer cannot be null");
+        new Search(consumer).run();
+    }
+
+    /**
+     * Count the simple cycles of the graph, without creating them.
+     *
+     * @return the number of simple cycles
+     */
+    public long countSimpleCycles()
+    {
+        Search search = new Search(null);
+        search.run();
+        return search.count;
+    }
+
+    /**
+     * The state of a single enumeration.
+     */
+    private class Search
+    {
+        private final Consumer<List<V>> consumer;
+        private final Object lock;
+        private final ConcurrentLinkedQueue<State> states;
+        private final List<V> indexList;
+
+        // successors and predecessors in the same strongly connected component, sorted
+        private int[] offsets;
+        private int[] targets;
+        private int[] sources;
+        private int[] predecessorOffsets;
+        private int[] predecessors;
+
+        private long count;
+        private volatile boolean stopped;
+
+        Search(Consumer<List<V>> consumer)
+        {
+            this.consumer = consumer;
+            this.lock = new Object();
+            this.states = new ConcurrentLinkedQueue<>();
+
+            ParallelStrongConnectivityInspector<V, E> inspector =
+                new ParallelStrongConnectivityInspector<>(graph, pool);
+            VertexToIntegerMapping<V> mapping = inspector.getVertexToIntegerMapping();
+            this.indexList = mapping.getIndexList();
+            buildSuccessors(mapping, inspector.getComponentIds());
+        }
+
+        void run()
+        {
+            int n = indexList.size();
+            if (n > 0) {
+                pool.invoke(new RangeTask(0, n));
+            }
+        }
+
+        private void buildSuccessors(VertexToIntegerMapping<V> mapping, int[] componentIds)
+        {
+            int n = mapping.size();
+            Map<V, Integer> vertexMap = mapping.getVertexMap();
+            offsets = new int[n + 1];
+            int[] lastSeen = new int[n];
+            Arrays.fill(lastSeen, -1);
+            int[] buffer = new int[graph.edgeSet().size()];
+            int m = 0;
+            for (int v = 0; v < n; v++) {
+                offsets[v] = m;
+                for (E e : graph.outgoingEdgesOf(indexList.get(v))) {
+                    int w = vertexMap.get(graph.getEdgeTarget(e));
+                    if (componentIds[w] == componentIds[v] && lastSeen[w] != v) {
+                        lastSeen[w] = v;
+                        buffer[m++] = w;
+                    }
+                }
+                Arrays.sort(buffer, offsets[v], m);
+            }
+            offsets[n] = m;
+            targets = Arrays.copyOf(buffer, m);
+            sources = new int[m];
+            predecessorOffsets = new int[n + 1];
+            for (int v = 0; v < n; v++) {
+                Arrays.fill(sources, offsets[v], offsets[v + 1], v);
+                for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                    predecessorOffsets[targets[e] + 1]++;
+                }
+            }
+            for (int v = 0; v < n; v++) {
+                predecessorOffsets[v + 1] += predecessorOffsets[v];
+            }
+            // filling by increasing source keeps the predecessors sorted
+            predecessors = new int[m];
+            int[] position = Arrays.copyOf(predecessorOffsets, n);
+            for (int e = 0; e < m; e++) {
+                predecessors[position[targets[e]]++] = sources[e];
+            }
+        }
+
+        void search(int s)
+        {
+            if (stopped || offsets[s] == offsets[s + 1]) {
+                return;
+            }
+            State state = states.poll();
+            if (state == null) {
+                state = new State(indexList.size(), targets.length);
+            }
+            state.search(s);
+            states.add(state);
+        }
+
+        /**
+         * Report a cycle.
+         *
+         * @param path the vertices of the cycle
+         * @param length the number of vertices
+         */
+        void report(int[] path, int length)
+        {
+            List<V> cycle = null;
+            if (consumer != null) {
+                cycle = new ArrayList<>(length);
+                for (int i = 0; i < length; i++) {
+                    cycle.add(indexList.get(path[i]));
+                }
+            }
+            synchronized (lock) {
+                if (count >= maxCycleCount) {
+                    stopped = true;
+                    return;
+                }
+                if (consumer != null) {
+                    consumer.accept(cycle);
+                }
+                if (++count >= maxCycleCount) {
+                    stopped = true;
+                }
+            }
+        }
+
+        /**
+         * The per thread state of Johnson's algorithm. Vertices and edges carry a stamp of the
+         * start vertex which last used them, and the state of a vertex is reset when it is reached
+         * by the backward search of a new start vertex.
+         */
+        private class State
+        {
+            private final int[] vertexStamp;
+            private final boolean[] blocked;
+            // the blocking set of a vertex w is a list of edges (v, w)
+            private final int[] blockHead;
+            private final int[] blockNext;
+            private final int[] edgeStamp;
+
+            private final int[] path;
+            private final int[] cursor;
+            private final boolean[] found;
+            private final int[] unblockStack;
+            private final int[] queue;
+
+            private int stamp;
+
+            State(int n, int m)
+            {
+                this.vertexStamp = new int[n];
+                this.blocked = new boolean[n];
+                this.blockHead = new int[n];
+                this.blockNext = new int[m];
+                this.edgeStamp = new int[m];
+                this.path = new int[n];
+                this.cursor = new int[n];
+                this.found = new boolean[n];
+                this.unblockStack = new int[n];
+                this.queue = new int[n];
+            }
+
+            void search(int s)
+            {
+                stamp = s + 1;
+                reachBackwards(s);
+                int depth = 0;
+                path[0] = s;
+                blocked[s] = true;
+                cursor[0] = firstSuccessor(s, s);
+                found[0] = false;
+
+                while (depth >= 0) {
+                    if (stopped) {
+                        return;
+                    }
+                    int v = path[depth];
+                    if (cursor[depth] < offsets[v + 1]) {
+                        int w = targets[cursor[depth]++];
+                        if (w == s) {
+                            report(path, depth + 1);
+                            found[depth] = true;
+                            continue;
+                        }
+                        if (vertexStamp[w] != stamp || blocked[w]) {
+                            continue;
+                        }
+                        if (depth + 1 >= maxCycleLength) {
+                            // not explored due to the length bound, so v must not stay blocked
+                            found[depth] = true;
+                            continue;
+                        }
+                        depth++;
+                        path[depth] = w;
+                        blocked[w] = true;
+                        cursor[depth] = firstSuccessor(w, s);
+                        found[depth] = false;
+                    } else {
+                        if (found[depth]) {
+                            unblock(v);
+                        } else {
+                            for (int e = firstSuccessor(v, s); e < offsets[v + 1]; e++) {
+                                int w = targets[e];
+                                if (vertexStamp[w] == stamp && edgeStamp[e] != stamp) {
+                                    edgeStamp[e] = stamp;
+                                    blockNext[e] = blockHead[w];
+                                    blockHead[w] = e;
+                                }
+                            }
+                        }
+                        depth--;
+                        if (depth >= 0 && found[depth + 1]) {
+                            found[depth] = true;
+                        }
+                    }
+                }
+            }
+
+            /**
+             * Get the position of the first successor of v which is not smaller than s.
+             */
+            private int firstSuccessor(int v, int s)
+            {
+                return lowerBound(targets, offsets[v], offsets[v + 1], s);
+            }
+
+            /**
+             * Get the position of the first predecessor of v which is not smaller than s.
+             */
+            private int firstPredecessor(int v, int s)
+            {
+                return lowerBound(
+                    predecessors, predecessorOffsets[v], predecessorOffsets[v + 1], s);
+            }
+
+            private int lowerBound(int[] a, int lo, int hi, int key)
+            {
+                while (lo < hi) {
+                    int mid = (lo + hi) >>> 1;
+                    if (a[mid] < key) {
+                        lo = mid + 1;
+                    } else {
+                        hi = mid;
+                    }
+                }
+                return lo;
+            }
+
+            /**
+             * Stamp and reset the vertices which can reach s using only vertices not smaller than
+             * s. The search from s visits only those vertices.
+             */
+            private void reachBackwards(int s)
+            {
+                int head = 0;
+                int tail = 0;
+                queue[tail++] = s;
+                vertexStamp[s] = stamp;
+                while (head < tail) {
+                    int v = queue[head++];
+                    blocked[v] = false;
+                    blockHead[v] = -1;
+                    int end = predecessorOffsets[v + 1];
+                    for (int i = firstPredecessor(v, s); i < end; i++) {
+                        int u = predecessors[i];
+                        if (vertexStamp[u] != stamp) {
+                            vertexStamp[u] = stamp;
+                            queue[tail++] = u;
+                        }
+                    }
+                }
+            }
+
+            private void unblock(int u)
+            {
+                blocked[u] = false;
+                int top = 0;
+                unblockStack[top++] = u;
+                while (top > 0) {
+                    int w = unblockStack[--top];
+                    for (int e = blockHead[w]; e != -1; e = blockNext[e]) {
+                        edgeStamp[e] = 0;
+                        int v = sources[e];
+                        if (blocked[v]) {
+                            blocked[v] = false;
+                            unblockStack[top++] = v;
+                        }
+                    }
+                    blockHead[w] = -1;
+                }
+            }
+        }
+
+        /**
+         * A task which searches from a range of start vertices. Ranges are split down to single
+         * vertices since the work per start vertex varies widely.
+         */
+        private class RangeTask
+            extends RecursiveAction
+        {
+            private static final long serialVersionUID = 6217373282932318347L;
+
+            private final int from;
+            private final int to;
+
+            RangeTask(int from, int to)
+            {
+                this.from = from;
+                this.to = to;
+            }
+
+            @Override
+            protected void compute()
+            {
+                if (to - from > 1) {
+                    int mid = (from + to) >>> 1;
+                    invokeAll(new RangeTask(from, mid), new RangeTask(mid, to));
+                } else {
+                    search(from);
+                }
+            }
+        }
+    }
+
+}
+
+// End ParallelJohnsonSimpleCycles.java
@@ -18,6 +18,7 @@
 package org.jgrapht.alg.cycle;
 
 import java.util.*;
+import java.util.function.*;
 
 import org.jgrapht.*;
 
@@ -82,6 +83,17 @@ public class TiernanSimpleCycles<V, E>
      */
     @Override
     public List<List<V>> findSimpleCycles()
+    {
+        List<List<V>> cycles = new ArrayList<>();
+        simpleCycles(cycles::add);
+        return cycles;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void simpleCycles(Consumer<List<V>> consumer)
     {
         if (graph == null) {
             throw new IllegalArgumentException("Null graph.");
@@ -90,7 +102,6 @@ public class TiernanSimpleCycles<V, E>
         List<V> path = new ArrayList<>();
         Set<V> pathSet = new HashSet<>();
         Map<V, Set<V>> blocked = new HashMap<>();
-        List<List<V>> cycles = new LinkedList<>();
 
         int index = 0;
         for (V v : graph.vertexSet()) {
@@ -100,7 +111,7 @@ public class TiernanSimpleCycles<V, E>
 
         Iterator<V> vertexIterator = graph.vertexSet().iterator();
         if (!vertexIterator.hasNext()) {
-            return cycles;
+            return;
         }
 
         V startOfPath;
@@ -138,7 +149,7 @@ public class TiernanSimpleCycles<V, E>
             startOfPath = path.get(0);
             if (graph.containsEdge(endOfPath, startOfPath)) {
                 List<V> cycle = new ArrayList<>(path);
-                cycles.add(cycle);
+                consumer.accept(cycle);
             }
 
             // vertex closure
@@ -170,8 +181,6 @@ public class TiernanSimpleCycles<V, E>
             // terminate
             break;
         }
-
-        return cycles;
     }
 }
 
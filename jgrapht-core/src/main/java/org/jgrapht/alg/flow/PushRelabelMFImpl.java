@@ -515,7 +515,8 @@ public class PushRelabelMFImpl<V, E>
 
         private boolean hasExcess()
         {
-            return excess > 0;
+            // an excess within the tolerance cannot be pushed, see push()
+            return comparator.compare(excess, 0.0) > 0;
         }
 
         @Override
@@ -101,7 +101,7 @@ class GraphOrdering<V, E>
      */
     public int[] getOutEdges(int vertexNumber)
     {
-        if (cacheEdges && (outgoingEdges[vertexNumber] != null)) {
+        if ((outgoingEdges != null) && (outgoingEdges[vertexNumber] != null)) {
             return outgoingEdges[vertexNumber];
         }
 
@@ -131,7 +131,7 @@ class GraphOrdering<V, E>
      */
     public int[] getInEdges(int vertexNumber)
     {
-        if (cacheEdges && (incomingEdges[vertexNumber] != null)) {
+        if ((incomingEdges != null) && (incomingEdges[vertexNumber] != null)) {
             return incomingEdges[vertexNumber];
         }
 
@@ -153,6 +153,23 @@ class GraphOrdering<V, E>
         return vertexArray;
     }
 
+    /**
+     * Computes and caches the incoming and outgoing edges of all vertices, even if edge caching is
+     * disabled. Afterwards {@link #getOutEdges(int)} and {@link #getInEdges(int)} only read the
+     * cached arrays and can be called from multiple threads.
+     */
+    public synchronized void cacheAllEdgeLists()
+    {
+        if (outgoingEdges == null) {
+            outgoingEdges = new int[vertexCount][];
+            incomingEdges = new int[vertexCount][];
+        }
+        for (int i = 0; i < vertexCount; i++) {
+            outgoingEdges[i] = getOutEdges(i);
+            incomingEdges[i] = getInEdges(i);
+        }
+    }
+
     /**
      * @param v1Number the number of the first vertex $v_1$
      * @param v2Number the number of the second vertex $v_2$
@@ -33,7 +33,8 @@ public class IsomorphicGraphMapping<V, E>
 {
     GraphOrdering<V, E> g1, g2;
 
-    int[] core1, core2;
+    volatile int[] core1;
+    int[] core2;
 
     /**
      * Construct a new isomorphic graph mapping
@@ -52,6 +53,22 @@ public class IsomorphicGraphMapping<V, E>
         this.core2 = core2.clone();
     }
 
+    /**
+     * Construct a new isomorphic graph mapping given only the backward mapping. The forward
+     * mapping, whose size is the number of vertices of the first graph, is computed when first
+     * needed. This makes creating a mapping cheap when the second graph is much smaller.
+     *
+     * @param g1 the first graph
+     * @param g2 the second graph which is a possible subgraph of g1
+     * @param core2 the mapping as array (backwards)
+     */
+    IsomorphicGraphMapping(GraphOrdering<V, E> g1, GraphOrdering<V, E> g2, int[] core2)
+    {
+        this.g1 = g1;
+        this.g2 = g2;
+        this.core2 = core2.clone();
+    }
+
     @Override
     public V getVertexCorrespondence(V v, boolean forward)
     {
@@ -61,7 +78,7 @@ public class IsomorphicGraphMapping<V, E>
         if (forward) {
             firstGraph = g1;
             secondGraph = g2;
-            core = core1;
+            core = getForwardCore();
         } else {
             firstGraph = g2;
             secondGraph = g1;
@@ -86,7 +103,7 @@ public class IsomorphicGraphMapping<V, E>
         if (forward) {
             firstGraph = g1;
             secondGraph = g2;
-            core = core1;
+            core = getForwardCore();
         } else {
             firstGraph = g2;
             secondGraph = g1;
@@ -162,6 +179,25 @@ public class IsomorphicGraphMapping<V, E>
 
         return true;
     }
+
+    /**
+     * Get the forward mapping, computing it from the backward mapping if necessary.
+     */
+    private int[] getForwardCore()
+    {
+        int[] core = core1;
+        if (core == null) {
+            core = new int[g1.getVertexCount()];
+            Arrays.fill(core, VF2State.NULL_NODE);
+            for (int i = 0; i < core2.length; i++) {
+                if (core2[i] != VF2State.NULL_NODE) {
+                    core[core2[i]] = i;
+                }
+            }
+            core1 = core;
+        }
+        return core;
+    }
 }
 
 // End IsomorphicGraphMapping.java
@@ -0,0 +1,276 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.isomorphism;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+import org.jgrapht.*;
+
+/**
+ * Enumerates all mappings of the VF2 algorithm in parallel using a {@link ForkJoinPool}.
+ *
+ * <p>
+ * The search tree is split at shallow depths. The candidate pairs of the first level, which match
+ * the first vertex of the second graph with every vertex of the first graph, are split into ranges.
+ * Below the first level and up to the split depth, every feasible candidate pair becomes a separate
+ * task. A task is described only by the pairs of its path from the root. It takes a clean state
+ * from a pool, replays its path, searches its subtree by adding and backtracking pairs in place,
+ * backtracks to the root and returns the state to the pool. Thus at most one state per worker
+ * thread is ever allocated and no state arrays are copied.
+ *
+ * <p>
+ * The mappings are reported to the action while holding a lock, thus the action is never invoked
+ * concurrently. Once the action returns false, no further mappings are reported and the remaining
+ * tasks terminate as soon as possible.
+ *
+ * @param <V> the type of the vertices
+ * @param <E> the type of the edges
+ *
+ * @author agent
+ */
+class VF2ParallelMappingSearch<V, E>
+{
+    /**
+     * Default depth up to which the search tree is split into tasks.
+     */
+    static final int DEFAULT_SPLIT_DEPTH = 2;
+
+    private static final int RANGE_GRAIN = 32;
+
+    private final Supplier<VF2State<V, E>> stateSupplier;
+    private final UnaryOperator<VF2State<V, E>> stateCopier;
+    private final int splitDepth;
+    private final Predicate<? super GraphMapping<V, E>> action;
+    private final ConcurrentLinkedQueue<VF2State<V, E>> states;
+
+    private volatile boolean cancelled;
+    private long count;
+
+    /**
+     * @param stateSupplier supplier of states with an empty matching
+     * @param stateCopier creates the state of the next level, sharing the arrays of the given state
+     * @param splitDepth depth up to which the search tree is split into tasks
+     * @param action action invoked for each mapping, returning false to stop the search
+     */
+    VF2ParallelMappingSearch(
+        Supplier<VF2State<V, E>> stateSupplier, UnaryOperator<VF2State<V, E>> stateCopier,
+        int splitDepth, Predicate<? super GraphMapping<V, E>> action)
+    {
+        this.stateSupplier = stateSupplier;
+        this.stateCopier = stateCopier;
+        this.splitDepth = Math.max(1, splitDepth);
+        this.action = Objects.requireNonNull(action, "Action cannot be null");
+        this.states = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * Run the search.
+     *
+     * @param ordering1 the ordering of the first graph
+     * @param ordering2 the ordering of the second graph
+     * @param pool the pool executing the search
+     * @return the number of mappings reported to the action
+     */
+    long run(GraphOrdering<V, E> ordering1, GraphOrdering<V, E> ordering2, ForkJoinPool pool)
+    {
+        ordering1.cacheAllEdgeLists();
+        ordering2.cacheAllEdgeLists();
+
+        if (ordering2.getVertexCount() == 0) {
+            report(stateSupplier.get());
+        } else {
+            pool.invoke(new RangeTask(0, ordering1.getVertexCount()));
+        }
+        return count;
+    }
+
+    /**
+     * Search below a path of the search tree. If the path is shorter than the split depth, the
+     * feasible pairs of the next level are only collected as new tasks.
+     *
+     * @param path1 the vertices of the first graph on the path
+     * @param path2 the vertices of the second graph on the path
+     * @param tasks the list to add new tasks to
+     */
+    private void search(int[] path1, int[] path2, List<PathTask> tasks)
+    {
+        VF2State<V, E> s = states.poll();
+        if (s == null) {
+            s = stateSupplier.get();
+        }
+        Deque<VF2State<V, E>> stack = new ArrayDeque<>();
+
+        // replay the path, checking only the last pair which has not been checked yet
+        boolean feasible = true;
+        for (int i = 0; i < path1.length; i++) {
+            s.addVertex1 = path1[i];
+            s.addVertex2 = path2[i];
+            if (i == path1.length - 1 && !s.isFeasiblePair()) {
+                feasible = false;
+                break;
+            }
+            stack.push(s);
+            s = stateCopier.apply(s);
+            s.addPair();
+            s.resetAddVertexes();
+        }
+
+        if (feasible) {
+            if (s.isGoal()) {
+                report(s);
+            } else if (path1.length < splitDepth) {
+                while (!cancelled && s.nextPair()) {
+                    if (s.isFeasiblePair()) {
+                        tasks.add(new PathTask(path1, path2, s.addVertex1, s.addVertex2));
+                    }
+                }
+            } else {
+                s = searchSubtree(s, stack);
+            }
+        }
+
+        // backtrack to the empty matching
+        while (!stack.isEmpty()) {
+            s.backtrack();
+            s = stack.pop();
+        }
+        s.resetAddVertexes();
+        states.offer(s);
+    }
+
+    /**
+     * Search the subtree of a state in the same manner as {@link VF2SubgraphMappingIterator}.
+     *
+     * @return the given state, after all pairs added below it have been backtracked
+     */
+    private VF2State<V, E> searchSubtree(VF2State<V, E> s, Deque<VF2State<V, E>> stack)
+    {
+        int base = stack.size();
+        while (true) {
+            while (!cancelled && s.nextPair()) {
+                if (s.isFeasiblePair()) {
+                    stack.push(s);
+                    s = stateCopier.apply(s);
+                    s.addPair();
+
+                    if (s.isGoal()) {
+                        report(s);
+                        s.backtrack();
+                        s = stack.pop();
+                    } else {
+                        s.resetAddVertexes();
+                    }
+                }
+            }
+
+            if (stack.size() == base) {
+                return s;
+            }
+
+            s.backtrack();
+            s = stack.pop();
+        }
+    }
+
+    private void report(VF2State<V, E> s)
+    {
+        IsomorphicGraphMapping<V, E> mapping = s.getCurrentMapping();
+        synchronized (this) {
+            if (cancelled) {
+                return;
+            }
+            count++;
+            if (!action.test(mapping)) {
+                cancelled = true;
+            }
+        }
+    }
+
+    /**
+     * Task which searches below the first level pairs matching the first vertex of the second
+     * graph with the vertices in the range [from, to) of the first graph.
+     */
+    private class RangeTask
+        extends RecursiveAction
+    {
+        private static final long serialVersionUID = 4402137759610358227L;
+
+        private final int from;
+        private final int to;
+
+        RangeTask(int from, int to)
+        {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (cancelled) {
+                return;
+            }
+            if (to - from > RANGE_GRAIN) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new RangeTask(from, mid), new RangeTask(mid, to));
+                return;
+            }
+            List<PathTask> tasks = new ArrayList<>();
+            for (int v = from; v < to && !cancelled; v++) {
+                search(new int[] { v }, new int[] { 0 }, tasks);
+            }
+            invokeAll(tasks);
+        }
+    }
+
+    /**
+     * Task which searches below a path of the search tree.
+     */
+    private class PathTask
+        extends RecursiveAction
+    {
+        private static final long serialVersionUID = 8832265400785236130L;
+
+        private final int[] path1;
+        private final int[] path2;
+
+        PathTask(int[] prefix1, int[] prefix2, int vertex1, int vertex2)
+        {
+            this.path1 = Arrays.copyOf(prefix1, prefix1.length + 1);
+            this.path2 = Arrays.copyOf(prefix2, prefix2.length + 1);
+            this.path1[prefix1.length] = vertex1;
+            this.path2[prefix2.length] = vertex2;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (cancelled) {
+                return;
+            }
+            List<PathTask> tasks = new ArrayList<>();
+            search(path1, path2, tasks);
+            invokeAll(tasks);
+        }
+    }
+
+}
+
+// End VF2ParallelMappingSearch.java
@@ -194,14 +194,18 @@ abstract class VF2State<V, E>
         }
 
         if ((addVertex1 < n1) && (addVertex2 < n2)) {
-            showLog(
-                "nextPair", "next candidate pair: (" + g1.getVertex(addVertex1) + ", "
-                    + g2.getVertex(addVertex2) + ")");
+            if (DEBUG) {
+                showLog(
+                    "nextPair", "next candidate pair: (" + g1.getVertex(addVertex1) + ", "
+                        + g2.getVertex(addVertex2) + ")");
+            }
             return true;
         }
 
         // there are no more pairs..
-        showLog("nextPair", "no more candidate pairs");
+        if (DEBUG) {
+            showLog("nextPair", "no more candidate pairs");
+        }
 
         addVertex1 = addVertex2 = NULL_NODE;
         return false;
@@ -212,9 +216,11 @@ abstract class VF2State<V, E>
      */
     public void addPair()
     {
-        showLog(
-            "addPair",
-            "(" + g1.getVertex(addVertex1) + ", " + g2.getVertex(addVertex2) + ") added");
+        if (DEBUG) {
+            showLog(
+                "addPair",
+                "(" + g1.getVertex(addVertex1) + ", " + g2.getVertex(addVertex2) + ") added");
+        }
 
         coreLen++;
         addedVertex1 = addVertex1;
@@ -317,9 +323,11 @@ abstract class VF2State<V, E>
     {
         int addedVertex2 = core1[addedVertex1];
 
-        showLog(
-            "backtrack", "remove (" + g1.getVertex(addedVertex1) + ", " + g2.getVertex(addedVertex2)
-                + ") from the matching");
+        if (DEBUG) {
+            showLog(
+                "backtrack", "remove (" + g1.getVertex(addedVertex1) + ", "
+                    + g2.getVertex(addedVertex2) + ") from the matching");
+        }
 
         if (in1[addedVertex1] == coreLen) {
             in1[addedVertex1] = 0;
@@ -398,7 +406,7 @@ abstract class VF2State<V, E>
 
     public IsomorphicGraphMapping<V, E> getCurrentMapping()
     {
-        return new IsomorphicGraphMapping<>(g1, g2, core1, core2);
+        return new IsomorphicGraphMapping<>(g1, g2, core2);
     }
 
     public void resetAddVertexes()
@@ -18,6 +18,8 @@
 package org.jgrapht.alg.isomorphism;
 
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
 
 import org.jgrapht.*;
 
@@ -50,6 +52,12 @@ import org.jgrapht.*;
  * algorithm is equivalent to running {@link VF2GraphIsomorphismInspector}.
  *
  * <p>
+ * Besides the iterator returned by {@link #getMappings()}, all mappings can be enumerated in
+ * parallel using {@link #forEachMapping(Predicate, ForkJoinPool)}, which is intended for finding
+ * all occurrences of a small pattern graph in a large graph. For large graphs the edge cache
+ * should be disabled, since it contains an adjacency matrix of the first graph.
+ *
+ * <p>
  * This implementation of the VF2 algorithm does not support graphs with multiple (parallel) edges.
  *
  * @param <V> the type of the vertices
@@ -120,6 +128,48 @@ public class VF2SubgraphIsomorphismInspector<V, E>
         return new VF2SubgraphMappingIterator<>(
             ordering1, ordering2, vertexComparator, edgeComparator);
     }
+
+    /**
+     * Enumerate all mappings using the common pool. See
+     * {@link #forEachMapping(Predicate, ForkJoinPool)}.
+     *
+     * @param action the action invoked for each mapping, which returns false to stop the
+     *        enumeration
+     * @return the number of mappings passed to the action
+     */
+    public long forEachMapping(Predicate<? super GraphMapping<V, E>> action)
+    {
+        return forEachMapping(action, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Enumerate all mappings in parallel and pass them to an action. The search tree is split into
+     * tasks at its first levels, which are executed by the given pool. Each mapping is passed to
+     * the action exactly once, in no particular order. The action is never invoked concurrently,
+     * although it may be invoked by different threads. If the action returns false, the
+     * enumeration stops and the action is not invoked again.
+     *
+     * @param action the action invoked for each mapping, which returns false to stop the
+     *        enumeration
+     * @param pool the fork-join pool executing the search
+     * @return the number of mappings passed to the action
+     */
+    public long forEachMapping(Predicate<? super GraphMapping<V, E>> action, ForkJoinPool pool)
+    {
+        Objects.requireNonNull(pool, "Fork-join pool cannot be null");
+        VF2ParallelMappingSearch<V, E> search = new VF2ParallelMappingSearch<>(
+            () -> new VF2SubgraphIsomorphismState<>(
+                ordering1, ordering2, vertexComparator, edgeComparator),
+            VF2SubgraphIsomorphismState::new, VF2ParallelMappingSearch.DEFAULT_SPLIT_DEPTH,
+            action);
+
+        if ((graph1.vertexSet().size() < graph2.vertexSet().size())
+            || (graph1.edgeSet().size() < graph2.edgeSet().size()))
+        {
+            return 0L;
+        }
+        return search.run(ordering1, ordering2, pool);
+    }
 }
 
 // End VF2SubgraphIsomorphismInspector.java
@@ -42,8 +42,11 @@ class VF2SubgraphIsomorphismState<V, E>
     @Override
     public boolean isFeasiblePair()
     {
-        String pairstr = "(" + g1.getVertex(addVertex1) + ", " + g2.getVertex(addVertex2) + ")",
+        String pairstr = null, abortmsg = null;
+        if (DEBUG) {
+            pairstr = "(" + g1.getVertex(addVertex1) + ", " + g2.getVertex(addVertex2) + ")";
             abortmsg = pairstr + " does not fit in the current matching";
+        }
 
         // check for semantic equality of both vertexes
         if (!areCompatibleVertexes(addVertex1, addVertex2)) {
@@ -61,9 +64,11 @@ class VF2SubgraphIsomorphismState<V, E>
                 if (!g2.hasEdge(addVertex2, other2)
                     || !areCompatibleEdges(addVertex1, other1, addVertex2, other2))
                 {
-                    showLog(
-                        "isFeasiblePair", abortmsg + ": edge from " + g2.getVertex(addVertex2)
-                            + " to " + g2.getVertex(other2) + " is missing in the 2nd graph");
+                    if (DEBUG) {
+                        showLog(
+                            "isFeasiblePair", abortmsg + ": edge from " + g2.getVertex(addVertex2)
+                                + " to " + g2.getVertex(other2) + " is missing in the 2nd graph");
+                    }
                     return false;
                 }
             } else {
@@ -84,9 +89,11 @@ class VF2SubgraphIsomorphismState<V, E>
             if (core2[other2] != NULL_NODE) {
                 int other1 = core2[other2];
                 if (!g1.hasEdge(addVertex1, other1)) {
-                    showLog(
-                        "isFeasbilePair", abortmsg + ": edge from " + g1.getVertex(addVertex1)
-                            + " to " + g1.getVertex(other1) + " is missing in the 1st graph");
+                    if (DEBUG) {
+                        showLog(
+                            "isFeasbilePair", abortmsg + ": edge from " + g1.getVertex(addVertex1)
+                                + " to " + g1.getVertex(other1) + " is missing in the 1st graph");
+                    }
                     return false;
                 }
             } else {
@@ -129,9 +136,12 @@ class VF2SubgraphIsomorphismState<V, E>
                 if (!g2.hasEdge(other2, addVertex2)
                     || !areCompatibleEdges(other1, addVertex1, other2, addVertex2))
                 {
-                    showLog(
-                        "isFeasbilePair", abortmsg + ": edge from " + g2.getVertex(other2) + " to "
-                            + g2.getVertex(addVertex2) + " is missing in the 2nd graph");
+                    if (DEBUG) {
+                        showLog(
+                            "isFeasbilePair", abortmsg + ": edge from " + g2.getVertex(other2)
+                                + " to " + g2.getVertex(addVertex2)
+                                + " is missing in the 2nd graph");
+                    }
                     return false;
                 }
             } else {
@@ -152,9 +162,12 @@ class VF2SubgraphIsomorphismState<V, E>
             if (core2[other2] != NULL_NODE) {
                 int other1 = core2[other2];
                 if (!g1.hasEdge(other1, addVertex1)) {
-                    showLog(
-                        "isFeasiblePair", abortmsg + ": edge from " + g1.getVertex(other1) + " to "
-                            + g1.getVertex(addVertex1) + " is missing in the 1st graph");
+                    if (DEBUG) {
+                        showLog(
+                            "isFeasiblePair", abortmsg + ": edge from " + g1.getVertex(other1)
+                                + " to " + g1.getVertex(addVertex1)
+                                + " is missing in the 1st graph");
+                    }
                     return false;
                 }
             } else {
@@ -173,7 +186,9 @@ class VF2SubgraphIsomorphismState<V, E>
         if ((termInPred1 >= termInPred2) && (termOutPred1 >= termOutPred2)
             && (newPred1 >= newPred2))
         {
-            showLog("isFeasiblePair", pairstr + " fits");
+            if (DEBUG) {
+                showLog("isFeasiblePair", pairstr + " fits");
+            }
             return true;
         } else {
             if (DEBUG) {
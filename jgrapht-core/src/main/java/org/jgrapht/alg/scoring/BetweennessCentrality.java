@@ -180,14 +180,20 @@ public class BetweennessCentrality<V, E>
                     throw new IllegalArgumentException("Negative edge weight not allowed");
                 }
                 double d = distance.get(v) + eWeight;
+                double wDistance = distance.get(w);
                 // w found for the first time?
-                if (distance.get(w) == Double.POSITIVE_INFINITY) {
+                if (wDistance == Double.POSITIVE_INFINITY) {
                     queue.insert(w, d);
                     distance.put(w, d);
+                } else if (d < wDistance) {
+                    // shorter path to w, discard the previous ones
+                    queue.update(w, d);
+                    distance.put(w, d);
+                    sigma.put(w, 0.0);
+                    predecessors.get(w).clear();
                 }
                 // shortest path to w via v?
-                if (distance.get(w) >= d) {
-                    queue.update(w, d);
+                if (distance.get(w) == d) {
                     sigma.put(w, sigma.get(w) + sigma.get(v));
                     predecessors.get(w).add(v);
                 }
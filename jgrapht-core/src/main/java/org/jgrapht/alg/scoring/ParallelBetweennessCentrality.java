@@ -0,0 +1,483 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.scoring;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.util.*;
+
+/**
+ * Parallel betweenness centrality.
+ *
+ * <p>
+ * Computes the same scores as {@link BetweennessCentrality} using Brandes' algorithm, but
+ * processes the source vertices in parallel using a {@link ForkJoinPool}. The graph is first copied
+ * into an index based representation. Each thread of the pool owns a worker with primitive scratch
+ * arrays (distances, number of shortest paths, dependencies and the visiting order) and a partial
+ * score vector, which are reused for all sources processed by that thread. The partial score
+ * vectors are summed once all sources have been processed.
+ *
+ * <p>
+ * The class also supports approximate betweenness centrality by only processing a random sample of
+ * $k$ source vertices, called pivots, and extrapolating the result by a factor of $n/k$. See
+ * <ul>
+ * <li>Brandes, Ulrik and Pich, Christian (2007). "Centrality estimation in large networks".
+ * International Journal of Bifurcation and Chaos. 17 (7): 2303–2318.</li>
+ * </ul>
+ *
+ * <p>
+ * The exact computation runs in $O(nm)$ and $O(nm + n^2 \log n)$ total work for unweighted and
+ * weighted graphs respectively, where $n$ is the number of vertices and $m$ the number of edges of
+ * the graph. Using $k$ pivots the work reduces to $O(km)$ and $O(km + kn \log n)$. The space
+ * complexity is $O(n + m)$ per thread.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+public class ParallelBetweennessCentrality<V, E>
+    implements VertexScoringAlgorithm<V, Double>
+{
+    private static final int TASKS_PER_THREAD = 4;
+
+    private final Graph<V, E> graph;
+    private final boolean normalize;
+    private final ForkJoinPool pool;
+    private final int pivots;
+    private final Random rng;
+    private Map<V, Double> scores;
+
+    /**
+     * Construct a new instance which computes exact scores using the common fork-join pool.
+     *
+     * @param graph the input graph
+     */
+    public ParallelBetweennessCentrality(Graph<V, E> graph)
+    {
+        this(graph, false);
+    }
+
+    /**
+     * Construct a new instance which computes exact scores using the common fork-join pool.
+     *
+     * @param graph the input graph
+     * @param normalize whether to normalize by dividing the closeness by $(n-1) \cdot (n-2)$,
+     *        where $n$ is the number of vertices of the graph
+     */
+    public ParallelBetweennessCentrality(Graph<V, E> graph, boolean normalize)
+    {
+        this(graph, normalize, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Construct a new instance which computes exact scores.
+     *
+     * @param graph the input graph
+     * @param normalize whether to normalize by dividing the closeness by $(n-1) \cdot (n-2)$,
+     *        where $n$ is the number of vertices of the graph
+     * @param pool the fork-join pool to use for the computation
+     */
+    public ParallelBetweennessCentrality(Graph<V, E> graph, boolean normalize, ForkJoinPool pool)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        this.normalize = normalize;
+        this.pool = Objects.requireNonNull(pool, "Fork-join pool cannot be null");
+        this.pivots = Integer.MAX_VALUE;
+        this.rng = null;
+        this.scores = null;
+    }
+
+    /**
+     * Construct a new instance which computes approximate scores by using only a random sample of
+     * source vertices. If the number of pivots is at least the number of vertices of the graph,
+     * the exact scores are computed.
+     *
+     * @param graph the input graph
+     * @param normalize whether to normalize by dividing the closeness by $(n-1) \cdot (n-2)$,
+     *        where $n$ is the number of vertices of the graph
+     * @param pool the fork-join pool to use for the computation
+     * @param pivots the number of source vertices to sample
+     * @param rng the random number generator used to sample the source vertices
+     */
+    public ParallelBetweennessCentrality(
+        Graph<V, E> graph, boolean normalize, ForkJoinPool pool, int pivots, Random rng)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        this.normalize = normalize;
+        this.pool = Objects.requireNonNull(pool, "Fork-join pool cannot be null");
+        if (pivots <= 0) {
+            throw new IllegalArgumentException("Number of pivots must be positive");
+        }
+        this.pivots = pivots;
+        this.rng = Objects.requireNonNull(rng, "Random number generator cannot be null");
+        this.scores = null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<V, Double> getScores()
+    {
+        if (scores == null) {
+            compute();
+        }
+        return Collections.unmodifiableMap(scores);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Double getVertexScore(V v)
+    {
+        if (!graph.containsVertex(v)) {
+            throw new IllegalArgumentException("Cannot return score of unknown vertex");
+        }
+        if (scores == null) {
+            compute();
+        }
+        return scores.get(v);
+    }
+
+    /**
+     * Compute the centrality index
+     */
+    private void compute()
+    {
+        IndexedGraph<V, E> g = new IndexedGraph<>(graph);
+        int n = g.mapping.size();
+
+        // select sources
+        int[] sources = new int[n];
+        for (int i = 0; i < n; i++) {
+            sources[i] = i;
+        }
+        int k = n;
+        if (pivots < n) {
+            for (int i = 0; i < pivots; i++) {
+                int j = i + rng.nextInt(n - i);
+                int tmp = sources[i];
+                sources[i] = sources[j];
+                sources[j] = tmp;
+            }
+            k = pivots;
+        }
+
+        // process sources in parallel
+        ConcurrentHashMap<Thread, Worker> workers = new ConcurrentHashMap<>();
+        if (k > 0) {
+            int maxTasks = pool.getParallelism() * TASKS_PER_THREAD;
+            int sourcesPerTask = Math.max(1, (k + maxTasks - 1) / maxTasks);
+            pool.invoke(new SourcesTask(g, workers, sources, 0, k, sourcesPerTask));
+        }
+
+        // merge partial scores
+        double[] total = new double[n];
+        for (Worker w : workers.values()) {
+            for (int i = 0; i < n; i++) {
+                total[i] += w.scores[i];
+            }
+        }
+
+        double factor = 1d;
+        if (k < n) {
+            factor *= (double) n / k;
+        }
+
+        // For undirected graph, divide scores by two as each shortest path
+        // considered twice.
+        if (!graph.getType().isDirected()) {
+            factor /= 2;
+        }
+
+        if (normalize) {
+            long normalizationFactor = (n - 1L) * (n - 2L);
+            if (normalizationFactor != 0) {
+                factor /= normalizationFactor;
+            }
+        }
+
+        this.scores = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            scores.put(g.mapping.getVertex(i), total[i] * factor);
+        }
+    }
+
+    /**
+     * An index based copy of the graph with outgoing and incoming arcs.
+     */
+    private static class IndexedGraph<V, E>
+    {
+        final VertexToIntegerMapping<V> mapping;
+        final boolean weighted;
+        final int[] outOffsets;
+        final int[] outTargets;
+        final double[] outWeights;
+        final int[] inOffsets;
+        final int[] inSources;
+        final double[] inWeights;
+
+        IndexedGraph(Graph<V, E> graph)
+        {
+            this.mapping = new VertexToIntegerMapping<>(graph.vertexSet());
+            this.weighted = graph.getType().isWeighted();
+            Map<V, Integer> vertexMap = mapping.getVertexMap();
+            int n = mapping.size();
+
+            this.outOffsets = new int[n + 1];
+            this.inOffsets = new int[n + 1];
+            for (int i = 0; i < n; i++) {
+                V v = mapping.getVertex(i);
+                outOffsets[i + 1] = outOffsets[i] + graph.outgoingEdgesOf(v).size();
+                inOffsets[i + 1] = inOffsets[i] + graph.incomingEdgesOf(v).size();
+            }
+
+            this.outTargets = new int[outOffsets[n]];
+            this.outWeights = new double[outOffsets[n]];
+            this.inSources = new int[inOffsets[n]];
+            this.inWeights = new double[inOffsets[n]];
+            int a = 0;
+            int b = 0;
+            for (int i = 0; i < n; i++) {
+                V v = mapping.getVertex(i);
+                for (E e : graph.outgoingEdgesOf(v)) {
+                    outTargets[a] = vertexMap.get(Graphs.getOppositeVertex(graph, e, v));
+                    outWeights[a] = weight(graph, e);
+                    a++;
+                }
+                for (E e : graph.incomingEdgesOf(v)) {
+                    inSources[b] = vertexMap.get(Graphs.getOppositeVertex(graph, e, v));
+                    inWeights[b] = weight(graph, e);
+                    b++;
+                }
+            }
+        }
+
+        private double weight(Graph<V, E> graph, E e)
+        {
+            if (!weighted) {
+                return 1d;
+            }
+            double eWeight = graph.getEdgeWeight(e);
+            if (eWeight < 0.0) {
+                throw new IllegalArgumentException("Negative edge weight not allowed");
+            }
+            return eWeight;
+        }
+    }
+
+    /**
+     * Per-thread state, reused between sources.
+     */
+    private static class Worker
+    {
+        final IndexedGraph<?, ?> g;
+        final double[] distance;
+        final double[] sigma;
+        final double[] dependency;
+        final int[] order;
+        final int[] orderIndex;
+        final IndexedDAryHeap heap;
+        final double[] scores;
+        int orderSize;
+
+        Worker(IndexedGraph<?, ?> g)
+        {
+            this.g = g;
+            int n = g.mapping.size();
+            this.distance = new double[n];
+            Arrays.fill(distance, Double.POSITIVE_INFINITY);
+            this.sigma = new double[n];
+            this.dependency = new double[n];
+            this.order = new int[n];
+            this.orderIndex = new int[n];
+            Arrays.fill(orderIndex, -1);
+            this.heap = g.weighted ? new IndexedDAryHeap(n) : null;
+            this.scores = new double[n];
+            this.orderSize = 0;
+        }
+
+        void process(int s)
+        {
+            // reset the state of the previous source
+            for (int i = 0; i < orderSize; i++) {
+                int v = order[i];
+                distance[v] = Double.POSITIVE_INFINITY;
+                sigma[v] = 0d;
+                dependency[v] = 0d;
+                orderIndex[v] = -1;
+            }
+            orderSize = 0;
+
+            // 1. compute the length and the number of shortest paths between all s to v
+            if (g.weighted) {
+                dijkstra(s);
+            } else {
+                bfs(s);
+            }
+
+            // 2. sum all pair dependencies in order of non-increasing distance from s
+            for (int i = orderSize - 1; i >= 0; i--) {
+                int w = order[i];
+                double coefficient = (1d + dependency[w]) / sigma[w];
+                int end = g.inOffsets[w + 1];
+                for (int a = g.inOffsets[w]; a < end; a++) {
+                    int v = g.inSources[a];
+                    if (isPredecessor(v, w, g.inWeights[a])) {
+                        dependency[v] += sigma[v] * coefficient;
+                    }
+                }
+                if (w != s) {
+                    scores[w] += dependency[w];
+                }
+            }
+        }
+
+        private void bfs(int s)
+        {
+            distance[s] = 0d;
+            visit(s);
+            int head = 0;
+            while (head < orderSize) {
+                int v = order[head++];
+                computeSigma(v, s);
+                int end = g.outOffsets[v + 1];
+                for (int a = g.outOffsets[v]; a < end; a++) {
+                    int w = g.outTargets[a];
+                    if (distance[w] == Double.POSITIVE_INFINITY) {
+                        distance[w] = distance[v] + 1d;
+                        visit(w);
+                    }
+                }
+            }
+        }
+
+        private void dijkstra(int s)
+        {
+            distance[s] = 0d;
+            heap.insert(s, 0d);
+            while (!heap.isEmpty()) {
+                int v = heap.removeMin();
+                visit(v);
+                computeSigma(v, s);
+                int end = g.outOffsets[v + 1];
+                for (int a = g.outOffsets[v]; a < end; a++) {
+                    int w = g.outTargets[a];
+                    double d = distance[v] + g.outWeights[a];
+                    if (d < distance[w]) {
+                        if (distance[w] == Double.POSITIVE_INFINITY) {
+                            heap.insert(w, d);
+                        } else if (heap.contains(w)) {
+                            heap.decreaseKey(w, d);
+                        } else {
+                            continue;
+                        }
+                        distance[w] = d;
+                    }
+                }
+            }
+        }
+
+        private void visit(int v)
+        {
+            orderIndex[v] = orderSize;
+            order[orderSize++] = v;
+        }
+
+        private void computeSigma(int w, int s)
+        {
+            if (w == s) {
+                sigma[w] = 1d;
+                return;
+            }
+            double sum = 0d;
+            int end = g.inOffsets[w + 1];
+            for (int a = g.inOffsets[w]; a < end; a++) {
+                int v = g.inSources[a];
+                if (isPredecessor(v, w, g.inWeights[a])) {
+                    sum += sigma[v];
+                }
+            }
+            sigma[w] = sum;
+        }
+
+        /**
+         * Test whether an arc lies on a shortest path. Only vertices visited before the head of the
+         * arc are considered, which keeps the shortest path graph acyclic even in the presence of
+         * zero weight edges.
+         */
+        private boolean isPredecessor(int v, int w, double weight)
+        {
+            int vIndex = orderIndex[v];
+            return vIndex >= 0 && vIndex < orderIndex[w] && distance[v] + weight == distance[w];
+        }
+    }
+
+    /**
+     * A task which processes a range of sources, splitting the range recursively.
+     */
+    private static class SourcesTask
+        extends RecursiveAction
+    {
+        private static final long serialVersionUID = -4290374829542367286L;
+
+        private final IndexedGraph<?, ?> g;
+        private final ConcurrentHashMap<Thread, Worker> workers;
+        private final int[] sources;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        SourcesTask(
+            IndexedGraph<?, ?> g, ConcurrentHashMap<Thread, Worker> workers, int[] sources,
+            int from, int to, int threshold)
+        {
+            this.g = g;
+            this.workers = workers;
+            this.sources = sources;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (to - from > threshold) {
+                int mid = (from + to) >>> 1;
+                invokeAll(
+                    new SourcesTask(g, workers, sources, from, mid, threshold),
+                    new SourcesTask(g, workers, sources, mid, to, threshold));
+                return;
+            }
+            Worker worker = workers.computeIfAbsent(Thread.currentThread(), t -> new Worker(g));
+            for (int i = from; i < to; i++) {
+                worker.process(sources[i]);
+            }
+        }
+    }
+
+}
+
+// End ParallelBetweennessCentrality.java
@@ -0,0 +1,452 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.scoring;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.util.*;
+
+/**
+ * Parallel PageRank implementation.
+ *
+ * <p>
+ * This class computes the same scores as {@link PageRank} but is designed for large graphs. The
+ * graph is first copied into an index based representation which keeps for each vertex its
+ * incoming neighbors together with the fraction of their score which flows along each edge. The
+ * scores are kept in two primitive arrays which are swapped after each iteration. Each iteration
+ * partitions the vertices into contiguous ranges of roughly equal total in-degree and updates the
+ * ranges in parallel using a {@link ForkJoinPool}.
+ *
+ * <p>
+ * For each iteration the algorithm records the maximum and the total absolute change of the scores
+ * together with the wall-clock time spent. These statistics are available through
+ * {@link #getIterationStatistics()} and can be used to choose the tolerance and the maximum number
+ * of iterations based on the actual convergence behavior on a particular graph.
+ *
+ * <p>
+ * Each iteration of the algorithm performs $O(n+m)$ work where $n$ is the number of vertices and
+ * $m$ the number of edges of the graph. The graph must not be modified while the algorithm is
+ * running.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+public final class ParallelPageRank<V, E>
+    implements VertexScoringAlgorithm<V, Double>
+{
+    private static final int BLOCKS_PER_THREAD = 4;
+
+    private final Graph<V, E> g;
+    private final ForkJoinPool pool;
+    private final Map<V, Double> scores;
+    private final List<IterationStatistics> statistics;
+
+    /**
+     * Create and execute an instance of parallel PageRank using the common fork-join pool.
+     *
+     * @param g the input graph
+     */
+    public ParallelPageRank(Graph<V, E> g)
+    {
+        this(
+            g, PageRank.DAMPING_FACTOR_DEFAULT, PageRank.MAX_ITERATIONS_DEFAULT,
+            PageRank.TOLERANCE_DEFAULT, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Create and execute an instance of parallel PageRank using the common fork-join pool.
+     *
+     * @param g the input graph
+     * @param dampingFactor the damping factor
+     * @param maxIterations the maximum number of iterations to perform
+     * @param tolerance the calculation will stop if the difference of PageRank values between
+     *        iterations change less than this value
+     */
+    public ParallelPageRank(
+        Graph<V, E> g, double dampingFactor, int maxIterations, double tolerance)
+    {
+        this(g, dampingFactor, maxIterations, tolerance, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Create and execute an instance of parallel PageRank.
+     *
+     * @param g the input graph
+     * @param dampingFactor the damping factor
+     * @param maxIterations the maximum number of iterations to perform
+     * @param tolerance the calculation will stop if the difference of PageRank values between
+     *        iterations change less than this value
+     * @param pool the fork-join pool to use for the computation
+     */
+    public ParallelPageRank(
+        Graph<V, E> g, double dampingFactor, int maxIterations, double tolerance,
+        ForkJoinPool pool)
+    {
+        this.g = Objects.requireNonNull(g, "Graph cannot be null");
+        this.pool = Objects.requireNonNull(pool, "Fork-join pool cannot be null");
+        this.scores = new HashMap<>();
+        this.statistics = new ArrayList<>();
+
+        if (maxIterations <= 0) {
+            throw new IllegalArgumentException("Maximum iterations must be positive");
+        }
+
+        if (dampingFactor < 0.0 || dampingFactor > 1.0) {
+            throw new IllegalArgumentException("Damping factor not valid");
+        }
+
+        if (tolerance <= 0.0) {
+            throw new IllegalArgumentException("Tolerance not valid, must be positive");
+        }
+
+        run(dampingFactor, maxIterations, tolerance);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<V, Double> getScores()
+    {
+        return Collections.unmodifiableMap(scores);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Double getVertexScore(V v)
+    {
+        if (!g.containsVertex(v)) {
+            throw new IllegalArgumentException("Cannot return score of unknown vertex");
+        }
+        return scores.get(v);
+    }
+
+    /**
+     * Get the statistics of each iteration performed, in the order in which the iterations were
+     * executed.
+     *
+     * @return the statistics of each iteration
+     */
+    public List<IterationStatistics> getIterationStatistics()
+    {
+        return Collections.unmodifiableList(statistics);
+    }
+
+    private void run(double dampingFactor, int maxIterations, double tolerance)
+    {
+        VertexToIntegerMapping<V> mapping = new VertexToIntegerMapping<>(g.vertexSet());
+        int n = mapping.size();
+        if (n == 0) {
+            return;
+        }
+        Map<V, Integer> vertexMap = mapping.getVertexMap();
+        boolean weighted = g.getType().isWeighted();
+
+        // compute out weights and dangling vertices
+        double[] outWeight = new double[n];
+        boolean[] hasOutgoing = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            Set<E> outgoing = g.outgoingEdgesOf(mapping.getVertex(i));
+            hasOutgoing[i] = !outgoing.isEmpty();
+            if (weighted) {
+                double sum = 0d;
+                for (E e : outgoing) {
+                    sum += g.getEdgeWeight(e);
+                }
+                outWeight[i] = sum;
+            } else {
+                outWeight[i] = outgoing.size();
+            }
+        }
+
+        // compute in-adjacency
+        int[] inOffsets = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            inOffsets[i + 1] = inOffsets[i] + g.incomingEdgesOf(mapping.getVertex(i)).size();
+        }
+        int m = inOffsets[n];
+        int[] inSources = new int[m];
+        double[] inFactors = new double[m];
+        int a = 0;
+        for (int i = 0; i < n; i++) {
+            V v = mapping.getVertex(i);
+            for (E e : g.incomingEdgesOf(v)) {
+                int w = vertexMap.get(Graphs.getOppositeVertex(g, e, v));
+                inSources[a] = w;
+                double eWeight = weighted ? g.getEdgeWeight(e) : 1d;
+                inFactors[a] = dampingFactor * eWeight / outWeight[w];
+                a++;
+            }
+        }
+
+        // partition vertices into blocks of roughly equal work
+        int[] blocks = computeBlocks(inOffsets, pool.getParallelism() * BLOCKS_PER_THREAD);
+
+        // run PageRank
+        double[] curScores = new double[n];
+        double[] nextScores = new double[n];
+        Arrays.fill(curScores, 1.0d / n);
+
+        double r = 0d;
+        for (int i = 0; i < n; i++) {
+            r += hasOutgoing[i] ? (1d - dampingFactor) * curScores[i] : curScores[i];
+        }
+        r /= n;
+
+        int numBlocks = blocks.length - 1;
+        double[] blockMaxChange = new double[numBlocks];
+        double[] blockTotalChange = new double[numBlocks];
+        double[] blockR = new double[numBlocks];
+
+        double maxChange = tolerance;
+        int iteration = 0;
+        while (iteration < maxIterations && maxChange >= tolerance) {
+            long start = System.nanoTime();
+
+            IterationContext ctx = new IterationContext(
+                dampingFactor, r, curScores, nextScores, hasOutgoing, inOffsets, inSources,
+                inFactors, blocks, blockMaxChange, blockTotalChange, blockR);
+            pool.invoke(new BlockTask(ctx, 0, numBlocks));
+
+            maxChange = 0d;
+            double totalChange = 0d;
+            r = 0d;
+            for (int b = 0; b < numBlocks; b++) {
+                maxChange = Math.max(maxChange, blockMaxChange[b]);
+                totalChange += blockTotalChange[b];
+                r += blockR[b];
+            }
+            r /= n;
+
+            // swap scores
+            double[] tmp = curScores;
+            curScores = nextScores;
+            nextScores = tmp;
+
+            iteration++;
+            statistics.add(
+                new IterationStatistics(
+                    iteration, maxChange, totalChange, System.nanoTime() - start));
+        }
+
+        for (int i = 0; i < n; i++) {
+            scores.put(mapping.getVertex(i), curScores[i]);
+        }
+    }
+
+    /**
+     * Split the vertices into contiguous blocks such that each block has roughly the same number of
+     * vertices plus incoming edges.
+     *
+     * @param inOffsets the offsets of the in-adjacency
+     * @param maxBlocks maximum number of blocks
+     * @return the boundaries of the blocks
+     */
+    private static int[] computeBlocks(int[] inOffsets, int maxBlocks)
+    {
+        int n = inOffsets.length - 1;
+        long totalWork = (long) n + inOffsets[n];
+        int numBlocks = Math.max(1, Math.min(maxBlocks, n));
+        long workPerBlock = (totalWork + numBlocks - 1) / numBlocks;
+
+        List<Integer> boundaries = new ArrayList<>();
+        boundaries.add(0);
+        long work = 0;
+        for (int i = 0; i < n; i++) {
+            work += 1 + inOffsets[i + 1] - inOffsets[i];
+            if (work >= workPerBlock && i + 1 < n) {
+                boundaries.add(i + 1);
+                work = 0;
+            }
+        }
+        boundaries.add(n);
+
+        int[] result = new int[boundaries.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = boundaries.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * The shared state of a single iteration.
+     */
+    private static class IterationContext
+    {
+        final double dampingFactor;
+        final double r;
+        final double[] curScores;
+        final double[] nextScores;
+        final boolean[] hasOutgoing;
+        final int[] inOffsets;
+        final int[] inSources;
+        final double[] inFactors;
+        final int[] blocks;
+        final double[] blockMaxChange;
+        final double[] blockTotalChange;
+        final double[] blockR;
+
+        IterationContext(
+            double dampingFactor, double r, double[] curScores, double[] nextScores,
+            boolean[] hasOutgoing, int[] inOffsets, int[] inSources, double[] inFactors,
+            int[] blocks, double[] blockMaxChange, double[] blockTotalChange, double[] blockR)
+        {
+            this.dampingFactor = dampingFactor;
+            this.r = r;
+            this.curScores = curScores;
+            this.nextScores = nextScores;
+            this.hasOutgoing = hasOutgoing;
+            this.inOffsets = inOffsets;
+            this.inSources = inSources;
+            this.inFactors = inFactors;
+            this.blocks = blocks;
+            this.blockMaxChange = blockMaxChange;
+            this.blockTotalChange = blockTotalChange;
+            this.blockR = blockR;
+        }
+    }
+
+    /**
+     * A task which updates the scores of a range of blocks, splitting the range recursively.
+     */
+    private static class BlockTask
+        extends RecursiveAction
+    {
+        private static final long serialVersionUID = 3386569787460436117L;
+
+        private final IterationContext ctx;
+        private final int fromBlock;
+        private final int toBlock;
+
+        BlockTask(IterationContext ctx, int fromBlock, int toBlock)
+        {
+            this.ctx = ctx;
+            this.fromBlock = fromBlock;
+            this.toBlock = toBlock;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (toBlock - fromBlock > 1) {
+                int mid = (fromBlock + toBlock) >>> 1;
+                invokeAll(new BlockTask(ctx, fromBlock, mid), new BlockTask(ctx, mid, toBlock));
+                return;
+            }
+
+            double maxChange = 0d;
+            double totalChange = 0d;
+            double r = 0d;
+            int end = ctx.blocks[fromBlock + 1];
+            for (int v = ctx.blocks[fromBlock]; v < end; v++) {
+                double contribution = 0d;
+                int aEnd = ctx.inOffsets[v + 1];
+                for (int a = ctx.inOffsets[v]; a < aEnd; a++) {
+                    contribution += ctx.curScores[ctx.inSources[a]] * ctx.inFactors[a];
+                }
+                double vNewValue = ctx.r + contribution;
+                double change = Math.abs(vNewValue - ctx.curScores[v]);
+                maxChange = Math.max(maxChange, change);
+                totalChange += change;
+                ctx.nextScores[v] = vNewValue;
+                r += ctx.hasOutgoing[v] ? (1d - ctx.dampingFactor) * vNewValue : vNewValue;
+            }
+            ctx.blockMaxChange[fromBlock] = maxChange;
+            ctx.blockTotalChange[fromBlock] = totalChange;
+            ctx.blockR[fromBlock] = r;
+        }
+    }
+
+    /**
+     * Statistics about a single iteration of the algorithm.
+     */
+    public static final class IterationStatistics
+    {
+        private final int iteration;
+        private final double maxChange;
+        private final double totalChange;
+        private final long nanoTime;
+
+        IterationStatistics(int iteration, double maxChange, double totalChange, long nanoTime)
+        {
+            this.iteration = iteration;
+            this.maxChange = maxChange;
+            this.totalChange = totalChange;
+            this.nanoTime = nanoTime;
+        }
+
+        /**
+         * Get the iteration number, starting from one.
+         *
+         * @return the iteration number
+         */
+        public int getIteration()
+        {
+            return iteration;
+        }
+
+        /**
+         * Get the maximum absolute change of a vertex score during the iteration. This is the value
+         * which is compared against the tolerance.
+         *
+         * @return the maximum absolute change of a vertex score
+         */
+        public double getMaxChange()
+        {
+            return maxChange;
+        }
+
+        /**
+         * Get the sum of the absolute changes of all vertex scores during the iteration, i.e. the
+         * $L_1$ norm of the residual.
+         *
+         * @return the sum of the absolute changes of all vertex scores
+         */
+        public double getTotalChange()
+        {
+            return totalChange;
+        }
+
+        /**
+         * Get the wall-clock duration of the iteration.
+         *
+         * @param unit the time unit of the result
+         * @return the duration of the iteration
+         */
+        public long getDuration(TimeUnit unit)
+        {
+            return unit.convert(nanoTime, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public String toString()
+        {
+            return "(" + iteration + "," + maxChange + "," + totalChange + "," + nanoTime + "ns)";
+        }
+    }
+
+}
+
+// End ParallelPageRank.java
@@ -61,6 +61,10 @@ import org.jgrapht.graph.*;
  * vertices source and target, a good landmark appears "before" source or "after" target where
  * before and after are relative to the "direction" from source to target.
  * 
+ * <p>
+ * For large graphs see {@link ALTLandmarkIndex}, which stores the distances in primitive arrays,
+ * selects the landmarks automatically and computes them in parallel.
+ * 
  * @author Dimitrios Michail
  *
  * @param <V> the graph vertex type
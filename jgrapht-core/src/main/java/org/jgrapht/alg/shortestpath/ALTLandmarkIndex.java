@@ -0,0 +1,748 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.util.*;
+
+/**
+ * A landmark index for the ALT (A*, Landmarks and Triangle inequality) algorithm, storing the
+ * distances to and from the landmarks in primitive arrays.
+ *
+ * <p>
+ * This class computes the same lower bounds as {@link ALTAdmissibleHeuristic} but is designed for
+ * large graphs. The vertices are mapped to integers and the distances of all landmarks are kept in
+ * a single array, where the distances of a vertex are stored consecutively. The distances can
+ * optionally be stored using single precision, which halves the space requirements. In this case
+ * the estimates are reduced by the maximum rounding error so that they remain admissible. The
+ * shortest path trees of the landmarks are computed in parallel using a {@link ForkJoinPool}.
+ *
+ * <p>
+ * The landmarks can either be provided by the user or selected by one of the following strategies,
+ * described in the following papers:
+ * <ul>
+ * <li>{@link LandmarkSelection#RANDOM} picks the landmarks uniformly at random.</li>
+ * <li>{@link LandmarkSelection#FARTHEST} repeatedly picks the vertex farthest away from the
+ * landmarks selected so far, starting with the vertex farthest away from a random vertex.</li>
+ * <li>{@link LandmarkSelection#AVOID} repeatedly grows a shortest path tree from a random root and
+ * picks a leaf of the subtree whose vertices are covered worst by the landmarks selected so
+ * far.</li>
+ * </ul>
+ * <ul>
+ * <li>Andrew Goldberg and Chris Harrelson. Computing the shortest path: A* Search Meets Graph
+ * Theory. In Proceedings of the sixteenth annual ACM-SIAM symposium on Discrete algorithms (SODA'
+ * 05), 156--165, 2005.</li>
+ * <li>Andrew Goldberg and Renato Werneck. Computing point-to-point shortest paths from external
+ * memory. In Proceedings of the 7th Workshop on Algorithm Engineering and Experiments (ALENEX'
+ * 05), 26--40, 2005.</li>
+ * </ul>
+ * The selection strategies {@link LandmarkSelection#FARTHEST} and {@link LandmarkSelection#AVOID}
+ * depend on the landmarks selected so far and thus compute only the forward and backward tree of
+ * a landmark in parallel, while random or user provided landmarks are all computed in parallel.
+ *
+ * <p>
+ * The index is itself an admissible heuristic using all landmarks. Since the bound of a query is
+ * usually determined by few landmarks, {@link #getHeuristic(Object, Object, int)} returns a
+ * heuristic which only uses the landmarks giving the best bound for a given source and target, as
+ * proposed by Goldberg and Harrelson. Method {@link #getPath(Object, Object)} uses such a
+ * heuristic with {@link AStarShortestPath}. The index is immutable after construction and can be
+ * shared by any number of threads. The graph must not be modified after the index has been
+ * constructed.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ * @see ALTAdmissibleHeuristic
+ */
+public class ALTLandmarkIndex<V, E>
+    implements AStarAdmissibleHeuristic<V>
+{
+    /**
+     * Default number of active landmarks used per query.
+     */
+    public static final int DEFAULT_ACTIVE_LANDMARKS = 4;
+
+    /*
+     * Bound on the relative error of a double rounded to a float, used to keep the estimates
+     * computed from single precision distances admissible.
+     */
+    private static final double FLOAT_ERROR = 1.2e-7;
+
+    /**
+     * Strategies for selecting the landmarks.
+     */
+    public enum LandmarkSelection
+    {
+        /**
+         * Landmarks chosen uniformly at random.
+         */
+        RANDOM,
+        /**
+         * Each landmark is the vertex farthest away from the landmarks chosen so far.
+         */
+        FARTHEST,
+        /**
+         * Each landmark is a leaf of the region of a shortest path tree which is covered worst by
+         * the landmarks chosen so far.
+         */
+        AVOID
+    }
+
+    private final Graph<V, E> graph;
+    private final VertexToIntegerMapping<V> mapping;
+    private final int n;
+    private final boolean directed;
+    private final ForkJoinPool pool;
+
+    private final int[] outOffsets;
+    private final int[] outTargets;
+    private final double[] outWeights;
+    private final int[] inOffsets;
+    private final int[] inTargets;
+    private final double[] inWeights;
+
+    private final int[] landmarks;
+    private final int stride;
+    private final double[] distances;
+    private final float[] compactDistances;
+
+    /**
+     * Constructs a new index with landmarks selected using the
+     * {@link LandmarkSelection#FARTHEST} strategy. The computation uses the common pool and double
+     * precision distances.
+     *
+     * @param graph the graph
+     * @param landmarkCount the number of landmarks
+     * @throws IllegalArgumentException if the number of landmarks is not positive
+     * @throws IllegalArgumentException if the graph contains edges with negative weights
+     */
+    public ALTLandmarkIndex(Graph<V, E> graph, int landmarkCount)
+    {
+        this(
+            graph, landmarkCount, LandmarkSelection.FARTHEST, new Random(), false,
+            ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a new index with landmarks selected using the given strategy. If the number of
+     * landmarks exceeds the number of vertices, all vertices become landmarks.
+     *
+     * @param graph the graph
+     * @param landmarkCount the number of landmarks
+     * @param selection the landmark selection strategy
+     * @param rng the random number generator used by the selection strategy
+     * @param compact whether to store the distances using single precision
+     * @param pool the fork-join pool used to compute the shortest path trees of the landmarks
+     * @throws IllegalArgumentException if the number of landmarks is not positive
+     * @throws IllegalArgumentException if the graph contains edges with negative weights
+     */
+    public ALTLandmarkIndex(
+        Graph<V, E> graph, int landmarkCount, LandmarkSelection selection, Random rng,
+        boolean compact, ForkJoinPool pool)
+    {
+        this(graph, compact, pool, landmarkCount);
+        Objects.requireNonNull(selection, "Landmark selection cannot be null");
+        Objects.requireNonNull(rng, "Random number generator cannot be null");
+
+        int k = landmarks.length;
+        if (k == 0) {
+            return;
+        }
+        switch (selection) {
+        case RANDOM:
+            selectRandom(k, rng);
+            break;
+        case FARTHEST:
+            selectFarthest(k, rng);
+            break;
+        case AVOID:
+            selectAvoid(k, rng);
+            break;
+        }
+    }
+
+    /**
+     * Constructs a new index using the given landmarks.
+     *
+     * @param graph the graph
+     * @param landmarks the vertices of the graph which will be used as landmarks
+     * @param compact whether to store the distances using single precision
+     * @param pool the fork-join pool used to compute the shortest path trees of the landmarks
+     * @throws IllegalArgumentException if no landmarks are provided
+     * @throws IllegalArgumentException if a landmark is not a vertex of the graph
+     * @throws IllegalArgumentException if the graph contains edges with negative weights
+     */
+    public ALTLandmarkIndex(Graph<V, E> graph, Set<V> landmarks, boolean compact, ForkJoinPool pool)
+    {
+        this(
+            graph, compact, pool,
+            Objects.requireNonNull(landmarks, "Landmarks cannot be null").size());
+
+        Map<V, Integer> vertexMap = mapping.getVertexMap();
+        int i = 0;
+        for (V v : landmarks) {
+            this.landmarks[i++] = vertexIndex(vertexMap, v);
+        }
+        pool.invoke(new SearchTask(0, searchesPerLandmark() * i, this::computeTree));
+    }
+
+    private ALTLandmarkIndex(Graph<V, E> graph, boolean compact, ForkJoinPool pool, int count)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        this.pool = Objects.requireNonNull(pool, "Fork-join pool cannot be null");
+        if (count <= 0) {
+            throw new IllegalArgumentException("At least one landmark must be provided");
+        }
+        if (graph.getType().isDirected()) {
+            this.directed = true;
+        } else if (graph.getType().isUndirected()) {
+            this.directed = false;
+        } else {
+            throw new IllegalArgumentException("Graph must be directed or undirected");
+        }
+
+        this.mapping = new VertexToIntegerMapping<>(graph.vertexSet());
+        this.n = mapping.size();
+
+        this.outOffsets = new int[n + 1];
+        this.inOffsets = directed ? new int[n + 1] : outOffsets;
+        for (int i = 0; i < n; i++) {
+            V v = mapping.getVertex(i);
+            outOffsets[i + 1] = outOffsets[i] + graph.outgoingEdgesOf(v).size();
+            if (directed) {
+                inOffsets[i + 1] = inOffsets[i] + graph.incomingEdgesOf(v).size();
+            }
+        }
+        this.outTargets = new int[outOffsets[n]];
+        this.outWeights = new double[outOffsets[n]];
+        if (directed) {
+            this.inTargets = new int[inOffsets[n]];
+            this.inWeights = new double[inOffsets[n]];
+        } else {
+            this.inTargets = outTargets;
+            this.inWeights = outWeights;
+        }
+        for (int i = 0; i < n; i++) {
+            V v = mapping.getVertex(i);
+            fillArcs(v, graph.outgoingEdgesOf(v), outOffsets[i], outTargets, outWeights);
+            if (directed) {
+                fillArcs(v, graph.incomingEdgesOf(v), inOffsets[i], inTargets, inWeights);
+            }
+        }
+
+        int k = Math.min(count, n);
+        this.landmarks = new int[k];
+        this.stride = searchesPerLandmark() * k;
+        long size = (long) n * stride;
+        if (size > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many landmarks for the size of the graph");
+        }
+        if (compact) {
+            this.distances = null;
+            this.compactDistances = new float[(int) size];
+        } else {
+            this.distances = new double[(int) size];
+            this.compactDistances = null;
+        }
+    }
+
+    /**
+     * Get the graph of the index.
+     *
+     * @return the graph of the index
+     */
+    public Graph<V, E> getGraph()
+    {
+        return graph;
+    }
+
+    /**
+     * Get the landmarks of the index.
+     *
+     * @return the landmarks of the index
+     */
+    public List<V> getLandmarks()
+    {
+        List<V> result = new ArrayList<>(landmarks.length);
+        for (int l : landmarks) {
+            result.add(mapping.getVertex(l));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * An admissible heuristic estimate from a source vertex to a target vertex using all
+     * landmarks. The estimate is always non-negative and never overestimates the true distance.
+     *
+     * @param sourceVertex the source vertex
+     * @param targetVertex the target vertex
+     * @return an admissible heuristic estimate
+     * @throws IllegalArgumentException if any of the vertices is not contained in the graph
+     */
+    @Override
+    public double getCostEstimate(V sourceVertex, V targetVertex)
+    {
+        Map<V, Integer> vertexMap = mapping.getVertexMap();
+        int u = vertexIndex(vertexMap, sourceVertex);
+        int t = vertexIndex(vertexMap, targetVertex);
+        double maxEstimate = 0d;
+        if (u != t) {
+            for (int l = 0; l < landmarks.length; l++) {
+                maxEstimate = Math.max(maxEstimate, estimate(u, t, l));
+            }
+        }
+        return maxEstimate;
+    }
+
+    /**
+     * Get an admissible heuristic which uses the {@link #DEFAULT_ACTIVE_LANDMARKS} landmarks
+     * giving the best estimates from the source to the target vertex.
+     *
+     * @param sourceVertex the source vertex of the query
+     * @param targetVertex the target vertex of the query
+     * @return an admissible heuristic
+     * @throws IllegalArgumentException if any of the vertices is not contained in the graph
+     */
+    public AStarAdmissibleHeuristic<V> getHeuristic(V sourceVertex, V targetVertex)
+    {
+        return getHeuristic(sourceVertex, targetVertex, DEFAULT_ACTIVE_LANDMARKS);
+    }
+
+    /**
+     * Get an admissible heuristic which uses the given number of landmarks giving the best
+     * estimates from the source to the target vertex. Landmarks which give no positive estimate
+     * for the pair are not used, except if no landmark does.
+     *
+     * @param sourceVertex the source vertex of the query
+     * @param targetVertex the target vertex of the query
+     * @param activeLandmarks the maximum number of landmarks to use
+     * @return an admissible heuristic
+     * @throws IllegalArgumentException if any of the vertices is not contained in the graph
+     * @throws IllegalArgumentException if the number of active landmarks is not positive
+     */
+    public AStarAdmissibleHeuristic<V> getHeuristic(
+        V sourceVertex, V targetVertex, int activeLandmarks)
+    {
+        if (activeLandmarks <= 0) {
+            throw new IllegalArgumentException("Number of active landmarks must be positive");
+        }
+        Map<V, Integer> vertexMap = mapping.getVertexMap();
+        int s = vertexIndex(vertexMap, sourceVertex);
+        int t = vertexIndex(vertexMap, targetVertex);
+
+        int k = landmarks.length;
+        if (activeLandmarks >= k) {
+            return this;
+        }
+        Integer[] order = new Integer[k];
+        double[] estimates = new double[k];
+        for (int l = 0; l < k; l++) {
+            order[l] = l;
+            estimates[l] = estimate(s, t, l);
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(estimates[b], estimates[a]));
+
+        int count = 1;
+        while (count < activeLandmarks && estimates[order[count]] > 0d) {
+            count++;
+        }
+        int[] active = new int[count];
+        for (int i = 0; i < count; i++) {
+            active[i] = order[i];
+        }
+        return new ActiveLandmarksHeuristic(active);
+    }
+
+    /**
+     * Compute a shortest path between two vertices using {@link AStarShortestPath} with the
+     * heuristic returned by {@link #getHeuristic(Object, Object)}.
+     *
+     * @param sourceVertex the source vertex
+     * @param targetVertex the target vertex
+     * @return a shortest path or null if no path exists
+     * @throws IllegalArgumentException if any of the vertices is not contained in the graph
+     */
+    public GraphPath<V, E> getPath(V sourceVertex, V targetVertex)
+    {
+        return new AStarShortestPath<>(graph, getHeuristic(sourceVertex, targetVertex))
+            .getPath(sourceVertex, targetVertex);
+    }
+
+    /**
+     * Compute the lower bound of the distance from $u$ to $t$ given by a landmark.
+     */
+    private double estimate(int u, int t, int l)
+    {
+        if (directed) {
+            int uFrom = u * stride + 2 * l;
+            int tFrom = t * stride + 2 * l;
+            // d(u,t) >= d(u,l) - d(t,l) and d(u,t) >= d(l,t) - d(l,u)
+            return Math.max(
+                bound(get(uFrom + 1), get(tFrom + 1)), bound(get(tFrom), get(uFrom)));
+        } else {
+            double du = get(u * stride + l);
+            double dt = get(t * stride + l);
+            return Math.max(bound(du, dt), bound(dt, du));
+        }
+    }
+
+    /**
+     * Compute the bound $a - b$ of two stored distances, or zero if it is not positive and finite.
+     */
+    private double bound(double a, double b)
+    {
+        double estimate = a - b;
+        if (compactDistances != null) {
+            estimate -= FLOAT_ERROR * (a + b);
+        }
+        if (estimate > 0d && estimate != Double.POSITIVE_INFINITY) {
+            return estimate;
+        }
+        return 0d;
+    }
+
+    private double get(int index)
+    {
+        if (distances != null) {
+            return distances[index];
+        }
+        return compactDistances[index];
+    }
+
+    private void set(int index, double value)
+    {
+        if (distances != null) {
+            distances[index] = value;
+        } else {
+            compactDistances[index] = (float) value;
+        }
+    }
+
+    private int vertexIndex(Map<V, Integer> vertexMap, V v)
+    {
+        Integer index = vertexMap.get(v);
+        if (index == null) {
+            throw new IllegalArgumentException("no such vertex in graph: " + v);
+        }
+        return index;
+    }
+
+    private int searchesPerLandmark()
+    {
+        return directed ? 2 : 1;
+    }
+
+    private void fillArcs(V v, Set<E> edges, int offset, int[] targets, double[] weights)
+    {
+        Map<V, Integer> vertexMap = mapping.getVertexMap();
+        int a = offset;
+        for (E e : edges) {
+            double w = graph.getEdgeWeight(e);
+            if (w < 0.0) {
+                throw new IllegalArgumentException("Graph edge weights cannot be negative");
+            }
+            targets[a] = vertexMap.get(Graphs.getOppositeVertex(graph, e, v));
+            weights[a] = w;
+            a++;
+        }
+    }
+
+    /**
+     * Compute and store a shortest path tree of a landmark. Search $i$ is the forward search of
+     * landmark $i / 2$ if $i$ is even and its backward search otherwise. In undirected graphs
+     * search $i$ is the search of landmark $i$.
+     */
+    private void computeTree(int search)
+    {
+        int l = search / searchesPerLandmark();
+        boolean backward = directed && search % 2 == 1;
+        double[] distance = new double[n];
+        search(landmarks[l], backward, distance, null, null);
+        int offset = directed ? 2 * l + (backward ? 1 : 0) : l;
+        for (int v = 0; v < n; v++) {
+            set(v * stride + offset, distance[v]);
+        }
+    }
+
+    /**
+     * Compute and store the shortest path trees of the landmarks in the range [from, to).
+     */
+    private void computeTrees(int from, int to)
+    {
+        int searches = searchesPerLandmark();
+        pool.invoke(new SearchTask(from * searches, to * searches, this::computeTree));
+    }
+
+    /**
+     * Run Dijkstra's algorithm from a source. Optionally records the parent of each reached vertex
+     * and the order in which the vertices are settled.
+     *
+     * @return the number of settled vertices
+     */
+    private int search(int source, boolean backward, double[] distance, int[] parent, int[] order)
+    {
+        int[] offsets = backward ? inOffsets : outOffsets;
+        int[] targets = backward ? inTargets : outTargets;
+        double[] weights = backward ? inWeights : outWeights;
+
+        Arrays.fill(distance, Double.POSITIVE_INFINITY);
+        if (parent != null) {
+            Arrays.fill(parent, -1);
+        }
+        distance[source] = 0d;
+
+        int settled = 0;
+        IndexedDAryHeap heap = new IndexedDAryHeap(n);
+        heap.insert(source, 0d);
+        while (!heap.isEmpty()) {
+            double vDistance = heap.findMinKey();
+            int v = heap.removeMin();
+            if (order != null) {
+                order[settled] = v;
+            }
+            settled++;
+            for (int a = offsets[v]; a < offsets[v + 1]; a++) {
+                int u = targets[a];
+                double uDistance = vDistance + weights[a];
+                if (uDistance >= distance[u]) {
+                    continue;
+                }
+                if (distance[u] == Double.POSITIVE_INFINITY) {
+                    heap.insert(u, uDistance);
+                } else {
+                    heap.decreaseKey(u, uDistance);
+                }
+                distance[u] = uDistance;
+                if (parent != null) {
+                    parent[u] = v;
+                }
+            }
+        }
+        return settled;
+    }
+
+    private void selectRandom(int k, Random rng)
+    {
+        // partial Fisher-Yates shuffle
+        int[] vertices = new int[n];
+        for (int i = 0; i < n; i++) {
+            vertices[i] = i;
+        }
+        for (int i = 0; i < k; i++) {
+            int j = i + rng.nextInt(n - i);
+            int tmp = vertices[i];
+            vertices[i] = vertices[j];
+            vertices[j] = tmp;
+            landmarks[i] = vertices[i];
+        }
+        computeTrees(0, k);
+    }
+
+    private void selectFarthest(int k, Random rng)
+    {
+        boolean[] isLandmark = new boolean[n];
+        double[] distance = new double[n];
+        search(rng.nextInt(n), false, distance, null, null);
+        landmarks[0] = farthest(distance, isLandmark);
+        isLandmark[landmarks[0]] = true;
+        computeTrees(0, 1);
+
+        // minimum distance of each vertex to or from the landmarks
+        double[] minDistance = new double[n];
+        Arrays.fill(minDistance, Double.POSITIVE_INFINITY);
+        for (int i = 1; i < k; i++) {
+            updateMinDistance(minDistance, i - 1);
+            landmarks[i] = farthest(minDistance, isLandmark);
+            isLandmark[landmarks[i]] = true;
+            computeTrees(i, i + 1);
+        }
+    }
+
+    private void selectAvoid(int k, Random rng)
+    {
+        double[] distance = new double[n];
+        int[] parent = new int[n];
+        int[] order = new int[n];
+        double[] size = new double[n];
+        int[] bestChild = new int[n];
+        boolean[] isLandmark = new boolean[n];
+
+        search(rng.nextInt(n), false, distance, null, null);
+        landmarks[0] = farthest(distance, isLandmark);
+        isLandmark[landmarks[0]] = true;
+        computeTrees(0, 1);
+
+        for (int i = 1; i < k; i++) {
+            int root = rng.nextInt(n);
+            int settled = search(root, false, distance, parent, order);
+
+            /*
+             * The weight of a vertex is the difference between its distance from the root and the
+             * lower bound of the landmarks. The size of a vertex is the total weight of its
+             * subtree, or zero if the subtree contains a landmark.
+             */
+            Arrays.fill(size, 0d);
+            Arrays.fill(bestChild, -1);
+            for (int j = settled - 1; j >= 0; j--) {
+                int v = order[j];
+                double lowerBound = 0d;
+                for (int l = 0; l < i; l++) {
+                    lowerBound = Math.max(lowerBound, estimate(root, v, l));
+                }
+                size[v] += Math.max(0d, distance[v] - lowerBound);
+                if (isLandmark[v]) {
+                    size[v] = Double.NEGATIVE_INFINITY;
+                }
+                int p = parent[v];
+                if (p != -1) {
+                    size[p] += size[v];
+                    if (bestChild[p] == -1 || size[v] > size[bestChild[p]]) {
+                        bestChild[p] = v;
+                    }
+                }
+            }
+
+            int w = -1;
+            for (int j = 0; j < settled; j++) {
+                int v = order[j];
+                if (size[v] > 0d && (w == -1 || size[v] > size[w])) {
+                    w = v;
+                }
+            }
+            if (w == -1) {
+                // the tree is covered perfectly, fall back to the farthest vertex
+                double[] minDistance = new double[n];
+                Arrays.fill(minDistance, Double.POSITIVE_INFINITY);
+                for (int l = 0; l < i; l++) {
+                    updateMinDistance(minDistance, l);
+                }
+                w = farthest(minDistance, isLandmark);
+            } else {
+                while (bestChild[w] != -1) {
+                    w = bestChild[w];
+                }
+            }
+            landmarks[i] = w;
+            isLandmark[w] = true;
+            computeTrees(i, i + 1);
+        }
+    }
+
+    /**
+     * Update the minimum distance of each vertex to or from the landmarks with a landmark.
+     */
+    private void updateMinDistance(double[] minDistance, int l)
+    {
+        for (int v = 0; v < n; v++) {
+            double d;
+            if (directed) {
+                d = Math.min(get(v * stride + 2 * l), get(v * stride + 2 * l + 1));
+            } else {
+                d = get(v * stride + l);
+            }
+            minDistance[v] = Math.min(minDistance[v], d);
+        }
+    }
+
+    /**
+     * Find the vertex, other than the landmarks, with the maximum distance, preferring unreached
+     * vertices.
+     */
+    private int farthest(double[] distance, boolean[] isLandmark)
+    {
+        int best = -1;
+        for (int v = 0; v < n; v++) {
+            if (!isLandmark[v] && (best == -1 || distance[v] > distance[best])) {
+                best = v;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * A heuristic using a subset of the landmarks.
+     */
+    private class ActiveLandmarksHeuristic
+        implements AStarAdmissibleHeuristic<V>
+    {
+        private final int[] active;
+
+        ActiveLandmarksHeuristic(int[] active)
+        {
+            this.active = active;
+        }
+
+        @Override
+        public double getCostEstimate(V sourceVertex, V targetVertex)
+        {
+            Map<V, Integer> vertexMap = mapping.getVertexMap();
+            int u = vertexIndex(vertexMap, sourceVertex);
+            int t = vertexIndex(vertexMap, targetVertex);
+            double maxEstimate = 0d;
+            if (u != t) {
+                for (int l : active) {
+                    maxEstimate = Math.max(maxEstimate, estimate(u, t, l));
+                }
+            }
+            return maxEstimate;
+        }
+    }
+
+    /**
+     * Task which executes the searches in the range [from, to) in parallel.
+     */
+    private static class SearchTask
+        extends RecursiveAction
+    {
+        private static final long serialVersionUID = 6184307553721406215L;
+
+        private final int from;
+        private final int to;
+        private final IntConsumer search;
+
+        SearchTask(int from, int to, IntConsumer search)
+        {
+            this.from = from;
+            this.to = to;
+            this.search = search;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new SearchTask(from, mid, search), new SearchTask(mid, to, search));
+                return;
+            }
+            if (from < to) {
+                search.accept(from);
+            }
+        }
+    }
+
+}
+
+// End ALTLandmarkIndex.java
@@ -0,0 +1,519 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+
+/**
+ * A blocked and parallel version of the Floyd-Warshall algorithm.
+ *
+ * <p>
+ * The distance matrix is partitioned into square blocks of a fixed size, which are small enough to
+ * fit in the cache. Each round of the algorithm first updates the diagonal block, then the blocks
+ * in the same row and column as the diagonal block and finally all remaining blocks. The blocks of
+ * the last two phases are independent of each other and are updated in parallel using a
+ * {@link ForkJoinPool}. See G. Venkataraman, S. Sahni, and S. Mukhopadhyaya. A Blocked All-Pairs
+ * Shortest-Paths Algorithm. Journal of Experimental Algorithmics, 8, 2003. The running time is
+ * $O(n^3)$, as in the original algorithm.
+ *
+ * <p>
+ * In contrast to {@link FloydWarshallShortestPaths} which stores the first edge of each shortest
+ * path, this implementation stores the index of the predecessor vertex of each shortest path in an
+ * {@code int} matrix. Paths are reconstructed backwards from their target and the edge between two
+ * consecutive vertices is a minimum weight edge between them. The distances can optionally be
+ * stored using {@code float} values, which halves the memory of the distance matrix at the cost of
+ * precision. In that case the weights returned by {@link #getPathWeight(Object, Object)} are the
+ * rounded values, while paths report the sum of the weights of their edges.
+ *
+ * <p>
+ * As in {@link FloydWarshallShortestPaths}, no computations are performed during construction. All
+ * computations are performed the first time one of the member methods of this class is invoked.
+ * The graph may contain negative edge weights, but no negative weight cycles.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+public class BlockedFloydWarshallShortestPaths<V, E>
+    extends BaseShortestPathAlgorithm<V, E>
+{
+    /**
+     * Default block size.
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 64;
+
+    private static final int NONE = -1;
+
+    private final VertexToIntegerMapping<V> mapping;
+    private final int blockSize;
+    private final boolean floatDistances;
+    private final ForkJoinPool pool;
+
+    private DistanceMatrix matrix = null;
+
+    /**
+     * Create a new instance of the algorithm using {@code double} distances, the default block size
+     * and the common fork-join pool.
+     *
+     * @param graph the input graph
+     */
+    public BlockedFloydWarshallShortestPaths(Graph<V, E> graph)
+    {
+        this(graph, DEFAULT_BLOCK_SIZE, false, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Create a new instance of the algorithm.
+     *
+     * @param graph the input graph
+     * @param blockSize the size of the blocks
+     * @param floatDistances whether to store the distances using {@code float} values
+     * @param pool the fork-join pool to use for the computation
+     * @throws IllegalArgumentException if the block size is not positive
+     */
+    public BlockedFloydWarshallShortestPaths(
+        Graph<V, E> graph, int blockSize, boolean floatDistances, ForkJoinPool pool)
+    {
+        super(graph);
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be positive");
+        }
+        this.blockSize = blockSize;
+        this.floatDistances = floatDistances;
+        this.pool = Objects.requireNonNull(pool, "Fork-join pool cannot be null");
+        this.mapping = new VertexToIntegerMapping<>(graph.vertexSet());
+    }
+
+    /**
+     * Get the total number of shortest paths. Does not count the paths from a vertex to itself.
+     *
+     * @return total number of shortest paths
+     */
+    public int getShortestPathsCount()
+    {
+        lazyCalculateMatrix();
+
+        int n = mapping.size();
+        int nShortestPaths = 0;
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                if (i != j && matrix.pred[i][j] != NONE) {
+                    nShortestPaths++;
+                }
+            }
+        }
+        return nShortestPaths;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GraphPath<V, E> getPath(V source, V sink)
+    {
+        int s = sourceIndex(source);
+        int t = sinkIndex(sink);
+
+        lazyCalculateMatrix();
+
+        int[] pred = matrix.pred[s];
+        if (pred[t] == NONE) {
+            return createEmptyPath(source, sink);
+        }
+
+        LinkedList<E> edges = new LinkedList<>();
+        double weight = 0d;
+        int v = t;
+        while (v != s) {
+            int u = pred[v];
+            E e = getMinimumWeightEdge(mapping.getVertex(u), mapping.getVertex(v));
+            edges.addFirst(e);
+            weight += graph.getEdgeWeight(e);
+            v = u;
+        }
+        return new GraphWalk<>(graph, source, sink, null, edges, weight);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getPathWeight(V source, V sink)
+    {
+        int s = sourceIndex(source);
+        int t = sinkIndex(sink);
+
+        lazyCalculateMatrix();
+
+        return matrix.get(s, t);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SingleSourcePaths<V, E> getPaths(V source)
+    {
+        int s = sourceIndex(source);
+
+        lazyCalculateMatrix();
+
+        int[] pred = matrix.pred[s];
+        Map<V, Pair<Double, E>> distanceAndPredecessorMap = new HashMap<>();
+        distanceAndPredecessorMap.put(source, Pair.of(0d, null));
+        for (int v = 0; v < pred.length; v++) {
+            if (pred[v] != NONE) {
+                V vertex = mapping.getVertex(v);
+                E e = getMinimumWeightEdge(mapping.getVertex(pred[v]), vertex);
+                distanceAndPredecessorMap.put(vertex, Pair.of(matrix.get(s, v), e));
+            }
+        }
+        return new TreeSingleSourcePathsImpl<>(graph, source, distanceAndPredecessorMap);
+    }
+
+    /**
+     * Returns the first hop, i.e., the second node on the shortest path from $a$ to $b$. Since
+     * only predecessors are stored, the lookup time is linear in the number of edges of the path.
+     *
+     * @param a source vertex
+     * @param b target vertex
+     * @return next hop on the shortest path from a to b, or null when there exists no path from $a$
+     *         to $b$.
+     */
+    public V getFirstHop(V a, V b)
+    {
+        int s = sourceIndex(a);
+        int t = sinkIndex(b);
+
+        lazyCalculateMatrix();
+
+        int[] pred = matrix.pred[s];
+        if (pred[t] == NONE) {
+            return null;
+        }
+        int v = t;
+        while (pred[v] != s) {
+            v = pred[v];
+        }
+        return mapping.getVertex(v);
+    }
+
+    /**
+     * Returns the last hop, i.e., the second to last node on the shortest path from $a$ to $b$.
+     * Lookup time is $O(1)$.
+     *
+     * @param a source vertex
+     * @param b target vertex
+     * @return last hop on the shortest path from $a$ to $b$, or null when there exists no path from
+     *         $a$ to $b$.
+     */
+    public V getLastHop(V a, V b)
+    {
+        int s = sourceIndex(a);
+        int t = sinkIndex(b);
+
+        lazyCalculateMatrix();
+
+        int u = matrix.pred[s][t];
+        return u == NONE ? null : mapping.getVertex(u);
+    }
+
+    private int sourceIndex(V source)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        return mapping.indexOf(source);
+    }
+
+    private int sinkIndex(V sink)
+    {
+        if (!graph.containsVertex(sink)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        }
+        return mapping.indexOf(sink);
+    }
+
+    private E getMinimumWeightEdge(V u, V v)
+    {
+        E result = null;
+        double weight = Double.POSITIVE_INFINITY;
+        for (E e : graph.getAllEdges(u, v)) {
+            double w = graph.getEdgeWeight(e);
+            if (result == null || w < weight) {
+                result = e;
+                weight = w;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Calculates the distance and predecessor matrices.
+     */
+    private void lazyCalculateMatrix()
+    {
+        if (matrix != null) {
+            // already done
+            return;
+        }
+
+        int n = mapping.size();
+        DistanceMatrix m =
+            floatDistances ? new FloatDistanceMatrix(n) : new DoubleDistanceMatrix(n);
+
+        // initialize with the edges, this works for both directed and undirected graphs
+        for (int i = 0; i < n; i++) {
+            V v = mapping.getVertex(i);
+            for (E e : graph.outgoingEdgesOf(v)) {
+                int j = mapping.indexOf(Graphs.getOppositeVertex(graph, e, v));
+                if (i != j) {
+                    m.relaxEdge(i, j, graph.getEdgeWeight(e));
+                }
+            }
+        }
+
+        // run blocked fw alg
+        int blocks = (n + blockSize - 1) / blockSize;
+        for (int kb = 0; kb < blocks; kb++) {
+            int kb0 = kb;
+            m.update(kb, kb, kb);
+            if (blocks > 1) {
+                int others = blocks - 1;
+                pool.invoke(new BlockTask(0, 2 * others, t -> {
+                    int b = t % others;
+                    b = b < kb0 ? b : b + 1;
+                    if (t < others) {
+                        m.update(kb0, b, kb0);
+                    } else {
+                        m.update(b, kb0, kb0);
+                    }
+                }));
+                pool.invoke(new BlockTask(0, others * others, t -> {
+                    int bi = t / others;
+                    int bj = t % others;
+                    m.update(bi < kb0 ? bi : bi + 1, bj < kb0 ? bj : bj + 1, kb0);
+                }));
+            }
+        }
+
+        matrix = m;
+    }
+
+    /**
+     * The distance and predecessor matrices. Subclasses store the distances using different
+     * primitive types.
+     */
+    private abstract class DistanceMatrix
+    {
+        final int n;
+        final int[][] pred;
+
+        DistanceMatrix(int n)
+        {
+            this.n = n;
+            this.pred = new int[n][n];
+            for (int i = 0; i < n; i++) {
+                Arrays.fill(pred[i], NONE);
+            }
+        }
+
+        /**
+         * Get the distance from a vertex to another.
+         */
+        abstract double get(int i, int j);
+
+        /**
+         * Relax the distance from a vertex to another using an edge.
+         */
+        abstract void relaxEdge(int i, int j, double weight);
+
+        /**
+         * Update block $(bi, bj)$ of the matrix using the intermediate vertices of block $bk$.
+         */
+        abstract void update(int bi, int bj, int bk);
+
+        int start(int b)
+        {
+            return b * blockSize;
+        }
+
+        int end(int b)
+        {
+            return Math.min(n, (b + 1) * blockSize);
+        }
+    }
+
+    private class DoubleDistanceMatrix
+        extends DistanceMatrix
+    {
+        private final double[][] d;
+
+        DoubleDistanceMatrix(int n)
+        {
+            super(n);
+            this.d = new double[n][n];
+            for (int i = 0; i < n; i++) {
+                Arrays.fill(d[i], Double.POSITIVE_INFINITY);
+                d[i][i] = 0d;
+            }
+        }
+
+        @Override
+        double get(int i, int j)
+        {
+            return d[i][j];
+        }
+
+        @Override
+        void relaxEdge(int i, int j, double weight)
+        {
+            if (weight < d[i][j]) {
+                d[i][j] = weight;
+                pred[i][j] = i;
+            }
+        }
+
+        @Override
+        void update(int bi, int bj, int bk)
+        {
+            int i0 = start(bi), i1 = end(bi);
+            int j0 = start(bj), j1 = end(bj);
+            int k1 = end(bk);
+            for (int k = start(bk); k < k1; k++) {
+                double[] dk = d[k];
+                int[] pk = pred[k];
+                for (int i = i0; i < i1; i++) {
+                    double[] di = d[i];
+                    double dik = di[k];
+                    if (dik == Double.POSITIVE_INFINITY) {
+                        continue;
+                    }
+                    int[] pi = pred[i];
+                    for (int j = j0; j < j1; j++) {
+                        double ik_kj = dik + dk[j];
+                        if (ik_kj < di[j]) {
+                            di[j] = ik_kj;
+                            pi[j] = pk[j];
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private class FloatDistanceMatrix
+        extends DistanceMatrix
+    {
+        private final float[][] d;
+
+        FloatDistanceMatrix(int n)
+        {
+            super(n);
+            this.d = new float[n][n];
+            for (int i = 0; i < n; i++) {
+                Arrays.fill(d[i], Float.POSITIVE_INFINITY);
+                d[i][i] = 0f;
+            }
+        }
+
+        @Override
+        double get(int i, int j)
+        {
+            return d[i][j];
+        }
+
+        @Override
+        void relaxEdge(int i, int j, double weight)
+        {
+            float w = (float) weight;
+            if (w < d[i][j]) {
+                d[i][j] = w;
+                pred[i][j] = i;
+            }
+        }
+
+        @Override
+        void update(int bi, int bj, int bk)
+        {
+            int i0 = start(bi), i1 = end(bi);
+            int j0 = start(bj), j1 = end(bj);
+            int k1 = end(bk);
+            for (int k = start(bk); k < k1; k++) {
+                float[] dk = d[k];
+                int[] pk = pred[k];
+                for (int i = i0; i < i1; i++) {
+                    float[] di = d[i];
+                    float dik = di[k];
+                    if (dik == Float.POSITIVE_INFINITY) {
+                        continue;
+                    }
+                    int[] pi = pred[i];
+                    for (int j = j0; j < j1; j++) {
+                        float ik_kj = dik + dk[j];
+                        if (ik_kj < di[j]) {
+                            di[j] = ik_kj;
+                            pi[j] = pk[j];
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * A task which updates a range of independent blocks, splitting the range recursively.
+     */
+    private static class BlockTask
+        extends RecursiveAction
+    {
+        private static final long serialVersionUID = 6083212574346537212L;
+
+        private final int from;
+        private final int to;
+        private final IntConsumer update;
+
+        BlockTask(int from, int to, IntConsumer update)
+        {
+            this.from = from;
+            this.to = to;
+            this.update = update;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new BlockTask(from, mid, update), new BlockTask(mid, to, update));
+                return;
+            }
+            update.accept(from);
+        }
+    }
+
+}
+
+// End BlockedFloydWarshallShortestPaths.java
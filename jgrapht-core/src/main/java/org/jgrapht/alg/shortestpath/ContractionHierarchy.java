@@ -0,0 +1,703 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.util.*;
+
+/**
+ * A contraction hierarchy of a graph, the result of the preprocessing phase of the contraction
+ * hierarchies speed-up technique for shortest path queries.
+ *
+ * <p>
+ * The vertices of the graph are contracted one after the other. Contracting a vertex $v$ removes
+ * it from the remaining graph and adds a shortcut arc $(u, w)$ for every pair of arcs $(u, v)$ and
+ * $(v, w)$ whose concatenation is the only shortest path from $u$ to $w$ among the remaining
+ * vertices. The absence of a shortest path avoiding $v$ is verified by a local witness search,
+ * which is limited in the number of settled vertices and may thus add unnecessary but harmless
+ * shortcuts. The position of a vertex in the contraction order is its rank. Queries then only need
+ * to relax arcs towards vertices of higher rank, see {@link ContractionHierarchyShortestPath}. For
+ * details see:
+ * <ul>
+ * <li>R. Geisberger, P. Sanders, D. Schultes and D. Delling. Contraction hierarchies: faster and
+ * simpler hierarchical routing in road networks. In Proceedings of the 7th International Workshop
+ * on Experimental Algorithms (WEA), 319--333, 2008.</li>
+ * </ul>
+ *
+ * <p>
+ * The contraction order is determined by the edge difference, the number of shortcuts which would
+ * be added minus the number of arcs which would be removed, plus the number of already contracted
+ * neighbors of a vertex. The preprocessing proceeds in rounds. Each round contracts an independent
+ * set of vertices whose priority is smaller than the priority of all their neighbors. The witness
+ * searches of the vertices of a round avoid all vertices of the round, thus the shortcuts of
+ * different vertices can be computed in parallel using a {@link ForkJoinPool}.
+ *
+ * <p>
+ * A hierarchy is immutable after construction and can be shared by any number of threads. The
+ * graph must not be modified after the hierarchy has been constructed. Negative edge weights are
+ * not allowed.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ * @see ContractionHierarchyShortestPath
+ */
+public class ContractionHierarchy<V, E>
+{
+    /**
+     * Default maximum number of vertices settled by a witness search.
+     */
+    public static final int DEFAULT_WITNESS_SEARCH_LIMIT = 500;
+
+    private static final int NONE = -1;
+    private static final int PARALLEL_GRAIN = 64;
+
+    private final Graph<V, E> graph;
+    private final VertexToIntegerMapping<V> mapping;
+    private final int[] rank;
+    private final int numberOfShortcuts;
+
+    /*
+     * All arcs, including shortcuts. A shortcut consists of the arcs first and second, an original
+     * arc of an edge.
+     */
+    final int[] arcSource;
+    final int[] arcTarget;
+    final double[] arcWeight;
+    final int[] arcFirst;
+    final int[] arcSecond;
+    final List<E> arcEdge;
+
+    /*
+     * Arcs towards vertices of higher rank, grouped by their source.
+     */
+    final int[] upwardOffsets;
+    final int[] upwardArcs;
+
+    /*
+     * Arcs from vertices of higher rank, grouped by their target.
+     */
+    final int[] downwardOffsets;
+    final int[] downwardArcs;
+
+    /**
+     * Constructs the contraction hierarchy of a graph, using the common fork-join pool.
+     *
+     * @param graph the graph
+     * @throws IllegalArgumentException if the graph contains negative edge weights
+     */
+    public ContractionHierarchy(Graph<V, E> graph)
+    {
+        this(graph, ForkJoinPool.commonPool(), DEFAULT_WITNESS_SEARCH_LIMIT);
+    }
+
+    /**
+     * Constructs the contraction hierarchy of a graph.
+     *
+     * @param graph the graph
+     * @param pool the fork-join pool used during the preprocessing
+     * @param witnessSearchLimit the maximum number of vertices settled by a witness search
+     * @throws IllegalArgumentException if the graph contains negative edge weights or the witness
+     *         search limit is not positive
+     */
+    public ContractionHierarchy(Graph<V, E> graph, ForkJoinPool pool, int witnessSearchLimit)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        Objects.requireNonNull(pool, "Fork-join pool cannot be null");
+        if (witnessSearchLimit <= 0) {
+            throw new IllegalArgumentException("Witness search limit must be positive");
+        }
+        this.mapping = new VertexToIntegerMapping<>(graph.vertexSet());
+        int n = mapping.size();
+
+        Contraction contraction = new Contraction(pool, witnessSearchLimit);
+        contraction.run();
+
+        int m = contraction.arcCount;
+        this.rank = contraction.rank;
+        this.numberOfShortcuts = contraction.numberOfShortcuts;
+        this.arcSource = Arrays.copyOf(contraction.arcSource, m);
+        this.arcTarget = Arrays.copyOf(contraction.arcTarget, m);
+        this.arcWeight = Arrays.copyOf(contraction.arcWeight, m);
+        this.arcFirst = Arrays.copyOf(contraction.arcFirst, m);
+        this.arcSecond = Arrays.copyOf(contraction.arcSecond, m);
+        this.arcEdge = contraction.arcEdge;
+
+        this.upwardOffsets = new int[n + 1];
+        this.downwardOffsets = new int[n + 1];
+        for (int a = 0; a < m; a++) {
+            if (rank[arcSource[a]] < rank[arcTarget[a]]) {
+                upwardOffsets[arcSource[a] + 1]++;
+            } else {
+                downwardOffsets[arcTarget[a] + 1]++;
+            }
+        }
+        for (int v = 0; v < n; v++) {
+            upwardOffsets[v + 1] += upwardOffsets[v];
+            downwardOffsets[v + 1] += downwardOffsets[v];
+        }
+        this.upwardArcs = new int[upwardOffsets[n]];
+        this.downwardArcs = new int[downwardOffsets[n]];
+        int[] upwardPosition = Arrays.copyOf(upwardOffsets, n);
+        int[] downwardPosition = Arrays.copyOf(downwardOffsets, n);
+        for (int a = 0; a < m; a++) {
+            if (rank[arcSource[a]] < rank[arcTarget[a]]) {
+                upwardArcs[upwardPosition[arcSource[a]]++] = a;
+            } else {
+                downwardArcs[downwardPosition[arcTarget[a]]++] = a;
+            }
+        }
+    }
+
+    /**
+     * Get the underlying graph.
+     *
+     * @return the underlying graph
+     */
+    public Graph<V, E> getGraph()
+    {
+        return graph;
+    }
+
+    /**
+     * Get the rank of a vertex, its position in the contraction order.
+     *
+     * @param v the vertex
+     * @return the rank of the vertex
+     * @throws IllegalArgumentException if the vertex is not in the graph
+     */
+    public int getRank(V v)
+    {
+        Integer index = mapping.getVertexMap().get(v);
+        if (index == null) {
+            throw new IllegalArgumentException("no such vertex in graph: " + v);
+        }
+        return rank[index];
+    }
+
+    /**
+     * Get the number of shortcuts added during the preprocessing.
+     *
+     * @return the number of shortcuts
+     */
+    public int getNumberOfShortcuts()
+    {
+        return numberOfShortcuts;
+    }
+
+    /**
+     * Get the mapping of the vertices to integer indices.
+     *
+     * @return the vertex mapping
+     */
+    VertexToIntegerMapping<V> getMapping()
+    {
+        return mapping;
+    }
+
+    /**
+     * Append the original edges and their targets of an arc to the given lists, replacing
+     * shortcuts by the arcs they consist of.
+     *
+     * @param arc the arc
+     * @param vertices the list of vertices
+     * @param edges the list of edges
+     */
+    void unpack(int arc, List<V> vertices, List<E> edges)
+    {
+        Deque<Integer> stack = new ArrayDeque<>();
+        stack.push(arc);
+        while (!stack.isEmpty()) {
+            int a = stack.pop();
+            if (arcFirst[a] == NONE) {
+                edges.add(arcEdge.get(a));
+                vertices.add(mapping.getVertex(arcTarget[a]));
+            } else {
+                stack.push(arcSecond[a]);
+                stack.push(arcFirst[a]);
+            }
+        }
+    }
+
+    /**
+     * The state of the preprocessing.
+     */
+    private class Contraction
+    {
+        private final ForkJoinPool pool;
+        private final int witnessSearchLimit;
+        private final int n;
+
+        int arcCount;
+        int[] arcSource;
+        int[] arcTarget;
+        double[] arcWeight;
+        int[] arcFirst;
+        int[] arcSecond;
+        final List<E> arcEdge;
+        int numberOfShortcuts;
+        final int[] rank;
+
+        // arcs of the remaining graph, may contain arcs to contracted vertices
+        private final int[][] out;
+        private final int[] outSize;
+        private final int[][] in;
+        private final int[] inSize;
+
+        private final boolean[] contracted;
+        private final int[] priority;
+        private final int[] contractedNeighbors;
+        private final Queue<WitnessSearch> witnessSearches;
+
+        Contraction(ForkJoinPool pool, int witnessSearchLimit)
+        {
+            this.pool = pool;
+            this.witnessSearchLimit = witnessSearchLimit;
+            this.n = mapping.size();
+
+            int capacity = Math.max(16, 2 * graph.edgeSet().size());
+            this.arcSource = new int[capacity];
+            this.arcTarget = new int[capacity];
+            this.arcWeight = new double[capacity];
+            this.arcFirst = new int[capacity];
+            this.arcSecond = new int[capacity];
+            this.arcEdge = new ArrayList<>(capacity);
+            this.rank = new int[n];
+
+            this.out = new int[n][];
+            this.outSize = new int[n];
+            this.in = new int[n][];
+            this.inSize = new int[n];
+            for (int v = 0; v < n; v++) {
+                out[v] = new int[4];
+                in[v] = new int[4];
+            }
+            this.contracted = new boolean[n];
+            this.priority = new int[n];
+            this.contractedNeighbors = new int[n];
+            this.witnessSearches = new ConcurrentLinkedQueue<>();
+
+            // original arcs, keeping only the lightest arc between two vertices
+            Map<V, Integer> vertexMap = mapping.getVertexMap();
+            Map<Integer, Integer> arcTo = new HashMap<>();
+            for (int u = 0; u < n; u++) {
+                V v = mapping.getVertex(u);
+                arcTo.clear();
+                for (E e : graph.outgoingEdgesOf(v)) {
+                    double weight = graph.getEdgeWeight(e);
+                    if (weight < 0.0) {
+                        throw new IllegalArgumentException("Negative edge weight not allowed");
+                    }
+                    int w = vertexMap.get(Graphs.getOppositeVertex(graph, e, v));
+                    if (w == u) {
+                        continue;
+                    }
+                    Integer a = arcTo.get(w);
+                    if (a == null) {
+                        arcTo.put(w, addArc(u, w, weight, NONE, NONE, e));
+                    } else if (weight < arcWeight[a]) {
+                        arcWeight[a] = weight;
+                        arcEdge.set(a, e);
+                    }
+                }
+            }
+        }
+
+        void run()
+        {
+            int[] remaining = new int[n];
+            for (int v = 0; v < n; v++) {
+                remaining[v] = v;
+            }
+            int remainingCount = n;
+            parallelFor(0, n, v -> priority[v] = computePriority(v));
+
+            boolean[] selected = new boolean[n];
+            int[] round = new int[n];
+            int[] neighbors = new int[n];
+            int[] neighborStamp = new int[n];
+            Arrays.fill(neighborStamp, NONE);
+            int nextRank = 0;
+
+            while (remainingCount > 0) {
+                // select an independent set of local minima
+                int[] candidates = remaining;
+                parallelFor(0, remainingCount, i -> {
+                    int v = candidates[i];
+                    selected[v] = isLocalMinimum(v);
+                });
+                int roundSize = 0;
+                int newRemainingCount = 0;
+                for (int i = 0; i < remainingCount; i++) {
+                    int v = remaining[i];
+                    if (selected[v]) {
+                        round[roundSize++] = v;
+                        contracted[v] = true;
+                    } else {
+                        remaining[newRemainingCount++] = v;
+                    }
+                }
+                remainingCount = newRemainingCount;
+
+                // compute shortcuts
+                List<List<Shortcut>> shortcuts = new ArrayList<>(roundSize);
+                for (int i = 0; i < roundSize; i++) {
+                    shortcuts.add(null);
+                }
+                int[] vertices = round;
+                parallelFor(0, roundSize, i -> shortcuts.set(i, findShortcuts(vertices[i])));
+
+                // contract
+                int neighborCount = 0;
+                for (int i = 0; i < roundSize; i++) {
+                    int v = round[i];
+                    selected[v] = false;
+                    rank[v] = nextRank++;
+                    for (Shortcut s : shortcuts.get(i)) {
+                        if (!hasArc(s.source, s.target, s.weight)) {
+                            addArc(s.source, s.target, s.weight, s.first, s.second, null);
+                            numberOfShortcuts++;
+                        }
+                    }
+                    for (int a : liveArcs(v)) {
+                        int x = arcSource[a] == v ? arcTarget[a] : arcSource[a];
+                        if (neighborStamp[x] == NONE) {
+                            neighbors[neighborCount++] = x;
+                        }
+                        if (neighborStamp[x] != v) {
+                            neighborStamp[x] = v;
+                            contractedNeighbors[x]++;
+                        }
+                    }
+                }
+
+                // update neighbors
+                int[] touched = neighbors;
+                parallelFor(0, neighborCount, i -> compact(touched[i]));
+                parallelFor(0, neighborCount, i -> {
+                    int x = touched[i];
+                    priority[x] = computePriority(x);
+                });
+                for (int i = 0; i < neighborCount; i++) {
+                    neighborStamp[neighbors[i]] = NONE;
+                }
+            }
+        }
+
+        private boolean isLocalMinimum(int v)
+        {
+            for (int i = 0; i < outSize[v]; i++) {
+                if (!precedes(v, arcTarget[out[v][i]])) {
+                    return false;
+                }
+            }
+            for (int i = 0; i < inSize[v]; i++) {
+                if (!precedes(v, arcSource[in[v][i]])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean precedes(int v, int x)
+        {
+            return contracted[x] || priority[v] < priority[x]
+                || (priority[v] == priority[x] && v < x);
+        }
+
+        private int computePriority(int v)
+        {
+            int degree = 0;
+            for (int i = 0; i < outSize[v]; i++) {
+                if (!contracted[arcTarget[out[v][i]]]) {
+                    degree++;
+                }
+            }
+            for (int i = 0; i < inSize[v]; i++) {
+                if (!contracted[arcSource[in[v][i]]]) {
+                    degree++;
+                }
+            }
+            return findShortcuts(v).size() - degree + contractedNeighbors[v];
+        }
+
+        /**
+         * Find the shortcuts required when contracting a vertex. The witness searches avoid the
+         * vertex itself and all contracted vertices.
+         */
+        private List<Shortcut> findShortcuts(int v)
+        {
+            WitnessSearch search = witnessSearches.poll();
+            if (search == null) {
+                search = new WitnessSearch();
+            }
+            List<Shortcut> shortcuts = new ArrayList<>();
+            for (int i = 0; i < inSize[v]; i++) {
+                int a = in[v][i];
+                int u = arcSource[a];
+                if (contracted[u]) {
+                    continue;
+                }
+                double limit = Double.NEGATIVE_INFINITY;
+                for (int j = 0; j < outSize[v]; j++) {
+                    int b = out[v][j];
+                    int w = arcTarget[b];
+                    if (w != u && !contracted[w]) {
+                        limit = Math.max(limit, arcWeight[a] + arcWeight[b]);
+                    }
+                }
+                if (limit == Double.NEGATIVE_INFINITY) {
+                    continue;
+                }
+
+                search.run(u, v, limit);
+                for (int j = 0; j < outSize[v]; j++) {
+                    int b = out[v][j];
+                    int w = arcTarget[b];
+                    if (w != u && !contracted[w]) {
+                        double weight = arcWeight[a] + arcWeight[b];
+                        if (search.distance[w] > weight) {
+                            shortcuts.add(new Shortcut(u, w, weight, a, b));
+                        }
+                    }
+                }
+                search.reset();
+            }
+            witnessSearches.offer(search);
+            return shortcuts;
+        }
+
+        private boolean hasArc(int u, int w, double weight)
+        {
+            for (int i = 0; i < outSize[u]; i++) {
+                int a = out[u][i];
+                if (arcTarget[a] == w && arcWeight[a] <= weight) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private int[] liveArcs(int v)
+        {
+            int[] arcs = new int[outSize[v] + inSize[v]];
+            int count = 0;
+            for (int i = 0; i < outSize[v]; i++) {
+                int a = out[v][i];
+                if (!contracted[arcTarget[a]]) {
+                    arcs[count++] = a;
+                }
+            }
+            for (int i = 0; i < inSize[v]; i++) {
+                int a = in[v][i];
+                if (!contracted[arcSource[a]]) {
+                    arcs[count++] = a;
+                }
+            }
+            return Arrays.copyOf(arcs, count);
+        }
+
+        /**
+         * Remove the arcs to contracted vertices from the adjacency of a vertex.
+         */
+        private void compact(int v)
+        {
+            int size = 0;
+            for (int i = 0; i < outSize[v]; i++) {
+                int a = out[v][i];
+                if (!contracted[arcTarget[a]]) {
+                    out[v][size++] = a;
+                }
+            }
+            outSize[v] = size;
+            size = 0;
+            for (int i = 0; i < inSize[v]; i++) {
+                int a = in[v][i];
+                if (!contracted[arcSource[a]]) {
+                    in[v][size++] = a;
+                }
+            }
+            inSize[v] = size;
+        }
+
+        private int addArc(int u, int w, double weight, int first, int second, E e)
+        {
+            if (arcCount == arcSource.length) {
+                int capacity = 2 * arcCount;
+                arcSource = Arrays.copyOf(arcSource, capacity);
+                arcTarget = Arrays.copyOf(arcTarget, capacity);
+                arcWeight = Arrays.copyOf(arcWeight, capacity);
+                arcFirst = Arrays.copyOf(arcFirst, capacity);
+                arcSecond = Arrays.copyOf(arcSecond, capacity);
+            }
+            int a = arcCount++;
+            arcSource[a] = u;
+            arcTarget[a] = w;
+            arcWeight[a] = weight;
+            arcFirst[a] = first;
+            arcSecond[a] = second;
+            arcEdge.add(e);
+
+            if (outSize[u] == out[u].length) {
+                out[u] = Arrays.copyOf(out[u], 2 * outSize[u]);
+            }
+            out[u][outSize[u]++] = a;
+            if (inSize[w] == in[w].length) {
+                in[w] = Arrays.copyOf(in[w], 2 * inSize[w]);
+            }
+            in[w][inSize[w]++] = a;
+            return a;
+        }
+
+        private void parallelFor(int from, int to, IntConsumer action)
+        {
+            if (to - from <= PARALLEL_GRAIN || pool.getParallelism() == 1) {
+                for (int i = from; i < to; i++) {
+                    action.accept(i);
+                }
+            } else {
+                pool.invoke(new RangeTask(from, to, action));
+            }
+        }
+
+        /**
+         * A Dijkstra search in the remaining graph, limited in distance and settled vertices.
+         */
+        private class WitnessSearch
+        {
+            final double[] distance;
+            final int[] touched;
+            int touchedCount;
+            final IndexedDAryHeap heap;
+
+            WitnessSearch()
+            {
+                this.distance = new double[n];
+                Arrays.fill(distance, Double.POSITIVE_INFINITY);
+                this.touched = new int[n];
+                this.heap = new IndexedDAryHeap(n);
+            }
+
+            void run(int source, int excluded, double limit)
+            {
+                distance[source] = 0d;
+                touched[touchedCount++] = source;
+                heap.insert(source, 0d);
+                int settled = 0;
+                while (!heap.isEmpty() && settled < witnessSearchLimit) {
+                    double d = heap.findMinKey();
+                    if (d > limit) {
+                        break;
+                    }
+                    int x = heap.removeMin();
+                    settled++;
+                    for (int i = 0; i < outSize[x]; i++) {
+                        int a = out[x][i];
+                        int y = arcTarget[a];
+                        if (y == excluded || contracted[y]) {
+                            continue;
+                        }
+                        double dy = d + arcWeight[a];
+                        if (dy >= distance[y]) {
+                            continue;
+                        }
+                        if (distance[y] == Double.POSITIVE_INFINITY) {
+                            touched[touchedCount++] = y;
+                            heap.insert(y, dy);
+                        } else {
+                            heap.decreaseKey(y, dy);
+                        }
+                        distance[y] = dy;
+                    }
+                }
+            }
+
+            void reset()
+            {
+                heap.clear();
+                for (int i = 0; i < touchedCount; i++) {
+                    distance[touched[i]] = Double.POSITIVE_INFINITY;
+                }
+                touchedCount = 0;
+            }
+        }
+    }
+
+    /**
+     * A shortcut which replaces two consecutive arcs.
+     */
+    private static class Shortcut
+    {
+        final int source;
+        final int target;
+        final double weight;
+        final int first;
+        final int second;
+
+        Shortcut(int source, int target, double weight, int first, int second)
+        {
+            this.source = source;
+            this.target = target;
+            this.weight = weight;
+            this.first = first;
+            this.second = second;
+        }
+    }
+
+    /**
+     * Task which applies an action to each index of the range [from, to) in parallel.
+     */
+    private static class RangeTask
+        extends RecursiveAction
+    {
+        private static final long serialVersionUID = 4129784309164529781L;
+
+        private final int from;
+        private final int to;
+        private final IntConsumer action;
+
+        RangeTask(int from, int to, IntConsumer action)
+        {
+            this.from = from;
+            this.to = to;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (to - from > PARALLEL_GRAIN) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new RangeTask(from, mid, action), new RangeTask(mid, to, action));
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                action.accept(i);
+            }
+        }
+    }
+
+}
+
+// End ContractionHierarchy.java
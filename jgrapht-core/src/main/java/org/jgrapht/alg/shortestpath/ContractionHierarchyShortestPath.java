@@ -0,0 +1,311 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+/**
+ * Point-to-point shortest path queries using a {@link ContractionHierarchy}.
+ *
+ * <p>
+ * A query runs a bidirectional Dijkstra search which relaxes only arcs towards vertices of higher
+ * rank: a forward search from the source and a backward search from the target. Each direction
+ * stops once its smallest tentative distance is not smaller than the best path found so far. The
+ * shortcuts of the resulting path are then recursively replaced by the arcs they consist of, which
+ * yields a path of the original graph. Since the searches only move upwards in the hierarchy, a
+ * query typically settles a tiny fraction of the vertices settled by {@link DijkstraShortestPath}
+ * or {@link BidirectionalDijkstraShortestPath}.
+ *
+ * <p>
+ * The class is thread-safe: any number of threads may issue queries concurrently, on the same
+ * instance or on different instances sharing the same hierarchy. The arrays used by a query are
+ * allocated once and reused by later queries, and only the entries touched by a query are reset
+ * afterwards. The graph must not be modified after the hierarchy has been constructed.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ * @see ContractionHierarchy
+ */
+public class ContractionHierarchyShortestPath<V, E>
+    extends BaseShortestPathAlgorithm<V, E>
+{
+    private static final int NONE = -1;
+
+    private final ContractionHierarchy<V, E> hierarchy;
+    private final Queue<Query> queries;
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph. The contraction hierarchy is
+     * computed using the common fork-join pool.
+     *
+     * @param graph the graph
+     * @throws IllegalArgumentException if the graph contains negative edge weights
+     */
+    public ContractionHierarchyShortestPath(Graph<V, E> graph)
+    {
+        this(new ContractionHierarchy<>(graph));
+    }
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph. The contraction hierarchy is
+     * computed using the given fork-join pool.
+     *
+     * @param graph the graph
+     * @param pool the fork-join pool used to compute the hierarchy
+     * @throws IllegalArgumentException if the graph contains negative edge weights
+     */
+    public ContractionHierarchyShortestPath(Graph<V, E> graph, ForkJoinPool pool)
+    {
+        this(
+            new ContractionHierarchy<>(
+                graph, pool, ContractionHierarchy.DEFAULT_WITNESS_SEARCH_LIMIT));
+    }
+
+    /**
+     * Constructs a new instance of the algorithm using a precomputed contraction hierarchy.
+     *
+     * @param hierarchy the contraction hierarchy
+     */
+    public ContractionHierarchyShortestPath(ContractionHierarchy<V, E> hierarchy)
+    {
+        super(Objects.requireNonNull(hierarchy, "Hierarchy cannot be null").getGraph());
+        this.hierarchy = hierarchy;
+        this.queries = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * Get the contraction hierarchy used by the algorithm.
+     *
+     * @return the contraction hierarchy
+     */
+    public ContractionHierarchy<V, E> getHierarchy()
+    {
+        return hierarchy;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GraphPath<V, E> getPath(V source, V sink)
+    {
+        int s = indexOf(source, GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        int t = indexOf(sink, GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        if (s == t) {
+            return createEmptyPath(source, sink);
+        }
+
+        Query query = acquire();
+        try {
+            if (!query.run(s, t)) {
+                return null;
+            }
+
+            // collect the arcs from the source to the target
+            List<Integer> arcs = new ArrayList<>();
+            for (int v = query.meeting; v != s; v = hierarchy.arcSource[query.forwardArc[v]]) {
+                arcs.add(query.forwardArc[v]);
+            }
+            Collections.reverse(arcs);
+            for (int v = query.meeting; v != t; v = hierarchy.arcTarget[query.backwardArc[v]]) {
+                arcs.add(query.backwardArc[v]);
+            }
+
+            List<V> vertices = new ArrayList<>();
+            List<E> edges = new ArrayList<>();
+            vertices.add(source);
+            for (int a : arcs) {
+                hierarchy.unpack(a, vertices, edges);
+            }
+            return new GraphWalk<>(graph, source, sink, vertices, edges, query.best);
+        } finally {
+            release(query);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getPathWeight(V source, V sink)
+    {
+        int s = indexOf(source, GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        int t = indexOf(sink, GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        if (s == t) {
+            return 0d;
+        }
+
+        Query query = acquire();
+        try {
+            query.run(s, t);
+            return query.best;
+        } finally {
+            release(query);
+        }
+    }
+
+    private int indexOf(V v, String message)
+    {
+        Integer index = hierarchy.getMapping().getVertexMap().get(v);
+        if (index == null) {
+            throw new IllegalArgumentException(message);
+        }
+        return index;
+    }
+
+    private Query acquire()
+    {
+        Query query = queries.poll();
+        return query == null ? new Query() : query;
+    }
+
+    private void release(Query query)
+    {
+        query.reset();
+        queries.offer(query);
+    }
+
+    /**
+     * The reusable state of a query.
+     */
+    private class Query
+    {
+        final double[] forwardDistance;
+        final int[] forwardArc;
+        final double[] backwardDistance;
+        final int[] backwardArc;
+        final int[] touched;
+        int touchedCount;
+        final IndexedDAryHeap forwardHeap;
+        final IndexedDAryHeap backwardHeap;
+
+        double best;
+        int meeting;
+
+        Query()
+        {
+            int n = hierarchy.getMapping().size();
+            this.forwardDistance = new double[n];
+            this.backwardDistance = new double[n];
+            Arrays.fill(forwardDistance, Double.POSITIVE_INFINITY);
+            Arrays.fill(backwardDistance, Double.POSITIVE_INFINITY);
+            this.forwardArc = new int[n];
+            this.backwardArc = new int[n];
+            this.touched = new int[2 * n];
+            this.forwardHeap = new IndexedDAryHeap(n);
+            this.backwardHeap = new IndexedDAryHeap(n);
+        }
+
+        /**
+         * Run the bidirectional upward search.
+         *
+         * @return whether the target is reachable from the source
+         */
+        boolean run(int s, int t)
+        {
+            best = Double.POSITIVE_INFINITY;
+            meeting = NONE;
+
+            touch(forwardDistance, forwardArc, s, 0d, NONE);
+            forwardHeap.insert(s, 0d);
+            touch(backwardDistance, backwardArc, t, 0d, NONE);
+            backwardHeap.insert(t, 0d);
+
+            while (true) {
+                boolean forwardDone = forwardHeap.isEmpty() || forwardHeap.findMinKey() >= best;
+                boolean backwardDone =
+                    backwardHeap.isEmpty() || backwardHeap.findMinKey() >= best;
+                if (forwardDone && backwardDone) {
+                    break;
+                }
+                boolean forward = backwardDone || (!forwardDone
+                    && forwardHeap.findMinKey() <= backwardHeap.findMinKey());
+                if (forward) {
+                    settle(
+                        forwardHeap, forwardDistance, forwardArc, backwardDistance,
+                        hierarchy.upwardOffsets, hierarchy.upwardArcs, hierarchy.arcTarget);
+                } else {
+                    settle(
+                        backwardHeap, backwardDistance, backwardArc, forwardDistance,
+                        hierarchy.downwardOffsets, hierarchy.downwardArcs, hierarchy.arcSource);
+                }
+            }
+            return meeting != NONE;
+        }
+
+        private void settle(
+            IndexedDAryHeap heap, double[] distance, int[] predecessorArc, double[] otherDistance,
+            int[] offsets, int[] arcs, int[] head)
+        {
+            double vDistance = heap.findMinKey();
+            int v = heap.removeMin();
+
+            double pathDistance = vDistance + otherDistance[v];
+            if (pathDistance < best) {
+                best = pathDistance;
+                meeting = v;
+            }
+
+            for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                int a = arcs[i];
+                int u = head[a];
+                double uDistance = vDistance + hierarchy.arcWeight[a];
+                if (uDistance >= distance[u]) {
+                    continue;
+                }
+                if (distance[u] == Double.POSITIVE_INFINITY) {
+                    touch(distance, predecessorArc, u, uDistance, a);
+                    heap.insert(u, uDistance);
+                } else {
+                    distance[u] = uDistance;
+                    predecessorArc[u] = a;
+                    heap.decreaseKey(u, uDistance);
+                }
+            }
+        }
+
+        private void touch(double[] distance, int[] predecessorArc, int v, double d, int a)
+        {
+            distance[v] = d;
+            predecessorArc[v] = a;
+            touched[touchedCount++] = v;
+        }
+
+        void reset()
+        {
+            forwardHeap.clear();
+            backwardHeap.clear();
+            for (int i = 0; i < touchedCount; i++) {
+                int v = touched[i];
+                forwardDistance[v] = Double.POSITIVE_INFINITY;
+                backwardDistance[v] = Double.POSITIVE_INFINITY;
+            }
+            touchedCount = 0;
+        }
+    }
+
+}
+
+// End ContractionHierarchyShortestPath.java
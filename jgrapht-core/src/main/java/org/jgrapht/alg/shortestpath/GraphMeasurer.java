@@ -28,6 +28,11 @@ import java.util.*;
  * distance metrics can be found
  * <a href="https://en.wikipedia.org/wiki/Distance_(graph_theory)">here</a>.
  *
+ * <p>
+ * This class queries the distance between every pair of vertices. For large graphs
+ * {@link BoundingGraphMeasurer} computes the same metrics, except the pseudo-periphery, using a
+ * small number of single-source searches.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  *
@@ -68,7 +73,9 @@ public class GraphMeasurer<V, E>
      *        {@link org.jgrapht.alg.shortestpath.JohnsonShortestPaths} (Runtime complexity:
      *        $O(|V||E| + |V|^2 log|V|)$) or
      *        {@link org.jgrapht.alg.shortestpath.FloydWarshallShortestPaths} (Runtime complexity:
-     *        $O(|V|^3)$.
+     *        $O(|V|^3)$. For large dense graphs
+     *        {@link org.jgrapht.alg.shortestpath.BlockedFloydWarshallShortestPaths} uses less
+     *        memory and multiple threads.
      */
     public GraphMeasurer(Graph<V, E> graph, ShortestPathAlgorithm<V, E> shortestPathAlgorithm)
     {
@@ -0,0 +1,300 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+/**
+ * An implementation of Dijkstra's shortest path algorithm which operates on primitive arrays and
+ * reuses its internal state between queries.
+ *
+ * <p>
+ * On construction the vertices of the graph are mapped to dense integer indices and the graph is
+ * copied into a compressed adjacency structure of primitive arrays. Each query then uses an
+ * {@link IndexedDAryHeap} together with distance and predecessor arrays which are allocated only
+ * once. Only the entries touched by a query are reset before the next one, so a query which settles
+ * $k$ vertices costs $O((k + m_k) \log k)$ time, where $m_k$ is the number of edges scanned, and
+ * performs no per-vertex allocations. This makes the class suitable for answering a large number of
+ * point-to-point queries on the same graph, where {@link DijkstraShortestPath} would allocate a
+ * heap node and a map entry for every vertex reached.
+ *
+ * <p>
+ * The graph must not be modified after the algorithm has been constructed, since later changes are
+ * not reflected in the internal copy. Negative edge weights are not allowed and result in an
+ * {@link IllegalArgumentException} during construction. Since the internal state is reused, an
+ * instance must not be used concurrently by multiple threads.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+public final class IntDijkstraShortestPath<V, E>
+    extends BaseShortestPathAlgorithm<V, E>
+{
+    private static final int NONE = -1;
+
+    private final double radius;
+
+    private final VertexToIntegerMapping<V> mapping;
+    private final int[] arcOffsets;
+    private final int[] arcTargets;
+    private final double[] arcWeights;
+    private final List<E> arcEdges;
+
+    private final double[] distance;
+    private final int[] predecessorVertex;
+    private final int[] predecessorArc;
+    private final int[] touched;
+    private int touchedCount;
+    private final IndexedDAryHeap heap;
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph.
+     *
+     * @param graph the graph
+     */
+    public IntDijkstraShortestPath(Graph<V, E> graph)
+    {
+        this(graph, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph.
+     *
+     * @param graph the graph
+     * @param radius limit on path length, or Double.POSITIVE_INFINITY for unbounded search
+     */
+    public IntDijkstraShortestPath(Graph<V, E> graph, double radius)
+    {
+        this(graph, radius, IndexedDAryHeap.DEFAULT_ARITY);
+    }
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph.
+     *
+     * @param graph the graph
+     * @param radius limit on path length, or Double.POSITIVE_INFINITY for unbounded search
+     * @param heapArity the arity of the heap used
+     */
+    public IntDijkstraShortestPath(Graph<V, E> graph, double radius, int heapArity)
+    {
+        super(graph);
+        if (radius < 0.0) {
+            throw new IllegalArgumentException("Radius must be non-negative");
+        }
+        this.radius = radius;
+
+        this.mapping = new VertexToIntegerMapping<>(graph.vertexSet());
+        int n = mapping.size();
+        Map<V, Integer> vertexMap = mapping.getVertexMap();
+
+        this.arcOffsets = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            arcOffsets[i + 1] = arcOffsets[i] + graph.outgoingEdgesOf(mapping.getVertex(i)).size();
+        }
+        int m = arcOffsets[n];
+        this.arcTargets = new int[m];
+        this.arcWeights = new double[m];
+        this.arcEdges = new ArrayList<>(m);
+        int a = 0;
+        for (int i = 0; i < n; i++) {
+            V v = mapping.getVertex(i);
+            for (E e : graph.outgoingEdgesOf(v)) {
+                double w = graph.getEdgeWeight(e);
+                if (w < 0.0) {
+                    throw new IllegalArgumentException("Negative edge weight not allowed");
+                }
+                arcTargets[a] = vertexMap.get(Graphs.getOppositeVertex(graph, e, v));
+                arcWeights[a] = w;
+                arcEdges.add(e);
+                a++;
+            }
+        }
+
+        this.distance = new double[n];
+        Arrays.fill(distance, Double.POSITIVE_INFINITY);
+        this.predecessorVertex = new int[n];
+        this.predecessorArc = new int[n];
+        this.touched = new int[n];
+        this.touchedCount = 0;
+        this.heap = new IndexedDAryHeap(n, heapArity);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GraphPath<V, E> getPath(V source, V sink)
+    {
+        int s = mapping.indexOf(source);
+        if (s == NONE) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        int t = mapping.indexOf(sink);
+        if (t == NONE) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        }
+        if (s == t) {
+            return createEmptyPath(source, sink);
+        }
+        if (!search(s, t)) {
+            return null;
+        }
+        return createPath(s, t);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getPathWeight(V source, V sink)
+    {
+        int s = mapping.indexOf(source);
+        if (s == NONE) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        int t = mapping.indexOf(sink);
+        if (t == NONE) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        }
+        if (s == t) {
+            return 0d;
+        }
+        if (!search(s, t)) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return distance[t];
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Note that in the case of Dijkstra's algorithm it is more efficient to compute all
+     * single-source shortest paths using this method than repeatedly invoking
+     * {@link #getPath(Object, Object)} for the same source but different sink vertex.
+     */
+    @Override
+    public SingleSourcePaths<V, E> getPaths(V source)
+    {
+        int s = mapping.indexOf(source);
+        if (s == NONE) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        search(s, NONE);
+
+        Map<V, Pair<Double, E>> distanceAndPredecessorMap = new HashMap<>();
+        for (int i = 0; i < touchedCount; i++) {
+            int v = touched[i];
+            if (distance[v] > radius) {
+                continue;
+            }
+            E e = v == s ? null : arcEdges.get(predecessorArc[v]);
+            distanceAndPredecessorMap.put(mapping.getVertex(v), Pair.of(distance[v], e));
+        }
+        return new TreeSingleSourcePathsImpl<>(graph, source, distanceAndPredecessorMap);
+    }
+
+    /**
+     * Execute Dijkstra's algorithm from a source until a target is settled or all vertices inside
+     * the radius are settled.
+     *
+     * @param s the source
+     * @param t the target or {@link #NONE} to compute all paths
+     * @return whether the target was settled
+     */
+    private boolean search(int s, int t)
+    {
+        reset();
+
+        touch(s, 0d, NONE, NONE);
+        heap.insert(s, 0d);
+
+        while (!heap.isEmpty()) {
+            double vDistance = heap.findMinKey();
+            if (vDistance > radius) {
+                break;
+            }
+            int v = heap.removeMin();
+            if (v == t) {
+                return true;
+            }
+
+            int end = arcOffsets[v + 1];
+            for (int a = arcOffsets[v]; a < end; a++) {
+                int u = arcTargets[a];
+                double uDistance = vDistance + arcWeights[a];
+                if (uDistance >= distance[u]) {
+                    continue;
+                }
+                if (distance[u] == Double.POSITIVE_INFINITY) {
+                    touch(u, uDistance, v, a);
+                    heap.insert(u, uDistance);
+                } else if (heap.contains(u)) {
+                    distance[u] = uDistance;
+                    predecessorVertex[u] = v;
+                    predecessorArc[u] = a;
+                    heap.decreaseKey(u, uDistance);
+                }
+            }
+        }
+        return false;
+    }
+
+    private void touch(int v, double vDistance, int pVertex, int pArc)
+    {
+        distance[v] = vDistance;
+        predecessorVertex[v] = pVertex;
+        predecessorArc[v] = pArc;
+        touched[touchedCount++] = v;
+    }
+
+    /**
+     * Reset the state of the previous search. Runs in time linear in the number of vertices touched
+     * by the previous search.
+     */
+    private void reset()
+    {
+        for (int i = 0; i < touchedCount; i++) {
+            distance[touched[i]] = Double.POSITIVE_INFINITY;
+        }
+        touchedCount = 0;
+        heap.clear();
+    }
+
+    private GraphPath<V, E> createPath(int s, int t)
+    {
+        List<E> edgeList = new ArrayList<>();
+        int cur = t;
+        while (cur != s) {
+            edgeList.add(arcEdges.get(predecessorArc[cur]));
+            cur = predecessorVertex[cur];
+        }
+        Collections.reverse(edgeList);
+        return new GraphWalk<>(
+            graph, mapping.getVertex(s), mapping.getVertex(t), null, edgeList, distance[t]);
+    }
+
+}
+
+// End IntDijkstraShortestPath.java
@@ -0,0 +1,392 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.spanning;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.util.*;
+
+/**
+ * A parallel implementation of Borůvka's algorithm for the computation of a minimum spanning tree.
+ * If the given graph is connected it computes the minimum spanning tree, otherwise it computes the
+ * minimum spanning forest.
+ *
+ * <p>
+ * The vertices and edges are first mapped to integer indices and the endpoints and weights of the
+ * edges are copied into primitive arrays. The algorithm then executes a sequence of rounds on a
+ * {@link ForkJoinPool}, each of which at least halves the number of components which have not been
+ * completed. In each round
+ * <ul>
+ * <li>the edges are scanned in parallel and every component atomically keeps its lightest
+ * outgoing edge. Edges inside a component are filtered out and never scanned again,</li>
+ * <li>each component hooks itself to the component at the other end of its lightest edge, which
+ * becomes part of the forest, and</li>
+ * <li>the resulting trees of components are flattened using pointer jumping and the vertices are
+ * relabeled with their new components.</li>
+ * </ul>
+ *
+ * <p>
+ * Edges are compared by weight, and edges with equal weights by their position in the edge set of
+ * the graph. Since this order is strict, the lightest edges never form a cycle, except for two
+ * components selecting the same edge. Unlike {@link BoruvkaMinimumSpanningTree}, weights are
+ * compared exactly, without a tolerance. The algorithm performs $O(\log V)$ rounds of $O(E + V)$
+ * work each. Only the initial mapping of the graph is sequential.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+public class ParallelBoruvkaMinimumSpanningTree<V, E>
+    implements SpanningTreeAlgorithm<E>
+{
+    /**
+     * Number of edges in a block. Each block is compacted in place by a single task.
+     */
+    private static final int BLOCK_SIZE = 4096;
+
+    /**
+     * Number of vertices or components processed by a single task.
+     */
+    private static final int VERTEX_GRAIN = 4096;
+
+    private final Graph<V, E> graph;
+    private final ForkJoinPool pool;
+
+    /**
+     * Construct a new instance of the algorithm using the common pool.
+     *
+     * @param graph the input graph
+     */
+    public ParallelBoruvkaMinimumSpanningTree(Graph<V, E> graph)
+    {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Construct a new instance of the algorithm.
+     *
+     * @param graph the input graph
+     * @param pool the pool executing the algorithm
+     */
+    public ParallelBoruvkaMinimumSpanningTree(Graph<V, E> graph, ForkJoinPool pool)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        this.pool = Objects.requireNonNull(pool, "Fork-join pool cannot be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SpanningTree<E> getSpanningTree()
+    {
+        // index vertices
+        int n = graph.vertexSet().size();
+        Map<V, Integer> index = CollectionUtil.newHashMapWithExpectedSize(n);
+        for (V v : graph.vertexSet()) {
+            index.put(v, index.size());
+        }
+
+        // copy edges into primitive arrays, skipping self-loops
+        int m = graph.edgeSet().size();
+        List<E> edges = new ArrayList<>(m);
+        int[] source = new int[m];
+        int[] target = new int[m];
+        double[] weight = new double[m];
+        for (E e : graph.edgeSet()) {
+            int s = index.get(graph.getEdgeSource(e));
+            int t = index.get(graph.getEdgeTarget(e));
+            if (s == t) {
+                continue;
+            }
+            int k = edges.size();
+            source[k] = s;
+            target[k] = t;
+            weight[k] = graph.getEdgeWeight(e);
+            edges.add(e);
+        }
+
+        boolean[] inForest = new Forest(n, edges.size(), source, target, weight).run();
+
+        Set<E> forestEdges = new LinkedHashSet<>();
+        double forestWeight = 0d;
+        for (int k = 0; k < edges.size(); k++) {
+            if (inForest[k]) {
+                forestEdges.add(edges.get(k));
+                forestWeight += weight[k];
+            }
+        }
+        return new SpanningTreeImpl<>(forestEdges, forestWeight);
+    }
+
+    /**
+     * The state of the algorithm over the indexed vertices and edges.
+     */
+    private class Forest
+    {
+        private final int n;
+        private final int m;
+        private final int[] source;
+        private final int[] target;
+        private final double[] weight;
+
+        // component of each vertex, always a root of the previous round
+        private final int[] component;
+        // parent of each component, itself for roots
+        private final int[] parent;
+        // lightest outgoing edge of each active component, -1 if none
+        private final AtomicIntegerArray best;
+        // indices of the edges which may leave a component, compacted per block
+        private final int[] live;
+        private final int[] blockSize;
+        private final boolean[] inForest;
+
+        Forest(int n, int m, int[] source, int[] target, double[] weight)
+        {
+            this.n = n;
+            this.m = m;
+            this.source = source;
+            this.target = target;
+            this.weight = weight;
+            this.component = new int[n];
+            this.parent = new int[n];
+            this.best = new AtomicIntegerArray(n);
+            this.live = new int[m];
+            this.blockSize = new int[(m + BLOCK_SIZE - 1) / BLOCK_SIZE];
+            this.inForest = new boolean[m];
+        }
+
+        /**
+         * Execute all rounds.
+         *
+         * @return whether each edge belongs to the minimum spanning forest
+         */
+        boolean[] run()
+        {
+            int[] roots = new int[n];
+            forRange(0, n, VERTEX_GRAIN, (from, to) -> {
+                for (int v = from; v < to; v++) {
+                    component[v] = v;
+                    parent[v] = v;
+                    roots[v] = v;
+                }
+            });
+            forRange(0, blockSize.length, 1, (from, to) -> {
+                for (int b = from; b < to; b++) {
+                    int start = b * BLOCK_SIZE;
+                    blockSize[b] = Math.min(BLOCK_SIZE, m - start);
+                    for (int i = start; i < start + blockSize[b]; i++) {
+                        live[i] = i;
+                    }
+                }
+            });
+
+            int rootCount = n;
+            AtomicBoolean changed = new AtomicBoolean();
+            while (rootCount > 0) {
+                final int[] r = roots;
+                final int count = rootCount;
+
+                // find lightest outgoing edges
+                forRange(0, count, VERTEX_GRAIN, (from, to) -> {
+                    for (int i = from; i < to; i++) {
+                        best.set(r[i], -1);
+                    }
+                });
+                forRange(0, blockSize.length, 1, (from, to) -> {
+                    for (int b = from; b < to; b++) {
+                        scan(b);
+                    }
+                });
+
+                // hook components
+                forRange(0, count, VERTEX_GRAIN, (from, to) -> {
+                    for (int i = from; i < to; i++) {
+                        hook(r[i]);
+                    }
+                });
+
+                // pointer jumping
+                do {
+                    changed.set(false);
+                    forRange(0, count, VERTEX_GRAIN, (from, to) -> {
+                        boolean c = false;
+                        for (int i = from; i < to; i++) {
+                            int p = parent[r[i]];
+                            int pp = parent[p];
+                            if (p != pp) {
+                                parent[r[i]] = pp;
+                                c = true;
+                            }
+                        }
+                        if (c) {
+                            changed.set(true);
+                        }
+                    });
+                } while (changed.get());
+
+                // relabel vertices
+                forRange(0, n, VERTEX_GRAIN, (from, to) -> {
+                    for (int v = from; v < to; v++) {
+                        component[v] = parent[component[v]];
+                    }
+                });
+
+                // keep the components which may still grow
+                rootCount = 0;
+                for (int i = 0; i < count; i++) {
+                    int u = r[i];
+                    if (parent[u] == u && best.get(u) != -1) {
+                        roots[rootCount++] = u;
+                    }
+                }
+            }
+
+            return inForest;
+        }
+
+        /**
+         * Scan the live edges of a block, compacting the block and updating the lightest outgoing
+         * edges of the components.
+         *
+         * @param b the block
+         */
+        private void scan(int b)
+        {
+            int start = b * BLOCK_SIZE;
+            int end = start + blockSize[b];
+            int k = start;
+            for (int i = start; i < end; i++) {
+                int e = live[i];
+                int cs = component[source[e]];
+                int ct = component[target[e]];
+                if (cs == ct) {
+                    continue;
+                }
+                live[k++] = e;
+                select(cs, e);
+                select(ct, e);
+            }
+            blockSize[b] = k - start;
+        }
+
+        /**
+         * Atomically replace the lightest outgoing edge of a component, if an edge is lighter.
+         *
+         * @param c the component
+         * @param e the edge
+         */
+        private void select(int c, int e)
+        {
+            int current;
+            do {
+                current = best.get(c);
+                if (current != -1 && !isLighter(e, current)) {
+                    return;
+                }
+            } while (!best.compareAndSet(c, current, e));
+        }
+
+        /**
+         * Hook a component to the component at the other end of its lightest outgoing edge. When
+         * two components select the same edge, only the one with the larger index is hooked.
+         *
+         * @param u the component
+         */
+        private void hook(int u)
+        {
+            int e = best.get(u);
+            if (e == -1) {
+                return;
+            }
+            int w = component[source[e]];
+            if (w == u) {
+                w = component[target[e]];
+            }
+            if (best.get(w) == e && u < w) {
+                return;
+            }
+            parent[u] = w;
+            inForest[e] = true;
+        }
+
+        private boolean isLighter(int e, int f)
+        {
+            int c = Double.compare(weight[e], weight[f]);
+            return c < 0 || (c == 0 && e < f);
+        }
+
+        private void forRange(int from, int to, int grain, RangeAction action)
+        {
+            if (from < to) {
+                pool.invoke(new RangeTask(from, to, grain, action));
+            }
+        }
+    }
+
+    /**
+     * An action on a range of integers.
+     */
+    private interface RangeAction
+    {
+        void apply(int from, int to);
+    }
+
+    /**
+     * Task which applies an action on the range [from, to), split into subranges of at most a
+     * given size.
+     */
+    private static class RangeTask
+        extends RecursiveAction
+    {
+        private static final long serialVersionUID = 3051806245186309218L;
+
+        private final int from;
+        private final int to;
+        private final int grain;
+        private final RangeAction action;
+
+        RangeTask(int from, int to, int grain, RangeAction action)
+        {
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (to - from > grain) {
+                int mid = (from + to) >>> 1;
+                invokeAll(
+                    new RangeTask(from, mid, grain, action), new RangeTask(mid, to, grain, action));
+            } else {
+                action.apply(from, to);
+            }
+        }
+    }
+
+}
+
+// End ParallelBoruvkaMinimumSpanningTree.java
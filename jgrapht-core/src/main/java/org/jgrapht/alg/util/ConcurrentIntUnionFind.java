@@ -0,0 +1,231 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.util;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * A thread-safe <a href="http://en.wikipedia.org/wiki/Disjoint-set_data_structure">Union Find</a>
+ * data structure over the integers $0, 1, \ldots, n-1$, which supports concurrent unions and finds
+ * without locking.
+ *
+ * <p>
+ * The parents are stored in an {@link AtomicIntegerArray}. A union links the root of one set below
+ * the root of the other using a single compare-and-set, retrying if another thread has linked the
+ * root in the meantime. Finds compress paths using path halving, where each update is also a
+ * compare-and-set. Roots are linked according to a fixed pseudo-random priority of the elements,
+ * which keeps the trees shallow independently of the order of the unions. The algorithm is
+ * described in
+ * <ul>
+ * <li>Siddhartha V. Jayanti and Robert E. Tarjan. A Randomized Concurrent Algorithm for Disjoint
+ * Set Union. Proceedings of the 2016 ACM Symposium on Principles of Distributed Computing (PODC),
+ * 75--82, 2016.</li>
+ * </ul>
+ *
+ * <p>
+ * Operations are linearizable, and at any time at least one of the threads makes progress. The
+ * methods {@link #numberOfSets()}, {@link #getSets()} and {@link #toString()} observe the unions
+ * which have completed before they are called, and are exact only when no unions run concurrently.
+ *
+ * @author agent
+ */
+public class ConcurrentIntUnionFind
+{
+    private final AtomicIntegerArray parent;
+    private final LongAdder unions;
+
+    /**
+     * Creates a union-find with the elements $0, 1, \ldots, n-1$ in separate sets.
+     *
+     * @param n the number of elements
+     * @throws IllegalArgumentException if the number of elements is negative
+     */
+    public ConcurrentIntUnionFind(int n)
+    {
+        if (n < 0) {
+            throw new IllegalArgumentException("Number of elements must be non-negative");
+        }
+        this.parent = new AtomicIntegerArray(n);
+        this.unions = new LongAdder();
+        reset();
+    }
+
+    /**
+     * Returns the representative element of the set that element is in. If unions run
+     * concurrently, the representative is the one at some point during the call.
+     *
+     * @param element the element to find
+     * @return the element representing the set the element is in
+     * @throws IllegalArgumentException if the element is not contained in the data structure
+     */
+    public int find(int element)
+    {
+        checkElement(element);
+        int current = element;
+        while (true) {
+            int p = parent.get(current);
+            if (p == current) {
+                return current;
+            }
+            int gp = parent.get(p);
+            if (p != gp) {
+                parent.compareAndSet(current, p, gp);
+            }
+            current = gp;
+        }
+    }
+
+    /**
+     * Merges the sets which contain element1 and element2. No guarantees are given as to which
+     * element becomes the representative of the resulting (merged) set.
+     *
+     * @param element1 the first element to union
+     * @param element2 the second element to union
+     * @return true if this call merged the sets, false if the elements were already in the same
+     *         set
+     * @throws IllegalArgumentException if an element is not contained in the data structure
+     */
+    public boolean union(int element1, int element2)
+    {
+        int root1 = element1;
+        int root2 = element2;
+        while (true) {
+            root1 = find(root1);
+            root2 = find(root2);
+            if (root1 == root2) {
+                return false;
+            }
+            // link the root with the lower priority below the other
+            if (priority(root1) < priority(root2)) {
+                if (parent.compareAndSet(root1, root1, root2)) {
+                    unions.increment();
+                    return true;
+                }
+            } else if (parent.compareAndSet(root2, root2, root1)) {
+                unions.increment();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Tests whether two elements are contained in the same set.
+     *
+     * @param element1 first element
+     * @param element2 second element
+     * @return true if element1 and element2 are contained in the same set, false otherwise
+     * @throws IllegalArgumentException if an element is not contained in the data structure
+     */
+    public boolean inSameSet(int element1, int element2)
+    {
+        int root1 = element1;
+        int root2 = element2;
+        while (true) {
+            root1 = find(root1);
+            root2 = find(root2);
+            if (root1 == root2) {
+                return true;
+            }
+            // the first root has not been linked meanwhile, thus the sets were different
+            if (parent.get(root1) == root1) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of sets. Initially, all items are in their own set.
+     *
+     * @return the number of sets
+     */
+    public int numberOfSets()
+    {
+        return (int) (parent.length() - unions.sum());
+    }
+
+    /**
+     * Returns the total number of elements in this data structure.
+     *
+     * @return the total number of elements in this data structure
+     */
+    public int size()
+    {
+        return parent.length();
+    }
+
+    /**
+     * Resets the data structure: each element is placed in its own singleton set. Must not be
+     * called concurrently with other operations.
+     */
+    public void reset()
+    {
+        for (int i = 0; i < parent.length(); i++) {
+            parent.set(i, i);
+        }
+        unions.reset();
+    }
+
+    /**
+     * Returns the sets of this data structure. Each set is returned as an array of its elements in
+     * increasing order, and the sets are ordered by their smallest element.
+     *
+     * @return the sets of this data structure
+     */
+    public List<int[]> getSets()
+    {
+        return IntUnionFind.getSets(parent.length(), this::find);
+    }
+
+    /**
+     * Returns a string representation of this data structure. Each component is represented as
+     * $\left{v_i:v_1,v_2,v_3,...v_n\right}$, where $v_i$ is the representative of the set.
+     *
+     * @return string representation of this data structure
+     */
+    @Override
+    public String toString()
+    {
+        return IntUnionFind.toString(getSets(), this::find);
+    }
+
+    private void checkElement(int element)
+    {
+        if (element < 0 || element >= parent.length()) {
+            throw new IllegalArgumentException(
+                "element is not contained in this UnionFind data structure: " + element);
+        }
+    }
+
+    /**
+     * The priority of an element. The finalizer of MurmurHash3 is a bijection, thus distinct
+     * elements have distinct priorities.
+     */
+    private static int priority(int element)
+    {
+        int h = element;
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
+
+// End ConcurrentIntUnionFind.java
@@ -0,0 +1,247 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.util;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+/**
+ * An implementation of the <a href="http://en.wikipedia.org/wiki/Disjoint-set_data_structure">Union
+ * Find</a> data structure over the integers $0, 1, \ldots, n-1$.
+ *
+ * <p>
+ * Contrary to {@link UnionFind} the elements are not hashed and the parents and sizes of the sets
+ * are stored in primitive arrays. The implementation uses union by size and path halving to achieve
+ * an amortized cost of $O(\alpha(n))$ per operation where $\alpha$ is the inverse Ackermann
+ * function. Callers which operate on arbitrary elements should first map them to integers, for
+ * example using {@link VertexToIntegerMapping}.
+ *
+ * <p>
+ * This class is not thread-safe. See {@link ConcurrentIntUnionFind} for a version which supports
+ * concurrent unions.
+ *
+ * @author agent
+ */
+public class IntUnionFind
+{
+    private final int[] parent;
+    private final int[] size;
+    private int count; // number of components
+
+    /**
+     * Creates a union-find with the elements $0, 1, \ldots, n-1$ in separate sets.
+     *
+     * @param n the number of elements
+     * @throws IllegalArgumentException if the number of elements is negative
+     */
+    public IntUnionFind(int n)
+    {
+        if (n < 0) {
+            throw new IllegalArgumentException("Number of elements must be non-negative");
+        }
+        this.parent = new int[n];
+        this.size = new int[n];
+        reset();
+    }
+
+    /**
+     * Returns the representative element of the set that element is in.
+     *
+     * @param element the element to find
+     * @return the element representing the set the element is in
+     * @throws IllegalArgumentException if the element is not contained in the data structure
+     */
+    public int find(int element)
+    {
+        checkElement(element);
+        int current = element;
+        while (parent[current] != current) {
+            parent[current] = parent[parent[current]];
+            current = parent[current];
+        }
+        return current;
+    }
+
+    /**
+     * Merges the sets which contain element1 and element2. The representative of the larger set
+     * becomes the representative of the merged set.
+     *
+     * @param element1 the first element to union
+     * @param element2 the second element to union
+     * @return true if the sets were merged, false if the elements were already in the same set
+     * @throws IllegalArgumentException if an element is not contained in the data structure
+     */
+    public boolean union(int element1, int element2)
+    {
+        int root1 = find(element1);
+        int root2 = find(element2);
+
+        // check if the elements are already in the same set
+        if (root1 == root2) {
+            return false;
+        }
+
+        if (size[root1] < size[root2]) {
+            int tmp = root1;
+            root1 = root2;
+            root2 = tmp;
+        }
+        parent[root2] = root1;
+        size[root1] += size[root2];
+        count--;
+        return true;
+    }
+
+    /**
+     * Tests whether two elements are contained in the same set.
+     *
+     * @param element1 first element
+     * @param element2 second element
+     * @return true if element1 and element2 are contained in the same set, false otherwise
+     * @throws IllegalArgumentException if an element is not contained in the data structure
+     */
+    public boolean inSameSet(int element1, int element2)
+    {
+        return find(element1) == find(element2);
+    }
+
+    /**
+     * Returns the number of elements in the set that element is in.
+     *
+     * @param element the element
+     * @return the size of the set which contains the element
+     * @throws IllegalArgumentException if the element is not contained in the data structure
+     */
+    public int sizeOfSet(int element)
+    {
+        return size[find(element)];
+    }
+
+    /**
+     * Returns the number of sets. Initially, all items are in their own set.
+     *
+     * @return the number of sets
+     */
+    public int numberOfSets()
+    {
+        return count;
+    }
+
+    /**
+     * Returns the total number of elements in this data structure.
+     *
+     * @return the total number of elements in this data structure
+     */
+    public int size()
+    {
+        return parent.length;
+    }
+
+    /**
+     * Resets the data structure: each element is placed in its own singleton set.
+     */
+    public void reset()
+    {
+        for (int i = 0; i < parent.length; i++) {
+            parent[i] = i;
+            size[i] = 1;
+        }
+        count = parent.length;
+    }
+
+    /**
+     * Returns the sets of this data structure. Each set is returned as an array of its elements in
+     * increasing order, and the sets are ordered by their smallest element.
+     *
+     * @return the sets of this data structure
+     */
+    public List<int[]> getSets()
+    {
+        return getSets(parent.length, this::find);
+    }
+
+    /**
+     * Returns a string representation of this data structure. Each component is represented as
+     * $\left{v_i:v_1,v_2,v_3,...v_n\right}$, where $v_i$ is the representative of the set.
+     *
+     * @return string representation of this data structure
+     */
+    @Override
+    public String toString()
+    {
+        return toString(getSets(), this::find);
+    }
+
+    private void checkElement(int element)
+    {
+        if (element < 0 || element >= parent.length) {
+            throw new IllegalArgumentException(
+                "element is not contained in this UnionFind data structure: " + element);
+        }
+    }
+
+    /**
+     * Group the elements $0, 1, \ldots, n-1$ into sets by their representatives using a counting
+     * sort.
+     *
+     * @param n the number of elements
+     * @param find the function returning the representative of an element
+     * @return the sets ordered by their smallest element
+     */
+    static List<int[]> getSets(int n, IntUnaryOperator find)
+    {
+        int[] root = new int[n];
+        int[] setIndex = new int[n];
+        Arrays.fill(setIndex, -1);
+        List<int[]> sets = new ArrayList<>();
+        int[] sizes = new int[n];
+        int setCount = 0;
+        for (int i = 0; i < n; i++) {
+            int r = find.applyAsInt(i);
+            root[i] = r;
+            if (setIndex[r] == -1) {
+                setIndex[r] = setCount++;
+            }
+            sizes[setIndex[r]]++;
+        }
+        for (int s = 0; s < setCount; s++) {
+            sets.add(new int[sizes[s]]);
+            sizes[s] = 0;
+        }
+        for (int i = 0; i < n; i++) {
+            int s = setIndex[root[i]];
+            sets.get(s)[sizes[s]++] = i;
+        }
+        return sets;
+    }
+
+    static String toString(List<int[]> sets, IntUnaryOperator find)
+    {
+        return sets
+            .stream()
+            .map(
+                set -> "{" + find.applyAsInt(set[0]) + ":"
+                    + Arrays.stream(set).mapToObj(Integer::toString).collect(
+                        Collectors.joining(","))
+                    + "}")
+            .collect(Collectors.joining(", ", "{", "}"));
+    }
+}
+
+// End IntUnionFind.java
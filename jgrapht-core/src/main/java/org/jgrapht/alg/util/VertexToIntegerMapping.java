@@ -0,0 +1,119 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.util;
+
+import java.util.*;
+
+/**
+ * Helper class for building a one-to-one mapping for a collection of vertices to the integer range
+ * $[0, n)$ where $n$ is the number of vertices in the collection.
+ *
+ * <p>
+ * This class computes the mapping only once, on instantiation. It does not support live updates.
+ * Algorithms which operate on primitive arrays use it in order to translate between the vertices of
+ * the input graph and array indices.
+ *
+ * @param <V> the graph vertex type
+ *
+ * @author agent
+ */
+public class VertexToIntegerMapping<V>
+{
+    private final Map<V, Integer> vertexMap;
+    private final List<V> indexList;
+
+    /**
+     * Create a new mapping from a collection of vertices. The vertices are mapped to integers in
+     * the iteration order of the collection.
+     *
+     * @param vertices the input collection of vertices
+     * @throws NullPointerException if {@code vertices} is {@code null}
+     * @throws IllegalArgumentException if the vertices are not distinct
+     */
+    public VertexToIntegerMapping(Collection<V> vertices)
+    {
+        Objects.requireNonNull(vertices, "the input collection of vertices cannot be null");
+
+        vertexMap = new HashMap<>(vertices.size() * 4 / 3 + 1);
+        indexList = new ArrayList<>(vertices.size());
+
+        for (V v : vertices) {
+            if (vertexMap.put(v, indexList.size()) != null) {
+                throw new IllegalArgumentException("vertices are not distinct");
+            }
+            indexList.add(v);
+        }
+    }
+
+    /**
+     * Get the vertex-to-index mapping.
+     *
+     * @return an unmodifiable map from vertices to their indices
+     */
+    public Map<V, Integer> getVertexMap()
+    {
+        return Collections.unmodifiableMap(vertexMap);
+    }
+
+    /**
+     * Get the index-to-vertex mapping.
+     *
+     * @return an unmodifiable list which contains at position $i$ the vertex with index $i$
+     */
+    public List<V> getIndexList()
+    {
+        return Collections.unmodifiableList(indexList);
+    }
+
+    /**
+     * Get the number of vertices of the mapping.
+     *
+     * @return the number of vertices
+     */
+    public int size()
+    {
+        return indexList.size();
+    }
+
+    /**
+     * Get the index of a vertex.
+     *
+     * @param v the vertex
+     * @return the index of the vertex, or $-1$ if the vertex is not part of the mapping
+     */
+    public int indexOf(V v)
+    {
+        Integer index = vertexMap.get(v);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Get the vertex with a particular index.
+     *
+     * @param index the index
+     * @return the vertex with the given index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public V getVertex(int index)
+    {
+        return indexList.get(index);
+    }
+
+}
+
+// End VertexToIntegerMapping.java
@@ -18,6 +18,7 @@
 package org.jgrapht.generate;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.jgrapht.*;
 
@@ -40,6 +41,11 @@ import org.jgrapht.*;
  * of incoming and outgoing degrees. For a more general discussion see the paper: M. E. J. Newman.
  * The Structure and Function of Complex Networks. SIAM Rev., 45(2):167--256, 2003.
  * 
+ * <p>
+ * The method {@link #generateEdges(EdgeBlockSink, ForkJoinPool)} provides an alternative parallel
+ * mode which does not use a graph. It follows the approach of the paper: P. Sanders and C. Schulz.
+ * Scalable generation of scale-free graphs. Information Processing Letters, 116(7):489--491, 2016.
+ * 
  * @author Dimitrios Michail
  * @since February 2017
  * 
@@ -165,4 +171,160 @@ public class BarabasiAlbertGraphGenerator<V, E>
 
     }
 
+    /**
+     * Generates the edges of an instance in parallel using the common pool. See
+     * {@link #generateEdges(EdgeBlockSink, ForkJoinPool)}.
+     * 
+     * @param sink the sink of the edges
+     */
+    public void generateEdges(EdgeBlockSink sink)
+    {
+        generateEdges(sink, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Generates the edges of an instance in parallel. The vertices are the integers $0, \ldots,
+     * n-1$, where the first $m_0$ vertices form the initial complete graph. Each vertex $v \ge m_0$
+     * has $m$ edges $(v, u)$ towards distinct vertices $u < v$.
+     * 
+     * <p>
+     * Conceptually the endpoints of all edges are written in a single array, where the endpoints of
+     * the edges of vertex $v$ follow those of the edges of vertex $v-1$. Preferential attachment is
+     * performed by choosing a uniformly random position before the edges of $v$ and using the
+     * vertex at that position. Instead of using a shared random number generator, the random
+     * choices for each edge are computed by hashing its position together with the seed. Thus the
+     * target of any edge can be computed independently by following the choices backwards, which
+     * allows the vertices to be processed in parallel. Targets which have already been computed
+     * are memoized, requiring 4 bytes per edge. Contrary to {@link #generateGraph(Graph, Map)} the
+     * initial vertices each appear $\max(1, m_0-1)$ times in the array, and both endpoints of
+     * every new edge are always added.
+     * 
+     * <p>
+     * The seed of the generation is drawn from the random number generator of this generator.
+     * Thus, for a generator constructed with a fixed seed, the first call produces the same edges
+     * in each block regardless of the parallelism of the pool. Block 0 contains the edges of the
+     * initial complete graph.
+     * 
+     * @param sink the sink of the edges, see {@link EdgeBlockSink} for the threading requirements
+     * @param pool the pool to use
+     * @throws IllegalArgumentException if the total number of edges of the new vertices exceeds the
+     *         maximum array size
+     */
+    public void generateEdges(EdgeBlockSink sink, ForkJoinPool pool)
+    {
+        Objects.requireNonNull(sink, "Sink cannot be null");
+        Objects.requireNonNull(pool, "Pool cannot be null");
+
+        long seed = rng.nextLong();
+        long newEdges = (long) (n - m0) * m;
+        if (newEdges > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException(
+                "too many edges (" + newEdges + ") for parallel generation");
+        }
+
+        PreferentialAttachment attachment = new PreferentialAttachment(seed, (int) newEdges);
+        int[] blocks = EdgeBlocks.vertexBlocks(n - m0, false);
+        EdgeBlocks.run(pool, blocks.length, b -> {
+            EdgeBlocks.EdgeBuffer buffer = new EdgeBlocks.EdgeBuffer(sink, b);
+            if (b == 0) {
+                for (int u = 0; u < m0; u++) {
+                    for (int v = u + 1; v < m0; v++) {
+                        buffer.accept(u, v);
+                    }
+                }
+            } else {
+                int end = m0 + blocks[b];
+                for (int v = m0 + blocks[b - 1]; v < end; v++) {
+                    int first = (v - m0) * m;
+                    for (int s = 0; s < m; s++) {
+                        buffer.accept(v, attachment.target(first + s));
+                    }
+                }
+            }
+            buffer.flush();
+        });
+    }
+
+    /**
+     * Computes the targets of the edges of new vertices using hashing. Each target is a pure
+     * function of the seed, therefore concurrent computations of the same target write the same
+     * value and need no synchronization.
+     */
+    private class PreferentialAttachment
+    {
+        private final long seed;
+        private final int multiplicity;
+        private final long initialPositions;
+
+        /*
+         * The target plus one of each edge, or zero if not yet known.
+         */
+        private final int[] targets;
+
+        PreferentialAttachment(long seed, int edges)
+        {
+            this.seed = seed;
+            this.multiplicity = Math.max(1, m0 - 1);
+            this.initialPositions = (long) m0 * multiplicity;
+            this.targets = new int[edges];
+        }
+
+        /**
+         * Get the target of an edge.
+         * 
+         * @param e the index of the edge among the edges of the new vertices
+         * @return the target vertex
+         */
+        int target(int e)
+        {
+            int t = targets[e];
+            if (t != 0) {
+                return t - 1;
+            }
+            int v = m0 + e / m;
+            return computeTargets(v)[e % m];
+        }
+
+        private int[] computeTargets(int v)
+        {
+            int first = (v - m0) * m;
+            long bound = initialPositions + 2L * first;
+            int[] result = new int[m];
+            for (int s = 0; s < m; s++) {
+                for (long attempt = 0;; attempt++) {
+                    int u = vertexAt(
+                        EdgeBlocks.toRange(EdgeBlocks.hash(seed, first + s, attempt), bound));
+                    boolean duplicate = false;
+                    for (int j = 0; j < s; j++) {
+                        if (result[j] == u) {
+                            duplicate = true;
+                            break;
+                        }
+                    }
+                    if (!duplicate) {
+                        result[s] = u;
+                        break;
+                    }
+                }
+            }
+            for (int s = 0; s < m; s++) {
+                targets[first + s] = result[s] + 1;
+            }
+            return result;
+        }
+
+        private int vertexAt(long position)
+        {
+            if (position < initialPositions) {
+                return (int) (position / multiplicity);
+            }
+            long local = position - initialPositions;
+            int e = (int) (local >>> 1);
+            if ((local & 1) == 0) {
+                return m0 + e / m;
+            }
+            return target(e);
+        }
+    }
+
 }
@@ -0,0 +1,52 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.generate;
+
+/**
+ * A sink for edges produced by a generator in blocks.
+ *
+ * <p>
+ * Generators which support parallel generation split the set of edges into a fixed number of
+ * independent blocks, where each block is produced using its own random number generator derived
+ * from the seed. The partition into blocks depends only on the generator parameters and therefore
+ * the edges of each block are the same regardless of the number of threads used. Vertices are
+ * identified by the integers $0, 1, \ldots, n-1$.
+ *
+ * <p>
+ * Different blocks may be delivered concurrently from different threads and in any order, thus
+ * implementations must be thread-safe. The edges of a single block might be delivered in more than
+ * one call, but those calls are always made from the same thread and in order. The arrays are
+ * reused by the generator after the call returns and should be copied if needed.
+ *
+ * @author agent
+ */
+@FunctionalInterface
+public interface EdgeBlockSink
+{
+    /**
+     * Accept a chunk of edges of a block.
+     *
+     * @param block the index of the block
+     * @param sources the source vertices of the edges
+     * @param targets the target vertices of the edges
+     * @param size the number of edges, stored in the first positions of the arrays
+     */
+    void accept(int block, int[] sources, int[] targets, int size);
+}
+
+// End EdgeBlockSink.java
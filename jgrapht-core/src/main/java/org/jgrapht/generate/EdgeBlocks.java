@@ -0,0 +1,335 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.generate;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+/**
+ * Helper methods for generators which produce their edges in independent seeded blocks.
+ *
+ * @author agent
+ */
+final class EdgeBlocks
+{
+    /**
+     * Maximum number of blocks when partitioning the vertices
+     */
+    static final int MAX_VERTEX_BLOCKS = 4096;
+
+    /**
+     * Number of edges after which a block flushes its edges to the sink
+     */
+    static final int BUFFER_SIZE = 4096;
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private EdgeBlocks()
+    {
+    }
+
+    /**
+     * Mix the bits of a long value. This is the finalizer of the SplitMix64 generator.
+     *
+     * @param z the value
+     * @return the mixed value
+     */
+    static long mix64(long z)
+    {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Compute a pseudo-random value which depends only on a seed and two keys.
+     *
+     * @param seed the seed
+     * @param a the first key
+     * @param b the second key
+     * @return a pseudo-random value
+     */
+    static long hash(long seed, long a, long b)
+    {
+        return mix64(mix64(seed + a * GOLDEN_GAMMA) + (b + 1) * GOLDEN_GAMMA);
+    }
+
+    /**
+     * Convert a pseudo-random value to a double uniformly distributed in $[0, 1)$.
+     *
+     * @param h the pseudo-random value
+     * @return a double in $[0, 1)$
+     */
+    static double toDouble(long h)
+    {
+        return (h >>> 11) * 0x1.0p-53;
+    }
+
+    /**
+     * Convert a pseudo-random value to a long in $[0, bound)$.
+     *
+     * @param h the pseudo-random value
+     * @param bound the upper bound (exclusive)
+     * @return a long in $[0, bound)$
+     */
+    static long toRange(long h, long bound)
+    {
+        return (h >>> 1) % bound;
+    }
+
+    /**
+     * Create the random number generator of a block.
+     *
+     * @param seed the seed of the generation
+     * @param block the block index
+     * @return the random number generator of the block
+     */
+    static SplittableRandom random(long seed, long block)
+    {
+        return new SplittableRandom(hash(seed, block, -1));
+    }
+
+    /**
+     * Run a task for each block in parallel.
+     *
+     * @param pool the pool to use
+     * @param blocks the number of blocks
+     * @param task the task to run for each block index
+     */
+    static void run(ForkJoinPool pool, int blocks, IntConsumer task)
+    {
+        if (blocks == 0) {
+            return;
+        }
+        pool.invoke(new BlockTask(task, 0, blocks));
+    }
+
+    /**
+     * Compute a partition of the vertices $0, \ldots, n-1$ into at most {@link #MAX_VERTEX_BLOCKS}
+     * consecutive ranges. The partition depends only on the parameters.
+     *
+     * @param n the number of vertices
+     * @param triangular whether vertex $i$ has work proportional to $n-i$ instead of uniform work
+     * @return an array with the first vertex of each block followed by $n$
+     */
+    static int[] vertexBlocks(int n, boolean triangular)
+    {
+        int blocks = Math.min(n, MAX_VERTEX_BLOCKS);
+        int[] boundaries = new int[blocks + 1];
+        for (int b = 1; b < blocks; b++) {
+            double fraction = (double) b / blocks;
+            long boundary;
+            if (triangular) {
+                boundary = n - (long) Math.ceil(n * Math.sqrt(1d - fraction));
+            } else {
+                boundary = (long) n * b / blocks;
+            }
+            boundaries[b] = (int) Math.max(boundaries[b - 1], boundary);
+        }
+        boundaries[blocks] = n;
+        return boundaries;
+    }
+
+    /**
+     * A consumer of edges.
+     */
+    interface EdgeConsumer
+    {
+        void accept(int source, int target);
+    }
+
+    /**
+     * Buffers the edges of a block and flushes them to a sink.
+     */
+    static class EdgeBuffer
+        implements
+        EdgeConsumer
+    {
+        private final EdgeBlockSink sink;
+        private final int block;
+        private final int[] sources;
+        private final int[] targets;
+        private int size;
+
+        EdgeBuffer(EdgeBlockSink sink, int block)
+        {
+            this.sink = sink;
+            this.block = block;
+            this.sources = new int[BUFFER_SIZE];
+            this.targets = new int[BUFFER_SIZE];
+            this.size = 0;
+        }
+
+        @Override
+        public void accept(int source, int target)
+        {
+            sources[size] = source;
+            targets[size] = target;
+            size++;
+            if (size == BUFFER_SIZE) {
+                flush();
+            }
+        }
+
+        void flush()
+        {
+            if (size > 0) {
+                sink.accept(block, sources, targets, size);
+                size = 0;
+            }
+        }
+    }
+
+    /**
+     * The space of all possible edges among $n$ vertices, arranged in rows by source vertex.
+     * Depending on the graph type a row $i$ contains all targets, all targets except $i$, or
+     * (undirected) the targets $j \ge i$ or $j > i$.
+     */
+    static class PairSpace
+    {
+        final int n;
+        final boolean directed;
+        final boolean loops;
+
+        PairSpace(int n, boolean directed, boolean loops)
+        {
+            this.n = n;
+            this.directed = directed;
+            this.loops = loops;
+        }
+
+        /**
+         * Get the total number of possible edges.
+         *
+         * @return the total number of possible edges
+         */
+        long size()
+        {
+            long nl = n;
+            if (directed) {
+                return loops ? nl * nl : nl * (nl - 1);
+            } else {
+                return loops ? nl * (nl + 1) / 2 : nl * (nl - 1) / 2;
+            }
+        }
+
+        long rowLength(int i)
+        {
+            if (directed) {
+                return loops ? n : n - 1;
+            } else {
+                return loops ? n - i : n - i - 1;
+            }
+        }
+
+        int column(int i, long w)
+        {
+            if (directed) {
+                return (loops || w < i) ? (int) w : (int) w + 1;
+            } else {
+                return (int) (loops ? i + w : i + w + 1);
+            }
+        }
+
+        /**
+         * Compute the partition of the rows into blocks.
+         *
+         * @return the first row of each block followed by $n$
+         */
+        int[] blocks()
+        {
+            return vertexBlocks(n, !directed);
+        }
+
+        /**
+         * Include each possible edge of the rows $[from, to)$ independently with probability $p$,
+         * using geometric skips between the included edges.
+         *
+         * @param rng the random number generator
+         * @param p the probability
+         * @param from the first row
+         * @param to the last row (exclusive)
+         * @param consumer the consumer of the edges, or null in order to only count them
+         * @return the number of edges included
+         */
+        long sample(SplittableRandom rng, double p, int from, int to, EdgeConsumer consumer)
+        {
+            if (p <= 0d || from >= to) {
+                return 0;
+            }
+            double logq = Math.log1p(-p);
+            long count = 0;
+            int i = from;
+            long w = -1;
+            while (true) {
+                if (p < 1d) {
+                    double skip = Math.floor(Math.log1p(-rng.nextDouble()) / logq);
+                    w += 1 + (long) Math.min(skip, Integer.MAX_VALUE);
+                } else {
+                    w++;
+                }
+                while (i < to && w >= rowLength(i)) {
+                    w -= rowLength(i);
+                    i++;
+                }
+                if (i >= to) {
+                    return count;
+                }
+                count++;
+                if (consumer != null) {
+                    consumer.accept(i, column(i, w));
+                }
+            }
+        }
+    }
+
+    /**
+     * A task which runs a range of blocks, splitting the range recursively.
+     */
+    private static class BlockTask
+        extends RecursiveAction
+    {
+        private static final long serialVersionUID = -5328160296914128441L;
+
+        private final IntConsumer task;
+        private final int fromBlock;
+        private final int toBlock;
+
+        BlockTask(IntConsumer task, int fromBlock, int toBlock)
+        {
+            this.task = task;
+            this.fromBlock = fromBlock;
+            this.toBlock = toBlock;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (toBlock - fromBlock > 1) {
+                int mid = (fromBlock + toBlock) >>> 1;
+                invokeAll(new BlockTask(task, fromBlock, mid), new BlockTask(task, mid, toBlock));
+                return;
+            }
+            task.accept(fromBlock);
+        }
+    }
+
+}
+
+// End EdgeBlocks.java
@@ -17,10 +17,15 @@
  */
 package org.jgrapht.generate;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Random;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
 
 import org.jgrapht.Graph;
 
@@ -49,6 +54,11 @@ import org.jgrapht.Graph;
  * $\frac{n(n-1)}{2}$ while for directed $n(n-1)$.
  * 
  * <p>
+ * The method {@link #generateEdges(boolean, EdgeBlockSink, ForkJoinPool)} provides an alternative
+ * parallel mode which does not use a graph and does not need any lookups in order to avoid multiple
+ * edges.
+ * 
+ * <p>
  * For the $G(n, p)$ model please see {@link GnpRandomGraphGenerator}.
  *
  * @author Assaf Lehr
@@ -65,6 +75,7 @@ public class GnmRandomGraphGenerator<V, E>
 {
     private static final boolean DEFAULT_ALLOW_LOOPS = false;
     private static final boolean DEFAULT_ALLOW_MULTIPLE_EDGES = false;
+    private static final int EDGES_PER_BLOCK = 1 << 16;
 
     private final Random rng;
     private final int n;
@@ -236,6 +247,173 @@ public class GnmRandomGraphGenerator<V, E>
         }
     }
 
+    /**
+     * Generates the edges of a random graph based on the $G(n, M)$ model in parallel using the
+     * common pool. See {@link #generateEdges(boolean, EdgeBlockSink, ForkJoinPool)}.
+     * 
+     * @param directed whether to generate the edges of a directed graph
+     * @param sink the sink of the edges
+     */
+    public void generateEdges(boolean directed, EdgeBlockSink sink)
+    {
+        generateEdges(directed, sink, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Generates the edges of a random graph based on the $G(n, M)$ model in parallel. The vertices
+     * are the integers $0, \ldots, n-1$. In the undirected case without multiple edges each edge
+     * $\{i, j\}$ is reported once with $i \le j$.
+     * 
+     * <p>
+     * If multiple edges are allowed, the edges are split into blocks and each edge is chosen
+     * uniformly at random among all possible edges. Otherwise, each possible edge is first
+     * included independently with a probability slightly larger than $M$ over the number of
+     * possible edges, which is done in parallel over blocks of rows of the adjacency matrix. If
+     * at least $M$ edges are included, a uniformly random subset of the surplus edges is removed.
+     * Since conditioned on its size the sample is a uniformly random subset of the possible edges,
+     * the result is also uniform. The blocks are sampled twice, once for counting and once for
+     * producing the edges, which avoids storing them.
+     * 
+     * <p>
+     * The seed of the generation is drawn from the random number generator of this generator and
+     * each block of edges uses its own random number generator derived from it. Thus, for a
+     * generator constructed with a fixed seed, the first call produces the same edges in each
+     * block regardless of the parallelism of the pool. The produced edges differ from those of
+     * {@link #generateGraph(Graph, Map)} with the same seed.
+     * 
+     * @param directed whether to generate the edges of a directed graph
+     * @param sink the sink of the edges, see {@link EdgeBlockSink} for the threading requirements
+     * @param pool the pool to use
+     * @throws IllegalArgumentException if the number of edges, passed in the constructor, cannot be
+     *         created with the specified number of vertices
+     */
+    public void generateEdges(boolean directed, EdgeBlockSink sink, ForkJoinPool pool)
+    {
+        Objects.requireNonNull(sink, "Sink cannot be null");
+        Objects.requireNonNull(pool, "Pool cannot be null");
+
+        long seed = rng.nextLong();
+        if (m == 0) {
+            return;
+        }
+
+        if (multipleEdges) {
+            if (n == 0 || (n == 1 && !loops)) {
+                throw new IllegalArgumentException(
+                    "number of edges is not valid for " + n + " vertices without loops");
+            }
+            int blocks = (int) ((m + (long) EDGES_PER_BLOCK - 1) / EDGES_PER_BLOCK);
+            EdgeBlocks.run(pool, blocks, b -> {
+                SplittableRandom blockRng = EdgeBlocks.random(seed, b);
+                EdgeBlocks.EdgeBuffer buffer = new EdgeBlocks.EdgeBuffer(sink, b);
+                int count = Math.min(EDGES_PER_BLOCK, m - b * EDGES_PER_BLOCK);
+                for (int i = 0; i < count; i++) {
+                    int s, t;
+                    do {
+                        s = blockRng.nextInt(n);
+                        t = blockRng.nextInt(n);
+                    } while (!loops && s == t);
+                    buffer.accept(s, t);
+                }
+                buffer.flush();
+            });
+            return;
+        }
+
+        EdgeBlocks.PairSpace space = new EdgeBlocks.PairSpace(n, directed, loops);
+        long possible = space.size();
+        if (m > possible) {
+            throw new IllegalArgumentException(
+                "number of edges is not valid: " + m + " > " + possible + " possible edges");
+        }
+        int[] blocks = space.blocks();
+        int numBlocks = blocks.length - 1;
+        long[] counts = new long[numBlocks];
+
+        for (int attempt = 0;; attempt++) {
+            long attemptSeed = EdgeBlocks.hash(seed, attempt, -2);
+            double p = Math.min(1d, (m + (3d + attempt) * Math.sqrt(m) + 10d) / possible);
+
+            // count sampled edges per block
+            EdgeBlocks.run(
+                pool, numBlocks, b -> counts[b] = space.sample(
+                    EdgeBlocks.random(attemptSeed, b), p, blocks[b], blocks[b + 1], null));
+            long[] offsets = new long[numBlocks + 1];
+            for (int b = 0; b < numBlocks; b++) {
+                offsets[b + 1] = offsets[b] + counts[b];
+            }
+            long sampled = offsets[numBlocks];
+            if (sampled < m) {
+                continue;
+            }
+
+            // choose surplus and produce the remaining edges
+            long[] removed = sampleSorted(
+                new SplittableRandom(EdgeBlocks.hash(attemptSeed, -1, -3)), sampled,
+                sampled - m);
+            EdgeBlocks.run(pool, numBlocks, b -> {
+                EdgeBlocks.EdgeBuffer buffer = new EdgeBlocks.EdgeBuffer(sink, b);
+                space.sample(
+                    EdgeBlocks.random(attemptSeed, b), p, blocks[b], blocks[b + 1],
+                    new SkippingConsumer(buffer, removed, offsets[b]));
+                buffer.flush();
+            });
+            return;
+        }
+    }
+
+    /**
+     * Choose uniformly at random $k$ distinct values from $[0, n)$ using Floyd's algorithm.
+     * 
+     * @return the values in sorted order
+     */
+    private static long[] sampleSorted(SplittableRandom rng, long n, long k)
+    {
+        Set<Long> chosen = new HashSet<>();
+        for (long j = n - k; j < n; j++) {
+            long t = rng.nextLong(j + 1);
+            if (!chosen.add(t)) {
+                chosen.add(j);
+            }
+        }
+        long[] result = chosen.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * Forwards edges to a buffer except those at specific global positions.
+     */
+    private static class SkippingConsumer
+        implements
+        EdgeBlocks.EdgeConsumer
+    {
+        private final EdgeBlocks.EdgeConsumer delegate;
+        private final long[] skip;
+        private long position;
+        private int next;
+
+        SkippingConsumer(EdgeBlocks.EdgeConsumer delegate, long[] skip, long position)
+        {
+            this.delegate = delegate;
+            this.skip = skip;
+            this.position = position;
+            int index = Arrays.binarySearch(skip, position);
+            this.next = index >= 0 ? index : -index - 1;
+        }
+
+        @Override
+        public void accept(int source, int target)
+        {
+            if (next < skip.length && skip[next] == position) {
+                next++;
+            } else {
+                delegate.accept(source, target);
+            }
+            position++;
+        }
+    }
+
     /**
      * Return the number of allowed edges based on the graph type.
      * 
@@ -21,6 +21,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import org.jgrapht.Graph;
 
@@ -37,6 +38,12 @@ import org.jgrapht.Graph;
  * the generator is $O(n^2)$ where $n$ is the number of vertices.
  * 
  * <p>
+ * The method {@link #generateEdges(boolean, EdgeBlockSink, ForkJoinPool)} provides an alternative
+ * parallel mode which does not use a graph. The rows of the adjacency matrix are split into blocks
+ * which are sampled independently using geometric skips between consecutive edges, in time $O(n +
+ * m)$ where $m$ is the number of edges produced.
+ * 
+ * <p>
  * For the $G(n, M)$ model please see {@link GnmRandomGraphGenerator}.
  *
  * @author Dimitrios Michail
@@ -187,6 +194,50 @@ public class GnpRandomGraphGenerator<V, E>
 
     }
 
+    /**
+     * Generates the edges of a random graph based on the $G(n, p)$ model in parallel using the
+     * common pool. See {@link #generateEdges(boolean, EdgeBlockSink, ForkJoinPool)}.
+     * 
+     * @param directed whether to generate the edges of a directed graph
+     * @param sink the sink of the edges
+     */
+    public void generateEdges(boolean directed, EdgeBlockSink sink)
+    {
+        generateEdges(directed, sink, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Generates the edges of a random graph based on the $G(n, p)$ model in parallel. The vertices
+     * are the integers $0, \ldots, n-1$ and each possible edge is included with probability $p$.
+     * In the undirected case each edge $\{i, j\}$ is reported once with $i \le j$.
+     * 
+     * <p>
+     * The seed of the generation is drawn from the random number generator of this generator and
+     * each block of edges uses its own random number generator derived from it. Thus, for a
+     * generator constructed with a fixed seed, the first call produces the same edges in each
+     * block regardless of the parallelism of the pool. The produced edges differ from those of
+     * {@link #generateGraph(Graph, Map)} with the same seed.
+     * 
+     * @param directed whether to generate the edges of a directed graph
+     * @param sink the sink of the edges, see {@link EdgeBlockSink} for the threading requirements
+     * @param pool the pool to use
+     */
+    public void generateEdges(boolean directed, EdgeBlockSink sink, ForkJoinPool pool)
+    {
+        Objects.requireNonNull(sink, "Sink cannot be null");
+        Objects.requireNonNull(pool, "Pool cannot be null");
+
+        long seed = rng.nextLong();
+        EdgeBlocks.PairSpace space = new EdgeBlocks.PairSpace(n, directed, createLoops);
+        int[] blocks = space.blocks();
+
+        EdgeBlocks.run(pool, blocks.length - 1, b -> {
+            EdgeBlocks.EdgeBuffer buffer = new EdgeBlocks.EdgeBuffer(sink, b);
+            space.sample(EdgeBlocks.random(seed, b), p, blocks[b], blocks[b + 1], buffer);
+            buffer.flush();
+        });
+    }
+
 }
 
 // End GnpRandomGraphGenerator.java
@@ -18,6 +18,7 @@
 package org.jgrapht.generate;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.jgrapht.*;
 
@@ -57,6 +58,10 @@ import org.jgrapht.*;
  * Renormalization group analysis of the small-world network model, Physics Letters A, 263, 341,
  * 1999.
  * 
+ * <p>
+ * The method {@link #generateEdges(boolean, EdgeBlockSink, ForkJoinPool)} provides an alternative
+ * parallel mode which does not use a graph.
+ * 
  * @author Dimitrios Michail
  * @since February 2017
  * 
@@ -197,4 +202,117 @@ public class WattsStrogatzGraphGenerator<V, E>
 
     }
 
+    /**
+     * Generates the edges of a small-world graph in parallel using the common pool. See
+     * {@link #generateEdges(boolean, EdgeBlockSink, ForkJoinPool)}.
+     * 
+     * @param directed whether to generate the edges of a directed graph
+     * @param sink the sink of the edges
+     */
+    public void generateEdges(boolean directed, EdgeBlockSink sink)
+    {
+        generateEdges(directed, sink, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Generates the edges of a small-world graph in parallel. The vertices are the integers $0,
+     * \ldots, n-1$ placed on a ring in that order.
+     * 
+     * <p>
+     * Instead of performing the rewiring laps sequentially, the decision whether to rewire each
+     * lattice edge $(i, i+j)$ and the new endpoint are computed by hashing the edge together with
+     * the seed. Since the current graph is not available, a rewiring is rejected if the new
+     * endpoint is $i$ itself, is within distance $k/2$ of $i$ on the ring, or duplicates a rewired
+     * edge of $i$. In the undirected case it is also rejected if the new endpoint is a smaller
+     * vertex which decided to rewire one of its own edges towards $i$. Therefore no multiple edges
+     * are produced and every vertex can be processed independently.
+     * 
+     * <p>
+     * The seed of the generation is drawn from the random number generator of this generator.
+     * Thus, for a generator constructed with a fixed seed, the first call produces the same edges
+     * in each block regardless of the parallelism of the pool.
+     * 
+     * @param directed whether to generate the edges of a directed graph
+     * @param sink the sink of the edges, see {@link EdgeBlockSink} for the threading requirements
+     * @param pool the pool to use
+     */
+    public void generateEdges(boolean directed, EdgeBlockSink sink, ForkJoinPool pool)
+    {
+        Objects.requireNonNull(sink, "Sink cannot be null");
+        Objects.requireNonNull(pool, "Pool cannot be null");
+
+        long seed = rng.nextLong();
+        int half = k / 2;
+        int[] blocks = EdgeBlocks.vertexBlocks(n, false);
+        EdgeBlocks.run(pool, blocks.length - 1, b -> {
+            EdgeBlocks.EdgeBuffer buffer = new EdgeBlocks.EdgeBuffer(sink, b);
+            int[] rewired = new int[half];
+            for (int i = blocks[b]; i < blocks[b + 1]; i++) {
+                int count = 0;
+                for (int j = 1; j <= half; j++) {
+                    int other = rewiredTarget(seed, i, j);
+                    if (other != -1 && !isLatticeNeighbor(i, other, directed)
+                        && !contains(rewired, count, other)
+                        && (directed || other > i || !rewiresTowards(seed, other, i)))
+                    {
+                        rewired[count++] = other;
+                        if (addInsteadOfRewire) {
+                            buffer.accept(i, (i + j) % n);
+                        }
+                        buffer.accept(i, other);
+                    } else {
+                        buffer.accept(i, (i + j) % n);
+                    }
+                }
+            }
+            buffer.flush();
+        });
+    }
+
+    /**
+     * Get the new endpoint of lattice edge $(i, i+j)$ if the edge is chosen for rewiring.
+     * 
+     * @return the new endpoint or -1 if the edge is not chosen for rewiring
+     */
+    private int rewiredTarget(long seed, int i, int j)
+    {
+        long edge = (long) i * (k / 2) + j - 1;
+        if (EdgeBlocks.toDouble(EdgeBlocks.hash(seed, edge, 0)) >= p) {
+            return -1;
+        }
+        return (int) EdgeBlocks.toRange(EdgeBlocks.hash(seed, edge, 1), n);
+    }
+
+    /**
+     * Find whether some lattice edge of vertex $u$ is chosen for rewiring towards vertex $v$.
+     */
+    private boolean rewiresTowards(long seed, int u, int v)
+    {
+        for (int j = 1; j <= k / 2; j++) {
+            if (rewiredTarget(seed, u, j) == v) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isLatticeNeighbor(int i, int other, boolean directed)
+    {
+        int d = Math.floorMod(other - i, n);
+        if (!directed) {
+            d = Math.min(d, n - d);
+        }
+        return d <= k / 2;
+    }
+
+    private static boolean contains(int[] values, int size, int value)
+    {
+        for (int i = 0; i < size; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
 }
@@ -331,6 +331,65 @@ public abstract class AbstractBaseGraph<V, E>
         return false;
     }
 
+    /**
+     * Adds the specified edge to this graph, going from the source vertex to the target vertex,
+     * without validating it against the graph type. The source and target vertices are added to
+     * the graph, if not already included. Contrary to {@link #addEdge(Object, Object, Object)},
+     * this method does not check whether the edge is a self-loop or whether another edge already
+     * connects the two vertices. It is intended for loading large inputs which are known to be
+     * valid. Adding an edge which violates the graph type results in a graph which does not
+     * conform to its type.
+     * 
+     * @param sourceVertex source vertex of the edge
+     * @param targetVertex target vertex of the edge
+     * @param e edge to be added to this graph
+     * @return true if this graph did not already contain the specified edge
+     * 
+     * @see org.jgrapht.graph.builder.BulkGraphBuilder
+     */
+    public boolean addEdgeUnchecked(V sourceVertex, V targetVertex, E e)
+    {
+        if (sourceVertex == null || targetVertex == null || e == null) {
+            throw new NullPointerException();
+        }
+
+        if (intrusiveEdgesSpecifics.containsEdge(e)) {
+            return false;
+        }
+
+        specifics.addVertex(sourceVertex);
+        specifics.addVertex(targetVertex);
+
+        if (intrusiveEdgesSpecifics.add(e, sourceVertex, targetVertex)) {
+            specifics.addEdgeToTouchingVertices(e);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Prepare the internal data structures of this graph for the given number of vertices and
+     * edges, in order to avoid repeated resizing when loading a large graph. The method has no
+     * effect if the graph already contains vertices. Vertex or edge set views obtained before
+     * calling this method should not be used afterwards.
+     * 
+     * @param vertexCount the expected number of vertices
+     * @param edgeCount the expected number of edges
+     * @throws IllegalArgumentException if any of the counts is negative
+     */
+    public void ensureCapacity(int vertexCount, int edgeCount)
+    {
+        if (vertexCount < 0 || edgeCount < 0) {
+            throw new IllegalArgumentException("Expected counts must be non-negative");
+        }
+        if (!specifics.getVertexSet().isEmpty()) {
+            return;
+        }
+        specifics.ensureCapacity(vertexCount, edgeCount);
+        intrusiveEdgesSpecifics.ensureCapacity(edgeCount);
+        unmodifiableVertexSet = null;
+    }
+
     @Override
     public V addVertex()
     {
@@ -74,6 +74,20 @@ public abstract class BaseIntrusiveEdgesSpecifics<V, E, IE extends IntrusiveEdge
         return unmodifiableEdgeSet;
     }
 
+    /**
+     * Prepare the internal data structures for the given number of edges. The edge map is replaced
+     * by a pre-sized {@link LinkedHashMap} if it is an empty {@link LinkedHashMap}.
+     * 
+     * @param edgeCount the expected number of edges
+     */
+    public void ensureCapacity(int edgeCount)
+    {
+        if (edgeMap.isEmpty() && edgeMap.getClass() == LinkedHashMap.class) {
+            edgeMap = CollectionUtil.newLinkedHashMapWithExpectedSize(edgeCount);
+            unmodifiableEdgeSet = null;
+        }
+    }
+
     /**
      * Remove an edge.
      * 
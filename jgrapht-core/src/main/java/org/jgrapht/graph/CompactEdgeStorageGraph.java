@@ -0,0 +1,88 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph;
+
+import java.util.function.*;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.builder.*;
+import org.jgrapht.graph.specifics.*;
+
+/**
+ * A graph implementation which trades some lookup speed for a smaller memory footprint.
+ *
+ * <p>
+ * The graph stores its edges using {@link CompactIntrusiveEdgesSpecifics} which avoids the
+ * per-edge map entries of the default implementation. Moreover, it does not maintain the
+ * additional index from vertex pairs to edges which the default graph implementations use in order
+ * to support fast edge lookups. As a result, methods such as {@link #getEdge(Object, Object)} and
+ * {@link #containsEdge(Object, Object)} run in time proportional to the degree of the vertices
+ * involved. When self-loops or multiple edges are not allowed, the same holds for adding an edge.
+ *
+ * <p>
+ * Any graph type besides mixed graphs is supported. The easiest way to construct such a graph is
+ * using the {@link GraphTypeBuilder#compactEdgeStorage(boolean)} option.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+public class CompactEdgeStorageGraph<V, E>
+    extends AbstractBaseGraph<V, E>
+{
+    private static final long serialVersionUID = -2817473652402189154L;
+
+    /**
+     * Create a new graph.
+     *
+     * @param vertexSupplier the vertex supplier, can be null
+     * @param edgeSupplier the edge supplier, can be null
+     * @param type the graph type
+     * @throws IllegalArgumentException if the graph type is mixed
+     */
+    public CompactEdgeStorageGraph(
+        Supplier<V> vertexSupplier, Supplier<E> edgeSupplier, GraphType type)
+    {
+        super(vertexSupplier, edgeSupplier, type);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Specifics<V, E> createSpecifics(boolean directed)
+    {
+        if (directed) {
+            return new DirectedSpecifics<>(this);
+        } else {
+            return new UndirectedSpecifics<>(this);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected IntrusiveEdgesSpecifics<V, E> createIntrusiveEdgesSpecifics(boolean weighted)
+    {
+        return new CompactIntrusiveEdgesSpecifics<>(weighted);
+    }
+}
+
+// End CompactEdgeStorageGraph.java
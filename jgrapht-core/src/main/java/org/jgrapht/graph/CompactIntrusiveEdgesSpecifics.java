@@ -0,0 +1,386 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph;
+
+import java.io.*;
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.util.*;
+
+/**
+ * A memory efficient variant of the intrusive edges specifics.
+ *
+ * <p>
+ * Instead of a {@link LinkedHashMap} from edges to intrusive edges, the edges are stored densely in
+ * an array and are located using an open-addressing hash table of primitive integer indices with
+ * linear probing. No objects are allocated per edge. Similarly to
+ * {@link UniformIntrusiveEdgesSpecifics} and {@link WeightedIntrusiveEdgesSpecifics}, the source,
+ * target and weight of {@link DefaultEdge} and {@link DefaultWeightedEdge} instances are stored
+ * inside the edges themselves. For other custom user edge types they are stored in parallel arrays
+ * which are only allocated once the first such edge is added.
+ *
+ * <p>
+ * The edge set iterates over the edges in insertion order as long as no edge is removed. Removing
+ * an edge moves the last edge into its position.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+public class CompactIntrusiveEdgesSpecifics<V, E>
+    implements
+    IntrusiveEdgesSpecifics<V, E>
+{
+    private static final long serialVersionUID = 2478327914328792157L;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final boolean weighted;
+
+    private Object[] edges;
+    private Object[] sources;
+    private Object[] targets;
+    private double[] weights;
+    private int size;
+
+    /*
+     * Open-addressing hash table with linear probing, holds the index of an edge plus one or zero
+     * for an empty slot. The load factor is kept at most 3/4. The slots depend on the hash codes
+     * of the edges, which may change after deserialization, thus the table is rebuilt.
+     */
+    private transient int[] table;
+    private transient int mask;
+
+    private transient Set<E> unmodifiableEdgeSet = null;
+
+    /**
+     * Constructor
+     *
+     * @param weighted whether the edges support weights
+     */
+    public CompactIntrusiveEdgesSpecifics(boolean weighted)
+    {
+        this.weighted = weighted;
+        this.edges = new Object[INITIAL_CAPACITY];
+        this.size = 0;
+        this.table = new int[2 * INITIAL_CAPACITY];
+        this.mask = table.length - 1;
+    }
+
+    @Override
+    public V getEdgeSource(E e)
+    {
+        if (isInline(e)) {
+            return TypeUtil.uncheckedCast(((IntrusiveEdge) e).source);
+        }
+        return TypeUtil.uncheckedCast(sources[getIndex(e)]);
+    }
+
+    @Override
+    public V getEdgeTarget(E e)
+    {
+        if (isInline(e)) {
+            return TypeUtil.uncheckedCast(((IntrusiveEdge) e).target);
+        }
+        return TypeUtil.uncheckedCast(targets[getIndex(e)]);
+    }
+
+    @Override
+    public boolean add(E e, V sourceVertex, V targetVertex)
+    {
+        if (indexOf(e) != -1) {
+            return false;
+        }
+        if (size == edges.length) {
+            grow();
+        }
+        if ((size + 1) * 4L > table.length * 3L) {
+            rehash(table.length * 2);
+        }
+
+        int index = size++;
+        edges[index] = e;
+        if (isInline(e)) {
+            IntrusiveEdge ie = (IntrusiveEdge) e;
+            ie.source = sourceVertex;
+            ie.target = targetVertex;
+        } else {
+            if (sources == null) {
+                sources = new Object[edges.length];
+                targets = new Object[edges.length];
+                if (weighted) {
+                    weights = new double[edges.length];
+                }
+            }
+            sources[index] = sourceVertex;
+            targets[index] = targetVertex;
+            if (weighted) {
+                weights[index] = Graph.DEFAULT_EDGE_WEIGHT;
+            }
+        }
+
+        int pos = hash(e) & mask;
+        while (table[pos] != 0) {
+            pos = (pos + 1) & mask;
+        }
+        table[pos] = index + 1;
+        return true;
+    }
+
+    @Override
+    public boolean containsEdge(E e)
+    {
+        return indexOf(e) != -1;
+    }
+
+    @Override
+    public Set<E> getEdgeSet()
+    {
+        if (unmodifiableEdgeSet == null) {
+            unmodifiableEdgeSet = new EdgeSet();
+        }
+        return unmodifiableEdgeSet;
+    }
+
+    @Override
+    public void remove(E e)
+    {
+        int pos = positionOf(e);
+        if (pos == -1) {
+            return;
+        }
+        int index = table[pos] - 1;
+        deletePosition(pos);
+
+        // move last edge into the freed index
+        int last = size - 1;
+        if (index != last) {
+            int lastPos = hash(edges[last]) & mask;
+            while (table[lastPos] != last + 1) {
+                lastPos = (lastPos + 1) & mask;
+            }
+            table[lastPos] = index + 1;
+            edges[index] = edges[last];
+            if (sources != null) {
+                sources[index] = sources[last];
+                targets[index] = targets[last];
+                if (weights != null) {
+                    weights[index] = weights[last];
+                }
+            }
+        }
+        edges[last] = null;
+        if (sources != null) {
+            sources[last] = null;
+            targets[last] = null;
+        }
+        size--;
+    }
+
+    @Override
+    public double getEdgeWeight(E e)
+    {
+        if (!weighted) {
+            return Graph.DEFAULT_EDGE_WEIGHT;
+        }
+        if (isInline(e)) {
+            return ((IntrusiveWeightedEdge) e).weight;
+        }
+        return weights[getIndex(e)];
+    }
+
+    @Override
+    public void setEdgeWeight(E e, double weight)
+    {
+        if (!weighted) {
+            throw new UnsupportedOperationException();
+        }
+        if (isInline(e)) {
+            ((IntrusiveWeightedEdge) e).weight = weight;
+        } else {
+            weights[getIndex(e)] = weight;
+        }
+    }
+
+    @Override
+    public void ensureCapacity(int edgeCount)
+    {
+        if (edgeCount > edges.length) {
+            edges = Arrays.copyOf(edges, edgeCount);
+            if (sources != null) {
+                sources = Arrays.copyOf(sources, edgeCount);
+                targets = Arrays.copyOf(targets, edgeCount);
+                if (weights != null) {
+                    weights = Arrays.copyOf(weights, edgeCount);
+                }
+            }
+        }
+        long tableSize = table.length;
+        while (edgeCount * 4L > tableSize * 3L) {
+            tableSize *= 2;
+        }
+        if (tableSize > table.length && tableSize <= Integer.MAX_VALUE) {
+            rehash((int) tableSize);
+        }
+    }
+
+    /**
+     * Whether the source, target and weight of an edge are stored inside the edge.
+     */
+    private boolean isInline(Object e)
+    {
+        return weighted ? e instanceof IntrusiveWeightedEdge : e instanceof IntrusiveEdge;
+    }
+
+    private int getIndex(E e)
+    {
+        int index = indexOf(e);
+        if (index == -1) {
+            throw new IllegalArgumentException("no such edge in graph: " + e.toString());
+        }
+        return index;
+    }
+
+    private int indexOf(Object e)
+    {
+        int pos = positionOf(e);
+        return pos == -1 ? -1 : table[pos] - 1;
+    }
+
+    private int positionOf(Object e)
+    {
+        int pos = hash(e) & mask;
+        while (true) {
+            int slot = table[pos];
+            if (slot == 0) {
+                return -1;
+            }
+            if (e.equals(edges[slot - 1])) {
+                return pos;
+            }
+            pos = (pos + 1) & mask;
+        }
+    }
+
+    /**
+     * Empty a position of the hash table, shifting back any following entries of the same probe
+     * sequence.
+     */
+    private void deletePosition(int pos)
+    {
+        int hole = pos;
+        int next = (hole + 1) & mask;
+        while (table[next] != 0) {
+            int home = hash(edges[table[next] - 1]) & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                table[hole] = table[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        table[hole] = 0;
+    }
+
+    private void grow()
+    {
+        int capacity = edges.length * 2;
+        edges = Arrays.copyOf(edges, capacity);
+        if (sources != null) {
+            sources = Arrays.copyOf(sources, capacity);
+            targets = Arrays.copyOf(targets, capacity);
+            if (weights != null) {
+                weights = Arrays.copyOf(weights, capacity);
+            }
+        }
+    }
+
+    private void rehash(int tableSize)
+    {
+        table = new int[tableSize];
+        mask = tableSize - 1;
+        for (int i = 0; i < size; i++) {
+            int pos = hash(edges[i]) & mask;
+            while (table[pos] != 0) {
+                pos = (pos + 1) & mask;
+            }
+            table[pos] = i + 1;
+        }
+    }
+
+    private void readObject(ObjectInputStream in)
+        throws IOException, ClassNotFoundException
+    {
+        in.defaultReadObject();
+        int tableSize = 2 * INITIAL_CAPACITY;
+        while (size * 4L > tableSize * 3L) {
+            tableSize *= 2;
+        }
+        rehash(tableSize);
+    }
+
+    private static int hash(Object e)
+    {
+        int h = e.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * An unmodifiable view of the edges.
+     */
+    private class EdgeSet
+        extends AbstractSet<E>
+    {
+        @Override
+        public Iterator<E> iterator()
+        {
+            return new Iterator<E>()
+            {
+                private int next = 0;
+
+                @Override
+                public boolean hasNext()
+                {
+                    return next < size;
+                }
+
+                @Override
+                public E next()
+                {
+                    if (next >= size) {
+                        throw new NoSuchElementException();
+                    }
+                    return TypeUtil.uncheckedCast(edges[next++]);
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return o != null && indexOf(o) != -1;
+        }
+    }
+}
@@ -361,6 +361,23 @@ public class DirectedAcyclicGraph<V, E>
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>
+     * In order to maintain the topological order this implementation always performs the checks of
+     * {@link #addEdge(Object, Object, Object)}.
+     *
+     * @throws IllegalArgumentException if the edge would induce a cycle in the graph
+     */
+    @Override
+    public boolean addEdgeUnchecked(V sourceVertex, V targetVertex, E e)
+    {
+        addVertex(sourceVertex);
+        addVertex(targetVertex);
+        return addEdge(sourceVertex, targetVertex, e);
+    }
+
     /**
      * Get the ancestors of a vertex.
      *
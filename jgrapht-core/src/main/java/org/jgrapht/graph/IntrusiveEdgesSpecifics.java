@@ -99,4 +99,14 @@ public interface IntrusiveEdgesSpecifics<V, E>
      * @param weight the new weight
      */
     void setEdgeWeight(E e, double weight);
+
+    /**
+     * Prepare the internal data structures for the given number of edges, in order to avoid
+     * repeated resizing when loading a large graph. Implementations may ignore this hint.
+     * 
+     * @param edgeCount the expected number of edges
+     */
+    default void ensureCapacity(int edgeCount)
+    {
+    }
 }
@@ -0,0 +1,285 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph.builder;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+
+/**
+ * A builder for loading a large number of vertices and edges into a graph.
+ *
+ * <p>
+ * The builder accepts batches of vertices and edges. When the graph is an {@link AbstractBaseGraph}
+ * its internal data structures are pre-sized using the expected number of vertices and edges, and
+ * the edges are inserted using {@link AbstractBaseGraph#addEdgeUnchecked(Object, Object, Object)}
+ * which skips the per-edge checks for self-loops and multiple edges. Those checks are instead
+ * performed once for the whole graph by {@link #build()}, unless disabled using
+ * {@link #validateOnBuild(boolean)}. For other graph implementations the edges are added using the
+ * usual graph methods.
+ *
+ * <p>
+ * The following example loads an edge list into a simple graph:
+ *
+ * <pre>
+ * Graph&lt;Integer, DefaultEdge&gt; g = GraphTypeBuilder
+ *     .&lt;Integer, DefaultEdge&gt; undirected().edgeClass(DefaultEdge.class)
+ *     .buildBulkGraphBuilder(n, m).addEdgeBatch(sources, targets).build();
+ * </pre>
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ * @param <G> type of the resulting graph
+ *
+ * @author agent
+ * @see GraphTypeBuilder#buildBulkGraphBuilder(int, int)
+ */
+public class BulkGraphBuilder<V, E, G extends Graph<V, E>>
+    extends AbstractGraphBuilder<V, E, G, BulkGraphBuilder<V, E, G>>
+{
+    private final AbstractBaseGraph<V, E> baseGraph;
+    private boolean validateOnBuild;
+
+    /**
+     * Creates a builder based on {@code graph}. The graph must be mutable and should be empty in
+     * order to benefit from the expected counts.
+     *
+     * @param graph the graph object to base building on
+     * @param expectedVertexCount the expected number of vertices
+     * @param expectedEdgeCount the expected number of edges
+     * @throws IllegalArgumentException if any of the counts is negative
+     */
+    public BulkGraphBuilder(G graph, int expectedVertexCount, int expectedEdgeCount)
+    {
+        super(Objects.requireNonNull(graph, "Graph cannot be null"));
+        if (expectedVertexCount < 0 || expectedEdgeCount < 0) {
+            throw new IllegalArgumentException("Expected counts must be non-negative");
+        }
+        if (graph instanceof AbstractBaseGraph) {
+            this.baseGraph = (AbstractBaseGraph<V, E>) graph;
+            this.baseGraph.ensureCapacity(expectedVertexCount, expectedEdgeCount);
+        } else {
+            this.baseGraph = null;
+        }
+        this.validateOnBuild = true;
+    }
+
+    @Override
+    protected BulkGraphBuilder<V, E, G> self()
+    {
+        return this;
+    }
+
+    /**
+     * Set whether to validate, when building, that the graph contains no self-loops or multiple
+     * edges unless allowed by its type. The default is true. Disable only if the input is known to
+     * be valid.
+     *
+     * @param validateOnBuild whether to validate the graph when building
+     * @return this builder object
+     */
+    public BulkGraphBuilder<V, E, G> validateOnBuild(boolean validateOnBuild)
+    {
+        this.validateOnBuild = validateOnBuild;
+        return this;
+    }
+
+    /**
+     * Adds a batch of vertices to the graph being built.
+     *
+     * @param vertices the vertices to add
+     * @return this builder object
+     */
+    public BulkGraphBuilder<V, E, G> addVertexBatch(Collection<? extends V> vertices)
+    {
+        for (V v : vertices) {
+            graph.addVertex(v);
+        }
+        return this;
+    }
+
+    /**
+     * Adds a stream of vertices to the graph being built. The stream is consumed sequentially.
+     *
+     * @param vertices the vertices to add
+     * @return this builder object
+     */
+    public BulkGraphBuilder<V, E, G> addVertexBatch(Stream<? extends V> vertices)
+    {
+        vertices.sequential().forEachOrdered(graph::addVertex);
+        return this;
+    }
+
+    /**
+     * Adds a batch of edges to the graph being built, using the edge supplier of the graph. The
+     * $i$-th edge connects {@code sources[i]} with {@code targets[i]}. Vertices are added to the
+     * graph, if not already included.
+     *
+     * @param sources the source vertices
+     * @param targets the target vertices
+     * @return this builder object
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws UnsupportedOperationException if the graph contains no edge supplier
+     */
+    public BulkGraphBuilder<V, E, G> addEdgeBatch(V[] sources, V[] targets)
+    {
+        if (sources.length != targets.length) {
+            throw new IllegalArgumentException("Arrays must have the same length");
+        }
+        Supplier<E> edgeSupplier = getEdgeSupplier();
+        for (int i = 0; i < sources.length; i++) {
+            addEdgeUnchecked(sources[i], targets[i], edgeSupplier.get());
+        }
+        return this;
+    }
+
+    /**
+     * Adds a batch of weighted edges to the graph being built, using the edge supplier of the
+     * graph. The $i$-th edge connects {@code sources[i]} with {@code targets[i]} and has weight
+     * {@code weights[i]}. Vertices are added to the graph, if not already included.
+     *
+     * @param sources the source vertices
+     * @param targets the target vertices
+     * @param weights the edge weights
+     * @return this builder object
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws UnsupportedOperationException if the graph contains no edge supplier or is not
+     *         weighted
+     */
+    public BulkGraphBuilder<V, E, G> addEdgeBatch(V[] sources, V[] targets, double[] weights)
+    {
+        if (sources.length != targets.length || sources.length != weights.length) {
+            throw new IllegalArgumentException("Arrays must have the same length");
+        }
+        Supplier<E> edgeSupplier = getEdgeSupplier();
+        for (int i = 0; i < sources.length; i++) {
+            E e = edgeSupplier.get();
+            addEdgeUnchecked(sources[i], targets[i], e);
+            graph.setEdgeWeight(e, weights[i]);
+        }
+        return this;
+    }
+
+    /**
+     * Adds a stream of edges, given as pairs of source and target vertices, to the graph being
+     * built using the edge supplier of the graph. Vertices are added to the graph, if not already
+     * included. The stream is consumed sequentially.
+     *
+     * @param edges the edges to add
+     * @return this builder object
+     * @throws UnsupportedOperationException if the graph contains no edge supplier
+     */
+    public BulkGraphBuilder<V, E, G> addEdgeBatch(Stream<Pair<V, V>> edges)
+    {
+        Supplier<E> edgeSupplier = getEdgeSupplier();
+        edges.sequential().forEachOrdered(
+            p -> addEdgeUnchecked(p.getFirst(), p.getSecond(), edgeSupplier.get()));
+        return this;
+    }
+
+    /**
+     * Validate the graph, unless disabled, and return it. Calling any method (including this
+     * method) on this builder object after calling this method is undefined behaviour.
+     *
+     * @return the built graph
+     * @throws IllegalArgumentException if the graph contains a self-loop or multiple edges while
+     *         its type does not allow them
+     */
+    @Override
+    public G build()
+    {
+        if (validateOnBuild) {
+            validate();
+        }
+        return super.build();
+    }
+
+    /**
+     * Validate the graph, unless disabled, and return an unmodifiable version of it. Calling any
+     * method (including this method) on this builder object after calling this method is undefined
+     * behaviour.
+     *
+     * @return the built unmodifiable graph
+     * @throws IllegalArgumentException if the graph contains a self-loop or multiple edges while
+     *         its type does not allow them
+     */
+    @Override
+    public Graph<V, E> buildAsUnmodifiable()
+    {
+        if (validateOnBuild) {
+            validate();
+        }
+        return super.buildAsUnmodifiable();
+    }
+
+    private Supplier<E> getEdgeSupplier()
+    {
+        Supplier<E> edgeSupplier = graph.getEdgeSupplier();
+        if (edgeSupplier == null) {
+            throw new UnsupportedOperationException("The graph contains no edge supplier");
+        }
+        return edgeSupplier;
+    }
+
+    private void addEdgeUnchecked(V source, V target, E e)
+    {
+        if (baseGraph != null) {
+            baseGraph.addEdgeUnchecked(source, target, e);
+        } else {
+            graph.addVertex(source);
+            graph.addVertex(target);
+            graph.addEdge(source, target, e);
+        }
+    }
+
+    /**
+     * Check in a single pass over the graph that it contains no self-loops or multiple edges,
+     * unless allowed by its type.
+     */
+    private void validate()
+    {
+        GraphType type = graph.getType();
+        boolean checkLoops = !type.isAllowingSelfLoops();
+        boolean checkMultipleEdges = !type.isAllowingMultipleEdges();
+        if (!checkLoops && !checkMultipleEdges) {
+            return;
+        }
+
+        Set<V> neighbors = new HashSet<>();
+        for (V v : graph.vertexSet()) {
+            neighbors.clear();
+            Set<E> edges = type.isDirected() ? graph.outgoingEdgesOf(v) : graph.edgesOf(v);
+            for (E e : edges) {
+                V u = Graphs.getOppositeVertex(graph, e, v);
+                if (checkLoops && u.equals(v)) {
+                    throw new IllegalArgumentException("loops not allowed: " + e);
+                }
+                if (checkMultipleEdges && !neighbors.add(u)) {
+                    throw new IllegalArgumentException("multiple edges not allowed: " + e);
+                }
+            }
+        }
+    }
+
+}
+
+// End BulkGraphBuilder.java
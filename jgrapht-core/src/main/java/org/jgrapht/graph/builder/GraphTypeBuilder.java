@@ -21,6 +21,7 @@ import java.util.function.Supplier;
 
 import org.jgrapht.Graph;
 import org.jgrapht.GraphType;
+import org.jgrapht.graph.CompactEdgeStorageGraph;
 import org.jgrapht.graph.DefaultDirectedGraph;
 import org.jgrapht.graph.DefaultDirectedWeightedGraph;
 import org.jgrapht.graph.DefaultGraphType;
@@ -96,6 +97,7 @@ public final class GraphTypeBuilder<V, E>
     private boolean weighted;
     private boolean allowingMultipleEdges;
     private boolean allowingSelfLoops;
+    private boolean compactEdgeStorage;
     private Supplier<V> vertexSupplier;
     private Supplier<E> edgeSupplier;
 
@@ -106,6 +108,7 @@ public final class GraphTypeBuilder<V, E>
         this.weighted = false;
         this.allowingMultipleEdges = false;
         this.allowingSelfLoops = false;
+        this.compactEdgeStorage = false;
     }
 
     /**
@@ -215,6 +218,20 @@ public final class GraphTypeBuilder<V, E>
         return this;
     }
 
+    /**
+     * Set whether the graph will use a compact edge storage backend. Such a graph uses less memory
+     * per edge at the expense of slower edge lookups between two vertices. See
+     * {@link CompactEdgeStorageGraph} for details.
+     * 
+     * @param compactEdgeStorage if true the graph will use a compact edge storage backend
+     * @return the graph type builder
+     */
+    public GraphTypeBuilder<V, E> compactEdgeStorage(boolean compactEdgeStorage)
+    {
+        this.compactEdgeStorage = compactEdgeStorage;
+        return this;
+    }
+
     /**
      * Set the vertex supplier.
      * 
@@ -301,6 +318,22 @@ public final class GraphTypeBuilder<V, E>
         return new GraphBuilder<V, E, Graph<V, E>>(buildGraph());
     }
 
+    /**
+     * Build the graph and acquire a {@link BulkGraphBuilder} in order to load a large number of
+     * vertices and edges. The internal data structures of the graph are pre-sized using the
+     * expected counts.
+     * 
+     * @param expectedVertexCount the expected number of vertices
+     * @param expectedEdgeCount the expected number of edges
+     * @return a bulk graph builder
+     */
+    public BulkGraphBuilder<V, E, Graph<V, E>> buildBulkGraphBuilder(
+        int expectedVertexCount, int expectedEdgeCount)
+    {
+        return new BulkGraphBuilder<V, E, Graph<V, E>>(
+            buildGraph(), expectedVertexCount, expectedEdgeCount);
+    }
+
     /**
      * Build the actual graph.
      * 
@@ -311,6 +344,8 @@ public final class GraphTypeBuilder<V, E>
     {
         if (directed && undirected) {
             throw new UnsupportedOperationException("Mixed graphs are not supported");
+        } else if (compactEdgeStorage) {
+            return new CompactEdgeStorageGraph<>(vertexSupplier, edgeSupplier, buildType());
         } else if (directed) {
             if (allowingSelfLoops && allowingMultipleEdges) {
                 if (weighted) {
@@ -0,0 +1,828 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph.concurrent;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.locks.*;
+import java.util.function.*;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+
+/**
+ * Create a thread-safe Graph backed by the specified Graph, which uses optimistic reads.
+ *
+ * <p>
+ * Similar to {@link AsSynchronizedGraph}, writes are mutually exclusive with each other and with
+ * reads. The difference is in the way reads are performed. Instead of acquiring a read lock, which
+ * requires an atomic update of shared state and becomes a point of contention when many threads
+ * read the graph, queries first execute optimistically using a {@link StampedLock} stamp. After the
+ * query finishes the stamp is validated, and only if a write happened in the meantime the query is
+ * repeated while holding the read lock. A read-mostly workload therefore performs no writes to
+ * shared memory at all.
+ *
+ * <p>
+ * Optimistic reads are used by <code>containsVertex</code>, <code>containsEdge(E)</code>,
+ * <code>getEdgeSource</code>, <code>getEdgeTarget</code>, <code>getEdgeWeight</code> and the size
+ * and membership queries of the vertex and edge sets, which perform constant time lookups. They
+ * are also used by the queries on the edges of a vertex, that is <code>getEdge</code>,
+ * <code>getAllEdges</code>, <code>containsEdge(V, V)</code>, <code>edgesOf</code>,
+ * <code>incomingEdgesOf</code>, <code>outgoingEdgesOf</code> and the degree queries. These copy
+ * the edges of the vertex, together with their endpoints when needed, into a local array and
+ * compute the result from the copy only after it has been validated. The copy performs at most as
+ * many steps as the size of the edge set at the start of the read, thus a concurrent write can
+ * neither make it loop nor produce a partially updated result. As a consequence
+ * <code>getEdge</code> takes time linear in the degree of the source vertex, even if the backing
+ * graph supports faster lookups. For graphs which are neither directed nor undirected,
+ * <code>getEdge</code>, <code>getAllEdges</code>, <code>containsEdge(V, V)</code> and the degree
+ * queries are executed while holding the read lock. The same holds for all remaining reads, such
+ * as <code>equals</code> and the iterators of the vertex and edge sets, which traverse the backing
+ * collections.
+ *
+ * <p>
+ * Since an optimistic read may observe the backing graph in an inconsistent state, its result is
+ * discarded whenever validation fails. This includes any runtime exception thrown by the backing
+ * graph during such an inconsistent read. Exceptions thrown during a read which validates
+ * successfully are propagated to the caller. The backing graph should be one of the graph
+ * implementations of the library whose read methods do not modify internal state.
+ *
+ * <p>
+ * Methods <code>edgesOf</code>, <code>incomingEdgesOf</code>, <code>outgoingEdgesOf</code> and
+ * <code>getAllEdges</code> return an unmodifiable copy of the result produced by the backing graph.
+ * The sets returned by <code>vertexSet</code> and <code>edgeSet</code> are unmodifiable views of
+ * the backing sets. Their size and membership queries are thread-safe and their iterators operate
+ * on a snapshot taken when the iterator is created.
+ *
+ * <p>
+ * The lock used is not reentrant. Calling applications can use {@link #getLock()} in order to
+ * execute compound reads under a read lock, but they <strong>MUST NOT</strong> call any method of
+ * the graph while holding the write lock, otherwise a deadlock will occur. As with
+ * {@link AsSynchronizedGraph}, users need to manually synchronize the edge and vertex suppliers if
+ * creating an edge or a vertex needs to access shared resources.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+public class AsConcurrentGraph<V, E>
+    extends GraphDelegator<V, E>
+    implements Graph<V, E>, Serializable
+{
+    private static final long serialVersionUID = -3817238567352749913L;
+
+    // result of an optimistic copy when a vertex is not contained in the graph
+    private static final Object[] NO_VERTEX = new Object[0];
+
+    private transient StampedLock lock;
+    private transient Set<V> vertexSetView;
+    private transient Set<E> edgeSetView;
+
+    /**
+     * Create a new graph.
+     *
+     * @param g the backing graph (the delegate)
+     */
+    public AsConcurrentGraph(Graph<V, E> g)
+    {
+        super(g);
+        initialize();
+    }
+
+    private void initialize()
+    {
+        this.lock = new StampedLock();
+        this.vertexSetView = new ConcurrentSetView<>(getDelegate().vertexSet());
+        this.edgeSetView = new ConcurrentSetView<>(getDelegate().edgeSet());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<E> getAllEdges(V sourceVertex, V targetVertex)
+    {
+        Object[] edges = tryOptimisticEdgesBetween(sourceVertex, targetVertex);
+        if (edges == NO_VERTEX) {
+            return null;
+        }
+        if (edges != null) {
+            return toSet(edges);
+        }
+        return readLocked(() -> {
+            Set<E> result = getDelegate().getAllEdges(sourceVertex, targetVertex);
+            return result == null ? null : copySet(result);
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E getEdge(V sourceVertex, V targetVertex)
+    {
+        Object[] edges = tryOptimisticEdgesBetween(sourceVertex, targetVertex);
+        if (edges == NO_VERTEX) {
+            return null;
+        }
+        if (edges != null) {
+            return edges.length == 0 ? null : (E) edges[0];
+        }
+        return readLocked(() -> getDelegate().getEdge(sourceVertex, targetVertex));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public E addEdge(V sourceVertex, V targetVertex)
+    {
+        long stamp = lock.writeLock();
+        try {
+            Supplier<E> edgeSupplier = getEdgeSupplier();
+            if (edgeSupplier == null) {
+                return getDelegate().addEdge(sourceVertex, targetVertex);
+            }
+            E e = edgeSupplier.get();
+            return getDelegate().addEdge(sourceVertex, targetVertex, e) ? e : null;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean addEdge(V sourceVertex, V targetVertex, E e)
+    {
+        long stamp = lock.writeLock();
+        try {
+            return getDelegate().addEdge(sourceVertex, targetVertex, e);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V addVertex()
+    {
+        long stamp = lock.writeLock();
+        try {
+            Supplier<V> vertexSupplier = getVertexSupplier();
+            if (vertexSupplier == null) {
+                return getDelegate().addVertex();
+            }
+            V v = vertexSupplier.get();
+            return getDelegate().addVertex(v) ? v : null;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean addVertex(V v)
+    {
+        long stamp = lock.writeLock();
+        try {
+            return getDelegate().addVertex(v);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsEdge(V sourceVertex, V targetVertex)
+    {
+        return getEdge(sourceVertex, targetVertex) != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsEdge(E e)
+    {
+        return readBoolean(() -> getDelegate().containsEdge(e));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsVertex(V v)
+    {
+        return readBoolean(() -> getDelegate().containsVertex(v));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int degreeOf(V vertex)
+    {
+        GraphType type = getDelegate().getType();
+        if (type.isDirected()) {
+            return readInt(
+                () -> getDelegate().incomingEdgesOf(vertex).size()
+                    + getDelegate().outgoingEdgesOf(vertex).size());
+        }
+        if (type.isUndirected()) {
+            if (!type.isAllowingSelfLoops()) {
+                return readInt(() -> getDelegate().edgesOf(vertex).size());
+            }
+            Object[] edges = tryOptimisticCopy(() -> getDelegate().edgesOf(vertex), true);
+            if (edges != null) {
+                // self-loops are counted twice
+                int degree = 0;
+                for (int i = 0; i < edges.length; i += 3) {
+                    degree += edges[i + 1].equals(edges[i + 2]) ? 2 : 1;
+                }
+                return degree;
+            }
+        }
+        return readLocked(() -> getDelegate().degreeOf(vertex));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<E> edgeSet()
+    {
+        return edgeSetView;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<E> edgesOf(V vertex)
+    {
+        Object[] edges = tryOptimisticCopy(() -> getDelegate().edgesOf(vertex), false);
+        if (edges != null) {
+            return toSet(edges);
+        }
+        return readLocked(() -> copySet(getDelegate().edgesOf(vertex)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int inDegreeOf(V vertex)
+    {
+        GraphType type = getDelegate().getType();
+        if (type.isDirected()) {
+            return readInt(() -> getDelegate().incomingEdgesOf(vertex).size());
+        }
+        if (type.isUndirected()) {
+            return degreeOf(vertex);
+        }
+        return readLocked(() -> getDelegate().inDegreeOf(vertex));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<E> incomingEdgesOf(V vertex)
+    {
+        Object[] edges = tryOptimisticCopy(() -> getDelegate().incomingEdgesOf(vertex), false);
+        if (edges != null) {
+            return toSet(edges);
+        }
+        return readLocked(() -> copySet(getDelegate().incomingEdgesOf(vertex)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int outDegreeOf(V vertex)
+    {
+        GraphType type = getDelegate().getType();
+        if (type.isDirected()) {
+            return readInt(() -> getDelegate().outgoingEdgesOf(vertex).size());
+        }
+        if (type.isUndirected()) {
+            return degreeOf(vertex);
+        }
+        return readLocked(() -> getDelegate().outDegreeOf(vertex));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<E> outgoingEdgesOf(V vertex)
+    {
+        Object[] edges = tryOptimisticCopy(() -> getDelegate().outgoingEdgesOf(vertex), false);
+        if (edges != null) {
+            return toSet(edges);
+        }
+        return readLocked(() -> copySet(getDelegate().outgoingEdgesOf(vertex)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeAllEdges(Collection<? extends E> edges)
+    {
+        long stamp = lock.writeLock();
+        try {
+            return getDelegate().removeAllEdges(edges);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<E> removeAllEdges(V sourceVertex, V targetVertex)
+    {
+        long stamp = lock.writeLock();
+        try {
+            return getDelegate().removeAllEdges(sourceVertex, targetVertex);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeAllVertices(Collection<? extends V> vertices)
+    {
+        long stamp = lock.writeLock();
+        try {
+            return getDelegate().removeAllVertices(vertices);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeEdge(E e)
+    {
+        long stamp = lock.writeLock();
+        try {
+            return getDelegate().removeEdge(e);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public E removeEdge(V sourceVertex, V targetVertex)
+    {
+        long stamp = lock.writeLock();
+        try {
+            return getDelegate().removeEdge(sourceVertex, targetVertex);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeVertex(V v)
+    {
+        long stamp = lock.writeLock();
+        try {
+            return getDelegate().removeVertex(v);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString()
+    {
+        return readLocked(() -> getDelegate().toString());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<V> vertexSet()
+    {
+        return vertexSetView;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V getEdgeSource(E e)
+    {
+        return read(() -> getDelegate().getEdgeSource(e));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V getEdgeTarget(E e)
+    {
+        return read(() -> getDelegate().getEdgeTarget(e));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getEdgeWeight(E e)
+    {
+        return readDouble(() -> getDelegate().getEdgeWeight(e));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setEdgeWeight(E e, double weight)
+    {
+        long stamp = lock.writeLock();
+        try {
+            getDelegate().setEdgeWeight(e, weight);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode()
+    {
+        return readLocked(() -> getDelegate().hashCode());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o)
+    {
+        if (this == o)
+            return true;
+        return readLocked(() -> getDelegate().equals(o));
+    }
+
+    /**
+     * Get the lock used to synchronize all access to this graph. This can be used by calling
+     * applications to explicitly synchronize compound sequences of graph accesses using the read
+     * lock. The lock is not reentrant and thus methods of the graph <strong>MUST NOT</strong> be
+     * called while holding the write lock, otherwise a deadlock will occur.
+     *
+     * @return the lock used to synchronize all access to this graph
+     */
+    public StampedLock getLock()
+    {
+        return lock;
+    }
+
+    /**
+     * Create a unmodifiable copy of the set.
+     *
+     * @param set the set to be copied.
+     *
+     * @return a unmodifiable copy of the set
+     */
+    private static <C> Set<C> copySet(Set<C> set)
+    {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(set));
+    }
+
+    /**
+     * Create an unmodifiable set from a copy of edges.
+     *
+     * @param edges the edges
+     *
+     * @return an unmodifiable set of the edges
+     */
+    @SuppressWarnings("unchecked")
+    private Set<E> toSet(Object[] edges)
+    {
+        Set<E> set = new LinkedHashSet<>();
+        for (Object e : edges) {
+            set.add((E) e);
+        }
+        return Collections.unmodifiableSet(set);
+    }
+
+    /**
+     * Copy a set of edges of the backing graph using an optimistic read. If requested, the source
+     * and the target of each edge are copied as well, within the same read. The copy performs at
+     * most as many iteration steps as the size of the set at the start of the read, thus it
+     * terminates even if the set is concurrently modified.
+     *
+     * @param operation supplies the set of edges, or null if a vertex is not contained in the
+     *        graph
+     * @param endpoints whether to copy the source and the target of each edge
+     * @return the edges, each followed by its source and target if requested, {@link #NO_VERTEX}
+     *         if the operation returned null, or null if the optimistic read failed
+     */
+    private Object[] tryOptimisticCopy(Supplier<Set<E>> operation, boolean endpoints)
+    {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp == 0L) {
+            return null;
+        }
+        try {
+            Set<E> set = operation.get();
+            if (set == null) {
+                return lock.validate(stamp) ? NO_VERTEX : null;
+            }
+            int step = endpoints ? 3 : 1;
+            Object[] result = new Object[step * set.size()];
+            Iterator<E> it = set.iterator();
+            for (int i = 0; i < result.length; i += step) {
+                if (!it.hasNext()) {
+                    return null;
+                }
+                E e = it.next();
+                result[i] = e;
+                if (endpoints) {
+                    result[i + 1] = getDelegate().getEdgeSource(e);
+                    result[i + 2] = getDelegate().getEdgeTarget(e);
+                }
+            }
+            if (it.hasNext()) {
+                return null;
+            }
+            return lock.validate(stamp) ? result : null;
+        } catch (RuntimeException e) {
+            if (lock.validate(stamp)) {
+                throw e;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Find all edges from a source vertex to a target vertex using an optimistic read, by copying
+     * the edges of the source vertex.
+     *
+     * @param sourceVertex the source vertex
+     * @param targetVertex the target vertex
+     * @return the edges in the order of the backing graph, {@link #NO_VERTEX} if a vertex is not
+     *         contained in the graph, or null if the optimistic read failed or the graph is neither
+     *         directed nor undirected
+     */
+    private Object[] tryOptimisticEdgesBetween(V sourceVertex, V targetVertex)
+    {
+        Graph<V, E> g = getDelegate();
+        boolean directed = g.getType().isDirected();
+        if (!directed && !g.getType().isUndirected()) {
+            return null;
+        }
+        Object[] edges = tryOptimisticCopy(() -> {
+            if (!g.containsVertex(sourceVertex) || !g.containsVertex(targetVertex)) {
+                return null;
+            }
+            return directed ? g.outgoingEdgesOf(sourceVertex) : g.edgesOf(sourceVertex);
+        }, true);
+        if (edges == null || edges == NO_VERTEX) {
+            return edges;
+        }
+
+        int count = 0;
+        for (int i = 0; i < edges.length; i += 3) {
+            Object source = edges[i + 1];
+            Object target = edges[i + 2];
+            boolean found = directed ? targetVertex.equals(target)
+                : (sourceVertex.equals(source) && targetVertex.equals(target))
+                    || (sourceVertex.equals(target) && targetVertex.equals(source));
+            if (found) {
+                edges[count++] = edges[i];
+            }
+        }
+        return Arrays.copyOf(edges, count);
+    }
+
+    /**
+     * Execute a read operation while holding the read lock. This is used by all operations which
+     * traverse or copy the backing collections, either directly or when an optimistic copy
+     * fails.
+     *
+     * @param operation the read operation
+     * @return the result of the operation
+     */
+    private <T> T readLocked(Supplier<T> operation)
+    {
+        long stamp = lock.readLock();
+        try {
+            return operation.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Execute a read operation, first optimistically and if that fails using the read lock. The
+     * operation must only perform constant time lookups in the backing graph.
+     *
+     * @param operation the read operation
+     * @return the result of the operation
+     */
+    private <T> T read(Supplier<T> operation)
+    {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            try {
+                T result = operation.get();
+                if (lock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException e) {
+                if (lock.validate(stamp)) {
+                    throw e;
+                }
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return operation.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private boolean readBoolean(BooleanSupplier operation)
+    {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            try {
+                boolean result = operation.getAsBoolean();
+                if (lock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException e) {
+                if (lock.validate(stamp)) {
+                    throw e;
+                }
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return operation.getAsBoolean();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private int readInt(IntSupplier operation)
+    {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            try {
+                int result = operation.getAsInt();
+                if (lock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException e) {
+                if (lock.validate(stamp)) {
+                    throw e;
+                }
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return operation.getAsInt();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private double readDouble(DoubleSupplier operation)
+    {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            try {
+                double result = operation.getAsDouble();
+                if (lock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException e) {
+                if (lock.validate(stamp)) {
+                    throw e;
+                }
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return operation.getAsDouble();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private void readObject(ObjectInputStream in)
+        throws IOException, ClassNotFoundException
+    {
+        in.defaultReadObject();
+        initialize();
+    }
+
+    /**
+     * An unmodifiable view of a backing set of the graph. Size and membership queries are executed
+     * using optimistic reads, while iterators operate on a snapshot of the backing set which is
+     * taken under the read lock.
+     *
+     * @param <T> the element type
+     */
+    private class ConcurrentSetView<T>
+        extends AbstractSet<T>
+    {
+        private final Set<T> set;
+
+        ConcurrentSetView(Set<T> set)
+        {
+            this.set = set;
+        }
+
+        @Override
+        public int size()
+        {
+            return readInt(() -> set.size());
+        }
+
+        @Override
+        public boolean isEmpty()
+        {
+            return readBoolean(() -> set.isEmpty());
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return readBoolean(() -> set.contains(o));
+        }
+
+        @Override
+        public Iterator<T> iterator()
+        {
+            return readLocked(() -> copySet(set)).iterator();
+        }
+
+        @Override
+        public Object[] toArray()
+        {
+            return readLocked(() -> set.toArray());
+        }
+
+        @Override
+        public <A> A[] toArray(A[] a)
+        {
+            return readLocked(() -> set.toArray(a));
+        }
+    }
+
+}
+
+// End AsConcurrentGraph.java
@@ -0,0 +1,519 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph.concurrent;
+
+import java.util.*;
+
+/**
+ * A hash array mapped trie with copy-on-write nodes.
+ *
+ * <p>
+ * Every node of the trie records the {@link Edit} token which was current when the node was
+ * created. A modification using a token updates the nodes created with the same token in place and
+ * copies all other nodes along the path from the root, thus leaving every trie which shares them
+ * unchanged. Freezing a version of a data structure composed of tries therefore only requires
+ * switching to a new token, which takes constant time. Afterwards the frozen version can be read
+ * concurrently by any number of threads, while the writer only copies the $O(\log_{32} n)$ nodes on
+ * the paths it touches.
+ *
+ * <p>
+ * Keys must not be null. The iteration order of the trie depends only on the hash codes of the
+ * keys and on the order of insertion of keys with colliding hash codes.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ *
+ * @author agent
+ */
+final class HashTrie<K, V>
+{
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+
+    /**
+     * Token identifying the version which owns a node.
+     */
+    static final class Edit
+    {
+    }
+
+    private final Edit edit;
+    private Node root;
+    private int size;
+
+    /**
+     * Create an empty trie.
+     *
+     * @param edit the token owning the trie
+     */
+    HashTrie(Edit edit)
+    {
+        this(edit, null, 0);
+    }
+
+    private HashTrie(Edit edit, Node root, int size)
+    {
+        this.edit = edit;
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Get a trie with the same contents which can be modified using a token. If the trie is already
+     * owned by the token it is returned, otherwise a shallow copy is created in constant time.
+     *
+     * @param edit the token
+     * @return a trie owned by the token
+     */
+    HashTrie<K, V> editable(Edit edit)
+    {
+        if (this.edit == edit) {
+            return this;
+        }
+        return new HashTrie<>(edit, root, size);
+    }
+
+    /**
+     * Get the number of mappings.
+     *
+     * @return the number of mappings
+     */
+    int size()
+    {
+        return size;
+    }
+
+    /**
+     * Get the value of a key.
+     *
+     * @param key the key
+     * @return the value or null if the key is not contained in the trie
+     */
+    V get(Object key)
+    {
+        if (key == null || root == null) {
+            return null;
+        }
+        Object result = root.find(0, hash(key), key);
+        @SuppressWarnings("unchecked") V value = (V) result;
+        return value;
+    }
+
+    /**
+     * Test whether a key is contained in the trie.
+     *
+     * @param key the key
+     * @return true if the key is contained in the trie, false otherwise
+     */
+    boolean containsKey(Object key)
+    {
+        return get(key) != null;
+    }
+
+    /**
+     * Associate a key with a value. The trie must be owned by the edit token it was obtained with.
+     *
+     * @param key the key
+     * @param value the value, must not be null
+     */
+    void put(K key, V value)
+    {
+        int hash = hash(key);
+        boolean[] added = new boolean[1];
+        if (root == null) {
+            root = BitmapNode.EMPTY.put(edit, 0, hash, key, value, added);
+        } else {
+            root = root.put(edit, 0, hash, key, value, added);
+        }
+        if (added[0]) {
+            size++;
+        }
+    }
+
+    /**
+     * Remove a key. The trie must be owned by the edit token it was obtained with.
+     *
+     * @param key the key
+     * @return true if the key was removed, false if it was not contained in the trie
+     */
+    boolean remove(Object key)
+    {
+        if (key == null || root == null) {
+            return false;
+        }
+        boolean[] removed = new boolean[1];
+        root = root.remove(edit, 0, hash(key), key, removed);
+        if (removed[0]) {
+            size--;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Get an iterator over the keys.
+     *
+     * @return an iterator over the keys
+     */
+    Iterator<K> keyIterator()
+    {
+        return new TrieIterator<>(root, true);
+    }
+
+    /**
+     * Get an iterator over the values.
+     *
+     * @return an iterator over the values
+     */
+    Iterator<V> valueIterator()
+    {
+        return new TrieIterator<>(root, false);
+    }
+
+    private static int hash(Object key)
+    {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private abstract static class Node
+    {
+        final Edit edit;
+
+        /*
+         * Entries are stored as pairs, at even positions a key or null and at odd positions the
+         * value or a sub-node when the key is null.
+         */
+        Object[] array;
+
+        Node(Edit edit, Object[] array)
+        {
+            this.edit = edit;
+            this.array = array;
+        }
+
+        boolean isOwnedBy(Edit edit)
+        {
+            return edit != null && this.edit == edit;
+        }
+
+        abstract Object find(int shift, int hash, Object key);
+
+        abstract Node put(
+            Edit edit, int shift, int hash, Object key, Object value, boolean[] added);
+
+        abstract Node remove(Edit edit, int shift, int hash, Object key, boolean[] removed);
+    }
+
+    private static final class BitmapNode
+        extends Node
+    {
+        static final BitmapNode EMPTY = new BitmapNode(null, 0, new Object[0]);
+
+        int bitmap;
+
+        BitmapNode(Edit edit, int bitmap, Object[] array)
+        {
+            super(edit, array);
+            this.bitmap = bitmap;
+        }
+
+        @Override
+        Object find(int shift, int hash, Object key)
+        {
+            int bit = 1 << ((hash >>> shift) & MASK);
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+            int index = 2 * Integer.bitCount(bitmap & (bit - 1));
+            Object k = array[index];
+            Object v = array[index + 1];
+            if (k == null) {
+                return ((Node) v).find(shift + BITS, hash, key);
+            }
+            return key.equals(k) ? v : null;
+        }
+
+        @Override
+        Node put(Edit edit, int shift, int hash, Object key, Object value, boolean[] added)
+        {
+            int bit = 1 << ((hash >>> shift) & MASK);
+            int index = 2 * Integer.bitCount(bitmap & (bit - 1));
+            if ((bitmap & bit) != 0) {
+                Object k = array[index];
+                Object v = array[index + 1];
+                if (k == null) {
+                    Node child = ((Node) v).put(edit, shift + BITS, hash, key, value, added);
+                    if (child == v) {
+                        return this;
+                    }
+                    return set(edit, index + 1, child);
+                }
+                if (key.equals(k)) {
+                    if (value == v) {
+                        return this;
+                    }
+                    return set(edit, index + 1, value);
+                }
+                added[0] = true;
+                Node child = createNode(edit, shift + BITS, k, v, hash, key, value);
+                BitmapNode node = (BitmapNode) set(edit, index, null);
+                node.array[index + 1] = child;
+                return node;
+            }
+
+            added[0] = true;
+            Object[] newArray = new Object[array.length + 2];
+            System.arraycopy(array, 0, newArray, 0, index);
+            newArray[index] = key;
+            newArray[index + 1] = value;
+            System.arraycopy(array, index, newArray, index + 2, array.length - index);
+            if (isOwnedBy(edit)) {
+                this.array = newArray;
+                this.bitmap |= bit;
+                return this;
+            }
+            return new BitmapNode(edit, bitmap | bit, newArray);
+        }
+
+        @Override
+        Node remove(Edit edit, int shift, int hash, Object key, boolean[] removed)
+        {
+            int bit = 1 << ((hash >>> shift) & MASK);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            int index = 2 * Integer.bitCount(bitmap & (bit - 1));
+            Object k = array[index];
+            Object v = array[index + 1];
+            if (k == null) {
+                Node child = ((Node) v).remove(edit, shift + BITS, hash, key, removed);
+                if (child == v) {
+                    return this;
+                }
+                if (child != null) {
+                    return set(edit, index + 1, child);
+                }
+            } else if (!key.equals(k)) {
+                return this;
+            } else {
+                removed[0] = true;
+            }
+
+            if (bitmap == bit) {
+                return null;
+            }
+            Object[] newArray = new Object[array.length - 2];
+            System.arraycopy(array, 0, newArray, 0, index);
+            System.arraycopy(array, index + 2, newArray, index, array.length - index - 2);
+            if (isOwnedBy(edit)) {
+                this.array = newArray;
+                this.bitmap ^= bit;
+                return this;
+            }
+            return new BitmapNode(edit, bitmap ^ bit, newArray);
+        }
+
+        private Node set(Edit edit, int index, Object o)
+        {
+            if (isOwnedBy(edit)) {
+                array[index] = o;
+                return this;
+            }
+            Object[] newArray = array.clone();
+            newArray[index] = o;
+            return new BitmapNode(edit, bitmap, newArray);
+        }
+
+        private static Node createNode(
+            Edit edit, int shift, Object key1, Object value1, int hash2, Object key2,
+            Object value2)
+        {
+            int hash1 = hash(key1);
+            if (hash1 == hash2) {
+                return new CollisionNode(edit, hash1, new Object[] { key1, value1, key2, value2 });
+            }
+            boolean[] added = new boolean[1];
+            return EMPTY
+                .put(edit, shift, hash1, key1, value1, added)
+                .put(edit, shift, hash2, key2, value2, added);
+        }
+    }
+
+    /**
+     * A node holding keys whose hash codes are equal.
+     */
+    private static final class CollisionNode
+        extends Node
+    {
+        final int hash;
+
+        CollisionNode(Edit edit, int hash, Object[] array)
+        {
+            super(edit, array);
+            this.hash = hash;
+        }
+
+        @Override
+        Object find(int shift, int hash, Object key)
+        {
+            int index = indexOf(key);
+            return index < 0 ? null : array[index + 1];
+        }
+
+        @Override
+        Node put(Edit edit, int shift, int hash, Object key, Object value, boolean[] added)
+        {
+            if (hash != this.hash) {
+                // nest this node inside a bitmap node and retry
+                int bit = 1 << ((this.hash >>> shift) & MASK);
+                return new BitmapNode(edit, bit, new Object[] { null, this })
+                    .put(edit, shift, hash, key, value, added);
+            }
+            int index = indexOf(key);
+            if (index >= 0) {
+                if (array[index + 1] == value) {
+                    return this;
+                }
+                if (isOwnedBy(edit)) {
+                    array[index + 1] = value;
+                    return this;
+                }
+                Object[] newArray = array.clone();
+                newArray[index + 1] = value;
+                return new CollisionNode(edit, hash, newArray);
+            }
+            added[0] = true;
+            Object[] newArray = Arrays.copyOf(array, array.length + 2);
+            newArray[array.length] = key;
+            newArray[array.length + 1] = value;
+            if (isOwnedBy(edit)) {
+                this.array = newArray;
+                return this;
+            }
+            return new CollisionNode(edit, hash, newArray);
+        }
+
+        @Override
+        Node remove(Edit edit, int shift, int hash, Object key, boolean[] removed)
+        {
+            int index = indexOf(key);
+            if (index < 0) {
+                return this;
+            }
+            removed[0] = true;
+            if (array.length == 2) {
+                return null;
+            }
+            Object[] newArray = new Object[array.length - 2];
+            System.arraycopy(array, 0, newArray, 0, index);
+            System.arraycopy(array, index + 2, newArray, index, array.length - index - 2);
+            if (isOwnedBy(edit)) {
+                this.array = newArray;
+                return this;
+            }
+            return new CollisionNode(edit, hash, newArray);
+        }
+
+        private int indexOf(Object key)
+        {
+            for (int i = 0; i < array.length; i += 2) {
+                if (key.equals(array[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Depth-first iterator over the entries of a trie.
+     */
+    private static final class TrieIterator<T>
+        implements Iterator<T>
+    {
+        /*
+         * Bitmap nodes exist at shifts 0 to 30 and collision nodes below them.
+         */
+        private static final int MAX_DEPTH = 9;
+
+        private final boolean keys;
+        private final Object[][] arrays;
+        private final int[] positions;
+        private int depth;
+        private Object next;
+
+        TrieIterator(Node root, boolean keys)
+        {
+            this.keys = keys;
+            this.arrays = new Object[MAX_DEPTH][];
+            this.positions = new int[MAX_DEPTH];
+            if (root == null) {
+                this.depth = -1;
+            } else {
+                this.depth = 0;
+                this.arrays[0] = root.array;
+            }
+            advance();
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return next != null;
+        }
+
+        @Override
+        public T next()
+        {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            @SuppressWarnings("unchecked") T result = (T) next;
+            advance();
+            return result;
+        }
+
+        private void advance()
+        {
+            while (depth >= 0) {
+                Object[] array = arrays[depth];
+                int position = positions[depth];
+                if (position >= array.length) {
+                    arrays[depth] = null;
+                    depth--;
+                    continue;
+                }
+                positions[depth] = position + 2;
+                Object k = array[position];
+                Object v = array[position + 1];
+                if (k != null) {
+                    next = keys ? k : v;
+                    return;
+                }
+                depth++;
+                arrays[depth] = ((Node) v).array;
+                positions[depth] = 0;
+            }
+            next = null;
+        }
+    }
+
+}
+
+// End HashTrie.java
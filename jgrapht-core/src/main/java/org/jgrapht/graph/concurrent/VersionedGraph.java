@@ -0,0 +1,761 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph.concurrent;
+
+import java.util.*;
+import java.util.function.*;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+/**
+ * A graph which supports constant time immutable snapshots.
+ *
+ * <p>
+ * The graph is stored using persistent hash tries (see {@link HashTrie}) for the vertex set, for
+ * the edge set and for the incidence sets of each vertex. Method {@link #snapshot()} returns an
+ * immutable view of the current version of the graph in $O(1)$ time, without copying anything.
+ * Subsequent modifications of the graph copy only the trie nodes and the incidence containers
+ * which they touch and which are shared with an older snapshot. All other modifications are
+ * performed in place. This allows one thread to keep modifying the graph while other threads run
+ * arbitrary algorithms against a stable version of it, without holding any lock and without
+ * blocking the writer.
+ *
+ * <p>
+ * Snapshots are unmodifiable and can be safely accessed by any number of threads. The live graph
+ * on the other hand is intended to be read and written by a single thread, or by threads which
+ * synchronize externally. Its modification methods and {@link #snapshot()} are synchronized, so
+ * any thread may take a snapshot at any time. Sets returned by the live graph are unmodifiable
+ * views which are only guaranteed to be valid until the next modification of the graph. Sets
+ * returned by a snapshot never change.
+ *
+ * <p>
+ * Most operations run in $O(\log_{32} n)$ time. Similarly to
+ * {@link org.jgrapht.graph.specifics.DirectedSpecifics}, methods which look up edges by their
+ * endpoints, such as {@link #getEdge(Object, Object)}, scan the incidence set of the source vertex.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+public class VersionedGraph<V, E>
+    extends AbstractGraph<V, E>
+    implements Graph<V, E>
+{
+    private static final String UNMODIFIABLE = "this graph is unmodifiable";
+    private static final String LOOPS_NOT_ALLOWED = "loops not allowed";
+
+    private final GraphType type;
+    private final Supplier<V> vertexSupplier;
+    private final Supplier<E> edgeSupplier;
+
+    /*
+     * The token owning the mutable part of the current version, or null for a snapshot.
+     */
+    private HashTrie.Edit edit;
+    private long version;
+    private HashTrie<V, Incidence<E>> vertices;
+    private HashTrie<E, EdgeRecord<V>> edges;
+
+    private final Set<V> vertexSetView;
+    private final Set<E> edgeSetView;
+
+    /**
+     * Create a new graph.
+     *
+     * @param vertexSupplier the vertex supplier, can be null
+     * @param edgeSupplier the edge supplier, can be null
+     * @param type the graph type
+     * @throws IllegalArgumentException if the graph type is mixed or unmodifiable
+     */
+    public VersionedGraph(Supplier<V> vertexSupplier, Supplier<E> edgeSupplier, GraphType type)
+    {
+        Objects.requireNonNull(type, "Graph type cannot be null");
+        if (type.isMixed()) {
+            throw new IllegalArgumentException("Mixed graph not supported");
+        }
+        if (!type.isModifiable()) {
+            throw new IllegalArgumentException("Graph type must be modifiable");
+        }
+        this.type = type;
+        this.vertexSupplier = vertexSupplier;
+        this.edgeSupplier = edgeSupplier;
+        this.edit = new HashTrie.Edit();
+        this.version = 0;
+        this.vertices = new HashTrie<>(edit);
+        this.edges = new HashTrie<>(edit);
+        this.vertexSetView = new VertexSetView();
+        this.edgeSetView = new EdgeSetView();
+    }
+
+    /**
+     * Create a snapshot of another graph.
+     *
+     * @param other the graph
+     */
+    private VersionedGraph(VersionedGraph<V, E> other)
+    {
+        this.type = new DefaultGraphType.Builder(other.type).modifiable(false).build();
+        this.vertexSupplier = null;
+        this.edgeSupplier = null;
+        this.edit = null;
+        this.version = other.version;
+        this.vertices = other.vertices;
+        this.edges = other.edges;
+        this.vertexSetView = new VertexSetView();
+        this.edgeSetView = new EdgeSetView();
+    }
+
+    /**
+     * Create an immutable snapshot of the current version of the graph. The snapshot is not
+     * affected by any subsequent modification of this graph. This method runs in constant time. If
+     * the graph is already a snapshot, it is returned.
+     *
+     * @return an immutable snapshot of the graph
+     */
+    public synchronized VersionedGraph<V, E> snapshot()
+    {
+        if (edit == null) {
+            return this;
+        }
+        VersionedGraph<V, E> snapshot = new VersionedGraph<>(this);
+        edit = new HashTrie.Edit();
+        version++;
+        return snapshot;
+    }
+
+    /**
+     * Get the version of the graph. The version of the live graph is equal to the number of
+     * snapshots taken so far, while a snapshot keeps the version of the graph at the time it was
+     * taken.
+     *
+     * @return the version of the graph
+     */
+    public long getVersion()
+    {
+        return version;
+    }
+
+    /**
+     * Whether the graph is an immutable snapshot.
+     *
+     * @return true if the graph is a snapshot, false otherwise
+     */
+    public boolean isSnapshot()
+    {
+        return edit == null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<E> getAllEdges(V sourceVertex, V targetVertex)
+    {
+        Incidence<E> incidence = vertices.get(sourceVertex);
+        if (incidence == null || !vertices.containsKey(targetVertex)) {
+            return null;
+        }
+        Set<E> result = new ArrayUnenforcedSet<>();
+        Iterator<E> it = incidence.out.keyIterator();
+        while (it.hasNext()) {
+            E e = it.next();
+            if (isEdgeBetween(edges.get(e), sourceVertex, targetVertex)) {
+                result.add(e);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public E getEdge(V sourceVertex, V targetVertex)
+    {
+        Incidence<E> incidence = vertices.get(sourceVertex);
+        if (incidence == null || !vertices.containsKey(targetVertex)) {
+            return null;
+        }
+        Iterator<E> it = incidence.out.keyIterator();
+        while (it.hasNext()) {
+            E e = it.next();
+            if (isEdgeBetween(edges.get(e), sourceVertex, targetVertex)) {
+                return e;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @deprecated Use suppliers instead
+     */
+    @Override
+    @Deprecated
+    public EdgeFactory<V, E> getEdgeFactory()
+    {
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Supplier<V> getVertexSupplier()
+    {
+        return vertexSupplier;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Supplier<E> getEdgeSupplier()
+    {
+        return edgeSupplier;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized E addEdge(V sourceVertex, V targetVertex)
+    {
+        assertModifiable();
+        assertVertexExist(sourceVertex);
+        assertVertexExist(targetVertex);
+
+        if (!type.isAllowingMultipleEdges() && containsEdge(sourceVertex, targetVertex)) {
+            return null;
+        }
+        if (!type.isAllowingSelfLoops() && sourceVertex.equals(targetVertex)) {
+            throw new IllegalArgumentException(LOOPS_NOT_ALLOWED);
+        }
+        if (edgeSupplier == null) {
+            throw new UnsupportedOperationException("The graph contains no edge supplier");
+        }
+
+        E e = edgeSupplier.get();
+        if (edges.containsKey(e)) {
+            return null;
+        }
+        addEdgeInternal(sourceVertex, targetVertex, e);
+        return e;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized boolean addEdge(V sourceVertex, V targetVertex, E e)
+    {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+        assertModifiable();
+        assertVertexExist(sourceVertex);
+        assertVertexExist(targetVertex);
+
+        if (!type.isAllowingMultipleEdges() && containsEdge(sourceVertex, targetVertex)) {
+            return false;
+        }
+        if (!type.isAllowingSelfLoops() && sourceVertex.equals(targetVertex)) {
+            throw new IllegalArgumentException(LOOPS_NOT_ALLOWED);
+        }
+        if (edges.containsKey(e)) {
+            return false;
+        }
+        addEdgeInternal(sourceVertex, targetVertex, e);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized V addVertex()
+    {
+        assertModifiable();
+        if (vertexSupplier == null) {
+            throw new UnsupportedOperationException("The graph contains no vertex supplier");
+        }
+
+        V v = vertexSupplier.get();
+        if (addVertex(v)) {
+            return v;
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized boolean addVertex(V v)
+    {
+        if (v == null) {
+            throw new NullPointerException();
+        }
+        assertModifiable();
+        if (vertices.containsKey(v)) {
+            return false;
+        }
+        startModification();
+        vertices.put(v, new Incidence<>(edit, type.isDirected()));
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsEdge(E e)
+    {
+        return edges.containsKey(e);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsVertex(V v)
+    {
+        return vertices.containsKey(v);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<E> edgeSet()
+    {
+        return edgeSetView;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int degreeOf(V vertex)
+    {
+        Incidence<E> incidence = getIncidence(vertex);
+        if (type.isDirected()) {
+            return incidence.out.size() + incidence.in.size();
+        }
+        return incidence.out.size() + incidence.loops;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<E> edgesOf(V vertex)
+    {
+        Incidence<E> incidence = getIncidence(vertex);
+        if (!type.isDirected()) {
+            return new TrieSet<>(incidence.out);
+        }
+        Set<E> result = new ArrayUnenforcedSet<>(incidence.out.size() + incidence.in.size());
+        Iterator<E> it = incidence.out.keyIterator();
+        while (it.hasNext()) {
+            result.add(it.next());
+        }
+        it = incidence.in.keyIterator();
+        while (it.hasNext()) {
+            E e = it.next();
+            if (!incidence.out.containsKey(e)) {
+                result.add(e);
+            }
+        }
+        return Collections.unmodifiableSet(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int inDegreeOf(V vertex)
+    {
+        if (!type.isDirected()) {
+            return degreeOf(vertex);
+        }
+        return getIncidence(vertex).in.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<E> incomingEdgesOf(V vertex)
+    {
+        Incidence<E> incidence = getIncidence(vertex);
+        return new TrieSet<>(type.isDirected() ? incidence.in : incidence.out);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int outDegreeOf(V vertex)
+    {
+        if (!type.isDirected()) {
+            return degreeOf(vertex);
+        }
+        return getIncidence(vertex).out.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<E> outgoingEdgesOf(V vertex)
+    {
+        return new TrieSet<>(getIncidence(vertex).out);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized E removeEdge(V sourceVertex, V targetVertex)
+    {
+        assertModifiable();
+        E e = getEdge(sourceVertex, targetVertex);
+        if (e != null) {
+            removeEdge(e);
+        }
+        return e;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized boolean removeEdge(E e)
+    {
+        assertModifiable();
+        EdgeRecord<V> record = edges.get(e);
+        if (record == null) {
+            return false;
+        }
+        startModification();
+        edges.remove(e);
+        editableIncidence(record.source).out.remove(e);
+        if (type.isDirected()) {
+            editableIncidence(record.target).in.remove(e);
+        } else if (record.source.equals(record.target)) {
+            editableIncidence(record.source).loops--;
+        } else {
+            editableIncidence(record.target).out.remove(e);
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized boolean removeVertex(V v)
+    {
+        assertModifiable();
+        if (!vertices.containsKey(v)) {
+            return false;
+        }
+        removeAllEdges(new ArrayList<>(edgesOf(v)));
+        startModification();
+        vertices.remove(v);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<V> vertexSet()
+    {
+        return vertexSetView;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V getEdgeSource(E e)
+    {
+        return getEdgeRecord(e).source;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V getEdgeTarget(E e)
+    {
+        return getEdgeRecord(e).target;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GraphType getType()
+    {
+        return type;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getEdgeWeight(E e)
+    {
+        EdgeRecord<V> record = getEdgeRecord(e);
+        return type.isWeighted() ? record.weight : Graph.DEFAULT_EDGE_WEIGHT;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws UnsupportedOperationException if the graph is not weighted
+     */
+    @Override
+    public synchronized void setEdgeWeight(E e, double weight)
+    {
+        assertModifiable();
+        if (!type.isWeighted()) {
+            throw new UnsupportedOperationException();
+        }
+        EdgeRecord<V> record = getEdgeRecord(e);
+        if (record.edit != edit) {
+            startModification();
+            record = new EdgeRecord<>(edit, record.source, record.target, weight);
+            edges.put(e, record);
+        } else {
+            record.weight = weight;
+        }
+    }
+
+    private void addEdgeInternal(V sourceVertex, V targetVertex, E e)
+    {
+        startModification();
+        edges.put(
+            e, new EdgeRecord<>(edit, sourceVertex, targetVertex, Graph.DEFAULT_EDGE_WEIGHT));
+        editableIncidence(sourceVertex).out.put(e, e);
+        if (type.isDirected()) {
+            editableIncidence(targetVertex).in.put(e, e);
+        } else if (sourceVertex.equals(targetVertex)) {
+            editableIncidence(sourceVertex).loops++;
+        } else {
+            editableIncidence(targetVertex).out.put(e, e);
+        }
+    }
+
+    private boolean isEdgeBetween(EdgeRecord<V> record, V sourceVertex, V targetVertex)
+    {
+        if (record.source.equals(sourceVertex) && record.target.equals(targetVertex)) {
+            return true;
+        }
+        return !type.isDirected() && record.source.equals(targetVertex)
+            && record.target.equals(sourceVertex);
+    }
+
+    private void assertModifiable()
+    {
+        if (edit == null) {
+            throw new UnsupportedOperationException(UNMODIFIABLE);
+        }
+    }
+
+    /**
+     * Make sure that the top level tries are owned by the current token.
+     */
+    private void startModification()
+    {
+        vertices = vertices.editable(edit);
+        edges = edges.editable(edit);
+    }
+
+    private Incidence<E> getIncidence(V v)
+    {
+        Incidence<E> incidence = vertices.get(v);
+        if (incidence == null) {
+            assertVertexExist(v);
+        }
+        return incidence;
+    }
+
+    private Incidence<E> editableIncidence(V v)
+    {
+        Incidence<E> incidence = vertices.get(v);
+        if (incidence.edit != edit) {
+            incidence = incidence.editable(edit);
+            vertices.put(v, incidence);
+        }
+        return incidence;
+    }
+
+    private EdgeRecord<V> getEdgeRecord(E e)
+    {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+        EdgeRecord<V> record = edges.get(e);
+        if (record == null) {
+            throw new IllegalArgumentException("no such edge in graph: " + e.toString());
+        }
+        return record;
+    }
+
+    /**
+     * The edges incident to a vertex. For undirected graphs only the outgoing set is used.
+     */
+    private static final class Incidence<E>
+    {
+        final HashTrie.Edit edit;
+        final HashTrie<E, E> out;
+        final HashTrie<E, E> in;
+        int loops;
+
+        Incidence(HashTrie.Edit edit, boolean directed)
+        {
+            this(edit, new HashTrie<>(edit), directed ? new HashTrie<>(edit) : null, 0);
+        }
+
+        private Incidence(HashTrie.Edit edit, HashTrie<E, E> out, HashTrie<E, E> in, int loops)
+        {
+            this.edit = edit;
+            this.out = out;
+            this.in = in;
+            this.loops = loops;
+        }
+
+        Incidence<E> editable(HashTrie.Edit edit)
+        {
+            return new Incidence<>(
+                edit, out.editable(edit), in == null ? null : in.editable(edit), loops);
+        }
+    }
+
+    /**
+     * The source, target and weight of an edge.
+     */
+    private static final class EdgeRecord<V>
+    {
+        final HashTrie.Edit edit;
+        final V source;
+        final V target;
+        double weight;
+
+        EdgeRecord(HashTrie.Edit edit, V source, V target, double weight)
+        {
+            this.edit = edit;
+            this.source = source;
+            this.target = target;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * An unmodifiable set view of the keys of a trie.
+     */
+    private static class TrieSet<E>
+        extends AbstractSet<E>
+    {
+        private final HashTrie<E, ?> trie;
+
+        TrieSet(HashTrie<E, ?> trie)
+        {
+            this.trie = trie;
+        }
+
+        @Override
+        public Iterator<E> iterator()
+        {
+            return trie.keyIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return trie.size();
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return trie.containsKey(o);
+        }
+    }
+
+    /**
+     * An unmodifiable view of the vertex set of the current version.
+     */
+    private class VertexSetView
+        extends AbstractSet<V>
+    {
+        @Override
+        public Iterator<V> iterator()
+        {
+            return vertices.keyIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return vertices.size();
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return vertices.containsKey(o);
+        }
+    }
+
+    /**
+     * An unmodifiable view of the edge set of the current version.
+     */
+    private class EdgeSetView
+        extends AbstractSet<E>
+    {
+        @Override
+        public Iterator<E> iterator()
+        {
+            return edges.keyIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return edges.size();
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return edges.containsKey(o);
+        }
+    }
+
+}
+
+// End VersionedGraph.java
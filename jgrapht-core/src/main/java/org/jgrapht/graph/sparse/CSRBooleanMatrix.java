@@ -0,0 +1,226 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph.sparse;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * A boolean matrix in compressed sparse row format.
+ *
+ * <p>
+ * The matrix keeps one offset per row and one column index per non-zero entry. The non-zero entries
+ * of a row are kept in the order in which they were provided during construction. Construction is
+ * performed using a counting sort and thus runs in $O(r + n)$ where $r$ is the number of rows and
+ * $n$ the number of non-zero entries.
+ *
+ * @author agent
+ */
+class CSRBooleanMatrix
+    implements Serializable
+{
+    private static final long serialVersionUID = -8639339411487665967L;
+
+    private final int rows;
+    private final int columns;
+    private final int[] rowOffsets;
+    private final int[] columnIndices;
+
+    /**
+     * Create a new matrix.
+     *
+     * @param rows the number of rows
+     * @param columns the number of columns
+     * @param rowIndices the row index of each non-zero entry
+     * @param columnIndices the column index of each non-zero entry
+     * @param size how many entries to read from the index arrays
+     */
+    CSRBooleanMatrix(int rows, int columns, int[] rowIndices, int[] columnIndices, int size)
+    {
+        if (rows < 0) {
+            throw new IllegalArgumentException("Number of rows must be non-negative");
+        }
+        if (columns < 0) {
+            throw new IllegalArgumentException("Number of columns must be non-negative");
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.rowOffsets = new int[rows + 1];
+        this.columnIndices = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            int row = rowIndices[i];
+            if (row < 0 || row >= rows) {
+                throw new IllegalArgumentException("Row index out of range: " + row);
+            }
+            int column = columnIndices[i];
+            if (column < 0 || column >= columns) {
+                throw new IllegalArgumentException("Column index out of range: " + column);
+            }
+            rowOffsets[row + 1]++;
+        }
+        for (int i = 1; i <= rows; i++) {
+            rowOffsets[i] += rowOffsets[i - 1];
+        }
+
+        int[] next = Arrays.copyOf(rowOffsets, rows);
+        for (int i = 0; i < size; i++) {
+            this.columnIndices[next[rowIndices[i]]++] = columnIndices[i];
+        }
+    }
+
+    /**
+     * Get the number of rows.
+     *
+     * @return the number of rows
+     */
+    int rows()
+    {
+        return rows;
+    }
+
+    /**
+     * Get the number of columns.
+     *
+     * @return the number of columns
+     */
+    int columns()
+    {
+        return columns;
+    }
+
+    /**
+     * Get the number of non-zero entries of a row.
+     *
+     * @param row the row
+     * @return the number of non-zero entries of a row
+     */
+    int nonZeros(int row)
+    {
+        return rowOffsets[row + 1] - rowOffsets[row];
+    }
+
+    /**
+     * Get the position of the first non-zero entry of a row.
+     *
+     * @param row the row
+     * @return the position of the first non-zero entry
+     */
+    int rowStart(int row)
+    {
+        return rowOffsets[row];
+    }
+
+    /**
+     * Get the position after the last non-zero entry of a row.
+     *
+     * @param row the row
+     * @return the position after the last non-zero entry
+     */
+    int rowEnd(int row)
+    {
+        return rowOffsets[row + 1];
+    }
+
+    /**
+     * Get the column of the non-zero entry at a particular position.
+     *
+     * @param position the position as returned by {@link #rowStart(int)} and {@link #rowEnd(int)}
+     * @return the column of the non-zero entry
+     */
+    int column(int position)
+    {
+        return columnIndices[position];
+    }
+
+    /**
+     * Get an unmodifiable view of the columns of the non-zero entries of a row.
+     *
+     * @param row the row
+     * @return an unmodifiable set view
+     */
+    Set<Integer> nonZerosSet(int row)
+    {
+        return new RowSet(rowOffsets[row], rowOffsets[row + 1]);
+    }
+
+    /**
+     * An unmodifiable set view of a row. Membership tests are linear in the number of non-zero
+     * entries of the row.
+     */
+    private class RowSet
+        extends AbstractSet<Integer>
+    {
+        private final int start;
+        private final int end;
+
+        RowSet(int start, int end)
+        {
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public Iterator<Integer> iterator()
+        {
+            return new Iterator<Integer>()
+            {
+                private int cur = start;
+
+                @Override
+                public boolean hasNext()
+                {
+                    return cur < end;
+                }
+
+                @Override
+                public Integer next()
+                {
+                    if (cur >= end) {
+                        throw new NoSuchElementException();
+                    }
+                    return columnIndices[cur++];
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return end - start;
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            if (!(o instanceof Integer)) {
+                return false;
+            }
+            int value = (Integer) o;
+            for (int i = start; i < end; i++) {
+                if (columnIndices[i] == value) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+}
+
+// End CSRBooleanMatrix.java
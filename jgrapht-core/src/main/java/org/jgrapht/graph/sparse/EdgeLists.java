@@ -0,0 +1,117 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph.sparse;
+
+import java.util.*;
+
+import org.jgrapht.alg.util.*;
+
+/**
+ * Helper methods converting edge lists into primitive arrays.
+ *
+ * @author agent
+ */
+class EdgeLists
+{
+    private EdgeLists()
+    {
+    }
+
+    /**
+     * Extract the sources of an edge list.
+     *
+     * @param edges the edge list
+     * @return the source of each edge
+     */
+    static int[] sources(List<Pair<Integer, Integer>> edges)
+    {
+        int[] result = new int[edges.size()];
+        int i = 0;
+        for (Pair<Integer, Integer> e : edges) {
+            result[i++] = e.getFirst();
+        }
+        return result;
+    }
+
+    /**
+     * Extract the targets of an edge list.
+     *
+     * @param edges the edge list
+     * @return the target of each edge
+     */
+    static int[] targets(List<Pair<Integer, Integer>> edges)
+    {
+        int[] result = new int[edges.size()];
+        int i = 0;
+        for (Pair<Integer, Integer> e : edges) {
+            result[i++] = e.getSecond();
+        }
+        return result;
+    }
+
+    /**
+     * Extract the sources of a weighted edge list.
+     *
+     * @param edges the edge list
+     * @return the source of each edge
+     */
+    static int[] weightedSources(List<Triple<Integer, Integer, Double>> edges)
+    {
+        int[] result = new int[edges.size()];
+        int i = 0;
+        for (Triple<Integer, Integer, Double> e : edges) {
+            result[i++] = e.getFirst();
+        }
+        return result;
+    }
+
+    /**
+     * Extract the targets of a weighted edge list.
+     *
+     * @param edges the edge list
+     * @return the target of each edge
+     */
+    static int[] weightedTargets(List<Triple<Integer, Integer, Double>> edges)
+    {
+        int[] result = new int[edges.size()];
+        int i = 0;
+        for (Triple<Integer, Integer, Double> e : edges) {
+            result[i++] = e.getSecond();
+        }
+        return result;
+    }
+
+    /**
+     * Extract the weights of a weighted edge list.
+     *
+     * @param edges the edge list
+     * @return the weight of each edge
+     */
+    static double[] weights(List<Triple<Integer, Integer, Double>> edges)
+    {
+        double[] result = new double[edges.size()];
+        int i = 0;
+        for (Triple<Integer, Integer, Double> e : edges) {
+            result[i++] = e.getThird();
+        }
+        return result;
+    }
+
+}
+
+// End EdgeLists.java
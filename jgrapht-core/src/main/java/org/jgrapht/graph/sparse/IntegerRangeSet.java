@@ -0,0 +1,89 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph.sparse;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * An unmodifiable set containing all integers in the range $[0, n)$. Membership tests run in
+ * constant time and no elements are stored.
+ *
+ * @author agent
+ */
+class IntegerRangeSet
+    extends AbstractSet<Integer>
+    implements Serializable
+{
+    private static final long serialVersionUID = 4385412034562189435L;
+
+    private final int n;
+
+    /**
+     * Create a new set.
+     *
+     * @param n the number of elements
+     */
+    IntegerRangeSet(int n)
+    {
+        this.n = n;
+    }
+
+    @Override
+    public Iterator<Integer> iterator()
+    {
+        return new Iterator<Integer>()
+        {
+            private int cur = 0;
+
+            @Override
+            public boolean hasNext()
+            {
+                return cur < n;
+            }
+
+            @Override
+            public Integer next()
+            {
+                if (cur >= n) {
+                    throw new NoSuchElementException();
+                }
+                return cur++;
+            }
+        };
+    }
+
+    @Override
+    public int size()
+    {
+        return n;
+    }
+
+    @Override
+    public boolean contains(Object o)
+    {
+        if (!(o instanceof Integer)) {
+            return false;
+        }
+        int value = (Integer) o;
+        return value >= 0 && value < n;
+    }
+
+}
+
+// End IntegerRangeSet.java
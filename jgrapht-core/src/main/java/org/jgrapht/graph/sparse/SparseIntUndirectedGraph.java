@@ -0,0 +1,462 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph.sparse;
+
+import java.io.*;
+import java.util.*;
+import java.util.function.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+/**
+ * An immutable sparse undirected graph.
+ *
+ * <p>
+ * Vertices are the integers $0, \dots, n-1$ and edges are the integers $0, \dots, m-1$, where edge
+ * $i$ is the $i$-th edge of the edge list provided during construction. The graph keeps the
+ * endpoints of each edge in two primitive arrays and the incident edges of each vertex in a boolean
+ * incidence matrix stored in compressed sparse row (CSR) format. A self-loop appears only once in
+ * the incidence list of its vertex but contributes two to the degree of the vertex.
+ *
+ * <p>
+ * The graph is built in linear time from an edge list and cannot be modified afterwards. All
+ * methods which modify the graph throw an {@link UnsupportedOperationException}. Lookups of the
+ * incident edges of a vertex run in constant time, while methods such as
+ * {@link #getEdge(Integer, Integer)} run in time linear in the degree of the first vertex.
+ * Multiple edges and self-loops are supported.
+ *
+ * @author agent
+ */
+public class SparseIntUndirectedGraph
+    extends AbstractGraph<Integer, Integer>
+    implements Serializable
+{
+    private static final long serialVersionUID = 3587213066389405378L;
+
+    /**
+     * Error message used when trying to modify the graph
+     */
+    protected static final String UNMODIFIABLE = "this graph is unmodifiable";
+
+    /**
+     * First endpoint of each edge
+     */
+    protected final int[] source;
+
+    /**
+     * Second endpoint of each edge
+     */
+    protected final int[] target;
+
+    /**
+     * Incidence matrix with rows the vertices and columns the edges
+     */
+    protected final CSRBooleanMatrix incidenceMatrix;
+
+    private final Set<Integer> vertexSet;
+    private final Set<Integer> edgeSet;
+
+    /**
+     * Create a new graph from an edge list.
+     *
+     * @param numVertices the number of vertices
+     * @param edges the edge list
+     * @throws IllegalArgumentException if an edge endpoint is not in $[0, numVertices)$
+     */
+    public SparseIntUndirectedGraph(int numVertices, List<Pair<Integer, Integer>> edges)
+    {
+        this(numVertices, EdgeLists.sources(edges), EdgeLists.targets(edges));
+    }
+
+    /**
+     * Create a new graph from an edge list given as two arrays. Edge $i$ connects vertex
+     * {@code sources[i]} with vertex {@code targets[i]}. The arrays are copied.
+     *
+     * @param numVertices the number of vertices
+     * @param sources the first endpoint of each edge
+     * @param targets the second endpoint of each edge
+     * @throws IllegalArgumentException if the two arrays have different lengths or an edge
+     *         endpoint is not in $[0, numVertices)$
+     */
+    public SparseIntUndirectedGraph(int numVertices, int[] sources, int[] targets)
+    {
+        if (numVertices < 0) {
+            throw new IllegalArgumentException("Number of vertices must be non-negative");
+        }
+        if (sources.length != targets.length) {
+            throw new IllegalArgumentException("Source and target arrays must have equal length");
+        }
+        int m = sources.length;
+        this.source = Arrays.copyOf(sources, m);
+        this.target = Arrays.copyOf(targets, m);
+
+        int[] rowIndices = new int[2 * m];
+        int[] edgeIds = new int[2 * m];
+        int size = 0;
+        for (int i = 0; i < m; i++) {
+            rowIndices[size] = source[i];
+            edgeIds[size++] = i;
+            if (source[i] != target[i]) {
+                rowIndices[size] = target[i];
+                edgeIds[size++] = i;
+            }
+        }
+        this.incidenceMatrix = new CSRBooleanMatrix(numVertices, m, rowIndices, edgeIds, size);
+        this.vertexSet = new IntegerRangeSet(numVertices);
+        this.edgeSet = new IntegerRangeSet(m);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @deprecated Use suppliers instead
+     */
+    @Override
+    @Deprecated
+    public EdgeFactory<Integer, Integer> getEdgeFactory()
+    {
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Supplier<Integer> getVertexSupplier()
+    {
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Supplier<Integer> getEdgeSupplier()
+    {
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer addEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean addEdge(Integer sourceVertex, Integer targetVertex, Integer e)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer addVertex()
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean addVertex(Integer v)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsEdge(Integer e)
+    {
+        return e != null && e >= 0 && e < source.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsVertex(Integer v)
+    {
+        return v != null && v >= 0 && v < incidenceMatrix.rows();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Integer> edgeSet()
+    {
+        return edgeSet;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Integer> vertexSet()
+    {
+        return vertexSet;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int degreeOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        int degree = incidenceMatrix.nonZeros(vertex);
+        int end = incidenceMatrix.rowEnd(vertex);
+        for (int i = incidenceMatrix.rowStart(vertex); i < end; i++) {
+            int e = incidenceMatrix.column(i);
+            if (source[e] == target[e]) {
+                degree++;
+            }
+        }
+        return degree;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Integer> edgesOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return incidenceMatrix.nonZerosSet(vertex);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int inDegreeOf(Integer vertex)
+    {
+        return degreeOf(vertex);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Integer> incomingEdgesOf(Integer vertex)
+    {
+        return edgesOf(vertex);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int outDegreeOf(Integer vertex)
+    {
+        return degreeOf(vertex);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Integer> outgoingEdgesOf(Integer vertex)
+    {
+        return edgesOf(vertex);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer getEdgeSource(Integer e)
+    {
+        assertEdgeExist(e);
+        return source[e];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer getEdgeTarget(Integer e)
+    {
+        assertEdgeExist(e);
+        return target[e];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GraphType getType()
+    {
+        return new DefaultGraphType.Builder()
+            .undirected().weighted(false).modifiable(false).allowMultipleEdges(true)
+            .allowSelfLoops(true).build();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@link Graph#DEFAULT_EDGE_WEIGHT}
+     */
+    @Override
+    public double getEdgeWeight(Integer e)
+    {
+        assertEdgeExist(e);
+        return Graph.DEFAULT_EDGE_WEIGHT;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setEdgeWeight(Integer e, double weight)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer getEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        if (!containsVertex(sourceVertex) || !containsVertex(targetVertex)) {
+            return null;
+        }
+        int s = sourceVertex;
+        int t = targetVertex;
+        int end = incidenceMatrix.rowEnd(s);
+        for (int i = incidenceMatrix.rowStart(s); i < end; i++) {
+            int e = incidenceMatrix.column(i);
+            if ((source[e] == s && target[e] == t) || (source[e] == t && target[e] == s)) {
+                return e;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Integer> getAllEdges(Integer sourceVertex, Integer targetVertex)
+    {
+        if (!containsVertex(sourceVertex) || !containsVertex(targetVertex)) {
+            return null;
+        }
+        int s = sourceVertex;
+        int t = targetVertex;
+        Set<Integer> result = new ArrayUnenforcedSet<>();
+        int end = incidenceMatrix.rowEnd(s);
+        for (int i = incidenceMatrix.rowStart(s); i < end; i++) {
+            int e = incidenceMatrix.column(i);
+            if ((source[e] == s && target[e] == t) || (source[e] == t && target[e] == s)) {
+                result.add(e);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Integer> removeAllEdges(Integer sourceVertex, Integer targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeAllEdges(Collection<? extends Integer> edges)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeAllVertices(Collection<? extends Integer> vertices)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer removeEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeEdge(Integer e)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeVertex(Integer v)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * Ensures that the specified edge exists in this graph, or else throws exception.
+     *
+     * @param e edge
+     * @return <code>true</code> if this assertion holds.
+     * @throws NullPointerException if specified edge is <code>null</code>.
+     * @throws IllegalArgumentException if specified edge does not exist in this graph.
+     */
+    protected boolean assertEdgeExist(Integer e)
+    {
+        if (e == null) {
+            throw new NullPointerException();
+        } else if (e < 0 || e >= source.length) {
+            throw new IllegalArgumentException("no such edge in graph: " + e);
+        }
+        return true;
+    }
+
+}
+
+// End SparseIntUndirectedGraph.java
@@ -0,0 +1,102 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph.sparse;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+
+/**
+ * An immutable sparse weighted undirected graph.
+ *
+ * <p>
+ * This is a {@link SparseIntUndirectedGraph} which additionally keeps the weight of each edge in a
+ * primitive array.
+ *
+ * @author agent
+ */
+public class SparseIntUndirectedWeightedGraph
+    extends SparseIntUndirectedGraph
+{
+    private static final long serialVersionUID = -1936287264950210307L;
+
+    /**
+     * Weight of each edge
+     */
+    protected final double[] weights;
+
+    /**
+     * Create a new graph from an edge list.
+     *
+     * @param numVertices the number of vertices
+     * @param edges the edge list with the endpoints and weight of each edge
+     * @throws IllegalArgumentException if an edge endpoint is not in $[0, numVertices)$
+     */
+    public SparseIntUndirectedWeightedGraph(
+        int numVertices, List<Triple<Integer, Integer, Double>> edges)
+    {
+        this(
+            numVertices, EdgeLists.weightedSources(edges), EdgeLists.weightedTargets(edges),
+            EdgeLists.weights(edges));
+    }
+
+    /**
+     * Create a new graph from an edge list given as three arrays. Edge $i$ connects vertex
+     * {@code sources[i]} with vertex {@code targets[i]} and has weight {@code weights[i]}. The
+     * arrays are copied.
+     *
+     * @param numVertices the number of vertices
+     * @param sources the first endpoint of each edge
+     * @param targets the second endpoint of each edge
+     * @param weights the weight of each edge
+     * @throws IllegalArgumentException if the arrays have different lengths or an edge endpoint is
+     *         not in $[0, numVertices)$
+     */
+    public SparseIntUndirectedWeightedGraph(
+        int numVertices, int[] sources, int[] targets, double[] weights)
+    {
+        super(numVertices, sources, targets);
+        if (weights.length != sources.length) {
+            throw new IllegalArgumentException("Weight and source arrays must have equal length");
+        }
+        this.weights = Arrays.copyOf(weights, weights.length);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GraphType getType()
+    {
+        return super.getType().asWeighted();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getEdgeWeight(Integer e)
+    {
+        assertEdgeExist(e);
+        return weights[e];
+    }
+
+}
+
+// End SparseIntUndirectedWeightedGraph.java
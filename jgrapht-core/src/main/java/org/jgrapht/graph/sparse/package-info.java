@@ -0,0 +1,4 @@
+/**
+ * Immutable graph implementations using sparse matrix representations.
+ */
+package org.jgrapht.graph.sparse;
@@ -26,6 +26,7 @@ import java.util.Set;
 import org.jgrapht.graph.AbstractBaseGraph;
 import org.jgrapht.graph.EdgeSetFactory;
 import org.jgrapht.util.ArrayUnenforcedSet;
+import org.jgrapht.util.CollectionUtil;
 
 /**
  * Plain implementation of DirectedSpecifics. This implementation requires the least amount of
@@ -101,6 +102,21 @@ public class DirectedSpecifics<V, E>
         return false;
     }
 
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>
+     * The vertex map is replaced by a pre-sized {@link LinkedHashMap} if it is an empty
+     * {@link LinkedHashMap}.
+     */
+    @Override
+    public void ensureCapacity(int vertexCount, int edgeCount)
+    {
+        if (vertexMapDirected.isEmpty() && vertexMapDirected.getClass() == LinkedHashMap.class) {
+            vertexMapDirected = CollectionUtil.newLinkedHashMapWithExpectedSize(vertexCount);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -82,6 +82,20 @@ public class FastLookupDirectedSpecifics<V, E>
         this.touchingVerticesToEdgeMap = new HashMap<>();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void ensureCapacity(int vertexCount, int edgeCount)
+    {
+        super.ensureCapacity(vertexCount, edgeCount);
+        if (touchingVerticesToEdgeMap.isEmpty()
+            && touchingVerticesToEdgeMap.getClass() == HashMap.class)
+        {
+            touchingVerticesToEdgeMap = CollectionUtil.newHashMapWithExpectedSize(edgeCount);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -139,4 +139,16 @@ public interface Specifics<V, E>
      * @param e the edge
      */
     void removeEdgeFromTouchingVertices(E e);
+
+    /**
+     * Prepare the internal data structures for the given number of vertices and edges, in order to
+     * avoid repeated resizing when loading a large graph. Implementations may ignore this hint, and
+     * should only act on it while the graph contains no vertices.
+     *
+     * @param vertexCount the expected number of vertices
+     * @param edgeCount the expected number of edges
+     */
+    default void ensureCapacity(int vertexCount, int edgeCount)
+    {
+    }
 }
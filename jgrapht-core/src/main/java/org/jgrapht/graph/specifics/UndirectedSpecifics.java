@@ -97,6 +97,23 @@ public class UndirectedSpecifics<V, E>
         return false;
     }
 
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>
+     * The vertex map is replaced by a pre-sized {@link LinkedHashMap} if it is an empty
+     * {@link LinkedHashMap}.
+     */
+    @Override
+    public void ensureCapacity(int vertexCount, int edgeCount)
+    {
+        if (vertexMapUndirected.isEmpty()
+            && vertexMapUndirected.getClass() == LinkedHashMap.class)
+        {
+            vertexMapUndirected = CollectionUtil.newLinkedHashMapWithExpectedSize(vertexCount);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
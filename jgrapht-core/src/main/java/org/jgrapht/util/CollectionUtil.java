@@ -0,0 +1,76 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.util;
+
+import java.util.*;
+
+/**
+ * Utility methods for collections.
+ *
+ * @author agent
+ */
+public class CollectionUtil
+{
+    private CollectionUtil()
+    {
+    }
+
+    /**
+     * Returns a new {@link HashMap} with an initial capacity large enough to hold the expected
+     * number of mappings without rehashing.
+     *
+     * @param expectedSize the expected number of mappings
+     * @param <K> the type of keys
+     * @param <V> the type of values
+     * @return a new hash map
+     */
+    public static <K, V> HashMap<K, V> newHashMapWithExpectedSize(int expectedSize)
+    {
+        return new HashMap<>(capacity(expectedSize));
+    }
+
+    /**
+     * Returns a new {@link LinkedHashMap} with an initial capacity large enough to hold the
+     * expected number of mappings without rehashing.
+     *
+     * @param expectedSize the expected number of mappings
+     * @param <K> the type of keys
+     * @param <V> the type of values
+     * @return a new linked hash map
+     */
+    public static <K, V> LinkedHashMap<K, V> newLinkedHashMapWithExpectedSize(int expectedSize)
+    {
+        return new LinkedHashMap<>(capacity(expectedSize));
+    }
+
+    /**
+     * Compute the initial capacity of a hash based collection with the default load factor.
+     */
+    private static int capacity(int expectedSize)
+    {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must be non-negative");
+        }
+        if (expectedSize < 3) {
+            return expectedSize + 1;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, (long) Math.ceil(expectedSize / 0.75d));
+    }
+}
+
+// End CollectionUtil.java
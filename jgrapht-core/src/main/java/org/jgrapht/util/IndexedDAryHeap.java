@@ -0,0 +1,299 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.util;
+
+import java.util.*;
+
+/**
+ * An indexed d-ary min-heap of integer elements with double keys.
+ *
+ * <p>
+ * The heap stores elements from the fixed range $[0, n)$ where $n$ is the capacity given at
+ * construction time. All storage is allocated once as primitive arrays, so operations on the heap
+ * never allocate memory. The position of each element inside the heap is tracked which allows
+ * membership tests and key lookups in $O(1)$ and decrease-key operations in $O(\log_d n)$. The
+ * operations {@link #insert(int, double)} and {@link #decreaseKey(int, double)} run in
+ * $O(\log_d n)$ while {@link #removeMin()} runs in $O(d \log_d n)$. Method {@link #clear()} runs in
+ * time linear in the current size of the heap and not in its capacity, which makes the heap
+ * suitable for algorithms which perform many small searches on a large graph.
+ *
+ * <p>
+ * <b>Note that this implementation is not synchronized.</b> If multiple threads access the heap
+ * concurrently, and at least one of the threads modifies the heap, it <i>must</i> be synchronized
+ * externally.
+ *
+ * @author agent
+ */
+public class IndexedDAryHeap
+{
+    /**
+     * Default arity of the heap.
+     */
+    public static final int DEFAULT_ARITY = 4;
+
+    private static final int NOT_IN_HEAP = -1;
+
+    private final int d;
+    private final int[] heap;
+    private final int[] position;
+    private final double[] keys;
+    private int size;
+
+    /**
+     * Create a new heap with the default arity.
+     *
+     * @param capacity the capacity, elements must be in $[0, capacity)$
+     */
+    public IndexedDAryHeap(int capacity)
+    {
+        this(capacity, DEFAULT_ARITY);
+    }
+
+    /**
+     * Create a new heap.
+     *
+     * @param capacity the capacity, elements must be in $[0, capacity)$
+     * @param d the arity of the heap, must be at least two
+     */
+    public IndexedDAryHeap(int capacity, int d)
+    {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must be non-negative");
+        }
+        if (d < 2) {
+            throw new IllegalArgumentException("Arity must be at least two");
+        }
+        this.d = d;
+        this.heap = new int[capacity];
+        this.position = new int[capacity];
+        Arrays.fill(position, NOT_IN_HEAP);
+        this.keys = new double[capacity];
+        this.size = 0;
+    }
+
+    /**
+     * Get the capacity of the heap.
+     *
+     * @return the capacity of the heap
+     */
+    public int capacity()
+    {
+        return heap.length;
+    }
+
+    /**
+     * Test whether the heap is empty.
+     *
+     * @return true if the heap is empty, false otherwise
+     */
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Get the number of elements in the heap.
+     *
+     * @return the number of elements in the heap
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Test whether an element is in the heap.
+     *
+     * @param element the element
+     * @return true if the element is in the heap, false otherwise
+     */
+    public boolean contains(int element)
+    {
+        return position[element] != NOT_IN_HEAP;
+    }
+
+    /**
+     * Get the key of an element in the heap.
+     *
+     * @param element the element
+     * @return the key of the element
+     * @throws NoSuchElementException if the element is not in the heap
+     */
+    public double getKey(int element)
+    {
+        if (position[element] == NOT_IN_HEAP) {
+            throw new NoSuchElementException();
+        }
+        return keys[element];
+    }
+
+    /**
+     * Insert an element into the heap.
+     *
+     * @param element the element
+     * @param key the key of the element
+     * @throws IllegalArgumentException if the element is already in the heap
+     */
+    public void insert(int element, double key)
+    {
+        if (position[element] != NOT_IN_HEAP) {
+            throw new IllegalArgumentException("Element already in heap");
+        }
+        keys[element] = key;
+        heap[size] = element;
+        position[element] = size;
+        size++;
+        siftUp(size - 1);
+    }
+
+    /**
+     * Decrease the key of an element in the heap.
+     *
+     * @param element the element
+     * @param key the new key, which must not be larger than the current key
+     * @throws NoSuchElementException if the element is not in the heap
+     * @throws IllegalArgumentException if the new key is larger than the current key
+     */
+    public void decreaseKey(int element, double key)
+    {
+        int pos = position[element];
+        if (pos == NOT_IN_HEAP) {
+            throw new NoSuchElementException();
+        }
+        if (key > keys[element]) {
+            throw new IllegalArgumentException("Key cannot be increased");
+        }
+        keys[element] = key;
+        siftUp(pos);
+    }
+
+    /**
+     * Get the element with the minimum key without removing it.
+     *
+     * @return the element with the minimum key
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public int findMin()
+    {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return heap[0];
+    }
+
+    /**
+     * Get the minimum key.
+     *
+     * @return the minimum key
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public double findMinKey()
+    {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return keys[heap[0]];
+    }
+
+    /**
+     * Remove and return the element with the minimum key.
+     *
+     * @return the element with the minimum key
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public int removeMin()
+    {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        int min = heap[0];
+        position[min] = NOT_IN_HEAP;
+        size--;
+        if (size > 0) {
+            int last = heap[size];
+            heap[0] = last;
+            position[last] = 0;
+            siftDown(0);
+        }
+        return min;
+    }
+
+    /**
+     * Remove all elements from the heap. Runs in time linear in the number of elements currently
+     * in the heap.
+     */
+    public void clear()
+    {
+        for (int i = 0; i < size; i++) {
+            position[heap[i]] = NOT_IN_HEAP;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int pos)
+    {
+        int element = heap[pos];
+        double key = keys[element];
+        while (pos > 0) {
+            int parentPos = (pos - 1) / d;
+            int parent = heap[parentPos];
+            if (keys[parent] <= key) {
+                break;
+            }
+            heap[pos] = parent;
+            position[parent] = pos;
+            pos = parentPos;
+        }
+        heap[pos] = element;
+        position[element] = pos;
+    }
+
+    private void siftDown(int pos)
+    {
+        int element = heap[pos];
+        double key = keys[element];
+        while (true) {
+            int firstChild = d * pos + 1;
+            if (firstChild >= size) {
+                break;
+            }
+            int lastChild = Math.min(firstChild + d, size);
+            int minChildPos = firstChild;
+            double minChildKey = keys[heap[firstChild]];
+            for (int c = firstChild + 1; c < lastChild; c++) {
+                double childKey = keys[heap[c]];
+                if (childKey < minChildKey) {
+                    minChildPos = c;
+                    minChildKey = childKey;
+                }
+            }
+            if (minChildKey >= key) {
+                break;
+            }
+            int minChild = heap[minChildPos];
+            heap[pos] = minChild;
+            position[minChild] = pos;
+            pos = minChildPos;
+        }
+        heap[pos] = element;
+        position[element] = pos;
+    }
+
+}
+
+// End IndexedDAryHeap.java
@@ -0,0 +1,131 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.traverse.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+/**
+ * Tests for {@link ReachabilityIndex}.
+ *
+ * @author agent
+ */
+public class ReachabilityIndexTest
+{
+
+    @Test
+    public void testSmallGraph()
+    {
+        Graph<Integer, DefaultEdge> g = new DefaultDirectedGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2, 3, 4, 5, 6));
+        g.addEdge(0, 1);
+        g.addEdge(1, 2);
+        g.addEdge(2, 0);
+        g.addEdge(2, 3);
+        g.addEdge(3, 4);
+        g.addEdge(5, 4);
+        g.addEdge(6, 6);
+
+        ReachabilityIndex<Integer, DefaultEdge> index = new ReachabilityIndex<>(g);
+        assertEquals(5, index.getNumberOfComponents());
+
+        assertTrue(index.isReachable(0, 0));
+        assertTrue(index.isReachable(2, 1));
+        assertTrue(index.isReachable(1, 4));
+        assertTrue(index.isReachable(5, 4));
+        assertTrue(index.isReachable(6, 6));
+        assertFalse(index.isReachable(4, 3));
+        assertFalse(index.isReachable(3, 0));
+        assertFalse(index.isReachable(5, 3));
+        assertFalse(index.isReachable(0, 5));
+        assertFalse(index.isReachable(0, 6));
+    }
+
+    @Test
+    public void testEmptyGraph()
+    {
+        Graph<Integer, DefaultEdge> g = new DefaultDirectedGraph<>(DefaultEdge.class);
+        assertEquals(0, new ReachabilityIndex<>(g).getNumberOfComponents());
+    }
+
+    @Test
+    public void testAgainstTransitiveClosure()
+    {
+        Random rng = new Random(17);
+        for (int i = 0; i < 20; i++) {
+            SimpleDirectedGraph<Integer, DefaultEdge> g = new SimpleDirectedGraph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+            new GnpRandomGraphGenerator<Integer, DefaultEdge>(40, 0.03 + 0.005 * i, rng, false)
+                .generateGraph(g);
+
+            ReachabilityIndex<Integer, DefaultEdge> index =
+                new ReachabilityIndex<>(g, 1 + i % 4, rng);
+
+            TransitiveClosure.INSTANCE.closeSimpleDirectedGraph(g);
+            for (Integer u : g.vertexSet()) {
+                for (Integer v : g.vertexSet()) {
+                    assertEquals(u.equals(v) || g.containsEdge(u, v), index.isReachable(u, v));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testAgainstTraversal()
+    {
+        Random rng = new Random(33);
+        Graph<Integer, DefaultEdge> g = new DirectedPseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnmRandomGraphGenerator<Integer, DefaultEdge>(500, 600, rng, true, true)
+            .generateGraph(g);
+
+        ReachabilityIndex<Integer, DefaultEdge> index = new ReachabilityIndex<>(g, 2, rng);
+        for (Integer u : g.vertexSet()) {
+            Set<Integer> reachable = new HashSet<>();
+            new BreadthFirstIterator<>(g, u).forEachRemaining(reachable::add);
+            for (Integer v : g.vertexSet()) {
+                assertEquals(reachable.contains(v), index.isReachable(u, v));
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUndirected()
+    {
+        new ReachabilityIndex<>(new SimpleGraph<Integer, DefaultEdge>(DefaultEdge.class));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNoSuchVertex()
+    {
+        Graph<Integer, DefaultEdge> g = new DefaultDirectedGraph<>(DefaultEdge.class);
+        g.addVertex(0);
+        new ReachabilityIndex<>(g).isReachable(0, 1);
+    }
+
+}
+
+// End ReachabilityIndexTest.java
@@ -0,0 +1,144 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.clique;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+/**
+ * Tests for {@link ParallelDegeneracyBronKerboschCliqueFinder}.
+ *
+ * @author agent
+ */
+public class ParallelDegeneracyBronKerboschCliqueFinderTest
+    extends BaseBronKerboschCliqueFinderTest
+{
+
+    @Override
+    protected BaseBronKerboschCliqueFinder<String, DefaultEdge> createFinder1(
+        Graph<String, DefaultEdge> graph)
+    {
+        return new ParallelDegeneracyBronKerboschCliqueFinder<>(graph);
+    }
+
+    @Override
+    protected BaseBronKerboschCliqueFinder<Object, DefaultEdge> createFinder2(
+        Graph<Object, DefaultEdge> graph)
+    {
+        return new ParallelDegeneracyBronKerboschCliqueFinder<>(graph);
+    }
+
+    @Override
+    protected BaseBronKerboschCliqueFinder<Object, DefaultEdge> createFinder2(
+        Graph<Object, DefaultEdge> graph, long timeout, TimeUnit unit)
+    {
+        return new ParallelDegeneracyBronKerboschCliqueFinder<>(graph, timeout, unit);
+    }
+
+    @Test
+    public void testRandomInstances()
+    {
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            Random rng = new Random(17);
+            // dense instances have subproblems large enough to be split into branches
+            for (double p : new double[] { 0.05, 0.3, 0.75 }) {
+                for (int i = 0; i < 5; i++) {
+                    Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+                        SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+                        false);
+                    new GnpRandomGraphGenerator<Integer, DefaultEdge>(50, p, rng, false)
+                        .generateGraph(g);
+                    // some isolated vertices
+                    g.addVertex(1000);
+                    g.addVertex(1001);
+
+                    Set<Set<Integer>> expected = new HashSet<>();
+                    new DegeneracyBronKerboschCliqueFinder<>(g).forEach(expected::add);
+
+                    ParallelDegeneracyBronKerboschCliqueFinder<Integer, DefaultEdge> finder =
+                        new ParallelDegeneracyBronKerboschCliqueFinder<>(
+                            g, 0L, TimeUnit.SECONDS, pool);
+                    List<Set<Integer>> actual = new ArrayList<>();
+                    finder.forEach(actual::add);
+
+                    assertEquals(expected.size(), actual.size());
+                    assertEquals(expected, new HashSet<>(actual));
+                    assertFalse(finder.isTimeLimitReached());
+
+                    int maxSize = expected.stream().mapToInt(Set::size).max().getAsInt();
+                    finder.maximumIterator()
+                        .forEachRemaining(c -> assertEquals(maxSize, c.size()));
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testForEachClique()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new BarabasiAlbertGraphGenerator<Integer, DefaultEdge>(5, 4, 2000, 7).generateGraph(g);
+
+        Set<Set<Integer>> expected = new HashSet<>();
+        new DegeneracyBronKerboschCliqueFinder<>(g).forEach(expected::add);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ParallelDegeneracyBronKerboschCliqueFinder<Integer, DefaultEdge> finder =
+                new ParallelDegeneracyBronKerboschCliqueFinder<>(g, 0L, TimeUnit.SECONDS, pool);
+
+            // the consumer is never invoked concurrently
+            Set<Set<Integer>> actual = new HashSet<>();
+            assertEquals(expected.size(), finder.forEachClique(actual::add));
+            assertEquals(expected, actual);
+            assertFalse(finder.isTimeLimitReached());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testTimeout()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnpRandomGraphGenerator<Integer, DefaultEdge>(300, 0.8, 5, false).generateGraph(g);
+
+        ParallelDegeneracyBronKerboschCliqueFinder<Integer, DefaultEdge> finder =
+            new ParallelDegeneracyBronKerboschCliqueFinder<>(g, 1, TimeUnit.MILLISECONDS);
+        long count = finder.forEachClique(c -> {
+        });
+        assertTrue(finder.isTimeLimitReached());
+        assertTrue(count >= 0);
+    }
+
+}
+
+// End ParallelDegeneracyBronKerboschCliqueFinderTest.java
@@ -117,6 +117,73 @@ public class ConnectivityInspectorTest
         assertEquals(true, inspector.isConnected());
     }
 
+    @Test
+    public void testListenerBeforeFirstQuery()
+    {
+        ListenableGraph<String, DefaultEdge> g =
+            new DefaultListenableGraph<>(new SimpleGraph<>(DefaultEdge.class));
+        ConnectivityInspector<String, DefaultEdge> inspector = new ConnectivityInspector<>(g);
+        g.addGraphListener(inspector);
+
+        g.addVertex(V1);
+        g.addVertex(V2);
+        g.addVertex(V3);
+        assertEquals(3, inspector.connectedSets().size());
+
+        g.addVertex(V4);
+        g.addEdge(V1, V2);
+        g.addEdge(V3, V4);
+        assertEquals(2, inspector.connectedSets().size());
+
+        g.addEdge(V2, V3);
+        assertEquals(true, inspector.isConnected());
+        assertEquals(4, inspector.connectedSetOf(V1).size());
+        assertEquals(true, inspector.pathExists(V4, V1));
+    }
+
+    @Test
+    public void testEdgeInsertionBeforeFirstQuery()
+    {
+        ListenableGraph<String, DefaultEdge> g =
+            new DefaultListenableGraph<>(new SimpleGraph<>(DefaultEdge.class));
+        ConnectivityInspector<String, DefaultEdge> inspector = new ConnectivityInspector<>(g);
+        g.addGraphListener(inspector);
+
+        g.addVertex(V1);
+        g.addVertex(V2);
+        assertEquals(1, inspector.connectedSetOf(V1).size());
+        g.addEdge(V1, V2);
+        assertEquals(true, inspector.pathExists(V1, V2));
+        assertEquals(2, inspector.connectedSetOf(V1).size());
+        assertEquals(true, inspector.isConnected());
+    }
+
+    @Test
+    public void testEdgeInsertionAfterDeletion()
+    {
+        ListenableGraph<String, DefaultEdge> g =
+            new DefaultListenableGraph<>(new SimpleGraph<>(DefaultEdge.class));
+        ConnectivityInspector<String, DefaultEdge> inspector = new ConnectivityInspector<>(g);
+        g.addGraphListener(inspector);
+
+        g.addVertex(V1);
+        g.addVertex(V2);
+        g.addVertex(V3);
+        g.addEdge(V1, V2);
+        assertEquals(2, inspector.connectedSets().size());
+
+        g.removeEdge(V1, V2);
+        g.addEdge(V2, V3);
+        assertEquals(false, inspector.pathExists(V1, V2));
+        assertEquals(true, inspector.pathExists(V2, V3));
+        assertEquals(2, inspector.connectedSets().size());
+
+        g.removeVertex(V1);
+        g.addVertex(V4);
+        g.addEdge(V3, V4);
+        assertEquals(true, inspector.isConnected());
+    }
+
     /**
      * .
      */
@@ -0,0 +1,161 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.connectivity;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+/**
+ * Tests for {@link DynamicConnectivityInspector}.
+ *
+ * @author agent
+ */
+public class DynamicConnectivityInspectorTest
+{
+
+    @Test
+    public void testSmallUndirected()
+    {
+        ListenableGraph<Integer, DefaultEdge> g =
+            new DefaultListenableGraph<>(new SimpleGraph<>(DefaultEdge.class));
+        DynamicConnectivityInspector<Integer, DefaultEdge> inspector =
+            new DynamicConnectivityInspector<>(g);
+        g.addGraphListener(inspector);
+
+        assertFalse(inspector.isConnected());
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2, 3));
+        g.addEdge(0, 1);
+        g.addEdge(1, 2);
+        g.addEdge(2, 0);
+        assertTrue(inspector.pathExists(0, 2));
+        assertFalse(inspector.pathExists(0, 3));
+        assertEquals(2, inspector.connectedSets().size());
+
+        g.addEdge(2, 3);
+        assertTrue(inspector.isConnected());
+
+        g.removeEdge(0, 1);
+        assertTrue(inspector.isConnected());
+        g.removeEdge(1, 2);
+        assertFalse(inspector.isConnected());
+        assertEquals(new HashSet<>(Arrays.asList(0, 2, 3)), inspector.connectedSetOf(3));
+        assertEquals(Collections.singleton(1), inspector.connectedSetOf(1));
+
+        g.removeVertex(2);
+        assertEquals(3, inspector.connectedSets().size());
+        assertFalse(inspector.pathExists(0, 3));
+    }
+
+    @Test
+    public void testDirectedMultigraph()
+    {
+        ListenableGraph<Integer, DefaultEdge> g =
+            new DefaultListenableGraph<>(new DirectedPseudograph<>(DefaultEdge.class));
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2));
+        DefaultEdge e1 = g.addEdge(0, 1);
+        DefaultEdge e2 = g.addEdge(0, 1);
+        g.addEdge(1, 1);
+        g.addEdge(2, 1);
+
+        DynamicConnectivityInspector<Integer, DefaultEdge> inspector =
+            new DynamicConnectivityInspector<>(g);
+        g.addGraphListener(inspector);
+        assertTrue(inspector.isConnected());
+
+        g.removeEdge(e1);
+        assertTrue(inspector.pathExists(2, 0));
+        g.removeEdge(e2);
+        assertFalse(inspector.pathExists(2, 0));
+        assertTrue(inspector.pathExists(2, 1));
+
+        g.removeVertex(1);
+        assertEquals(2, inspector.connectedSets().size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingVertex()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        g.addVertex(0);
+        new DynamicConnectivityInspector<>(g).pathExists(0, 1);
+    }
+
+    @Test
+    public void testRandomUpdates()
+    {
+        Random rng = new Random(17);
+        for (int n : new int[] { 10, 50, 200 }) {
+            ListenableGraph<Integer, DefaultEdge> g = new DefaultListenableGraph<>(
+                new Pseudograph<>(
+                    SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+                    false));
+            new GnmRandomGraphGenerator<Integer, DefaultEdge>(n, n, rng, true, true)
+                .generateGraph(g);
+            DynamicConnectivityInspector<Integer, DefaultEdge> inspector =
+                new DynamicConnectivityInspector<>(g);
+            g.addGraphListener(inspector);
+            List<DefaultEdge> edges = new ArrayList<>(g.edgeSet());
+            int next = n;
+
+            for (int round = 0; round < 20 * n; round++) {
+                int op = rng.nextInt(10);
+                if (op < 4 || edges.isEmpty()) {
+                    List<Integer> vertices = new ArrayList<>(g.vertexSet());
+                    Integer u = vertices.get(rng.nextInt(vertices.size()));
+                    Integer v = vertices.get(rng.nextInt(vertices.size()));
+                    edges.add(g.addEdge(u, v));
+                } else if (op < 9) {
+                    g.removeEdge(edges.remove(rng.nextInt(edges.size())));
+                } else if (rng.nextBoolean()) {
+                    g.addVertex(next++);
+                } else {
+                    List<Integer> vertices = new ArrayList<>(g.vertexSet());
+                    g.removeVertex(vertices.get(rng.nextInt(vertices.size())));
+                    edges.retainAll(g.edgeSet());
+                }
+
+                if (round % 7 == 0) {
+                    assertSameComponents(g, inspector);
+                }
+            }
+            assertSameComponents(g, inspector);
+        }
+    }
+
+    private static <V, E> void assertSameComponents(
+        Graph<V, E> g, DynamicConnectivityInspector<V, E> inspector)
+    {
+        ConnectivityInspector<V, E> expected = new ConnectivityInspector<>(g);
+        assertEquals(
+            new HashSet<>(expected.connectedSets()), new HashSet<>(inspector.connectedSets()));
+        assertEquals(expected.isConnected(), inspector.isConnected());
+        for (V v : g.vertexSet()) {
+            assertEquals(expected.connectedSetOf(v), inspector.connectedSetOf(v));
+        }
+    }
+
+}
+
+// End DynamicConnectivityInspectorTest.java
@@ -0,0 +1,169 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.connectivity;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+/**
+ * Tests for {@link ParallelStrongConnectivityInspector}.
+ *
+ * @author agent
+ */
+public class ParallelStrongConnectivityInspectorTest
+{
+
+    @Test
+    public void testRandomInstances()
+    {
+        ForkJoinPool sequential = new ForkJoinPool(1);
+        ForkJoinPool parallel = new ForkJoinPool(4);
+        try {
+            Random rng = new Random(17);
+            // large enough to be split by the forward-backward algorithm
+            for (int m : new int[] { 8000, 12000, 20000 }) {
+                Graph<Integer, DefaultEdge> g = new DirectedPseudograph<>(
+                    SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+                    false);
+                new GnmRandomGraphGenerator<Integer, DefaultEdge>(10000, m, rng, true, true)
+                    .generateGraph(g);
+
+                Set<Set<Integer>> expected = new HashSet<>(
+                    new GabowStrongConnectivityInspector<>(g).stronglyConnectedSets());
+                for (ForkJoinPool pool : Arrays.asList(sequential, parallel)) {
+                    List<Set<Integer>> actual =
+                        new ParallelStrongConnectivityInspector<>(g, pool).stronglyConnectedSets();
+                    assertEquals(expected.size(), actual.size());
+                    assertEquals(expected, new HashSet<>(actual));
+                }
+            }
+        } finally {
+            sequential.shutdown();
+            parallel.shutdown();
+        }
+    }
+
+    @Test
+    public void testLongPaths()
+    {
+        int n = 200000;
+        Graph<Integer, DefaultEdge> g = new SimpleDirectedGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        for (int i = 0; i < n; i++) {
+            g.addVertex();
+        }
+        for (int i = 1; i < n; i++) {
+            g.addEdge(i - 1, i);
+        }
+
+        ForkJoinPool sequential = new ForkJoinPool(1);
+        ForkJoinPool parallel = new ForkJoinPool(4);
+        try {
+            // a path has only trivial components
+            assertEquals(
+                n, new ParallelStrongConnectivityInspector<>(g, sequential)
+                    .getStronglyConnectedIndexSets().size());
+            assertEquals(
+                n, new ParallelStrongConnectivityInspector<>(g, parallel)
+                    .getStronglyConnectedIndexSets().size());
+
+            // a long cycle and a long path of 2-cycles
+            g.addEdge(n - 1, 0);
+            Graph<Integer, DefaultEdge> h = new SimpleDirectedGraph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+            for (int i = 0; i < n; i++) {
+                h.addVertex();
+            }
+            for (int i = 1; i < n; i++) {
+                h.addEdge(i - 1, i);
+                if (i % 2 == 1) {
+                    h.addEdge(i, i - 1);
+                }
+            }
+            for (ForkJoinPool pool : Arrays.asList(sequential, parallel)) {
+                assertTrue(
+                    new ParallelStrongConnectivityInspector<>(g, pool).isStronglyConnected());
+                List<int[]> sets = new ParallelStrongConnectivityInspector<>(h, pool)
+                    .getStronglyConnectedIndexSets();
+                assertEquals(n / 2, sets.size());
+                for (int[] set : sets) {
+                    assertEquals(2, set.length);
+                }
+            }
+        } finally {
+            sequential.shutdown();
+            parallel.shutdown();
+        }
+    }
+
+    @Test
+    public void testIndexSets()
+    {
+        Graph<String, DefaultEdge> g = new DefaultDirectedGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b", "c", "d", "e"));
+        g.addEdge("a", "b");
+        g.addEdge("b", "a");
+        g.addEdge("b", "c");
+        g.addEdge("c", "d");
+        g.addEdge("d", "e");
+        g.addEdge("e", "c");
+
+        ParallelStrongConnectivityInspector<String, DefaultEdge> inspector =
+            new ParallelStrongConnectivityInspector<>(g);
+        VertexToIntegerMapping<String> mapping = inspector.getVertexToIntegerMapping();
+        List<int[]> sets = inspector.getStronglyConnectedIndexSets();
+        int[] ids = inspector.getComponentIds();
+
+        assertEquals(2, sets.size());
+        assertEquals(5, ids.length);
+        for (int c = 0; c < sets.size(); c++) {
+            for (int v : sets.get(c)) {
+                assertEquals(c, ids[v]);
+            }
+        }
+        assertEquals(ids[mapping.indexOf("a")], ids[mapping.indexOf("b")]);
+        assertEquals(ids[mapping.indexOf("c")], ids[mapping.indexOf("e")]);
+        assertNotEquals(ids[mapping.indexOf("a")], ids[mapping.indexOf("c")]);
+
+        Graph<Graph<String, DefaultEdge>, DefaultEdge> condensation = inspector.getCondensation();
+        assertEquals(2, condensation.vertexSet().size());
+        assertEquals(1, condensation.edgeSet().size());
+    }
+
+    @Test
+    public void testEmpty()
+    {
+        Graph<String, DefaultEdge> g = new DefaultDirectedGraph<>(DefaultEdge.class);
+        ParallelStrongConnectivityInspector<String, DefaultEdge> inspector =
+            new ParallelStrongConnectivityInspector<>(g);
+        assertTrue(inspector.stronglyConnectedSets().isEmpty());
+        assertEquals(0, inspector.getComponentIds().length);
+    }
+
+}
+
+// End ParallelStrongConnectivityInspectorTest.java
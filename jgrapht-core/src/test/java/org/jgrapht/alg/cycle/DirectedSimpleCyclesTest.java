@@ -17,8 +17,10 @@
  */
 package org.jgrapht.alg.cycle;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.util.*;
 import java.util.function.Function;
 
 import org.jgrapht.*;
@@ -39,6 +41,7 @@ public class DirectedSimpleCyclesTest
         testAlgorithm(g -> new JohnsonSimpleCycles<Integer, DefaultEdge>(g));
         testAlgorithm(g -> new SzwarcfiterLauerSimpleCycles<Integer, DefaultEdge>(g));
         testAlgorithm(g -> new HawickJamesSimpleCycles<Integer, DefaultEdge>(g));
+        testAlgorithm(g -> new ParallelJohnsonSimpleCycles<Integer, DefaultEdge>(g));
 
         testAlgorithmWithWeightedGraph(
             g -> new TiernanSimpleCycles<Integer, DefaultWeightedEdge>(g));
@@ -50,6 +53,79 @@ public class DirectedSimpleCyclesTest
             g -> new SzwarcfiterLauerSimpleCycles<Integer, DefaultWeightedEdge>(g));
         testAlgorithmWithWeightedGraph(
             g -> new HawickJamesSimpleCycles<Integer, DefaultWeightedEdge>(g));
+        testAlgorithmWithWeightedGraph(
+            g -> new ParallelJohnsonSimpleCycles<Integer, DefaultWeightedEdge>(g));
+    }
+
+    @Test
+    public void testConsumer()
+    {
+        Graph<Integer, DefaultEdge> graph = completeGraph(6);
+        List<Function<Graph<Integer, DefaultEdge>,
+            DirectedSimpleCycles<Integer, DefaultEdge>>> algs = Arrays.asList(
+                TiernanSimpleCycles::new, TarjanSimpleCycles::new, JohnsonSimpleCycles::new,
+                SzwarcfiterLauerSimpleCycles::new, HawickJamesSimpleCycles::new,
+                ParallelJohnsonSimpleCycles::new);
+        for (Function<Graph<Integer, DefaultEdge>,
+            DirectedSimpleCycles<Integer, DefaultEdge>> algProvider : algs)
+        {
+            long[] count = new long[1];
+            algProvider.apply(graph).simpleCycles(c -> {
+                assertTrue(c.size() >= 1 && c.size() <= 6);
+                count[0]++;
+            });
+            assertEquals(RESULTS[6], count[0]);
+        }
+    }
+
+    @Test
+    public void testBounds()
+    {
+        Graph<Integer, DefaultEdge> graph = completeGraph(7);
+        // number of cycles of each length in a complete digraph with self-loops
+        long withLengthAtMost3 = 7 + 21 + 2 * 35;
+
+        JohnsonSimpleCycles<Integer, DefaultEdge> johnson = new JohnsonSimpleCycles<>(graph);
+        johnson.setMaxCycleLength(3);
+        assertEquals(withLengthAtMost3, johnson.findSimpleCycles().size());
+        johnson.setMaxCycleCount(10);
+        assertEquals(10, johnson.findSimpleCycles().size());
+
+        HawickJamesSimpleCycles<Integer, DefaultEdge> hawickJames =
+            new HawickJamesSimpleCycles<>(graph);
+        hawickJames.setMaxCycleLength(3);
+        assertEquals(withLengthAtMost3, hawickJames.countSimpleCycles());
+        assertEquals(withLengthAtMost3, hawickJames.findSimpleCycles().size());
+        hawickJames.setMaxCycleCount(10);
+        assertEquals(10, hawickJames.findSimpleCycles().size());
+
+        ParallelJohnsonSimpleCycles<Integer, DefaultEdge> parallel =
+            new ParallelJohnsonSimpleCycles<>(graph);
+        parallel.setMaxCycleLength(3);
+        assertEquals(withLengthAtMost3, parallel.countSimpleCycles());
+        parallel.setMaxCycleCount(10);
+        assertEquals(10, parallel.findSimpleCycles().size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidMaxCycleLength()
+    {
+        new JohnsonSimpleCycles<>(completeGraph(2)).setMaxCycleLength(0);
+    }
+
+    private static Graph<Integer, DefaultEdge> completeGraph(int size)
+    {
+        Graph<Integer, DefaultEdge> graph = new DefaultDirectedGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        for (int i = 0; i < size; i++) {
+            graph.addVertex(i);
+        }
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                graph.addEdge(i, j);
+            }
+        }
+        return graph;
     }
 
     private void testAlgorithm(
@@ -0,0 +1,147 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.cycle;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+/**
+ * Tests for {@link ParallelJohnsonSimpleCycles}.
+ *
+ * @author agent
+ */
+public class ParallelJohnsonSimpleCyclesTest
+{
+    private static ForkJoinPool pool;
+    private static ForkJoinPool sequentialPool;
+
+    @BeforeClass
+    public static void setUp()
+    {
+        pool = new ForkJoinPool(4);
+        sequentialPool = new ForkJoinPool(1);
+    }
+
+    @AfterClass
+    public static void tearDown()
+    {
+        pool.shutdown();
+        sequentialPool.shutdown();
+    }
+
+    @Test
+    public void testRandomInstances()
+    {
+        Random rng = new Random(17);
+        for (int i = 0; i < 20; i++) {
+            Graph<Integer, DefaultEdge> g = new DirectedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+            new GnmRandomGraphGenerator<Integer, DefaultEdge>(12, 30, rng, true, true)
+                .generateGraph(g);
+
+            Set<List<Integer>> expected =
+                normalize(new TiernanSimpleCycles<>(g).findSimpleCycles());
+            for (ForkJoinPool p : Arrays.asList(pool, sequentialPool)) {
+                List<List<Integer>> cycles =
+                    new ParallelJohnsonSimpleCycles<>(g, p).findSimpleCycles();
+                assertEquals(expected.size(), cycles.size());
+                assertEquals(expected, normalize(cycles));
+            }
+        }
+    }
+
+    @Test
+    public void testMaxCycleLength()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleDirectedGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnmRandomGraphGenerator<Integer, DefaultEdge>(15, 60, 17).generateGraph(g);
+
+        List<List<Integer>> all = new JohnsonSimpleCycles<>(g).findSimpleCycles();
+        for (int maxLength = 1; maxLength <= 6; maxLength++) {
+            Set<List<Integer>> expected = new HashSet<>();
+            for (List<Integer> c : normalize(all)) {
+                if (c.size() <= maxLength) {
+                    expected.add(c);
+                }
+            }
+            ParallelJohnsonSimpleCycles<Integer, DefaultEdge> alg =
+                new ParallelJohnsonSimpleCycles<>(g, pool);
+            alg.setMaxCycleLength(maxLength);
+            assertEquals(expected, normalize(alg.findSimpleCycles()));
+            assertEquals(expected.size(), alg.countSimpleCycles());
+
+            JohnsonSimpleCycles<Integer, DefaultEdge> johnson = new JohnsonSimpleCycles<>(g);
+            johnson.setMaxCycleLength(maxLength);
+            assertEquals(expected, normalize(johnson.findSimpleCycles()));
+        }
+    }
+
+    @Test
+    public void testMaxCycleCount()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleDirectedGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new CompleteGraphGenerator<Integer, DefaultEdge>(20).generateGraph(g);
+
+        ParallelJohnsonSimpleCycles<Integer, DefaultEdge> alg =
+            new ParallelJohnsonSimpleCycles<>(g, pool);
+        alg.setMaxCycleCount(1000);
+        List<List<Integer>> cycles = alg.findSimpleCycles();
+        assertEquals(1000, cycles.size());
+        assertEquals(1000, normalize(cycles).size());
+    }
+
+    @Test
+    public void testLongCycle()
+    {
+        int n = 100000;
+        Graph<Integer, DefaultEdge> g = new SimpleDirectedGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new RingGraphGenerator<Integer, DefaultEdge>(n).generateGraph(g);
+
+        List<List<Integer>> cycles = new ParallelJohnsonSimpleCycles<>(g, pool).findSimpleCycles();
+        assertEquals(1, cycles.size());
+        assertEquals(n, cycles.get(0).size());
+    }
+
+    /**
+     * Rotate each cycle so that it starts with its smallest vertex.
+     */
+    private static Set<List<Integer>> normalize(List<List<Integer>> cycles)
+    {
+        Set<List<Integer>> result = new HashSet<>();
+        for (List<Integer> c : cycles) {
+            List<Integer> rotated = new ArrayList<>(c);
+            Collections.rotate(rotated, -rotated.indexOf(Collections.min(rotated)));
+            result.add(rotated);
+        }
+        return result;
+    }
+
+}
+
+// End ParallelJohnsonSimpleCyclesTest.java
@@ -17,11 +17,16 @@
  */
 package org.jgrapht.alg.flow;
 
+import java.util.Random;
+
 import org.jgrapht.Graph;
 import org.jgrapht.alg.interfaces.MaximumFlowAlgorithm;
+import org.jgrapht.generate.WattsStrogatzGraphGenerator;
 import org.jgrapht.graph.DefaultEdge;
 import org.jgrapht.graph.DefaultWeightedEdge;
 import org.jgrapht.graph.SimpleDirectedGraph;
+import org.jgrapht.graph.SimpleDirectedWeightedGraph;
+import org.jgrapht.util.SupplierUtil;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
@@ -58,4 +63,24 @@ public class PushRelabelMFImplTest
         double flow = mf1.calculateMaximumFlow(sourceFlow,sinkFlow);
         assertEquals(0.0, flow,0);
     }
+
+    /**
+     * Excess below the tolerance used to be considered active, while push() refused to move it,
+     * resulting in an infinite loop.
+     */
+    @Test(timeout = 10000)
+    public void testExcessWithinTolerance()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = new SimpleDirectedWeightedGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        new WattsStrogatzGraphGenerator<Integer, DefaultWeightedEdge>(200, 8, 0.1, 17)
+            .generateGraph(g);
+        Random rng = new Random(17);
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            g.setEdgeWeight(e, 1d + 99d * rng.nextDouble());
+        }
+
+        double expected = new DinicMFImpl<>(g).calculateMaximumFlow(0, 199);
+        assertEquals(expected, new PushRelabelMFImpl<>(g).calculateMaximumFlow(0, 199), 1e-9);
+    }
 }
@@ -20,6 +20,8 @@ package org.jgrapht.alg.isomorphism;
 import static org.junit.Assert.assertEquals;
 
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.util.*;
@@ -929,4 +931,103 @@ public class VF2SubgraphIsomorphismInspectorTest
                 + (System.currentTimeMillis() - time) + "ms");
     }
 
+    /**
+     * PAR-1: Tests if the parallel enumeration finds the same mappings as the iterator.
+     */
+    @Test
+    public void testParallelMappings()
+    {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Random rnd = new Random(7);
+            for (int i = 1; i < 40; i++) {
+                int vertexCount = 10 + rnd.nextInt(60), edgeCount = vertexCount * 2,
+                    subVertexCount = 1 + rnd.nextInt(5);
+
+                Graph<Integer, DefaultEdge> g1 =
+                    SubgraphIsomorphismTestUtils.randomGraph(vertexCount, edgeCount, i),
+                    g2 = connectedSubgraph(g1, rnd.nextInt(vertexCount), subVertexCount);
+
+                VF2SubgraphIsomorphismInspector<Integer, DefaultEdge> vf2 =
+                    new VF2SubgraphIsomorphismInspector<>(g1, g2, i % 2 == 0);
+
+                Set<String> expected = new HashSet<>();
+                for (Iterator<GraphMapping<Integer, DefaultEdge>> mappings = vf2.getMappings();
+                    mappings.hasNext();)
+                {
+                    expected.add(mappings.next().toString());
+                }
+
+                Set<String> actual = new HashSet<>();
+                long count = vf2.forEachMapping(m -> {
+                    assertEquals(true, SubgraphIsomorphismTestUtils.isCorrectMatching(m, g1, g2));
+                    actual.add(m.toString());
+                    return true;
+                }, pool);
+
+                assertEquals(expected.size(), count);
+                assertEquals(expected, actual);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Induced subgraph on the first vertices visited by a breadth-first search ignoring the edge
+     * directions, relabeled with 0, 1, ...
+     */
+    private static Graph<Integer, DefaultEdge> connectedSubgraph(
+        Graph<Integer, DefaultEdge> g, Integer start, int vertexCount)
+    {
+        List<Integer> vertices = new ArrayList<>();
+        vertices.add(start);
+        for (int i = 0; i < vertices.size() && vertices.size() < vertexCount; i++) {
+            for (DefaultEdge e : g.edgesOf(vertices.get(i))) {
+                Integer u = Graphs.getOppositeVertex(g, e, vertices.get(i));
+                if (!vertices.contains(u) && vertices.size() < vertexCount) {
+                    vertices.add(u);
+                }
+            }
+        }
+
+        Graph<Integer, DefaultEdge> sub = new DefaultDirectedGraph<>(DefaultEdge.class);
+        for (int i = 0; i < vertices.size(); i++) {
+            sub.addVertex(i);
+        }
+        for (int i = 0; i < vertices.size(); i++) {
+            for (int j = 0; j < vertices.size(); j++) {
+                if (g.containsEdge(vertices.get(i), vertices.get(j))) {
+                    sub.addEdge(i, j);
+                }
+            }
+        }
+        return sub;
+    }
+
+    /**
+     * PAR-2: Tests early termination and edge cases of the parallel enumeration.
+     */
+    @Test
+    public void testParallelMappingsCancel()
+    {
+        Graph<Integer, DefaultEdge> g1 = SubgraphIsomorphismTestUtils.randomGraph(200, 1500, 3),
+            g2 = SubgraphIsomorphismTestUtils.randomGraph(3, 2, 3);
+
+        VF2SubgraphIsomorphismInspector<Integer, DefaultEdge> vf2 =
+            new VF2SubgraphIsomorphismInspector<>(g1, g2, false);
+        assertEquals(true, vf2.forEachMapping(m -> true) > 10);
+
+        AtomicInteger calls = new AtomicInteger();
+        long count = vf2.forEachMapping(m -> calls.incrementAndGet() < 5);
+        assertEquals(5, count);
+        assertEquals(5, calls.get());
+
+        Graph<Integer, DefaultEdge> empty = new DefaultDirectedGraph<>(DefaultEdge.class);
+        assertEquals(
+            1, new VF2SubgraphIsomorphismInspector<>(g1, empty).forEachMapping(m -> true));
+        assertEquals(
+            0, new VF2SubgraphIsomorphismInspector<>(g2, g1).forEachMapping(m -> true));
+    }
+
 }
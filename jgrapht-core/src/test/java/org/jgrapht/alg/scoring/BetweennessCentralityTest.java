@@ -171,6 +171,25 @@ public class BetweennessCentralityTest
         
     }
     
+    @Test
+    public void testWeightedShorterPathFoundLater()
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new SimpleDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("s", "a", "b", "w"));
+        g.setEdgeWeight(g.addEdge("s", "w"), 5.0);
+        g.setEdgeWeight(g.addEdge("s", "b"), 3.0);
+        g.setEdgeWeight(g.addEdge("s", "a"), 1.0);
+        g.setEdgeWeight(g.addEdge("b", "w"), 1.0);
+        g.setEdgeWeight(g.addEdge("a", "w"), 1.0);
+
+        Map<String, Double> scores = new BetweennessCentrality<>(g).getScores();
+        assertEquals(0.0, scores.get("s"), 1e-9);
+        assertEquals(1.0, scores.get("a"), 1e-9);
+        assertEquals(0.0, scores.get("b"), 1e-9);
+        assertEquals(0.0, scores.get("w"), 1e-9);
+    }
+
     @Test
     public void testStar()
     {
@@ -0,0 +1,282 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.scoring;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+/**
+ * Unit tests for ParallelBetweennessCentrality
+ *
+ * @author agent
+ */
+public class ParallelBetweennessCentralityTest
+{
+
+    @Test
+    public void testDirectedRandomGraphs()
+    {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (long seed = 0; seed < 5; seed++) {
+                Graph<Integer, DefaultEdge> g = new DirectedPseudograph<>(
+                    SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+                    false);
+                new GnmRandomGraphGenerator<Integer, DefaultEdge>(100, 400, seed, true, true)
+                    .generateGraph(g);
+                assertSameScores(g, pool, false);
+                assertSameScores(g, pool, true);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testUndirectedRandomGraphs()
+    {
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            for (long seed = 0; seed < 5; seed++) {
+                Graph<Integer, DefaultEdge> g = new Pseudograph<>(
+                    SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+                    false);
+                new GnmRandomGraphGenerator<Integer, DefaultEdge>(100, 300, seed, true, true)
+                    .generateGraph(g);
+                assertSameScores(g, pool, false);
+                assertSameScores(g, pool, true);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testWeightedRandomGraphs()
+    {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (long seed = 0; seed < 5; seed++) {
+                boolean directed = seed % 2 == 0;
+                Graph<Integer, DefaultWeightedEdge> g = directed
+                    ? new DirectedWeightedPseudograph<>(
+                        SupplierUtil.createIntegerSupplier(),
+                        SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER)
+                    : new WeightedPseudograph<>(
+                        SupplierUtil.createIntegerSupplier(),
+                        SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+                new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(
+                    40, 150, seed, false, true).generateGraph(g);
+                Random rng = new Random(seed);
+                for (DefaultWeightedEdge e : g.edgeSet()) {
+                    g.setEdgeWeight(e, 1d + rng.nextInt(3));
+                }
+
+                Map<Integer, Double> expected = bruteForce(g);
+                Map<Integer, Double> actual =
+                    new ParallelBetweennessCentrality<>(g, false, pool).getScores();
+                for (Integer v : g.vertexSet()) {
+                    assertEquals(expected.get(v), actual.get(v), 1e-9);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testWeighted()
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new SimpleDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("A", "B", "C", "D", "E", "F", "G"));
+        g.setEdgeWeight(g.addEdge("A", "B"), 0.7);
+        g.setEdgeWeight(g.addEdge("A", "D"), 0.3);
+        g.setEdgeWeight(g.addEdge("B", "C"), 0.9);
+        g.setEdgeWeight(g.addEdge("C", "A"), 1.3);
+        g.setEdgeWeight(g.addEdge("C", "D"), 0.57);
+        g.setEdgeWeight(g.addEdge("D", "B"), 1.0);
+        g.setEdgeWeight(g.addEdge("D", "E"), 0.8);
+        g.setEdgeWeight(g.addEdge("D", "F"), 0.2);
+        g.setEdgeWeight(g.addEdge("E", "G"), 0.4);
+        g.setEdgeWeight(g.addEdge("F", "E"), 0.6);
+        g.setEdgeWeight(g.addEdge("G", "F"), 0.2);
+
+        Map<String, Double> scores = new ParallelBetweennessCentrality<>(g).getScores();
+        assertEquals(0.0, scores.get("A"), 0.0);
+        assertEquals(3.0, scores.get("B"), 0.0);
+        assertEquals(6.0, scores.get("C"), 0.0);
+        assertEquals(10.0, scores.get("D"), 0.0);
+        assertEquals(5.0, scores.get("E"), 0.0);
+        assertEquals(5.0, scores.get("F"), 0.0);
+        assertEquals(1.0, scores.get("G"), 0.0);
+    }
+
+    @Test
+    public void testPivots()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnmRandomGraphGenerator<Integer, DefaultEdge>(100, 300, 17).generateGraph(g);
+
+        ForkJoinPool pool1 = new ForkJoinPool(1);
+        ForkJoinPool pool4 = new ForkJoinPool(4);
+        try {
+            // all vertices as pivots gives the exact scores
+            Map<Integer, Double> exact = new BetweennessCentrality<>(g).getScores();
+            Map<Integer, Double> allPivots =
+                new ParallelBetweennessCentrality<>(g, false, pool4, 1000, new Random(5))
+                    .getScores();
+            for (Integer v : g.vertexSet()) {
+                assertEquals(exact.get(v), allPivots.get(v), 1e-9);
+            }
+
+            // approximation is independent of the number of threads
+            Map<Integer, Double> approx1 =
+                new ParallelBetweennessCentrality<>(g, false, pool1, 20, new Random(5))
+                    .getScores();
+            Map<Integer, Double> approx4 =
+                new ParallelBetweennessCentrality<>(g, false, pool4, 20, new Random(5))
+                    .getScores();
+            double exactSum = 0d;
+            double approxSum = 0d;
+            for (Integer v : g.vertexSet()) {
+                assertEquals(approx1.get(v), approx4.get(v), 1e-9);
+                exactSum += exact.get(v);
+                approxSum += approx4.get(v);
+            }
+            assertEquals(1d, approxSum / exactSum, 0.25);
+        } finally {
+            pool1.shutdown();
+            pool4.shutdown();
+        }
+    }
+
+    @Test
+    public void testEmptyGraph()
+    {
+        Graph<String, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        assertTrue(new ParallelBetweennessCentrality<>(g, true).getScores().isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeWeights()
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new SimpleDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("1", "2"));
+        g.setEdgeWeight(g.addEdge("1", "2"), -1d);
+        new ParallelBetweennessCentrality<>(g).getScores();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBadPivots()
+    {
+        Graph<String, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        new ParallelBetweennessCentrality<>(g, false, ForkJoinPool.commonPool(), 0, new Random());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownVertex()
+    {
+        Graph<String, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        g.addVertex("1");
+        new ParallelBetweennessCentrality<>(g).getVertexScore("2");
+    }
+
+    private static <V, E> void assertSameScores(Graph<V, E> g, ForkJoinPool pool, boolean normalize)
+    {
+        BetweennessCentrality<V, E> expected = new BetweennessCentrality<>(g, normalize);
+        ParallelBetweennessCentrality<V, E> actual =
+            new ParallelBetweennessCentrality<>(g, normalize, pool);
+        for (V v : g.vertexSet()) {
+            assertEquals(expected.getVertexScore(v), actual.getVertexScore(v), 1e-9);
+        }
+    }
+
+    /**
+     * Compute betweenness using all-pairs shortest path distances and path counts. Assumes positive
+     * edge weights.
+     */
+    private static <V, E> Map<V, Double> bruteForce(Graph<V, E> g)
+    {
+        ShortestPathAlgorithm<V, E> sp = new FloydWarshallShortestPaths<>(g);
+
+        Map<V, Map<V, Double>> sigma = new HashMap<>();
+        for (V s : g.vertexSet()) {
+            List<V> order = new ArrayList<>(g.vertexSet());
+            order.sort(Comparator.comparingDouble(v -> sp.getPathWeight(s, v)));
+            Map<V, Double> sigmaS = new HashMap<>();
+            for (V v : order) {
+                if (v.equals(s)) {
+                    sigmaS.put(v, 1d);
+                    continue;
+                }
+                if (sp.getPathWeight(s, v) == Double.POSITIVE_INFINITY) {
+                    sigmaS.put(v, 0d);
+                    continue;
+                }
+                double count = 0d;
+                for (E e : g.incomingEdgesOf(v)) {
+                    V u = Graphs.getOppositeVertex(g, e, v);
+                    if (!u.equals(v) && sp.getPathWeight(s, u) + g.getEdgeWeight(e) == sp
+                        .getPathWeight(s, v))
+                    {
+                        count += sigmaS.get(u);
+                    }
+                }
+                sigmaS.put(v, count);
+            }
+            sigma.put(s, sigmaS);
+        }
+
+        Map<V, Double> scores = new HashMap<>();
+        for (V v : g.vertexSet()) {
+            double score = 0d;
+            for (V s : g.vertexSet()) {
+                for (V t : g.vertexSet()) {
+                    if (s.equals(v) || t.equals(v) || s.equals(t)) {
+                        continue;
+                    }
+                    double st = sp.getPathWeight(s, t);
+                    if (st == Double.POSITIVE_INFINITY) {
+                        continue;
+                    }
+                    if (sp.getPathWeight(s, v) + sp.getPathWeight(v, t) == st) {
+                        score += sigma.get(s).get(v) * sigma.get(v).get(t) / sigma.get(s).get(t);
+                    }
+                }
+            }
+            scores.put(v, g.getType().isDirected() ? score : score / 2);
+        }
+        return scores;
+    }
+
+}
+
+// End ParallelBetweennessCentralityTest.java
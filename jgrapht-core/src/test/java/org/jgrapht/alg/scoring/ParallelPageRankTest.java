@@ -0,0 +1,146 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.scoring;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+/**
+ * Unit tests for ParallelPageRank
+ *
+ * @author agent
+ */
+public class ParallelPageRankTest
+{
+
+    @Test
+    public void testDirectedRandomGraphs()
+    {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (long seed = 0; seed < 5; seed++) {
+                Graph<Integer, DefaultEdge> g = new DirectedPseudograph<>(
+                    SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+                    false);
+                new GnmRandomGraphGenerator<Integer, DefaultEdge>(200, 800, seed, true, true)
+                    .generateGraph(g);
+                assertSameScores(g, pool);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testUndirectedWeightedRandomGraphs()
+    {
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            for (long seed = 0; seed < 5; seed++) {
+                Graph<Integer, DefaultWeightedEdge> g = new WeightedPseudograph<>(
+                    SupplierUtil.createIntegerSupplier(),
+                    SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+                new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(
+                    150, 500, seed, false, true).generateGraph(g);
+                Random rng = new Random(seed);
+                for (DefaultWeightedEdge e : g.edgeSet()) {
+                    g.setEdgeWeight(e, 1d + rng.nextInt(10));
+                }
+                assertSameScores(g, pool);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testIterationStatistics()
+    {
+        Graph<String, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("1", "2", "3", "4"));
+        g.addEdge("1", "2");
+        g.addEdge("2", "3");
+        g.addEdge("3", "1");
+        g.addEdge("3", "4");
+
+        ParallelPageRank<String, DefaultEdge> pr = new ParallelPageRank<>(g, 0.85, 100, 1e-6);
+        List<ParallelPageRank.IterationStatistics> stats = pr.getIterationStatistics();
+
+        assertFalse(stats.isEmpty());
+        assertTrue(stats.size() <= 100);
+        for (int i = 0; i < stats.size(); i++) {
+            assertEquals(i + 1, stats.get(i).getIteration());
+            assertTrue(stats.get(i).getMaxChange() <= stats.get(i).getTotalChange() + 1e-12);
+            assertTrue(stats.get(i).getDuration(TimeUnit.NANOSECONDS) >= 0);
+        }
+        assertTrue(stats.get(stats.size() - 1).getMaxChange() < 1e-6);
+
+        double sum = 0d;
+        for (Double score : pr.getScores().values()) {
+            sum += score;
+        }
+        assertEquals(1d, sum, 1e-4);
+
+        ParallelPageRank<String, DefaultEdge> bounded = new ParallelPageRank<>(g, 0.85, 3, 1e-6);
+        assertEquals(3, bounded.getIterationStatistics().size());
+    }
+
+    @Test
+    public void testEmptyGraph()
+    {
+        Graph<String, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        ParallelPageRank<String, DefaultEdge> pr = new ParallelPageRank<>(g);
+        assertTrue(pr.getScores().isEmpty());
+        assertTrue(pr.getIterationStatistics().isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBadDampingFactor()
+    {
+        Graph<String, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        new ParallelPageRank<>(g, 1.1, 100, 1e-4);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownVertex()
+    {
+        Graph<String, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        g.addVertex("1");
+        new ParallelPageRank<>(g).getVertexScore("2");
+    }
+
+    private static <V, E> void assertSameScores(Graph<V, E> g, ForkJoinPool pool)
+    {
+        PageRank<V, E> expected = new PageRank<>(g, 0.85, 100, 1e-8);
+        ParallelPageRank<V, E> actual = new ParallelPageRank<>(g, 0.85, 100, 1e-8, pool);
+        for (V v : g.vertexSet()) {
+            assertEquals(expected.getVertexScore(v), actual.getVertexScore(v), 1e-7);
+        }
+    }
+
+}
+
+// End ParallelPageRankTest.java
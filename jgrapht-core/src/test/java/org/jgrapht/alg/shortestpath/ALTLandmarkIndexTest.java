@@ -0,0 +1,176 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.alg.shortestpath.ALTLandmarkIndex.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.graph.builder.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+/**
+ * Tests for {@link ALTLandmarkIndex}.
+ *
+ * @author agent
+ */
+public class ALTLandmarkIndexTest
+{
+    private static final double EPSILON = 1e-9;
+
+    private static Graph<Integer, DefaultWeightedEdge> randomGraph(
+        boolean directed, int n, int m, long seed)
+    {
+        Graph<Integer, DefaultWeightedEdge> g = GraphTypeBuilder
+            .<Integer, DefaultWeightedEdge> forGraphType(
+                directed ? DefaultGraphType.directedPseudograph()
+                    : DefaultGraphType.pseudograph())
+            .weighted(true).vertexSupplier(SupplierUtil.createIntegerSupplier())
+            .edgeSupplier(SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER).buildGraph();
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(n, m, seed, true, true)
+            .generateGraph(g);
+        Random rng = new Random(seed);
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            g.setEdgeWeight(e, rng.nextInt(4) == 0 ? 0d : 100 * rng.nextDouble());
+        }
+        return g;
+    }
+
+    private static void assertAdmissibleAndExact(
+        Graph<Integer, DefaultWeightedEdge> g, ALTLandmarkIndex<Integer, DefaultWeightedEdge> index)
+    {
+        DijkstraShortestPath<Integer, DefaultWeightedEdge> dijkstra = new DijkstraShortestPath<>(g);
+        for (Integer s : g.vertexSet()) {
+            SingleSourcePaths<Integer, DefaultWeightedEdge> paths = dijkstra.getPaths(s);
+            for (Integer t : g.vertexSet()) {
+                double weight = paths.getWeight(t);
+                double estimate = index.getCostEstimate(s, t);
+                assertTrue(estimate >= 0d);
+                assertTrue(estimate <= weight + EPSILON);
+
+                AStarAdmissibleHeuristic<Integer> h = index.getHeuristic(s, t, 2);
+                assertTrue(h.getCostEstimate(s, t) <= estimate + EPSILON);
+
+                GraphPath<Integer, DefaultWeightedEdge> path = index.getPath(s, t);
+                if (weight == Double.POSITIVE_INFINITY) {
+                    assertNull(path);
+                } else {
+                    assertEquals(weight, path.getWeight(), EPSILON);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSelectionStrategies()
+    {
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            for (boolean directed : new boolean[] { true, false }) {
+                for (LandmarkSelection selection : LandmarkSelection.values()) {
+                    for (boolean compact : new boolean[] { false, true }) {
+                        Graph<Integer, DefaultWeightedEdge> g = randomGraph(directed, 40, 90, 5);
+                        ALTLandmarkIndex<Integer, DefaultWeightedEdge> index =
+                            new ALTLandmarkIndex<>(g, 5, selection, new Random(7), compact, pool);
+                        assertEquals(5, new HashSet<>(index.getLandmarks()).size());
+                        assertAdmissibleAndExact(g, index);
+                    }
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testGivenLandmarks()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = randomGraph(true, 30, 80, 11);
+        ALTLandmarkIndex<Integer, DefaultWeightedEdge> index = new ALTLandmarkIndex<>(
+            g, new HashSet<>(Arrays.asList(3, 17)), false, ForkJoinPool.commonPool());
+        assertEquals(new HashSet<>(Arrays.asList(3, 17)), new HashSet<>(index.getLandmarks()));
+
+        ALTAdmissibleHeuristic<Integer, DefaultWeightedEdge> reference =
+            new ALTAdmissibleHeuristic<>(g, new HashSet<>(Arrays.asList(3, 17)));
+        for (Integer s : g.vertexSet()) {
+            for (Integer t : g.vertexSet()) {
+                if (!s.equals(t) && !s.equals(3) && !s.equals(17) && !t.equals(3)
+                    && !t.equals(17))
+                {
+                    // infinite distances may make the reference bound weaker
+                    assertTrue(
+                        index.getCostEstimate(s, t) >= reference.getCostEstimate(s, t) - EPSILON);
+                }
+            }
+        }
+        assertAdmissibleAndExact(g, index);
+    }
+
+    @Test
+    public void testMoreLandmarksThanVertices()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = randomGraph(false, 6, 5, 3);
+        for (LandmarkSelection selection : LandmarkSelection.values()) {
+            ALTLandmarkIndex<Integer, DefaultWeightedEdge> index = new ALTLandmarkIndex<>(
+                g, 10, selection, new Random(1), false, ForkJoinPool.commonPool());
+            assertEquals(g.vertexSet(), new HashSet<>(index.getLandmarks()));
+            assertAdmissibleAndExact(g, index);
+        }
+    }
+
+    @Test
+    public void testDefaults()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = randomGraph(true, 50, 200, 13);
+        ALTLandmarkIndex<Integer, DefaultWeightedEdge> index = new ALTLandmarkIndex<>(g, 8);
+        assertEquals(8, index.getLandmarks().size());
+        assertSame(g, index.getGraph());
+        assertAdmissibleAndExact(g, index);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeWeights()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = randomGraph(true, 10, 20, 1);
+        g.setEdgeWeight(g.edgeSet().iterator().next(), -1d);
+        new ALTLandmarkIndex<>(g, 2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNoLandmarks()
+    {
+        new ALTLandmarkIndex<>(randomGraph(true, 10, 20, 1), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingVertex()
+    {
+        new ALTLandmarkIndex<>(randomGraph(true, 10, 20, 1), 2).getCostEstimate(0, 100);
+    }
+
+}
+
+// End ALTLandmarkIndexTest.java
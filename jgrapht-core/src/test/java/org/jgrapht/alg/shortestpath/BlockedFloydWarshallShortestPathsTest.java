@@ -0,0 +1,177 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+/**
+ * Tests for {@link BlockedFloydWarshallShortestPaths}.
+ *
+ * @author agent
+ */
+public class BlockedFloydWarshallShortestPathsTest
+{
+
+    @Test
+    public void testCompareWithFloydWarshall()
+    {
+        Random rng = new Random(7);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int blockSize : new int[] { 1, 3, 8, 64 }) {
+                for (boolean directed : new boolean[] { true, false }) {
+                    Graph<Integer, DefaultWeightedEdge> g = createGraph(directed, 37, 150, rng);
+                    FloydWarshallShortestPaths<Integer, DefaultWeightedEdge> fw =
+                        new FloydWarshallShortestPaths<>(g);
+                    BlockedFloydWarshallShortestPaths<Integer, DefaultWeightedEdge> bfw =
+                        new BlockedFloydWarshallShortestPaths<>(g, blockSize, false, pool);
+
+                    assertEquals(fw.getShortestPathsCount(), bfw.getShortestPathsCount());
+                    for (Integer u : g.vertexSet()) {
+                        for (Integer v : g.vertexSet()) {
+                            double weight = fw.getPathWeight(u, v);
+                            assertEquals(weight, bfw.getPathWeight(u, v), 1e-9);
+                            GraphPath<Integer, DefaultWeightedEdge> path = bfw.getPath(u, v);
+                            if (Double.isInfinite(weight)) {
+                                assertNull(path);
+                                assertNull(bfw.getFirstHop(u, v));
+                                assertNull(bfw.getLastHop(u, v));
+                            } else {
+                                assertEquals(weight, path.getWeight(), 1e-9);
+                                assertEquals(weight, sum(g, path), 1e-9);
+                                List<Integer> vertices = path.getVertexList();
+                                assertEquals(u, vertices.get(0));
+                                assertEquals(v, vertices.get(vertices.size() - 1));
+                                if (!u.equals(v)) {
+                                    assertEquals(vertices.get(1), bfw.getFirstHop(u, v));
+                                    assertEquals(
+                                        vertices.get(vertices.size() - 2), bfw.getLastHop(u, v));
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testFloatDistances()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = createGraph(true, 50, 300, new Random(11));
+        FloydWarshallShortestPaths<Integer, DefaultWeightedEdge> fw =
+            new FloydWarshallShortestPaths<>(g);
+        BlockedFloydWarshallShortestPaths<Integer, DefaultWeightedEdge> bfw =
+            new BlockedFloydWarshallShortestPaths<>(g, 16, true, ForkJoinPool.commonPool());
+
+        for (Integer u : g.vertexSet()) {
+            for (Integer v : g.vertexSet()) {
+                double weight = fw.getPathWeight(u, v);
+                if (Double.isInfinite(weight)) {
+                    assertTrue(Double.isInfinite(bfw.getPathWeight(u, v)));
+                } else {
+                    assertEquals(weight, bfw.getPathWeight(u, v), 1e-4);
+                    assertEquals(weight, bfw.getPath(u, v).getWeight(), 1e-4);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testNegativeWeightsAndMultipleEdges()
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b", "c", "d"));
+        Graphs.addEdge(g, "a", "b", 4d);
+        DefaultWeightedEdge ab = Graphs.addEdge(g, "a", "b", 2d);
+        Graphs.addEdge(g, "b", "c", -1d);
+        Graphs.addEdge(g, "a", "c", 3d);
+        DefaultWeightedEdge cd = Graphs.addEdge(g, "c", "d", 1d);
+        Graphs.addEdge(g, "d", "d", -5d);
+
+        BlockedFloydWarshallShortestPaths<String, DefaultWeightedEdge> bfw =
+            new BlockedFloydWarshallShortestPaths<>(g, 2, false, ForkJoinPool.commonPool());
+        assertEquals(2d, bfw.getPathWeight("a", "d"), 1e-9);
+        assertEquals(ab, bfw.getPath("a", "d").getEdgeList().get(0));
+        assertEquals(0d, bfw.getPathWeight("d", "d"), 1e-9);
+        assertEquals(Double.POSITIVE_INFINITY, bfw.getPathWeight("d", "a"), 1e-9);
+
+        SingleSourcePaths<String, DefaultWeightedEdge> paths = bfw.getPaths("a");
+        assertEquals(1d, paths.getWeight("c"), 1e-9);
+        assertEquals(3, paths.getPath("d").getLength());
+        assertEquals(cd, paths.getPath("d").getEdgeList().get(2));
+        assertEquals(0, paths.getPath("a").getLength());
+        assertNull(bfw.getPaths("d").getPath("a"));
+    }
+
+    @Test
+    public void testGraphMeasurer()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = createGraph(false, 30, 60, new Random(5));
+        GraphMeasurer<Integer, DefaultWeightedEdge> expected = new GraphMeasurer<>(g);
+        GraphMeasurer<Integer, DefaultWeightedEdge> actual =
+            new GraphMeasurer<>(g, new BlockedFloydWarshallShortestPaths<>(g));
+        assertEquals(expected.getDiameter(), actual.getDiameter(), 1e-9);
+        assertEquals(expected.getRadius(), actual.getRadius(), 1e-9);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidBlockSize()
+    {
+        new BlockedFloydWarshallShortestPaths<>(
+            new SimpleGraph<Integer, DefaultEdge>(DefaultEdge.class), 0, false,
+            ForkJoinPool.commonPool());
+    }
+
+    private static Graph<Integer, DefaultWeightedEdge> createGraph(
+        boolean directed, int n, int m, Random rng)
+    {
+        Graph<Integer, DefaultWeightedEdge> g = directed
+            ? new DirectedWeightedMultigraph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER)
+            : new WeightedMultigraph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(n, m, rng, false, true)
+            .generateGraph(g);
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            g.setEdgeWeight(e, 1d + rng.nextInt(20) * 0.5);
+        }
+        return g;
+    }
+
+    private static <V, E> double sum(Graph<V, E> g, GraphPath<V, E> path)
+    {
+        return path.getEdgeList().stream().mapToDouble(g::getEdgeWeight).sum();
+    }
+
+}
+
+// End BlockedFloydWarshallShortestPathsTest.java
@@ -0,0 +1,179 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.graph.builder.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+/**
+ * Tests for {@link BoundingGraphMeasurer}.
+ *
+ * @author agent
+ */
+public class BoundingGraphMeasurerTest
+{
+    private static final double EPSILON = 1e-9;
+
+    private static void assertSameMeasures(
+        Graph<Integer, DefaultWeightedEdge> g,
+        BoundingGraphMeasurer<Integer, DefaultWeightedEdge> m)
+    {
+        GraphMeasurer<Integer, DefaultWeightedEdge> expected = new GraphMeasurer<>(g);
+        assertEquals(expected.getDiameter(), m.getDiameter(), EPSILON);
+        assertEquals(expected.getRadius(), m.getRadius(), EPSILON);
+
+        Map<Integer, Double> eccentricities = m.getVertexEccentricityMap();
+        for (Map.Entry<Integer, Double> entry : expected.getVertexEccentricityMap().entrySet()) {
+            assertEquals(entry.getValue(), eccentricities.get(entry.getKey()), EPSILON);
+        }
+        assertEquals(expected.getGraphCenter(), m.getGraphCenter());
+        assertEquals(expected.getGraphPeriphery(), m.getGraphPeriphery());
+    }
+
+    private static Graph<Integer, DefaultWeightedEdge> randomGraph(
+        boolean directed, boolean weighted, int n, int edges, long seed)
+    {
+        Graph<Integer, DefaultWeightedEdge> g = GraphTypeBuilder
+            .<Integer, DefaultWeightedEdge> forGraphType(
+                directed ? DefaultGraphType.directedPseudograph()
+                    : DefaultGraphType.pseudograph())
+            .weighted(weighted).vertexSupplier(SupplierUtil.createIntegerSupplier())
+            .edgeSupplier(SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER).buildGraph();
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(n, edges, seed, true, true)
+            .generateGraph(g);
+        if (weighted) {
+            Random rng = new Random(seed);
+            for (DefaultWeightedEdge e : g.edgeSet()) {
+                g.setEdgeWeight(e, 1 + rng.nextInt(10));
+            }
+        }
+        return g;
+    }
+
+    @Test
+    public void testEmptyGraph()
+    {
+        BoundingGraphMeasurer<Integer, DefaultEdge> m =
+            new BoundingGraphMeasurer<>(new SimpleGraph<>(DefaultEdge.class));
+        assertEquals(0d, m.getDiameter(), EPSILON);
+        assertEquals(0d, m.getRadius(), EPSILON);
+        assertTrue(m.getVertexEccentricityMap().isEmpty());
+    }
+
+    @Test
+    public void testPath()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2, 3, 4));
+        for (int i = 1; i < 5; i++) {
+            g.addEdge(i - 1, i);
+        }
+        BoundingGraphMeasurer<Integer, DefaultEdge> m = new BoundingGraphMeasurer<>(g);
+        assertEquals(4d, m.getDiameter(), EPSILON);
+        assertEquals(2d, m.getRadius(), EPSILON);
+        assertEquals(Collections.singleton(2), m.getGraphCenter());
+        assertEquals(new HashSet<>(Arrays.asList(0, 4)), m.getGraphPeriphery());
+    }
+
+    @Test
+    public void testDisconnected()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = randomGraph(false, false, 30, 20, 3);
+        g.addVertex(100);
+        BoundingGraphMeasurer<Integer, DefaultWeightedEdge> m = new BoundingGraphMeasurer<>(g);
+        assertEquals(Double.POSITIVE_INFINITY, m.getDiameter(), EPSILON);
+        assertEquals(Double.POSITIVE_INFINITY, m.getRadius(), EPSILON);
+        assertEquals(1, m.getNumberOfSearches());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeWeights()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = randomGraph(false, true, 10, 20, 3);
+        g.setEdgeWeight(g.edgeSet().iterator().next(), -1d);
+        new BoundingGraphMeasurer<>(g);
+    }
+
+    @Test
+    public void testRandomGraphs()
+    {
+        for (boolean directed : new boolean[] { false, true }) {
+            for (boolean weighted : new boolean[] { false, true }) {
+                for (long seed = 0; seed < 5; seed++) {
+                    int edges = directed ? 150 : 60;
+                    Graph<Integer, DefaultWeightedEdge> g =
+                        randomGraph(directed, weighted, 40, edges, seed);
+                    assertSameMeasures(g, new BoundingGraphMeasurer<>(g));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testParallel()
+    {
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            for (boolean directed : new boolean[] { false, true }) {
+                Graph<Integer, DefaultWeightedEdge> g = randomGraph(directed, true, 50, 200, 11);
+                assertSameMeasures(g, new BoundingGraphMeasurer<>(g, pool));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testFewSearches()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = GraphTypeBuilder
+            .<Integer, DefaultWeightedEdge> undirected().weighted(false)
+            .vertexSupplier(SupplierUtil.createIntegerSupplier())
+            .edgeSupplier(SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER).buildGraph();
+        new BarabasiAlbertGraphGenerator<Integer, DefaultWeightedEdge>(3, 2, 2000, 5)
+            .generateGraph(g);
+
+        BoundingGraphMeasurer<Integer, DefaultWeightedEdge> m = new BoundingGraphMeasurer<>(g);
+        double diameter = m.getDiameter();
+        double radius = m.getRadius();
+        assertTrue(m.getNumberOfSearches() < g.vertexSet().size() / 10);
+
+        Map<Integer, Double> eccentricities = m.getVertexEccentricityMap();
+        double max = 0d;
+        double min = Double.POSITIVE_INFINITY;
+        for (double e : eccentricities.values()) {
+            max = Math.max(max, e);
+            min = Math.min(min, e);
+        }
+        assertEquals(max, diameter, EPSILON);
+        assertEquals(min, radius, EPSILON);
+    }
+
+}
+
+// End BoundingGraphMeasurerTest.java
@@ -0,0 +1,235 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.graph.builder.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+/**
+ * Tests for {@link ContractionHierarchy} and {@link ContractionHierarchyShortestPath}.
+ *
+ * @author agent
+ */
+public class ContractionHierarchyShortestPathTest
+{
+    private static final double EPSILON = 1e-9;
+
+    private static Graph<Integer, DefaultWeightedEdge> randomGraph(
+        boolean directed, int n, int m, long seed)
+    {
+        Graph<Integer, DefaultWeightedEdge> g = GraphTypeBuilder
+            .<Integer, DefaultWeightedEdge> forGraphType(
+                directed ? DefaultGraphType.directedPseudograph()
+                    : DefaultGraphType.pseudograph())
+            .weighted(true).vertexSupplier(SupplierUtil.createIntegerSupplier())
+            .edgeSupplier(SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER).buildGraph();
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(n, m, seed, true, true)
+            .generateGraph(g);
+        Random rng = new Random(seed);
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            g.setEdgeWeight(e, rng.nextInt(20));
+        }
+        return g;
+    }
+
+    private static <V, E> void assertValidPath(
+        Graph<V, E> g, V source, V sink, double weight, GraphPath<V, E> path)
+    {
+        if (weight == Double.POSITIVE_INFINITY) {
+            assertNull(path);
+            return;
+        }
+        assertNotNull(path);
+        assertEquals(weight, path.getWeight(), EPSILON);
+        assertEquals(source, path.getStartVertex());
+        assertEquals(sink, path.getEndVertex());
+
+        List<V> vertices = path.getVertexList();
+        List<E> edges = path.getEdgeList();
+        assertEquals(vertices.size(), edges.size() + 1);
+        assertEquals(source, vertices.get(0));
+        double total = 0d;
+        for (int i = 0; i < edges.size(); i++) {
+            E e = edges.get(i);
+            V u = vertices.get(i);
+            V v = vertices.get(i + 1);
+            if (g.getType().isDirected()) {
+                assertEquals(u, g.getEdgeSource(e));
+                assertEquals(v, g.getEdgeTarget(e));
+            } else {
+                assertEquals(v, Graphs.getOppositeVertex(g, e, u));
+            }
+            total += g.getEdgeWeight(e);
+        }
+        assertEquals(weight, total, EPSILON);
+    }
+
+    private static void assertSameAsDijkstra(
+        Graph<Integer, DefaultWeightedEdge> g,
+        ShortestPathAlgorithm<Integer, DefaultWeightedEdge> ch)
+    {
+        DijkstraShortestPath<Integer, DefaultWeightedEdge> dijkstra = new DijkstraShortestPath<>(g);
+        for (Integer s : g.vertexSet()) {
+            ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> paths =
+                dijkstra.getPaths(s);
+            for (Integer t : g.vertexSet()) {
+                double weight = paths.getWeight(t);
+                assertEquals(weight, ch.getPathWeight(s, t), EPSILON);
+                assertValidPath(g, s, t, weight, ch.getPath(s, t));
+            }
+        }
+    }
+
+    @Test
+    public void testSimple()
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new SimpleDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b", "c", "d", "e"));
+        g.setEdgeWeight(g.addEdge("a", "b"), 1);
+        g.setEdgeWeight(g.addEdge("b", "c"), 1);
+        g.setEdgeWeight(g.addEdge("c", "d"), 1);
+        g.setEdgeWeight(g.addEdge("a", "d"), 5);
+        g.setEdgeWeight(g.addEdge("d", "e"), 1);
+
+        ContractionHierarchyShortestPath<String, DefaultWeightedEdge> sp =
+            new ContractionHierarchyShortestPath<>(g);
+        GraphPath<String, DefaultWeightedEdge> path = sp.getPath("a", "e");
+        assertEquals(Arrays.asList("a", "b", "c", "d", "e"), path.getVertexList());
+        assertEquals(4d, path.getWeight(), EPSILON);
+        assertNull(sp.getPath("e", "a"));
+        assertEquals(Double.POSITIVE_INFINITY, sp.getPathWeight("e", "a"), EPSILON);
+        assertEquals(0, sp.getPath("c", "c").getLength());
+
+        Set<Integer> ranks = new HashSet<>();
+        for (String v : g.vertexSet()) {
+            ranks.add(sp.getHierarchy().getRank(v));
+        }
+        assertEquals(new HashSet<>(Arrays.asList(0, 1, 2, 3, 4)), ranks);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingVertex()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = randomGraph(true, 5, 10, 1);
+        new ContractionHierarchyShortestPath<>(g).getPath(0, 100);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeWeights()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = randomGraph(true, 5, 10, 1);
+        g.setEdgeWeight(g.edgeSet().iterator().next(), -1d);
+        new ContractionHierarchy<>(g);
+    }
+
+    @Test
+    public void testRandomDirected()
+    {
+        for (long seed = 0; seed < 5; seed++) {
+            Graph<Integer, DefaultWeightedEdge> g = randomGraph(true, 60, 200, seed);
+            assertSameAsDijkstra(g, new ContractionHierarchyShortestPath<>(g));
+        }
+    }
+
+    @Test
+    public void testRandomUndirected()
+    {
+        for (long seed = 0; seed < 5; seed++) {
+            Graph<Integer, DefaultWeightedEdge> g = randomGraph(false, 60, 100, seed);
+            assertSameAsDijkstra(g, new ContractionHierarchyShortestPath<>(g));
+        }
+    }
+
+    @Test
+    public void testGridSmallWitnessLimit()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = GraphTypeBuilder
+            .<Integer, DefaultWeightedEdge> undirected().weighted(true)
+            .vertexSupplier(SupplierUtil.createIntegerSupplier())
+            .edgeSupplier(SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER).buildGraph();
+        new GridGraphGenerator<Integer, DefaultWeightedEdge>(10, 10).generateGraph(g);
+        Random rng = new Random(3);
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            g.setEdgeWeight(e, 1 + rng.nextInt(5));
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            ContractionHierarchy<Integer, DefaultWeightedEdge> hierarchy =
+                new ContractionHierarchy<>(g, pool, 1);
+            assertSameAsDijkstra(g, new ContractionHierarchyShortestPath<>(hierarchy));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testConcurrentQueries()
+        throws InterruptedException
+    {
+        Graph<Integer, DefaultWeightedEdge> g = randomGraph(true, 300, 1500, 7);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ContractionHierarchyShortestPath<Integer, DefaultWeightedEdge> sp =
+                new ContractionHierarchyShortestPath<>(g, pool);
+            DijkstraShortestPath<Integer, DefaultWeightedEdge> dijkstra =
+                new DijkstraShortestPath<>(g);
+
+            int threads = 4;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            AtomicInteger failures = new AtomicInteger();
+            for (int i = 0; i < threads; i++) {
+                long seed = i;
+                executor.submit(() -> {
+                    Random rng = new Random(seed);
+                    for (int q = 0; q < 500; q++) {
+                        int s = rng.nextInt(300);
+                        int t = rng.nextInt(300);
+                        GraphPath<Integer, DefaultWeightedEdge> path = sp.getPath(s, t);
+                        double weight = path == null ? Double.POSITIVE_INFINITY : path.getWeight();
+                        if (Math.abs(weight - dijkstra.getPathWeight(s, t)) > EPSILON
+                            && weight != dijkstra.getPathWeight(s, t))
+                        {
+                            failures.incrementAndGet();
+                        }
+                    }
+                });
+            }
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+            assertEquals(0, failures.get());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+}
+
+// End ContractionHierarchyShortestPathTest.java
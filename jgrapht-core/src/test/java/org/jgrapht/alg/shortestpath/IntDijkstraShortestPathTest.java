@@ -0,0 +1,160 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+/**
+ * Tests for {@link IntDijkstraShortestPath}.
+ *
+ * @author agent
+ */
+public class IntDijkstraShortestPathTest
+    extends ShortestPathTestCase
+{
+
+    @Test
+    public void testConstructor()
+    {
+        GraphPath<String, DefaultWeightedEdge> path;
+        Graph<String, DefaultWeightedEdge> g = create();
+
+        path = new IntDijkstraShortestPath<>(g, Double.POSITIVE_INFINITY).getPath(V3, V4);
+        assertEquals(Arrays.asList(e13, e12, e24), path.getEdgeList());
+        assertEquals(10.0, path.getWeight(), 0);
+
+        path = new IntDijkstraShortestPath<>(g, 7.0).getPath(V3, V4);
+        assertNull(path);
+    }
+
+    @Override
+    protected List<DefaultWeightedEdge> findPathBetween(
+        Graph<String, DefaultWeightedEdge> g, String src, String dest)
+    {
+        return new IntDijkstraShortestPath<>(g).getPath(src, dest).getEdgeList();
+    }
+
+    @Test
+    public void testShortestPathTree()
+    {
+        DirectedWeightedPseudograph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(V1, V2, V3, V4, V5));
+
+        DefaultWeightedEdge we12 = g.addEdge(V1, V2);
+        DefaultWeightedEdge we24 = g.addEdge(V2, V4);
+        DefaultWeightedEdge we13 = g.addEdge(V1, V3);
+        DefaultWeightedEdge we32 = g.addEdge(V3, V2);
+        DefaultWeightedEdge we34 = g.addEdge(V3, V4);
+
+        g.setEdgeWeight(we12, 3.0);
+        g.setEdgeWeight(we24, 1.0);
+        g.setEdgeWeight(we13, 1.0);
+        g.setEdgeWeight(we32, 1.0);
+        g.setEdgeWeight(we34, 3.0);
+
+        SingleSourcePaths<String, DefaultWeightedEdge> pathsTree =
+            new IntDijkstraShortestPath<>(g).getPaths(V1);
+        assertEquals(g, pathsTree.getGraph());
+        assertEquals(V1, pathsTree.getSourceVertex());
+        assertEquals(0d, pathsTree.getWeight(V1), 1e-9);
+        assertEquals(2d, pathsTree.getWeight(V2), 1e-9);
+        assertEquals(1d, pathsTree.getWeight(V3), 1e-9);
+        assertEquals(3d, pathsTree.getWeight(V4), 1e-9);
+        assertEquals(Double.POSITIVE_INFINITY, pathsTree.getWeight(V5), 1e-9);
+
+        assertTrue(pathsTree.getPath(V1).getEdgeList().isEmpty());
+        assertEquals(Arrays.asList(we13, we32), pathsTree.getPath(V2).getEdgeList());
+        assertEquals(Arrays.asList(we13, we32, we24), pathsTree.getPath(V4).getEdgeList());
+        assertNull(pathsTree.getPath(V5));
+    }
+
+    @Test
+    public void testRepeatedQueries()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = new DirectedWeightedPseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(50, 200, 31, true, true)
+            .generateGraph(g);
+        Random rng = new Random(31);
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            g.setEdgeWeight(e, rng.nextInt(10));
+        }
+
+        ShortestPathAlgorithm<Integer, DefaultWeightedEdge> expected =
+            new DijkstraShortestPath<>(g);
+        ShortestPathAlgorithm<Integer, DefaultWeightedEdge> actual =
+            new IntDijkstraShortestPath<>(g);
+
+        for (Integer u : g.vertexSet()) {
+            for (Integer v : g.vertexSet()) {
+                double weight = expected.getPathWeight(u, v);
+                assertEquals(weight, actual.getPathWeight(u, v), 1e-9);
+
+                GraphPath<Integer, DefaultWeightedEdge> path = actual.getPath(u, v);
+                if (weight == Double.POSITIVE_INFINITY) {
+                    assertNull(path);
+                } else {
+                    assertEquals(u, path.getStartVertex());
+                    assertEquals(v, path.getEndVertex());
+                    assertEquals(weight, path.getWeight(), 1e-9);
+                    double sum = 0d;
+                    Integer cur = u;
+                    for (DefaultWeightedEdge e : path.getEdgeList()) {
+                        assertEquals(cur, g.getEdgeSource(e));
+                        cur = g.getEdgeTarget(e);
+                        sum += g.getEdgeWeight(e);
+                    }
+                    assertEquals(v, cur);
+                    assertEquals(weight, sum, 1e-9);
+                }
+            }
+            SingleSourcePaths<Integer, DefaultWeightedEdge> paths = actual.getPaths(u);
+            for (Integer v : g.vertexSet()) {
+                assertEquals(expected.getPathWeight(u, v), paths.getWeight(v), 1e-9);
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeWeights()
+    {
+        Graph<String, DefaultWeightedEdge> g = createWithBias(true);
+        new IntDijkstraShortestPath<>(g);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingSource()
+    {
+        Graph<String, DefaultWeightedEdge> g = create();
+        new IntDijkstraShortestPath<>(g).getPath("unknown", V1);
+    }
+
+}
+
+// End IntDijkstraShortestPathTest.java
@@ -0,0 +1,108 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.spanning;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.connectivity.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.interfaces.SpanningTreeAlgorithm.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+/**
+ * Tests for {@link ParallelBoruvkaMinimumSpanningTree}.
+ *
+ * @author agent
+ */
+public class ParallelBoruvkaMinimumSpanningTreeTest
+    extends MinimumSpanningTreeTest
+{
+    private static ForkJoinPool pool;
+
+    @BeforeClass
+    public static void createPool()
+    {
+        pool = new ForkJoinPool(3);
+    }
+
+    @AfterClass
+    public static void shutdownPool()
+    {
+        pool.shutdown();
+    }
+
+    @Override
+    SpanningTreeAlgorithm<DefaultWeightedEdge> createSolver(
+        Graph<Integer, DefaultWeightedEdge> network)
+    {
+        return new ParallelBoruvkaMinimumSpanningTree<>(network, pool);
+    }
+
+    @Test
+    public void testSparseInstancesWithEqualWeights()
+    {
+        Random rng = new Random(17);
+        for (int i = 0; i < 20; i++) {
+            Graph<Integer, DefaultWeightedEdge> g = new WeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+            // sparse enough to be disconnected, large enough for several blocks of edges
+            new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(10000, 12000, rng, true, true)
+                .generateGraph(g);
+            for (DefaultWeightedEdge e : g.edgeSet()) {
+                g.setEdgeWeight(e, rng.nextInt(10));
+            }
+
+            SpanningTree<DefaultWeightedEdge> tree =
+                new ParallelBoruvkaMinimumSpanningTree<>(g, pool).getSpanningTree();
+
+            assertEquals(
+                new KruskalMinimumSpanningTree<>(g).getSpanningTree().getWeight(),
+                tree.getWeight(), 1e-9);
+
+            // a spanning forest has one edge less than vertices per connected component
+            int components = new ConnectivityInspector<>(g).connectedSets().size();
+            assertEquals(g.vertexSet().size() - components, tree.getEdges().size());
+            Graph<Integer, DefaultWeightedEdge> forest = new AsSubgraph<>(g, null, tree.getEdges());
+            assertEquals(components, new ConnectivityInspector<>(forest).connectedSets().size());
+        }
+    }
+
+    @Test
+    public void testEmptyAndEdgeless()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = new WeightedPseudograph<>(DefaultWeightedEdge.class);
+        assertTrue(createSolver(g).getSpanningTree().getEdges().isEmpty());
+
+        g.addVertex(1);
+        g.addVertex(2);
+        Graphs.addEdge(g, 1, 1, 3d);
+        SpanningTree<DefaultWeightedEdge> tree = createSolver(g).getSpanningTree();
+        assertTrue(tree.getEdges().isEmpty());
+        assertEquals(0d, tree.getWeight(), 0d);
+    }
+
+}
+
+// End ParallelBoruvkaMinimumSpanningTreeTest.java
@@ -0,0 +1,114 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.util;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.stream.*;
+
+import org.junit.*;
+
+/**
+ * Tests for {@link ConcurrentIntUnionFind}.
+ *
+ * @author agent
+ */
+public class ConcurrentIntUnionFindTest
+{
+
+    @Test
+    public void testUnionFind()
+    {
+        ConcurrentIntUnionFind uf = new ConcurrentIntUnionFind(5);
+        assertEquals(5, uf.size());
+        assertEquals(5, uf.numberOfSets());
+
+        assertTrue(uf.union(0, 1));
+        assertTrue(uf.union(2, 3));
+        assertTrue(uf.union(4, 2));
+        assertFalse(uf.union(4, 3));
+        assertEquals(2, uf.numberOfSets());
+        assertTrue(uf.inSameSet(3, 4));
+        assertFalse(uf.inSameSet(1, 4));
+
+        List<int[]> sets = uf.getSets();
+        assertEquals(2, sets.size());
+        assertArrayEquals(new int[] { 0, 1 }, sets.get(0));
+        assertArrayEquals(new int[] { 2, 3, 4 }, sets.get(1));
+
+        uf.reset();
+        assertEquals(5, uf.numberOfSets());
+        assertFalse(uf.inSameSet(0, 1));
+    }
+
+    @Test
+    public void testConcurrentUnions()
+        throws Exception
+    {
+        Random rng = new Random(17);
+        int n = 100000;
+        int m = 80000;
+        int[] a = new int[m];
+        int[] b = new int[m];
+        IntUnionFind expected = new IntUnionFind(n);
+        for (int k = 0; k < m; k++) {
+            a[k] = rng.nextInt(n);
+            b[k] = rng.nextInt(n);
+            expected.union(a[k], b[k]);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ConcurrentIntUnionFind uf = new ConcurrentIntUnionFind(n);
+            AtomicInteger merged = new AtomicInteger();
+            pool.submit(() -> IntStream.range(0, m).parallel().forEach(k -> {
+                if (uf.union(a[k], b[k])) {
+                    merged.incrementAndGet();
+                }
+                // concurrent queries
+                uf.inSameSet(a[k], b[(k + 1) % m]);
+            })).get();
+
+            assertEquals(expected.numberOfSets(), uf.numberOfSets());
+            assertEquals(n - merged.get(), uf.numberOfSets());
+            for (int k = 0; k < m; k++) {
+                assertTrue(uf.inSameSet(a[k], b[k]));
+            }
+            List<int[]> expectedSets = expected.getSets();
+            List<int[]> sets = uf.getSets();
+            assertEquals(expectedSets.size(), sets.size());
+            for (int i = 0; i < sets.size(); i++) {
+                assertArrayEquals(expectedSets.get(i), sets.get(i));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidElement()
+    {
+        new ConcurrentIntUnionFind(3).union(0, -1);
+    }
+
+}
+
+// End ConcurrentIntUnionFindTest.java
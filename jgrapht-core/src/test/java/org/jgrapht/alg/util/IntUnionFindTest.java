@@ -0,0 +1,123 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.util;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.junit.*;
+
+/**
+ * Tests for {@link IntUnionFind}.
+ *
+ * @author agent
+ */
+public class IntUnionFindTest
+{
+
+    @Test
+    public void testUnionFind()
+    {
+        IntUnionFind uf = new IntUnionFind(5);
+        assertEquals(5, uf.size());
+        assertEquals(5, uf.numberOfSets());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i, uf.find(i));
+            assertEquals(1, uf.sizeOfSet(i));
+        }
+
+        assertTrue(uf.union(0, 1));
+        assertEquals(4, uf.numberOfSets());
+        assertTrue(uf.inSameSet(0, 1));
+        assertFalse(uf.inSameSet(1, 2));
+
+        assertTrue(uf.union(2, 3));
+        assertTrue(uf.union(4, 2));
+        assertFalse(uf.union(4, 3));
+        assertEquals(2, uf.numberOfSets());
+        assertEquals(3, uf.sizeOfSet(4));
+        assertEquals(2, uf.sizeOfSet(0));
+        // the larger set keeps its representative
+        assertEquals(uf.find(2), uf.find(4));
+
+        List<int[]> sets = uf.getSets();
+        assertEquals(2, sets.size());
+        assertArrayEquals(new int[] { 0, 1 }, sets.get(0));
+        assertArrayEquals(new int[] { 2, 3, 4 }, sets.get(1));
+        assertEquals("{{" + uf.find(0) + ":0,1}, {" + uf.find(2) + ":2,3,4}}", uf.toString());
+
+        assertTrue(uf.union(0, 4));
+        assertEquals(1, uf.numberOfSets());
+        assertEquals(5, uf.sizeOfSet(1));
+
+        uf.reset();
+        assertEquals(5, uf.numberOfSets());
+        assertFalse(uf.inSameSet(0, 1));
+    }
+
+    @Test
+    public void testRandomInstances()
+    {
+        Random rng = new Random(17);
+        int n = 1000;
+        IntUnionFind uf = new IntUnionFind(n);
+        Set<Integer> elements = new HashSet<>();
+        for (int i = 0; i < n; i++) {
+            elements.add(i);
+        }
+        UnionFind<Integer> expected = new UnionFind<>(elements);
+
+        for (int k = 0; k < 2000; k++) {
+            int a = rng.nextInt(n);
+            int b = rng.nextInt(n);
+            boolean merged = !expected.inSameSet(a, b);
+            expected.union(a, b);
+            assertEquals(merged, uf.union(a, b));
+            assertEquals(expected.numberOfSets(), uf.numberOfSets());
+
+            int c = rng.nextInt(n);
+            assertEquals(expected.inSameSet(a, c), uf.inSameSet(a, c));
+        }
+
+        int total = 0;
+        for (int[] set : uf.getSets()) {
+            assertEquals(set.length, uf.sizeOfSet(set[0]));
+            for (int x : set) {
+                assertTrue(expected.inSameSet(set[0], x));
+            }
+            total += set.length;
+        }
+        assertEquals(n, total);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidElement()
+    {
+        new IntUnionFind(3).find(3);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeSize()
+    {
+        new IntUnionFind(-1);
+    }
+
+}
+
+// End IntUnionFindTest.java
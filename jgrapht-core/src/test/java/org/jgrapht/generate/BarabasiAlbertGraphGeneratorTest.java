@@ -18,9 +18,14 @@
 package org.jgrapht.generate;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.*;
+import java.util.concurrent.*;
+
 import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
 import org.jgrapht.graph.*;
 import org.jgrapht.util.SupplierUtil;
 import org.junit.*;
@@ -126,4 +131,39 @@ public class BarabasiAlbertGraphGeneratorTest
         assertEquals(11, g.vertexSet().size());
     }
 
+    @Test
+    public void testParallelEdges()
+    {
+        int m0 = 5;
+        int m = 3;
+        int n = 2000;
+        EdgeBlockCollector single = new EdgeBlockCollector();
+        new BarabasiAlbertGraphGenerator<Integer, DefaultEdge>(m0, m, n, 17)
+            .generateEdges(single, new ForkJoinPool(1));
+        EdgeBlockCollector multi = new EdgeBlockCollector();
+        new BarabasiAlbertGraphGenerator<Integer, DefaultEdge>(m0, m, n, 17)
+            .generateEdges(multi, new ForkJoinPool(4));
+        assertEquals(single.getBlocks(), multi.getBlocks());
+
+        List<Pair<Integer, Integer>> edges = multi.getEdges();
+        int expected = m0 * (m0 - 1) / 2 + (n - m0) * m;
+        assertEquals(expected, edges.size());
+        assertEquals(expected, multi.getEdgeSet(false).size());
+
+        int[] degree = new int[n];
+        for (Pair<Integer, Integer> e : edges) {
+            assertTrue(e.getFirst() >= m0 ? e.getSecond() < e.getFirst() : e.getSecond() < m0);
+            degree[e.getFirst()]++;
+            degree[e.getSecond()]++;
+        }
+        // preferential attachment favors older vertices
+        int oldest = 0;
+        int newest = 0;
+        for (int v = 0; v < 100; v++) {
+            oldest += degree[m0 + v];
+            newest += degree[n - 1 - v];
+        }
+        assertTrue(oldest > 2 * newest);
+    }
+
 }
@@ -0,0 +1,91 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.generate;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.jgrapht.alg.util.*;
+
+/**
+ * An {@link EdgeBlockSink} which collects the edges of each block, for testing.
+ *
+ * @author agent
+ */
+class EdgeBlockCollector
+    implements
+    EdgeBlockSink
+{
+    private final Map<Integer, List<Pair<Integer, Integer>>> blocks = new ConcurrentHashMap<>();
+
+    @Override
+    public void accept(int block, int[] sources, int[] targets, int size)
+    {
+        List<Pair<Integer, Integer>> edges =
+            blocks.computeIfAbsent(block, b -> new ArrayList<>());
+        for (int i = 0; i < size; i++) {
+            edges.add(Pair.of(sources[i], targets[i]));
+        }
+    }
+
+    /**
+     * Get the edges of each block, ordered by block.
+     *
+     * @return the edges of each block
+     */
+    public SortedMap<Integer, List<Pair<Integer, Integer>>> getBlocks()
+    {
+        return new TreeMap<>(blocks);
+    }
+
+    /**
+     * Get all edges, in block order.
+     *
+     * @return all edges
+     */
+    public List<Pair<Integer, Integer>> getEdges()
+    {
+        List<Pair<Integer, Integer>> result = new ArrayList<>();
+        getBlocks().values().forEach(result::addAll);
+        return result;
+    }
+
+    /**
+     * Get all edges as a set, with the endpoints of undirected edges ordered.
+     *
+     * @param directed whether the edges are directed
+     * @return the set of edges
+     */
+    public Set<Pair<Integer, Integer>> getEdgeSet(boolean directed)
+    {
+        Set<Pair<Integer, Integer>> result = new HashSet<>();
+        for (Pair<Integer, Integer> e : getEdges()) {
+            int s = e.getFirst();
+            int t = e.getSecond();
+            if (!directed && s > t) {
+                result.add(Pair.of(t, s));
+            } else {
+                result.add(e);
+            }
+        }
+        return result;
+    }
+
+}
+
+// End EdgeBlockCollector.java
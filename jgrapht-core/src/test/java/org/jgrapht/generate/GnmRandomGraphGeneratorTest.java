@@ -22,6 +22,7 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.util.*;
@@ -596,6 +597,53 @@ public class GnmRandomGraphGeneratorTest
             }
         }
     }
+    @Test
+    public void testParallelEdges()
+    {
+        for (boolean directed : Arrays.asList(true, false)) {
+            for (boolean loops : Arrays.asList(true, false)) {
+                for (int m : Arrays.asList(0, 1, 500, 4000, directed ? 9900 : 4950)) {
+                    EdgeBlockCollector single = new EdgeBlockCollector();
+                    new GnmRandomGraphGenerator<Integer, DefaultEdge>(100, m, SEED, loops, false)
+                        .generateEdges(directed, single, new ForkJoinPool(1));
+                    EdgeBlockCollector multi = new EdgeBlockCollector();
+                    new GnmRandomGraphGenerator<Integer, DefaultEdge>(100, m, SEED, loops, false)
+                        .generateEdges(directed, multi, new ForkJoinPool(3));
+                    assertEquals(single.getBlocks(), multi.getBlocks());
+
+                    List<Pair<Integer, Integer>> edges = multi.getEdges();
+                    assertEquals(m, edges.size());
+                    assertEquals(m, multi.getEdgeSet(directed).size());
+                    for (Pair<Integer, Integer> e : edges) {
+                        assertTrue(loops || !e.getFirst().equals(e.getSecond()));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testParallelEdgesMultipleEdges()
+    {
+        EdgeBlockCollector single = new EdgeBlockCollector();
+        new GnmRandomGraphGenerator<Integer, DefaultEdge>(10, 200000, SEED, false, true)
+            .generateEdges(true, single, new ForkJoinPool(1));
+        EdgeBlockCollector multi = new EdgeBlockCollector();
+        new GnmRandomGraphGenerator<Integer, DefaultEdge>(10, 200000, SEED, false, true)
+            .generateEdges(true, multi, new ForkJoinPool(4));
+        assertEquals(single.getBlocks(), multi.getBlocks());
+        assertEquals(4, multi.getBlocks().size());
+        assertEquals(200000, multi.getEdges().size());
+        assertEquals(90, multi.getEdgeSet(true).size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParallelEdgesTooManyEdges()
+    {
+        new GnmRandomGraphGenerator<Integer, DefaultEdge>(10, 46, SEED, false, false)
+            .generateEdges(false, new EdgeBlockCollector());
+    }
+
 }
 
 // End RandomGraphGeneratorTest.java
@@ -21,7 +21,11 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.*;
+import java.util.concurrent.*;
+
 import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
 import org.jgrapht.graph.*;
 import org.jgrapht.util.SupplierUtil;
 import org.junit.*;
@@ -235,6 +239,45 @@ public class GnpRandomGraphGeneratorTest
 
         assertEquals(6, g.edgeSet().size());
     }
+    @Test
+    public void testParallelEdges()
+    {
+        for (boolean directed : Arrays.asList(true, false)) {
+            for (boolean loops : Arrays.asList(true, false)) {
+                EdgeBlockCollector single = new EdgeBlockCollector();
+                new GnpRandomGraphGenerator<Integer, DefaultEdge>(300, 0.1, SEED, loops)
+                    .generateEdges(directed, single, new ForkJoinPool(1));
+                EdgeBlockCollector multi = new EdgeBlockCollector();
+                new GnpRandomGraphGenerator<Integer, DefaultEdge>(300, 0.1, SEED, loops)
+                    .generateEdges(directed, multi, new ForkJoinPool(4));
+                assertEquals(single.getBlocks(), multi.getBlocks());
+
+                List<Pair<Integer, Integer>> edges = multi.getEdges();
+                assertEquals(edges.size(), multi.getEdgeSet(directed).size());
+                for (Pair<Integer, Integer> e : edges) {
+                    assertTrue(loops || !e.getFirst().equals(e.getSecond()));
+                    assertTrue(directed || e.getFirst() <= e.getSecond());
+                }
+                double expected = (directed ? 300 * 299 : 300 * 299 / 2) * 0.1;
+                assertEquals(expected, edges.size(), expected * 0.1);
+            }
+        }
+    }
+
+    @Test
+    public void testParallelEdgesComplete()
+    {
+        EdgeBlockCollector sink = new EdgeBlockCollector();
+        new GnpRandomGraphGenerator<Integer, DefaultEdge>(10, 1.0, SEED, true)
+            .generateEdges(false, sink);
+        assertEquals(55, sink.getEdgeSet(false).size());
+
+        sink = new EdgeBlockCollector();
+        new GnpRandomGraphGenerator<Integer, DefaultEdge>(10, 1.0, SEED, false)
+            .generateEdges(true, sink);
+        assertEquals(90, sink.getEdgeSet(true).size());
+    }
+
 }
 
 // End GnpGraphGraphGeneratorTest.java
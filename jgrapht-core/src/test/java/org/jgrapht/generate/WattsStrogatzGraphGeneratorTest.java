@@ -18,11 +18,14 @@
 package org.jgrapht.generate;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
 import org.jgrapht.graph.*;
 import org.jgrapht.util.SupplierUtil;
 import org.junit.*;
@@ -175,4 +178,54 @@ public class WattsStrogatzGraphGeneratorTest
         assertEquals(12, g.edgeSet().size());
     }
 
+    @Test
+    public void testParallelEdges()
+    {
+        for (boolean directed : Arrays.asList(true, false)) {
+            for (boolean add : Arrays.asList(true, false)) {
+                EdgeBlockCollector single = new EdgeBlockCollector();
+                new WattsStrogatzGraphGenerator<Integer, DefaultEdge>(
+                    1000, 6, 0.3, add, new Random(7))
+                        .generateEdges(directed, single, new ForkJoinPool(1));
+                EdgeBlockCollector multi = new EdgeBlockCollector();
+                new WattsStrogatzGraphGenerator<Integer, DefaultEdge>(
+                    1000, 6, 0.3, add, new Random(7))
+                        .generateEdges(directed, multi, new ForkJoinPool(4));
+                assertEquals(single.getBlocks(), multi.getBlocks());
+
+                List<Pair<Integer, Integer>> edges = multi.getEdges();
+                Set<Pair<Integer, Integer>> edgeSet = multi.getEdgeSet(directed);
+                assertEquals(edges.size(), edgeSet.size());
+                if (add) {
+                    assertTrue(edges.size() > 3000 + 500);
+                } else {
+                    assertEquals(3000, edges.size());
+                }
+                int rewired = 0;
+                for (Pair<Integer, Integer> e : edges) {
+                    assertTrue(!e.getFirst().equals(e.getSecond()));
+                    int d = Math.floorMod(e.getSecond() - e.getFirst(), 1000);
+                    if (d > 3) {
+                        rewired++;
+                    }
+                }
+                assertEquals(0.3 * 3000, rewired, 100);
+            }
+        }
+    }
+
+    @Test
+    public void testParallelEdgesRing()
+    {
+        EdgeBlockCollector sink = new EdgeBlockCollector();
+        new WattsStrogatzGraphGenerator<Integer, DefaultEdge>(6, 2, 0.0, 17)
+            .generateEdges(false, sink);
+        Set<Pair<Integer, Integer>> expected = new HashSet<>();
+        for (int i = 0; i < 5; i++) {
+            expected.add(Pair.of(i, i + 1));
+        }
+        expected.add(Pair.of(0, 5));
+        assertEquals(expected, sink.getEdgeSet(false));
+    }
+
 }
@@ -0,0 +1,204 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+/**
+ * Tests for {@link CompactEdgeStorageGraph}.
+ *
+ * @author agent
+ */
+public class CompactEdgeStorageGraphTest
+{
+
+    @Test
+    public void testDirectedWeighted()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = new CompactEdgeStorageGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER,
+            DefaultGraphType.directedPseudograph().asWeighted());
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2));
+        DefaultWeightedEdge e01 = g.addEdge(0, 1);
+        DefaultWeightedEdge e12 = g.addEdge(1, 2);
+        DefaultWeightedEdge e22 = g.addEdge(2, 2);
+        DefaultWeightedEdge e01b = g.addEdge(0, 1);
+
+        assertEquals(4, g.edgeSet().size());
+        assertEquals(Integer.valueOf(0), g.getEdgeSource(e01));
+        assertEquals(Integer.valueOf(1), g.getEdgeTarget(e01));
+        assertEquals(Integer.valueOf(2), g.getEdgeSource(e22));
+        assertEquals(2, g.getAllEdges(0, 1).size());
+        assertEquals(1d, g.getEdgeWeight(e12), 1e-9);
+        g.setEdgeWeight(e12, 5d);
+        assertEquals(5d, g.getEdgeWeight(e12), 1e-9);
+
+        assertTrue(g.removeEdge(e01));
+        assertFalse(g.containsEdge(e01));
+        assertTrue(g.containsEdge(e01b));
+        assertEquals(e01b, g.getEdge(0, 1));
+        assertEquals(3, g.edgeSet().size());
+        assertEquals(5d, g.getEdgeWeight(e12), 1e-9);
+
+        assertTrue(g.removeVertex(2));
+        assertEquals(1, g.edgeSet().size());
+        assertTrue(g.edgeSet().contains(e01b));
+    }
+
+    @Test
+    public void testCustomEdgesWeighted()
+    {
+        Graph<Integer, String> g = new CompactEdgeStorageGraph<>(
+            null, null, DefaultGraphType.pseudograph().asWeighted());
+        Graphs.addAllVertices(g, Arrays.asList(1, 2, 3));
+        assertTrue(g.addEdge(1, 2, "a"));
+        assertTrue(g.addEdge(2, 3, "b"));
+        assertFalse(g.addEdge(2, 3, "b"));
+        g.setEdgeWeight("b", 3d);
+        assertEquals(1d, g.getEdgeWeight("a"), 1e-9);
+        assertEquals(3d, g.getEdgeWeight("b"), 1e-9);
+        assertEquals(Integer.valueOf(2), g.getEdgeSource("b"));
+        assertEquals(Integer.valueOf(3), g.getEdgeTarget("b"));
+
+        g.removeEdge("a");
+        assertEquals(3d, g.getEdgeWeight("b"), 1e-9);
+        assertEquals(Integer.valueOf(2), g.getEdgeSource("b"));
+        assertEquals(Collections.singleton("b"), g.edgeSet());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testUnweightedSetWeight()
+    {
+        Graph<Integer, String> g =
+            new CompactEdgeStorageGraph<>(null, null, DefaultGraphType.simple());
+        Graphs.addAllVertices(g, Arrays.asList(1, 2));
+        g.addEdge(1, 2, "a");
+        assertEquals(Graph.DEFAULT_EDGE_WEIGHT, g.getEdgeWeight("a"), 1e-9);
+        g.setEdgeWeight("a", 2d);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNoSuchEdge()
+    {
+        Graph<Integer, String> g =
+            new CompactEdgeStorageGraph<>(null, null, DefaultGraphType.simple());
+        g.getEdgeSource("a");
+    }
+
+    @Test
+    public void testRandomOperations()
+    {
+        for (boolean inline : Arrays.asList(true, false)) {
+            Random rng = new Random(17);
+            Graph<Integer, Object> expected = new DirectedPseudograph<>(null, null, true);
+            Graph<Integer, Object> g = new CompactEdgeStorageGraph<>(
+                null, null, DefaultGraphType.directedPseudograph().asWeighted());
+
+            int n = 50;
+            for (int i = 0; i < n; i++) {
+                expected.addVertex(i);
+                g.addVertex(i);
+            }
+
+            List<Object> edges = new ArrayList<>();
+            for (int i = 0; i < 20000; i++) {
+                if (edges.isEmpty() || rng.nextDouble() < 0.6) {
+                    Object e = inline ? new DefaultWeightedEdge() : new Object();
+                    int s = rng.nextInt(n);
+                    int t = rng.nextInt(n);
+                    expected.addEdge(s, t, e);
+                    g.addEdge(s, t, e);
+                    edges.add(e);
+                    if (!inline) {
+                        double w = rng.nextDouble();
+                        expected.setEdgeWeight(e, w);
+                        g.setEdgeWeight(e, w);
+                    }
+                } else {
+                    Object e = edges.remove(rng.nextInt(edges.size()));
+                    assertTrue(expected.removeEdge(e));
+                    assertTrue(g.removeEdge(e));
+                    assertFalse(g.containsEdge(e));
+                }
+            }
+
+            assertEquals(expected.edgeSet(), g.edgeSet());
+            assertEquals(edges.size(), g.edgeSet().size());
+            for (Object e : edges) {
+                assertTrue(g.containsEdge(e));
+                assertEquals(expected.getEdgeSource(e), g.getEdgeSource(e));
+                assertEquals(expected.getEdgeTarget(e), g.getEdgeTarget(e));
+                assertEquals(expected.getEdgeWeight(e), g.getEdgeWeight(e), 1e-9);
+            }
+            for (int v = 0; v < n; v++) {
+                assertEquals(expected.outgoingEdgesOf(v), g.outgoingEdgesOf(v));
+                assertEquals(expected.incomingEdgesOf(v), g.incomingEdgesOf(v));
+            }
+        }
+    }
+
+    @Test
+    public void testSerialization()
+        throws Exception
+    {
+        Graph<Integer, DefaultEdge> g = new CompactEdgeStorageGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+            DefaultGraphType.directedPseudograph());
+        for (int i = 0; i < 100; i++) {
+            g.addVertex(i);
+        }
+        for (int i = 0; i < 99; i++) {
+            g.addEdge(i, i + 1);
+        }
+
+        ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bout)) {
+            out.writeObject(g);
+        }
+        Graph<Integer, DefaultEdge> copy;
+        try (ObjectInputStream in =
+            new ObjectInputStream(new ByteArrayInputStream(bout.toByteArray())))
+        {
+            @SuppressWarnings("unchecked") Graph<Integer, DefaultEdge> read =
+                (Graph<Integer, DefaultEdge>) in.readObject();
+            copy = read;
+        }
+
+        assertEquals(99, copy.edgeSet().size());
+        for (DefaultEdge e : new ArrayList<>(copy.edgeSet())) {
+            assertTrue(copy.containsEdge(e));
+            assertEquals(e, copy.getEdge(copy.getEdgeSource(e), copy.getEdgeTarget(e)));
+        }
+        for (DefaultEdge e : new ArrayList<>(copy.edgeSet())) {
+            assertTrue(copy.removeEdge(e));
+            assertFalse(copy.containsEdge(e));
+        }
+        assertTrue(copy.edgeSet().isEmpty());
+        assertNotNull(copy.addEdge(0, 1));
+    }
+
+}
+
+// End CompactEdgeStorageGraphTest.java
@@ -0,0 +1,232 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph.builder;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+import java.util.stream.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.graph.concurrent.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+/**
+ * Tests for {@link BulkGraphBuilder}.
+ *
+ * @author agent
+ */
+public class BulkGraphBuilderTest
+{
+
+    @Test
+    public void testEdgeBatch()
+    {
+        Integer[] sources = { 0, 1, 2, 3 };
+        Integer[] targets = { 1, 2, 3, 0 };
+        Graph<Integer, DefaultEdge> g = GraphTypeBuilder
+            .<Integer, DefaultEdge> directed().allowingMultipleEdges(false)
+            .allowingSelfLoops(false).edgeClass(DefaultEdge.class)
+            .buildBulkGraphBuilder(5, 4).addVertexBatch(Arrays.asList(0, 1, 2, 3, 4))
+            .addEdgeBatch(sources, targets).build();
+
+        assertEquals(5, g.vertexSet().size());
+        assertEquals(4, g.edgeSet().size());
+        for (int i = 0; i < sources.length; i++) {
+            assertTrue(g.containsEdge(sources[i], targets[i]));
+            assertFalse(g.containsEdge(targets[i], sources[i]));
+        }
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4), new ArrayList<>(g.vertexSet()));
+    }
+
+    @Test
+    public void testWeightedEdgeBatch()
+    {
+        Integer[] sources = { 0, 1, 2 };
+        Integer[] targets = { 1, 2, 0 };
+        double[] weights = { 1.5, 2.5, 3.5 };
+        Graph<Integer, DefaultWeightedEdge> g = GraphTypeBuilder
+            .<Integer, DefaultWeightedEdge> undirected().allowingMultipleEdges(false)
+            .allowingSelfLoops(false).weighted(true).edgeClass(DefaultWeightedEdge.class)
+            .buildBulkGraphBuilder(3, 3).addEdgeBatch(sources, targets, weights).build();
+
+        assertEquals(3, g.vertexSet().size());
+        assertEquals(3, g.edgeSet().size());
+        assertEquals(1.5, g.getEdgeWeight(g.getEdge(1, 0)), 1e-9);
+        assertEquals(2.5, g.getEdgeWeight(g.getEdge(2, 1)), 1e-9);
+        assertEquals(3.5, g.getEdgeWeight(g.getEdge(0, 2)), 1e-9);
+    }
+
+    @Test
+    public void testStreamBatch()
+    {
+        Graph<Integer, DefaultEdge> g = GraphTypeBuilder
+            .<Integer, DefaultEdge> undirected().allowingMultipleEdges(false)
+            .allowingSelfLoops(false).edgeClass(DefaultEdge.class).buildBulkGraphBuilder(10, 9)
+            .addVertexBatch(IntStream.range(0, 10).boxed())
+            .addEdgeBatch(IntStream.range(1, 10).mapToObj(i -> Pair.of(i - 1, i)))
+            .buildAsUnmodifiable();
+
+        assertEquals(10, g.vertexSet().size());
+        assertEquals(9, g.edgeSet().size());
+        for (int i = 1; i < 10; i++) {
+            assertTrue(g.containsEdge(i, i - 1));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDifferentLengths()
+    {
+        GraphTypeBuilder
+            .<Integer, DefaultEdge> directed().edgeClass(DefaultEdge.class)
+            .buildBulkGraphBuilder(2, 1).addEdgeBatch(new Integer[] { 0, 1 }, new Integer[] { 1 });
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testNoEdgeSupplier()
+    {
+        new BulkGraphBuilder<>(new SimpleGraph<Integer, DefaultEdge>(null, null, false), 2, 1)
+            .addEdgeBatch(new Integer[] { 0 }, new Integer[] { 1 });
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSelfLoopValidation()
+    {
+        GraphTypeBuilder
+            .<Integer, DefaultEdge> undirected().allowingMultipleEdges(false)
+            .allowingSelfLoops(false).edgeClass(DefaultEdge.class).buildBulkGraphBuilder(2, 2)
+            .addEdgeBatch(new Integer[] { 0, 1 }, new Integer[] { 1, 1 }).build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMultipleEdgesValidation()
+    {
+        GraphTypeBuilder
+            .<Integer, DefaultEdge> undirected().allowingMultipleEdges(false)
+            .allowingSelfLoops(false).edgeClass(DefaultEdge.class).buildBulkGraphBuilder(2, 2)
+            .addEdgeBatch(new Integer[] { 0, 1 }, new Integer[] { 1, 0 }).build();
+    }
+
+    @Test
+    public void testDirectedAntiParallelEdgesAreValid()
+    {
+        Graph<Integer, DefaultEdge> g = GraphTypeBuilder
+            .<Integer, DefaultEdge> directed().allowingMultipleEdges(false)
+            .allowingSelfLoops(false).edgeClass(DefaultEdge.class).buildBulkGraphBuilder(2, 2)
+            .addEdgeBatch(new Integer[] { 0, 1 }, new Integer[] { 1, 0 }).build();
+
+        assertEquals(2, g.edgeSet().size());
+    }
+
+    @Test
+    public void testPseudographIsNotValidated()
+    {
+        Graph<Integer, DefaultEdge> g = GraphTypeBuilder
+            .<Integer, DefaultEdge> undirected().allowingMultipleEdges(true)
+            .allowingSelfLoops(true).edgeClass(DefaultEdge.class).buildBulkGraphBuilder(2, 3)
+            .addEdgeBatch(new Integer[] { 0, 1, 1 }, new Integer[] { 1, 0, 1 }).build();
+
+        assertEquals(3, g.edgeSet().size());
+        assertEquals(2, g.getAllEdges(0, 1).size());
+        assertEquals(4, g.degreeOf(1));
+    }
+
+    @Test
+    public void testValidationDisabled()
+    {
+        Graph<Integer, DefaultEdge> g = GraphTypeBuilder
+            .<Integer, DefaultEdge> undirected().allowingMultipleEdges(false)
+            .allowingSelfLoops(false).edgeClass(DefaultEdge.class).buildBulkGraphBuilder(2, 2)
+            .validateOnBuild(false).addEdgeBatch(new Integer[] { 0 }, new Integer[] { 1 })
+            .build();
+
+        assertEquals(1, g.edgeSet().size());
+    }
+
+    @Test
+    public void testNonBaseGraph()
+    {
+        Graph<Integer, DefaultEdge> base = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        Graph<Integer, DefaultEdge> g =
+            new BulkGraphBuilder<>(new AsSynchronizedGraph<>(base), 3, 2)
+                .addEdgeBatch(new Integer[] { 0, 1, 1 }, new Integer[] { 1, 2, 0 }).build();
+
+        assertEquals(3, g.vertexSet().size());
+        assertEquals(2, g.edgeSet().size());
+        assertEquals(2, base.edgeSet().size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDirectedAcyclicGraphRejectsCycle()
+    {
+        new BulkGraphBuilder<>(
+            new DirectedAcyclicGraph<Integer, DefaultEdge>(
+                null, SupplierUtil.DEFAULT_EDGE_SUPPLIER, false),
+            3, 3).addEdgeBatch(new Integer[] { 0, 1, 2 }, new Integer[] { 1, 2, 0 });
+    }
+
+    @Test
+    public void testCompactEdgeStorage()
+    {
+        Integer[] sources = { 0, 1, 2, 3 };
+        Integer[] targets = { 1, 2, 3, 4 };
+        Graph<Integer, DefaultEdge> g = GraphTypeBuilder
+            .<Integer, DefaultEdge> undirected().allowingMultipleEdges(false)
+            .allowingSelfLoops(false).compactEdgeStorage(true).edgeClass(DefaultEdge.class)
+            .buildBulkGraphBuilder(5, 4).addEdgeBatch(sources, targets).build();
+
+        assertEquals(5, g.vertexSet().size());
+        assertEquals(4, g.edgeSet().size());
+        for (int i = 0; i < sources.length; i++) {
+            assertTrue(g.containsEdge(targets[i], sources[i]));
+        }
+        assertEquals(2, g.degreeOf(2));
+    }
+
+    @Test
+    public void testEnsureCapacityKeepsVertexOrder()
+    {
+        AbstractBaseGraph<Integer, DefaultEdge> g = new SimpleDirectedGraph<>(DefaultEdge.class);
+        g.ensureCapacity(1000, 1000);
+        for (int i = 999; i >= 0; i--) {
+            g.addVertex(i);
+        }
+        Iterator<Integer> it = g.vertexSet().iterator();
+        for (int i = 999; i >= 0; i--) {
+            assertEquals(Integer.valueOf(i), it.next());
+        }
+    }
+
+    @Test
+    public void testAddEdgeUncheckedDuplicateEdgeObject()
+    {
+        AbstractBaseGraph<Integer, DefaultEdge> g = new Pseudograph<>(DefaultEdge.class);
+        DefaultEdge e = new DefaultEdge();
+        assertTrue(g.addEdgeUnchecked(0, 1, e));
+        assertFalse(g.addEdgeUnchecked(1, 2, e));
+        assertEquals(1, g.edgeSet().size());
+        assertEquals(Integer.valueOf(0), g.getEdgeSource(e));
+    }
+
+}
+
+// End BulkGraphBuilderTest.java
@@ -24,6 +24,7 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import org.jgrapht.Graph;
+import org.jgrapht.graph.CompactEdgeStorageGraph;
 import org.jgrapht.graph.DefaultEdge;
 import org.jgrapht.graph.DefaultWeightedEdge;
 import org.jgrapht.graph.Pseudograph;
@@ -107,4 +108,20 @@ public class GraphTypeBuilderTest
         assertEquals(graph.getEdgeSupplier(), graph1.getEdgeSupplier());
     }
 
+    @Test
+    public void testGraphTypeBuilderCompactEdgeStorage()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph = GraphTypeBuilder
+            .undirected().allowingMultipleEdges(false).allowingSelfLoops(false).weighted(true)
+            .compactEdgeStorage(true).edgeClass(DefaultWeightedEdge.class)
+            .vertexSupplier(SupplierUtil.createIntegerSupplier()).buildGraph();
+        assertTrue(graph instanceof CompactEdgeStorageGraph);
+        assertTrue(graph.getType().isUndirected());
+        assertTrue(graph.getType().isWeighted());
+        assertFalse(graph.getType().isAllowingMultipleEdges());
+        assertFalse(graph.getType().isAllowingSelfLoops());
+        assertNotNull(graph.getEdgeSupplier());
+        assertNotNull(graph.getVertexSupplier());
+    }
+
 }
@@ -0,0 +1,212 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph.concurrent;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+/**
+ * Unit tests for AsConcurrentGraph
+ *
+ * @author agent
+ */
+public class AsConcurrentGraphTest
+{
+
+    @Test
+    public void testBasicOperations()
+    {
+        Graph<Integer, DefaultEdge> g = new AsConcurrentGraph<>(new DirectedPseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false));
+
+        assertEquals(Integer.valueOf(0), g.addVertex());
+        assertEquals(Integer.valueOf(1), g.addVertex());
+        assertTrue(g.addVertex(2));
+        assertFalse(g.addVertex(2));
+
+        DefaultEdge e01 = g.addEdge(0, 1);
+        DefaultEdge e12 = g.addEdge(1, 2);
+        DefaultEdge e12b = g.addEdge(1, 2);
+        assertNotNull(e01);
+
+        assertEquals(3, g.vertexSet().size());
+        assertEquals(3, g.edgeSet().size());
+        assertTrue(g.vertexSet().contains(1));
+        assertTrue(g.edgeSet().contains(e12));
+        assertEquals(e01, g.getEdge(0, 1));
+        assertNull(g.getEdge(1, 0));
+        assertTrue(g.containsEdge(1, 2));
+        assertEquals(new HashSet<>(Arrays.asList(e12, e12b)), g.getAllEdges(1, 2));
+        assertEquals(2, g.outDegreeOf(1));
+        assertEquals(1, g.inDegreeOf(1));
+        assertEquals(3, g.degreeOf(1));
+        assertEquals(new HashSet<>(Arrays.asList(e12, e12b)), g.outgoingEdgesOf(1));
+        assertEquals(Collections.singleton(e01), g.incomingEdgesOf(1));
+        assertEquals(Integer.valueOf(0), g.getEdgeSource(e01));
+        assertEquals(Integer.valueOf(1), g.getEdgeTarget(e01));
+
+        assertEquals(2, g.removeAllEdges(1, 2).size());
+        assertTrue(g.removeVertex(0));
+        assertEquals(2, g.vertexSet().size());
+        assertTrue(g.edgeSet().isEmpty());
+    }
+
+    @Test
+    public void testUndirectedPseudograph()
+    {
+        Graph<Integer, DefaultEdge> base = new Pseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        Graph<Integer, DefaultEdge> g = new AsConcurrentGraph<>(base);
+        for (int i = 0; i < 4; i++) {
+            g.addVertex(i);
+        }
+        DefaultEdge e01 = g.addEdge(0, 1);
+        DefaultEdge e10 = g.addEdge(1, 0);
+        DefaultEdge e11 = g.addEdge(1, 1);
+        g.addEdge(1, 2);
+
+        assertEquals(e01, g.getEdge(1, 0));
+        assertEquals(e11, g.getEdge(1, 1));
+        assertNull(g.getEdge(0, 2));
+        assertEquals(new HashSet<>(Arrays.asList(e01, e10)), g.getAllEdges(1, 0));
+        assertEquals(Collections.singleton(e11), g.getAllEdges(1, 1));
+        assertTrue(g.getAllEdges(0, 3).isEmpty());
+        for (int v = 0; v < 4; v++) {
+            assertEquals(base.degreeOf(v), g.degreeOf(v));
+            assertEquals(base.inDegreeOf(v), g.inDegreeOf(v));
+            assertEquals(base.outDegreeOf(v), g.outDegreeOf(v));
+            assertEquals(base.edgesOf(v), g.edgesOf(v));
+        }
+        assertEquals(5, g.degreeOf(1));
+
+        // missing vertices
+        assertNull(g.getEdge(0, 4));
+        assertNull(g.getEdge(4, 0));
+        assertNull(g.getAllEdges(4, 0));
+        assertFalse(g.containsEdge(0, 4));
+        try {
+            g.degreeOf(4);
+            fail("No!");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testUnmodifiableVertexSet()
+    {
+        Graph<Integer, DefaultEdge> g =
+            new AsConcurrentGraph<>(new SimpleGraph<>(DefaultEdge.class));
+        g.vertexSet().add(1);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testUnmodifiableEdgesOf()
+    {
+        Graph<Integer, DefaultEdge> g =
+            new AsConcurrentGraph<>(new SimpleGraph<>(DefaultEdge.class));
+        g.addVertex(1);
+        g.addVertex(2);
+        g.addEdge(1, 2);
+        g.edgesOf(1).clear();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownVertex()
+    {
+        Graph<Integer, DefaultEdge> g =
+            new AsConcurrentGraph<>(new SimpleGraph<>(DefaultEdge.class));
+        g.edgesOf(1);
+    }
+
+    @Test
+    public void testConcurrentReadsAndWrites()
+        throws Exception
+    {
+        final int n = 1000;
+        AsConcurrentGraph<Integer, DefaultEdge> g =
+            new AsConcurrentGraph<>(new SimpleGraph<>(DefaultEdge.class));
+        for (int i = 0; i < n; i++) {
+            g.addVertex(i);
+        }
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        AtomicBoolean done = new AtomicBoolean(false);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+
+            // writers add a cycle concurrently
+            for (int t = 0; t < threads / 2; t++) {
+                final int offset = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = offset; i < n; i += threads / 2) {
+                        g.addEdge(i, (i + 1) % n);
+                    }
+                }));
+            }
+
+            // readers check invariants while the graph is being modified
+            List<Future<?>> readers = new ArrayList<>();
+            for (int t = 0; t < threads / 2; t++) {
+                readers.add(executor.submit(() -> {
+                    Random rng = new Random();
+                    while (!done.get()) {
+                        int v = rng.nextInt(n);
+                        int degree = g.degreeOf(v);
+                        assertTrue(degree >= 0 && degree <= 2);
+                        assertTrue(g.edgesOf(v).size() <= 2);
+                        DefaultEdge e = g.getEdge(v, (v + 1) % n);
+                        if (e != null) {
+                            assertTrue(g.containsEdge(e));
+                        }
+                        assertEquals(n, g.vertexSet().size());
+                    }
+                }));
+            }
+
+            for (Future<?> f : futures) {
+                f.get();
+            }
+            done.set(true);
+            for (Future<?> f : readers) {
+                f.get();
+            }
+        } finally {
+            done.set(true);
+            executor.shutdown();
+        }
+
+        assertEquals(n, g.edgeSet().size());
+        for (int i = 0; i < n; i++) {
+            assertEquals(2, g.degreeOf(i));
+            assertTrue(g.containsEdge(i, (i + 1) % n));
+        }
+    }
+
+}
+
+// End AsConcurrentGraphTest.java
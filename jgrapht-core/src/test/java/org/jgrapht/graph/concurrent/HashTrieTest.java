@@ -0,0 +1,156 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph.concurrent;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.junit.*;
+
+/**
+ * Unit tests for HashTrie
+ *
+ * @author agent
+ */
+public class HashTrieTest
+{
+
+    @Test
+    public void testRandomOperations()
+    {
+        Random rng = new Random(17);
+        HashTrie.Edit edit = new HashTrie.Edit();
+        HashTrie<Integer, Integer> trie = new HashTrie<>(edit);
+        Map<Integer, Integer> expected = new HashMap<>();
+
+        for (int i = 0; i < 20000; i++) {
+            int key = rng.nextInt(5000);
+            if (rng.nextInt(3) == 0) {
+                assertEquals(expected.remove(key) != null, trie.remove(key));
+            } else {
+                int value = rng.nextInt();
+                expected.put(key, value);
+                trie.put(key, value);
+            }
+        }
+        assertSameContents(expected, trie);
+    }
+
+    @Test
+    public void testCollisions()
+    {
+        HashTrie.Edit edit = new HashTrie.Edit();
+        HashTrie<Colliding, Integer> trie = new HashTrie<>(edit);
+        Map<Colliding, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            Colliding key = new Colliding(i, i % 3);
+            trie.put(key, i);
+            expected.put(key, i);
+        }
+        for (int i = 0; i < 100; i += 2) {
+            Colliding key = new Colliding(i, i % 3);
+            assertTrue(trie.remove(key));
+            expected.remove(key);
+        }
+        assertFalse(trie.remove(new Colliding(0, 0)));
+        assertSameContents(expected, trie);
+    }
+
+    @Test
+    public void testFrozenVersionsUnchanged()
+    {
+        HashTrie.Edit edit = new HashTrie.Edit();
+        HashTrie<Integer, Integer> trie = new HashTrie<>(edit);
+        for (int i = 0; i < 1000; i++) {
+            trie.put(i, i);
+        }
+
+        // freeze by switching to a new token
+        HashTrie<Integer, Integer> frozen = trie;
+        HashTrie.Edit newEdit = new HashTrie.Edit();
+        HashTrie<Integer, Integer> current = trie.editable(newEdit);
+        assertNotSame(frozen, current);
+        assertSame(current, current.editable(newEdit));
+
+        for (int i = 0; i < 1000; i += 2) {
+            current.remove(i);
+        }
+        for (int i = 1; i < 1000; i += 2) {
+            current.put(i, -i);
+        }
+        current.put(5000, 5000);
+
+        assertEquals(1000, frozen.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(Integer.valueOf(i), frozen.get(i));
+        }
+        assertNull(frozen.get(5000));
+
+        assertEquals(501, current.size());
+        for (int i = 1; i < 1000; i += 2) {
+            assertEquals(Integer.valueOf(-i), current.get(i));
+            assertNull(current.get(i - 1));
+        }
+    }
+
+    private static <K, V> void assertSameContents(Map<K, V> expected, HashTrie<K, V> trie)
+    {
+        assertEquals(expected.size(), trie.size());
+        for (Map.Entry<K, V> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), trie.get(entry.getKey()));
+        }
+        Set<K> keys = new HashSet<>();
+        Iterator<K> it = trie.keyIterator();
+        while (it.hasNext()) {
+            assertTrue(keys.add(it.next()));
+        }
+        assertEquals(expected.keySet(), keys);
+
+        List<V> values = new ArrayList<>();
+        trie.valueIterator().forEachRemaining(values::add);
+        assertEquals(expected.size(), values.size());
+    }
+
+    private static class Colliding
+    {
+        private final int id;
+        private final int hash;
+
+        Colliding(int id, int hash)
+        {
+            this.id = id;
+            this.hash = hash;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            return obj instanceof Colliding && ((Colliding) obj).id == id;
+        }
+    }
+
+}
+
+// End HashTrieTest.java
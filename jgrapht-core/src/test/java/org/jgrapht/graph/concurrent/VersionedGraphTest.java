@@ -0,0 +1,271 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph.concurrent;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.connectivity.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+/**
+ * Unit tests for VersionedGraph
+ *
+ * @author agent
+ */
+public class VersionedGraphTest
+{
+
+    @Test
+    public void testDirected()
+    {
+        VersionedGraph<Integer, DefaultWeightedEdge> g = new VersionedGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER,
+            DefaultGraphType.directedPseudograph().asWeighted());
+        for (int i = 0; i < 4; i++) {
+            g.addVertex();
+        }
+        DefaultWeightedEdge e01 = g.addEdge(0, 1);
+        DefaultWeightedEdge e12 = g.addEdge(1, 2);
+        DefaultWeightedEdge e11 = g.addEdge(1, 1);
+        DefaultWeightedEdge e12b = g.addEdge(1, 2);
+        g.setEdgeWeight(e12, 3d);
+
+        assertEquals(4, g.vertexSet().size());
+        assertEquals(4, g.edgeSet().size());
+        assertEquals(e01, g.getEdge(0, 1));
+        assertNull(g.getEdge(1, 0));
+        assertEquals(new HashSet<>(Arrays.asList(e12, e12b)), g.getAllEdges(1, 2));
+        assertEquals(3, g.outDegreeOf(1));
+        assertEquals(2, g.inDegreeOf(1));
+        assertEquals(5, g.degreeOf(1));
+        assertEquals(new HashSet<>(Arrays.asList(e01, e11, e12, e12b)), g.edgesOf(1));
+        assertEquals(new HashSet<>(Arrays.asList(e01, e11)), g.incomingEdgesOf(1));
+        assertEquals(3d, g.getEdgeWeight(e12), 0d);
+        assertEquals(1d, g.getEdgeWeight(e12b), 0d);
+        assertEquals(Integer.valueOf(1), g.getEdgeSource(e12));
+        assertEquals(Integer.valueOf(2), g.getEdgeTarget(e12));
+
+        assertTrue(g.removeVertex(1));
+        assertEquals(3, g.vertexSet().size());
+        assertTrue(g.edgeSet().isEmpty());
+        assertEquals(0, g.degreeOf(2));
+    }
+
+    @Test
+    public void testUndirected()
+    {
+        VersionedGraph<Integer, DefaultEdge> g = new VersionedGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+            DefaultGraphType.pseudograph());
+        for (int i = 0; i < 3; i++) {
+            g.addVertex();
+        }
+        DefaultEdge e01 = g.addEdge(0, 1);
+        DefaultEdge e11 = g.addEdge(1, 1);
+        g.addEdge(2, 1);
+
+        assertEquals(e01, g.getEdge(1, 0));
+        assertEquals(4, g.degreeOf(1));
+        assertEquals(3, g.edgesOf(1).size());
+        assertEquals(g.edgesOf(1), g.outgoingEdgesOf(1));
+        assertEquals(g.edgesOf(1), g.incomingEdgesOf(1));
+
+        assertTrue(g.removeEdge(e11));
+        assertEquals(2, g.degreeOf(1));
+        assertNotNull(g.removeEdge(1, 2));
+        assertEquals(1, g.degreeOf(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testLoopsNotAllowed()
+    {
+        VersionedGraph<Integer, DefaultEdge> g = new VersionedGraph<>(
+            null, SupplierUtil.DEFAULT_EDGE_SUPPLIER, DefaultGraphType.simple());
+        g.addVertex(1);
+        g.addEdge(1, 1);
+    }
+
+    @Test
+    public void testMultipleEdgesNotAllowed()
+    {
+        VersionedGraph<Integer, DefaultEdge> g = new VersionedGraph<>(
+            null, SupplierUtil.DEFAULT_EDGE_SUPPLIER, DefaultGraphType.simple());
+        g.addVertex(1);
+        g.addVertex(2);
+        assertNotNull(g.addEdge(1, 2));
+        assertNull(g.addEdge(2, 1));
+        assertEquals(1, g.edgeSet().size());
+    }
+
+    @Test
+    public void testSnapshotsAreImmutable()
+    {
+        VersionedGraph<Integer, DefaultEdge> g = new VersionedGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+            DefaultGraphType.directedPseudograph().asWeighted());
+
+        // reference graph with weights kept outside the edges
+        Graph<Integer, DefaultEdge> expected = new DirectedPseudograph<>(DefaultEdge.class);
+        Map<DefaultEdge, Double> weights = new HashMap<>();
+
+        Random rng = new Random(7);
+        List<VersionedGraph<Integer, DefaultEdge>> snapshots = new ArrayList<>();
+        List<Graph<Integer, DefaultEdge>> copies = new ArrayList<>();
+        List<Map<DefaultEdge, Double>> copiesWeights = new ArrayList<>();
+
+        for (int round = 0; round < 20; round++) {
+            for (int i = 0; i < 50; i++) {
+                int op = rng.nextInt(10);
+                if (op < 2 || g.vertexSet().size() < 2) {
+                    Integer v = g.addVertex();
+                    expected.addVertex(v);
+                } else if (op < 7) {
+                    List<Integer> vertices = new ArrayList<>(expected.vertexSet());
+                    Integer s = vertices.get(rng.nextInt(vertices.size()));
+                    Integer t = vertices.get(rng.nextInt(vertices.size()));
+                    DefaultEdge e = g.addEdge(s, t);
+                    expected.addEdge(s, t, e);
+                    double w = rng.nextDouble();
+                    g.setEdgeWeight(e, w);
+                    weights.put(e, w);
+                } else if (op < 8) {
+                    List<Integer> vertices = new ArrayList<>(expected.vertexSet());
+                    Integer v = vertices.get(rng.nextInt(vertices.size()));
+                    assertTrue(g.removeVertex(v));
+                    expected.removeVertex(v);
+                } else if (op < 9 && !expected.edgeSet().isEmpty()) {
+                    List<DefaultEdge> edges = new ArrayList<>(expected.edgeSet());
+                    DefaultEdge e = edges.get(rng.nextInt(edges.size()));
+                    assertTrue(g.removeEdge(e));
+                    expected.removeEdge(e);
+                } else if (!expected.edgeSet().isEmpty()) {
+                    List<DefaultEdge> edges = new ArrayList<>(expected.edgeSet());
+                    DefaultEdge e = edges.get(rng.nextInt(edges.size()));
+                    double w = rng.nextDouble();
+                    g.setEdgeWeight(e, w);
+                    weights.put(e, w);
+                }
+            }
+            assertSameGraph(expected, weights, g);
+
+            VersionedGraph<Integer, DefaultEdge> snapshot = g.snapshot();
+            assertTrue(snapshot.isSnapshot());
+            assertEquals(round, snapshot.getVersion());
+            assertSame(snapshot, snapshot.snapshot());
+            snapshots.add(snapshot);
+            Graph<Integer, DefaultEdge> copy = new DirectedPseudograph<>(DefaultEdge.class);
+            Graphs.addGraph(copy, expected);
+            copies.add(copy);
+            copiesWeights.add(new HashMap<>(weights));
+        }
+
+        for (int i = 0; i < snapshots.size(); i++) {
+            assertSameGraph(copies.get(i), copiesWeights.get(i), snapshots.get(i));
+        }
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testSnapshotUnmodifiable()
+    {
+        VersionedGraph<Integer, DefaultEdge> g = new VersionedGraph<>(
+            null, SupplierUtil.DEFAULT_EDGE_SUPPLIER, DefaultGraphType.simple());
+        g.addVertex(1);
+        Graph<Integer, DefaultEdge> snapshot = g.snapshot();
+        assertFalse(snapshot.getType().isModifiable());
+        snapshot.addVertex(2);
+    }
+
+    @Test
+    public void testConcurrentSnapshotReaders()
+        throws Exception
+    {
+        final int n = 2000;
+        VersionedGraph<Integer, DefaultEdge> g = new VersionedGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+            DefaultGraphType.pseudograph());
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        AtomicBoolean done = new AtomicBoolean(false);
+        try {
+            List<Future<?>> readers = new ArrayList<>();
+            for (int t = 0; t < 3; t++) {
+                readers.add(executor.submit(() -> {
+                    while (!done.get()) {
+                        Graph<Integer, DefaultEdge> snapshot = g.snapshot();
+                        int vertices = snapshot.vertexSet().size();
+                        // writer builds a path, so the snapshot must always be connected
+                        ConnectivityInspector<Integer, DefaultEdge> ci =
+                            new ConnectivityInspector<>(snapshot);
+                        assertEquals(vertices == 0 ? 0 : 1, ci.connectedSets().size());
+                        assertEquals(Math.max(0, vertices - 1), snapshot.edgeSet().size());
+                    }
+                }));
+            }
+
+            Future<?> writer = executor.submit(() -> {
+                Integer last = null;
+                for (int i = 0; i < n; i++) {
+                    synchronized (g) {
+                        Integer v = g.addVertex();
+                        if (last != null) {
+                            g.addEdge(last, v);
+                        }
+                        last = v;
+                    }
+                }
+            });
+
+            writer.get();
+            done.set(true);
+            for (Future<?> f : readers) {
+                f.get();
+            }
+        } finally {
+            done.set(true);
+            executor.shutdown();
+        }
+        assertEquals(n, g.snapshot().vertexSet().size());
+    }
+
+    private static <V, E> void assertSameGraph(
+        Graph<V, E> expected, Map<E, Double> weights, Graph<V, E> actual)
+    {
+        assertEquals(expected.vertexSet(), actual.vertexSet());
+        assertEquals(expected.edgeSet(), actual.edgeSet());
+        for (E e : expected.edgeSet()) {
+            assertEquals(expected.getEdgeSource(e), actual.getEdgeSource(e));
+            assertEquals(expected.getEdgeTarget(e), actual.getEdgeTarget(e));
+            assertEquals(weights.get(e), actual.getEdgeWeight(e), 0d);
+        }
+        for (V v : expected.vertexSet()) {
+            assertEquals(expected.outgoingEdgesOf(v), actual.outgoingEdgesOf(v));
+            assertEquals(expected.incomingEdgesOf(v), actual.incomingEdgesOf(v));
+            assertEquals(expected.degreeOf(v), actual.degreeOf(v));
+        }
+    }
+
+}
+
+// End VersionedGraphTest.java
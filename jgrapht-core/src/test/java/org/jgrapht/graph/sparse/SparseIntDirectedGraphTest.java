@@ -0,0 +1,208 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph.sparse;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+/**
+ * Tests for {@link SparseIntDirectedGraph} and {@link SparseIntDirectedWeightedGraph}.
+ *
+ * @author agent
+ */
+public class SparseIntDirectedGraphTest
+{
+
+    @Test
+    public void testStructure()
+    {
+        List<Pair<Integer, Integer>> edges = new ArrayList<>();
+        edges.add(Pair.of(0, 1));
+        edges.add(Pair.of(1, 2));
+        edges.add(Pair.of(2, 0));
+        edges.add(Pair.of(2, 3));
+        edges.add(Pair.of(2, 3));
+        edges.add(Pair.of(3, 3));
+
+        Graph<Integer, Integer> g = new SparseIntDirectedGraph(5, edges);
+
+        assertTrue(g.getType().isDirected());
+        assertFalse(g.getType().isModifiable());
+        assertFalse(g.getType().isWeighted());
+        assertTrue(g.getType().isAllowingMultipleEdges());
+        assertTrue(g.getType().isAllowingSelfLoops());
+
+        assertEquals(5, g.vertexSet().size());
+        assertEquals(6, g.edgeSet().size());
+        assertTrue(g.containsVertex(4));
+        assertFalse(g.containsVertex(5));
+        assertFalse(g.containsVertex(-1));
+        assertTrue(g.containsEdge(5));
+        assertFalse(g.containsEdge(6));
+
+        assertEquals(Integer.valueOf(2), g.getEdgeSource(3));
+        assertEquals(Integer.valueOf(3), g.getEdgeTarget(3));
+
+        assertEquals(new HashSet<>(Arrays.asList(2, 3, 4)), g.outgoingEdgesOf(2));
+        assertEquals(new HashSet<>(Arrays.asList(1)), g.incomingEdgesOf(2));
+        assertEquals(new HashSet<>(Arrays.asList(1, 2, 3, 4)), g.edgesOf(2));
+        assertEquals(new HashSet<>(Arrays.asList(3, 4, 5)), g.edgesOf(3));
+        assertTrue(g.outgoingEdgesOf(4).isEmpty());
+
+        assertEquals(3, g.outDegreeOf(2));
+        assertEquals(1, g.inDegreeOf(2));
+        assertEquals(4, g.degreeOf(2));
+        assertEquals(1, g.outDegreeOf(3));
+        assertEquals(3, g.inDegreeOf(3));
+        assertEquals(4, g.degreeOf(3));
+        assertEquals(0, g.degreeOf(4));
+
+        assertEquals(Integer.valueOf(0), g.getEdge(0, 1));
+        assertNull(g.getEdge(1, 0));
+        assertNull(g.getEdge(0, 7));
+        assertTrue(g.containsEdge(2, 0));
+        assertEquals(new HashSet<>(Arrays.asList(3, 4)), g.getAllEdges(2, 3));
+        assertTrue(g.getAllEdges(3, 2).isEmpty());
+        assertNull(g.getAllEdges(3, 9));
+
+        assertEquals(Graph.DEFAULT_EDGE_WEIGHT, g.getEdgeWeight(2), 1e-9);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testUnmodifiableAddVertex()
+    {
+        Graph<Integer, Integer> g = new SparseIntDirectedGraph(3, new ArrayList<>());
+        g.addVertex(3);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testUnmodifiableRemoveEdge()
+    {
+        Graph<Integer, Integer> g =
+            new SparseIntDirectedGraph(3, Collections.singletonList(Pair.of(0, 1)));
+        g.removeEdge(0);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testUnmodifiableEdgeSet()
+    {
+        Graph<Integer, Integer> g =
+            new SparseIntDirectedGraph(3, Collections.singletonList(Pair.of(0, 1)));
+        g.outgoingEdgesOf(0).clear();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidEndpoint()
+    {
+        new SparseIntDirectedGraph(3, Collections.singletonList(Pair.of(0, 3)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidVertex()
+    {
+        Graph<Integer, Integer> g = new SparseIntDirectedGraph(3, new ArrayList<>());
+        g.outgoingEdgesOf(3);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidEdge()
+    {
+        Graph<Integer, Integer> g = new SparseIntDirectedGraph(3, new ArrayList<>());
+        g.getEdgeSource(0);
+    }
+
+    @Test
+    public void testWeighted()
+    {
+        List<Triple<Integer, Integer, Double>> edges = new ArrayList<>();
+        edges.add(Triple.of(0, 1, 3.0));
+        edges.add(Triple.of(1, 2, 5.0));
+        edges.add(Triple.of(0, 2, 10.0));
+
+        Graph<Integer, Integer> g = new SparseIntDirectedWeightedGraph(3, edges);
+
+        assertTrue(g.getType().isWeighted());
+        assertFalse(g.getType().isModifiable());
+        assertEquals(3.0, g.getEdgeWeight(0), 1e-9);
+        assertEquals(5.0, g.getEdgeWeight(1), 1e-9);
+        assertEquals(10.0, g.getEdgeWeight(2), 1e-9);
+
+        GraphPath<Integer, Integer> path = new DijkstraShortestPath<>(g).getPath(0, 2);
+        assertEquals(8.0, path.getWeight(), 1e-9);
+        assertEquals(Arrays.asList(0, 1), path.getEdgeList());
+    }
+
+    @Test
+    public void testAgainstDefaultGraph()
+    {
+        Graph<Integer, DefaultWeightedEdge> source = new DirectedWeightedPseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(100, 1000, 17, true, true)
+            .generateGraph(source);
+
+        Random rng = new Random(17);
+        int m = source.edgeSet().size();
+        int[] sources = new int[m];
+        int[] targets = new int[m];
+        double[] weights = new double[m];
+        int i = 0;
+        for (DefaultWeightedEdge e : source.edgeSet()) {
+            source.setEdgeWeight(e, rng.nextDouble());
+            sources[i] = source.getEdgeSource(e);
+            targets[i] = source.getEdgeTarget(e);
+            weights[i] = source.getEdgeWeight(e);
+            i++;
+        }
+
+        Graph<Integer, Integer> g = new SparseIntDirectedWeightedGraph(
+            source.vertexSet().size(), sources, targets, weights);
+
+        for (Integer v : source.vertexSet()) {
+            assertEquals(source.outDegreeOf(v), g.outDegreeOf(v));
+            assertEquals(source.inDegreeOf(v), g.inDegreeOf(v));
+            assertEquals(source.degreeOf(v), g.degreeOf(v));
+            assertEquals(source.edgesOf(v).size(), g.edgesOf(v).size());
+        }
+
+        ShortestPathAlgorithm<Integer, DefaultWeightedEdge> expected =
+            new DijkstraShortestPath<>(source);
+        ShortestPathAlgorithm<Integer, Integer> actual = new DijkstraShortestPath<>(g);
+        for (Integer u : source.vertexSet()) {
+            ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> expectedPaths =
+                expected.getPaths(u);
+            ShortestPathAlgorithm.SingleSourcePaths<Integer, Integer> actualPaths =
+                actual.getPaths(u);
+            for (Integer v : source.vertexSet()) {
+                assertEquals(expectedPaths.getWeight(v), actualPaths.getWeight(v), 1e-9);
+            }
+        }
+    }
+
+}
+
+// End SparseIntDirectedGraphTest.java
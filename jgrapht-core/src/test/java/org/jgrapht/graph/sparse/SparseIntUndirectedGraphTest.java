@@ -0,0 +1,145 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph.sparse;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.connectivity.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.spanning.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+/**
+ * Tests for {@link SparseIntUndirectedGraph} and {@link SparseIntUndirectedWeightedGraph}.
+ *
+ * @author agent
+ */
+public class SparseIntUndirectedGraphTest
+{
+
+    @Test
+    public void testStructure()
+    {
+        List<Pair<Integer, Integer>> edges = new ArrayList<>();
+        edges.add(Pair.of(0, 1));
+        edges.add(Pair.of(1, 2));
+        edges.add(Pair.of(2, 0));
+        edges.add(Pair.of(2, 3));
+        edges.add(Pair.of(3, 2));
+        edges.add(Pair.of(3, 3));
+
+        Graph<Integer, Integer> g = new SparseIntUndirectedGraph(5, edges);
+
+        assertTrue(g.getType().isUndirected());
+        assertFalse(g.getType().isModifiable());
+        assertFalse(g.getType().isWeighted());
+
+        assertEquals(5, g.vertexSet().size());
+        assertEquals(6, g.edgeSet().size());
+
+        assertEquals(new HashSet<>(Arrays.asList(1, 2, 3, 4)), g.edgesOf(2));
+        assertEquals(new HashSet<>(Arrays.asList(3, 4, 5)), g.edgesOf(3));
+        assertEquals(g.edgesOf(3), g.incomingEdgesOf(3));
+        assertEquals(g.edgesOf(3), g.outgoingEdgesOf(3));
+        assertTrue(g.edgesOf(4).isEmpty());
+
+        assertEquals(4, g.degreeOf(2));
+        assertEquals(4, g.degreeOf(3));
+        assertEquals(4, g.inDegreeOf(3));
+        assertEquals(4, g.outDegreeOf(3));
+        assertEquals(0, g.degreeOf(4));
+
+        assertEquals(Integer.valueOf(0), g.getEdge(0, 1));
+        assertEquals(Integer.valueOf(0), g.getEdge(1, 0));
+        assertEquals(Integer.valueOf(5), g.getEdge(3, 3));
+        assertNull(g.getEdge(0, 3));
+        assertEquals(new HashSet<>(Arrays.asList(3, 4)), g.getAllEdges(2, 3));
+        assertEquals(new HashSet<>(Arrays.asList(3, 4)), g.getAllEdges(3, 2));
+        assertNull(g.getAllEdges(3, 9));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testUnmodifiable()
+    {
+        Graph<Integer, Integer> g =
+            new SparseIntUndirectedGraph(3, Collections.singletonList(Pair.of(0, 1)));
+        g.addEdge(1, 2);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testUnmodifiableWeight()
+    {
+        Graph<Integer, Integer> g = new SparseIntUndirectedWeightedGraph(
+            3, Collections.singletonList(Triple.of(0, 1, 2.0)));
+        g.setEdgeWeight(0, 1.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidWeights()
+    {
+        new SparseIntUndirectedWeightedGraph(
+            3, new int[] { 0, 1 }, new int[] { 1, 2 }, new double[] { 1.0 });
+    }
+
+    @Test
+    public void testAgainstDefaultGraph()
+    {
+        Graph<Integer, DefaultWeightedEdge> source = new WeightedPseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(100, 300, 7, true, true)
+            .generateGraph(source);
+
+        Random rng = new Random(7);
+        List<Triple<Integer, Integer, Double>> edges = new ArrayList<>();
+        for (DefaultWeightedEdge e : source.edgeSet()) {
+            source.setEdgeWeight(e, rng.nextDouble());
+            edges.add(
+                Triple.of(
+                    source.getEdgeSource(e), source.getEdgeTarget(e), source.getEdgeWeight(e)));
+        }
+
+        Graph<Integer, Integer> g =
+            new SparseIntUndirectedWeightedGraph(source.vertexSet().size(), edges);
+
+        for (Integer v : source.vertexSet()) {
+            assertEquals(source.degreeOf(v), g.degreeOf(v));
+            assertEquals(source.edgesOf(v).size(), g.edgesOf(v).size());
+        }
+
+        assertEquals(
+            new ConnectivityInspector<>(source).connectedSets().size(),
+            new ConnectivityInspector<>(g).connectedSets().size());
+
+        SpanningTreeAlgorithm.SpanningTree<DefaultWeightedEdge> expected =
+            new KruskalMinimumSpanningTree<>(source).getSpanningTree();
+        SpanningTreeAlgorithm.SpanningTree<Integer> actual =
+            new KruskalMinimumSpanningTree<>(g).getSpanningTree();
+        assertEquals(expected.getWeight(), actual.getWeight(), 1e-9);
+        assertEquals(expected.getEdges().size(), actual.getEdges().size());
+    }
+
+}
+
+// End SparseIntUndirectedGraphTest.java
@@ -0,0 +1,146 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.perf.generate;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+/**
+ * Benchmark comparing the sequential generation of random graphs into a {@link Graph} against the
+ * parallel generation of their edges into an {@link EdgeBlockSink}. The sink only counts the
+ * edges, therefore the parallel figures measure the generation cost alone.
+ *
+ * @author agent
+ */
+public class RandomGraphGeneratorPerformanceTest
+{
+    public static final int PERF_BENCHMARK_VERTICES_COUNT = 100000;
+    public static final int PERF_BENCHMARK_EDGES_COUNT = 1000000;
+    public static final long SEED = 13l;
+
+    @State(Scope.Benchmark)
+    public static class GeneratorBenchmark
+    {
+        @Param({ "1", "2", "4", "8" })
+        public int threads;
+
+        private ForkJoinPool pool;
+
+        @Setup(Level.Trial)
+        public void setup()
+        {
+            pool = new ForkJoinPool(threads);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown()
+        {
+            pool.shutdown();
+        }
+
+        @Benchmark
+        public long testGnmParallel()
+        {
+            CountingSink sink = new CountingSink();
+            new GnmRandomGraphGenerator<Integer, DefaultEdge>(
+                PERF_BENCHMARK_VERTICES_COUNT, PERF_BENCHMARK_EDGES_COUNT, SEED, false, false)
+                    .generateEdges(true, sink, pool);
+            return sink.count.get();
+        }
+
+        @Benchmark
+        public long testGnpParallel()
+        {
+            CountingSink sink = new CountingSink();
+            double p = (double) PERF_BENCHMARK_EDGES_COUNT / PERF_BENCHMARK_VERTICES_COUNT
+                / (PERF_BENCHMARK_VERTICES_COUNT - 1);
+            new GnpRandomGraphGenerator<Integer, DefaultEdge>(
+                PERF_BENCHMARK_VERTICES_COUNT, p, SEED).generateEdges(true, sink, pool);
+            return sink.count.get();
+        }
+
+        @Benchmark
+        public long testBarabasiAlbertParallel()
+        {
+            CountingSink sink = new CountingSink();
+            new BarabasiAlbertGraphGenerator<Integer, DefaultEdge>(
+                10, 10, PERF_BENCHMARK_VERTICES_COUNT, SEED).generateEdges(sink, pool);
+            return sink.count.get();
+        }
+
+        @Benchmark
+        public long testWattsStrogatzParallel()
+        {
+            CountingSink sink = new CountingSink();
+            new WattsStrogatzGraphGenerator<Integer, DefaultEdge>(
+                PERF_BENCHMARK_VERTICES_COUNT, 20, 0.1, SEED).generateEdges(false, sink, pool);
+            return sink.count.get();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class SequentialGeneratorBenchmark
+    {
+        @Benchmark
+        public Graph<Integer, DefaultEdge> testGnmSequential()
+        {
+            Graph<Integer, DefaultEdge> g = new SimpleDirectedGraph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+            new GnmRandomGraphGenerator<Integer, DefaultEdge>(
+                PERF_BENCHMARK_VERTICES_COUNT, PERF_BENCHMARK_EDGES_COUNT, SEED, false, false)
+                    .generateGraph(g);
+            return g;
+        }
+    }
+
+    private static class CountingSink
+        implements
+        EdgeBlockSink
+    {
+        private final AtomicLong count = new AtomicLong();
+
+        @Override
+        public void accept(int block, int[] sources, int[] targets, int size)
+        {
+            count.addAndGet(size);
+        }
+    }
+
+    @Test
+    public void testRandomGraphGeneratorBenchmark()
+        throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+            .include(".*" + GeneratorBenchmark.class.getSimpleName() + ".*")
+            .include(".*" + SequentialGeneratorBenchmark.class.getSimpleName() + ".*")
+            .mode(Mode.AverageTime).timeUnit(TimeUnit.MILLISECONDS).warmupIterations(3)
+            .measurementIterations(5).forks(1).shouldFailOnError(true).shouldDoGC(true).build();
+
+        new Runner(opt).run();
+    }
+
+}
@@ -0,0 +1,126 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.perf.graph;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.graph.builder.*;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+/**
+ * Benchmark comparing loading an edge list into a graph using {@link Graph#addEdge(Object, Object)}
+ * against using a {@link BulkGraphBuilder}.
+ *
+ * @author agent
+ */
+public class BulkLoadPerformanceTest
+{
+    public static final int PERF_BENCHMARK_VERTICES_COUNT = 100000;
+    public static final int PERF_BENCHMARK_EDGES_COUNT = 1000000;
+    public static final long SEED = 13l;
+
+    @State(Scope.Benchmark)
+    public static class EdgeListBenchmark
+    {
+        @Param({ "false", "true" })
+        public boolean directed;
+
+        private Integer[] sources;
+        private Integer[] targets;
+
+        @Setup(Level.Trial)
+        public void setup()
+        {
+            Random rng = new Random(SEED);
+            Set<Long> seen = new HashSet<>();
+            sources = new Integer[PERF_BENCHMARK_EDGES_COUNT];
+            targets = new Integer[PERF_BENCHMARK_EDGES_COUNT];
+            int m = 0;
+            while (m < PERF_BENCHMARK_EDGES_COUNT) {
+                int s = rng.nextInt(PERF_BENCHMARK_VERTICES_COUNT);
+                int t = rng.nextInt(PERF_BENCHMARK_VERTICES_COUNT);
+                if (s == t) {
+                    continue;
+                }
+                int a = directed ? s : Math.min(s, t);
+                int b = directed ? t : Math.max(s, t);
+                if (seen.add((long) a * PERF_BENCHMARK_VERTICES_COUNT + b)) {
+                    sources[m] = s;
+                    targets[m] = t;
+                    m++;
+                }
+            }
+        }
+
+        private GraphTypeBuilder<Integer, DefaultEdge> typeBuilder()
+        {
+            GraphTypeBuilder<Integer, DefaultEdge> builder =
+                directed ? GraphTypeBuilder.directed() : GraphTypeBuilder.undirected();
+            return builder
+                .allowingMultipleEdges(false).allowingSelfLoops(false)
+                .edgeClass(DefaultEdge.class);
+        }
+
+        @Benchmark
+        public Graph<Integer, DefaultEdge> testAddEdge()
+        {
+            Graph<Integer, DefaultEdge> g = typeBuilder().buildGraph();
+            for (int i = 0; i < sources.length; i++) {
+                g.addVertex(sources[i]);
+                g.addVertex(targets[i]);
+                g.addEdge(sources[i], targets[i]);
+            }
+            return g;
+        }
+
+        @Benchmark
+        public Graph<Integer, DefaultEdge> testBulkGraphBuilder()
+        {
+            return typeBuilder()
+                .buildBulkGraphBuilder(PERF_BENCHMARK_VERTICES_COUNT, PERF_BENCHMARK_EDGES_COUNT)
+                .addEdgeBatch(sources, targets).build();
+        }
+
+        @Benchmark
+        public Graph<Integer, DefaultEdge> testBulkGraphBuilderWithoutValidation()
+        {
+            return typeBuilder()
+                .buildBulkGraphBuilder(PERF_BENCHMARK_VERTICES_COUNT, PERF_BENCHMARK_EDGES_COUNT)
+                .validateOnBuild(false).addEdgeBatch(sources, targets).build();
+        }
+    }
+
+    @Test
+    public void testBulkLoadBenchmark()
+        throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+            .include(".*" + EdgeListBenchmark.class.getSimpleName() + ".*")
+            .mode(Mode.AverageTime).timeUnit(TimeUnit.MILLISECONDS).warmupIterations(3)
+            .measurementIterations(5).forks(1).shouldFailOnError(true).shouldDoGC(true).build();
+
+        new Runner(opt).run();
+    }
+
+}
@@ -0,0 +1,133 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.perf.graph;
+
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.graph.concurrent.*;
+import org.jgrapht.util.*;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+/**
+ * Multi-threaded benchmark comparing {@link AsConcurrentGraph} against {@link AsSynchronizedGraph}
+ * (with and without copyless mode). Each operation is either a write, which toggles a random edge,
+ * or a read, which performs a {@link Graph#getEdge(Object, Object)} lookup followed by a scan over
+ * the outgoing edges of a random vertex. The percentage of writes and the number of threads are
+ * varied.
+ *
+ * @author agent
+ */
+public class ConcurrentGraphPerformanceTest
+{
+    public static final int PERF_BENCHMARK_VERTICES_COUNT = 10000;
+    public static final int PERF_BENCHMARK_EDGES_COUNT = 50000;
+    public static final long SEED = 13l;
+    public static final int[] PERF_BENCHMARK_THREADS = { 1, 2, 4, 8, 16, 32, 64 };
+
+    @State(Scope.Benchmark)
+    public static class MixedReadWriteBenchmark
+    {
+        @Param({ "synchronized", "synchronizedCopyless", "concurrent" })
+        public String implementation;
+
+        @Param({ "0", "1", "10" })
+        public int writePercentage;
+
+        private Graph<Integer, DefaultEdge> graph;
+
+        @Setup(Level.Trial)
+        public void setup()
+        {
+            Graph<Integer, DefaultEdge> g = new SimpleDirectedGraph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+            new GnmRandomGraphGenerator<Integer, DefaultEdge>(
+                PERF_BENCHMARK_VERTICES_COUNT, PERF_BENCHMARK_EDGES_COUNT, SEED).generateGraph(g);
+
+            switch (implementation) {
+            case "synchronized":
+                graph = new AsSynchronizedGraph.Builder<Integer, DefaultEdge>().build(g);
+                break;
+            case "synchronizedCopyless":
+                graph =
+                    new AsSynchronizedGraph.Builder<Integer, DefaultEdge>().setCopyless().build(g);
+                break;
+            case "concurrent":
+                graph = new AsConcurrentGraph<>(g);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown implementation " + implementation);
+            }
+        }
+
+        @Benchmark
+        public void testMixedReadWrite(Blackhole blackhole)
+        {
+            ThreadLocalRandom rng = ThreadLocalRandom.current();
+            Integer u = rng.nextInt(PERF_BENCHMARK_VERTICES_COUNT);
+            Integer v = rng.nextInt(PERF_BENCHMARK_VERTICES_COUNT);
+            if (rng.nextInt(100) < writePercentage) {
+                if (graph.removeEdge(u, v) == null && !u.equals(v)) {
+                    graph.addEdge(u, v);
+                }
+                return;
+            }
+            blackhole.consume(graph.getEdge(u, v));
+            if (graph instanceof AsSynchronizedGraph
+                && ((AsSynchronizedGraph<Integer, DefaultEdge>) graph).isCopyless())
+            {
+                AsSynchronizedGraph<Integer, DefaultEdge> sg =
+                    (AsSynchronizedGraph<Integer, DefaultEdge>) graph;
+                sg.getLock().readLock().lock();
+                try {
+                    for (DefaultEdge e : sg.outgoingEdgesOf(u)) {
+                        blackhole.consume(sg.getEdgeTarget(e));
+                    }
+                } finally {
+                    sg.getLock().readLock().unlock();
+                }
+            } else {
+                for (DefaultEdge e : graph.outgoingEdgesOf(u)) {
+                    blackhole.consume(graph.getEdgeTarget(e));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testConcurrentGraphBenchmark()
+        throws RunnerException
+    {
+        for (int threads : PERF_BENCHMARK_THREADS) {
+            Options opt = new OptionsBuilder()
+                .include(".*" + MixedReadWriteBenchmark.class.getSimpleName() + ".*")
+                .mode(Mode.Throughput).timeUnit(TimeUnit.MILLISECONDS).threads(threads)
+                .warmupIterations(3).measurementIterations(5).forks(1).shouldFailOnError(true)
+                .shouldDoGC(true).build();
+
+            new Runner(opt).run();
+        }
+    }
+
+}
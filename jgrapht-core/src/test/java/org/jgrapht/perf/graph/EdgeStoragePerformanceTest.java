@@ -0,0 +1,148 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.perf.graph;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.graph.builder.*;
+import org.jgrapht.util.*;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+/**
+ * Benchmark comparing the default edge storage of the graph implementations against the compact
+ * edge storage backend ({@link CompactEdgeStorageGraph}). The benchmark measures the time to
+ * construct a random graph, while {@link #testHeapPerEdge()} reports the heap usage per edge of
+ * each backend.
+ *
+ * @author agent
+ */
+public class EdgeStoragePerformanceTest
+{
+    public static final int PERF_BENCHMARK_VERTICES_COUNT = 10000;
+    public static final int PERF_BENCHMARK_EDGES_COUNT = 500000;
+    public static final long SEED = 13l;
+
+    private static final Map<String, Supplier<Graph<Integer, DefaultWeightedEdge>>> BACKENDS;
+
+    static {
+        BACKENDS = new LinkedHashMap<>();
+        BACKENDS.put("default-unweighted", () -> create(false, false));
+        BACKENDS.put("compact-unweighted", () -> create(false, true));
+        BACKENDS.put("default-weighted", () -> create(true, false));
+        BACKENDS.put("compact-weighted", () -> create(true, true));
+    }
+
+    private static Graph<Integer, DefaultWeightedEdge> create(boolean weighted, boolean compact)
+    {
+        return GraphTypeBuilder
+            .directed().allowingMultipleEdges(true).allowingSelfLoops(true).weighted(weighted)
+            .compactEdgeStorage(compact).vertexSupplier(SupplierUtil.createIntegerSupplier())
+            .edgeSupplier(SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER).buildGraph();
+    }
+
+    private static Graph<Integer, DefaultWeightedEdge> populate(
+        Graph<Integer, DefaultWeightedEdge> g)
+    {
+        addVertices(g);
+        addEdges(g);
+        return g;
+    }
+
+    private static void addVertices(Graph<Integer, DefaultWeightedEdge> g)
+    {
+        for (int i = 0; i < PERF_BENCHMARK_VERTICES_COUNT; i++) {
+            g.addVertex();
+        }
+    }
+
+    private static void addEdges(Graph<Integer, DefaultWeightedEdge> g)
+    {
+        Random rng = new Random(SEED);
+        for (int i = 0; i < PERF_BENCHMARK_EDGES_COUNT; i++) {
+            g.addEdge(
+                rng.nextInt(PERF_BENCHMARK_VERTICES_COUNT),
+                rng.nextInt(PERF_BENCHMARK_VERTICES_COUNT));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class ConstructionBenchmark
+    {
+        @Param({ "default-unweighted", "compact-unweighted", "default-weighted",
+            "compact-weighted" })
+        public String backend;
+
+        @Benchmark
+        public Graph<Integer, DefaultWeightedEdge> testConstruction()
+        {
+            return populate(BACKENDS.get(backend).get());
+        }
+    }
+
+    @Test
+    public void testEdgeStorageBenchmark()
+        throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+            .include(".*" + ConstructionBenchmark.class.getSimpleName() + ".*")
+            .mode(Mode.AverageTime).timeUnit(TimeUnit.MILLISECONDS).warmupIterations(3)
+            .measurementIterations(5).forks(1).shouldFailOnError(true).shouldDoGC(true).build();
+
+        new Runner(opt).run();
+    }
+
+    /**
+     * Report the heap usage per edge of each backend. The figures include the edge objects
+     * themselves and are approximate since they are based on the used memory reported by the
+     * runtime after garbage collection.
+     */
+    @Test
+    public void testHeapPerEdge()
+    {
+        for (Map.Entry<String, Supplier<Graph<Integer, DefaultWeightedEdge>>> entry : BACKENDS
+            .entrySet())
+        {
+            Graph<Integer, DefaultWeightedEdge> g = entry.getValue().get();
+            addVertices(g);
+            long before = usedMemory();
+            addEdges(g);
+            long after = usedMemory();
+
+            System.out.printf(
+                "%-20s %8.1f bytes/edge%n", entry.getKey(),
+                (after - before) / (double) g.edgeSet().size());
+        }
+    }
+
+    private static long usedMemory()
+    {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+}
@@ -0,0 +1,164 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.perf.graph;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.graph.sparse.*;
+import org.jgrapht.traverse.*;
+import org.jgrapht.util.*;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+/**
+ * Benchmark comparing the read performance of {@link SparseIntDirectedWeightedGraph} against
+ * {@link DefaultDirectedWeightedGraph}. Both graphs are constructed once from the same random graph
+ * and then used to perform a breadth-first traversal, a scan over all outgoing edges and a few
+ * single-source shortest path computations.
+ *
+ * @author agent
+ */
+public class SparseGraphPerformanceTest
+{
+    public static final int PERF_BENCHMARK_VERTICES_COUNT = 10000;
+    public static final int PERF_BENCHMARK_EDGES_COUNT = 100000;
+    public static final int PERF_BENCHMARK_SOURCES_COUNT = 10;
+    public static final long SEED = 13l;
+
+    @State(Scope.Benchmark)
+    private static abstract class BenchmarkBase
+    {
+        protected Graph<Integer, ?> graph;
+
+        abstract Graph<Integer, ?> constructGraph(
+            int n, int[] sources, int[] targets, double[] weights);
+
+        @Setup(Level.Trial)
+        public void setup()
+        {
+            Graph<Integer, DefaultEdge> g = new DirectedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+            new GnmRandomGraphGenerator<Integer, DefaultEdge>(
+                PERF_BENCHMARK_VERTICES_COUNT, PERF_BENCHMARK_EDGES_COUNT, SEED, true, true)
+                    .generateGraph(g);
+
+            Random rng = new Random(SEED);
+            int m = g.edgeSet().size();
+            int[] sources = new int[m];
+            int[] targets = new int[m];
+            double[] weights = new double[m];
+            int i = 0;
+            for (DefaultEdge e : g.edgeSet()) {
+                sources[i] = g.getEdgeSource(e);
+                targets[i] = g.getEdgeTarget(e);
+                weights[i] = rng.nextDouble();
+                i++;
+            }
+            graph = constructGraph(g.vertexSet().size(), sources, targets, weights);
+        }
+
+        @Benchmark
+        public void testBreadthFirstTraversal(Blackhole blackhole)
+        {
+            BreadthFirstIterator<Integer, ?> it = new BreadthFirstIterator<>(graph);
+            while (it.hasNext()) {
+                blackhole.consume(it.next());
+            }
+        }
+
+        @Benchmark
+        public void testOutgoingEdgesScan(Blackhole blackhole)
+        {
+            scan(graph, blackhole);
+        }
+
+        @Benchmark
+        public void testDijkstra(Blackhole blackhole)
+        {
+            dijkstra(graph, blackhole);
+        }
+
+        private static <E> void scan(Graph<Integer, E> graph, Blackhole blackhole)
+        {
+            for (Integer v : graph.vertexSet()) {
+                for (E e : graph.outgoingEdgesOf(v)) {
+                    blackhole.consume(graph.getEdgeTarget(e));
+                }
+            }
+        }
+
+        private static <E> void dijkstra(Graph<Integer, E> graph, Blackhole blackhole)
+        {
+            DijkstraShortestPath<Integer, E> sp = new DijkstraShortestPath<>(graph);
+            for (int s = 0; s < PERF_BENCHMARK_SOURCES_COUNT; s++) {
+                blackhole.consume(sp.getPaths(s));
+            }
+        }
+    }
+
+    public static class DefaultDirectedGraphBenchmark
+        extends BenchmarkBase
+    {
+        @Override
+        Graph<Integer, ?> constructGraph(int n, int[] sources, int[] targets, double[] weights)
+        {
+            Graph<Integer, DefaultWeightedEdge> g = new DirectedWeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+            for (int i = 0; i < n; i++) {
+                g.addVertex();
+            }
+            for (int i = 0; i < sources.length; i++) {
+                DefaultWeightedEdge e = g.addEdge(sources[i], targets[i]);
+                g.setEdgeWeight(e, weights[i]);
+            }
+            return g;
+        }
+    }
+
+    public static class SparseDirectedGraphBenchmark
+        extends BenchmarkBase
+    {
+        @Override
+        Graph<Integer, ?> constructGraph(int n, int[] sources, int[] targets, double[] weights)
+        {
+            return new SparseIntDirectedWeightedGraph(n, sources, targets, weights);
+        }
+    }
+
+    @Test
+    public void testSparseGraphBenchmark()
+        throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+            .include(".*" + DefaultDirectedGraphBenchmark.class.getSimpleName() + ".*")
+            .include(".*" + SparseDirectedGraphBenchmark.class.getSimpleName() + ".*")
+            .mode(Mode.AverageTime).timeUnit(TimeUnit.MILLISECONDS).warmupIterations(3)
+            .measurementIterations(5).forks(1).shouldFailOnError(true).shouldDoGC(true).build();
+
+        new Runner(opt).run();
+    }
+
+}
@@ -103,6 +103,23 @@ public class DijkstraShortestPathPerformanceTest
         }
     }
 
+    public static class IntDijkstraBenchmark
+        extends BenchmarkBase
+    {
+        @Override
+        ShortestPathAlgorithm<Integer, DefaultWeightedEdge> createSolver(
+            Graph<Integer, DefaultWeightedEdge> graph)
+        {
+            return new IntDijkstraShortestPath<>(graph);
+        }
+
+        @Override
+        public String toString()
+        {
+            return "Dijkstra with primitive arrays";
+        }
+    }
+
     public static class ClosestFirstIteratorBenchmark
         extends BenchmarkBase
     {
@@ -236,6 +253,7 @@ public class DijkstraShortestPathPerformanceTest
         List<Supplier<BenchmarkBase>> algFactory = new ArrayList<>();
         algFactory.add(() -> new ClosestFirstIteratorBenchmark());
         algFactory.add(() -> new DijkstraBenchmark());
+        algFactory.add(() -> new IntDijkstraBenchmark());
         algFactory.add(() -> new AStarNoHeuristicBenchmark());
         algFactory.add(() -> new ALTBenchmark(1));
         algFactory.add(() -> new ALTBenchmark(5));
@@ -0,0 +1,97 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.perf.shortestpath;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+/**
+ * Benchmark comparing the Floyd-Warshall algorithm with its blocked parallel version on a dense
+ * random graph.
+ *
+ * @author agent
+ */
+public class FloydWarshallPerformanceTest
+{
+    public static final int PERF_BENCHMARK_VERTICES_COUNT = 1000;
+    public static final double PERF_BENCHMARK_EDGES_PROP = 0.1;
+    public static final long SEED = 13l;
+
+    @State(Scope.Benchmark)
+    public static class FloydWarshallBenchmark
+    {
+        private Graph<Integer, DefaultWeightedEdge> graph;
+
+        @Setup(Level.Trial)
+        public void setup()
+        {
+            Random rng = new Random(SEED);
+            graph = new SimpleDirectedWeightedGraph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+            new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(
+                PERF_BENCHMARK_VERTICES_COUNT, PERF_BENCHMARK_EDGES_PROP, rng, false)
+                    .generateGraph(graph);
+            for (DefaultWeightedEdge e : graph.edgeSet()) {
+                graph.setEdgeWeight(e, rng.nextDouble());
+            }
+        }
+
+        @Benchmark
+        public int testFloydWarshall()
+        {
+            return new FloydWarshallShortestPaths<>(graph).getShortestPathsCount();
+        }
+
+        @Benchmark
+        public int testBlockedFloydWarshall()
+        {
+            return new BlockedFloydWarshallShortestPaths<>(graph).getShortestPathsCount();
+        }
+
+        @Benchmark
+        public int testBlockedFloydWarshallFloat()
+        {
+            return new BlockedFloydWarshallShortestPaths<>(
+                graph, BlockedFloydWarshallShortestPaths.DEFAULT_BLOCK_SIZE, true,
+                ForkJoinPool.commonPool()).getShortestPathsCount();
+        }
+    }
+
+    @Test
+    public void testFloydWarshallBenchmark()
+        throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+            .include(".*" + FloydWarshallBenchmark.class.getSimpleName() + ".*")
+            .mode(Mode.AverageTime).timeUnit(TimeUnit.MILLISECONDS).warmupIterations(3)
+            .measurementIterations(5).forks(1).shouldFailOnError(true).shouldDoGC(true).build();
+
+        new Runner(opt).run();
+    }
+
+}
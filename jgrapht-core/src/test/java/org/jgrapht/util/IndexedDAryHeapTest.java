@@ -0,0 +1,122 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.util;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.junit.*;
+
+/**
+ * Tests for {@link IndexedDAryHeap}.
+ *
+ * @author agent
+ */
+public class IndexedDAryHeapTest
+{
+
+    @Test
+    public void testSortRandom()
+    {
+        for (int d = 2; d <= 5; d++) {
+            Random rng = new Random(17);
+            int n = 1000;
+            IndexedDAryHeap heap = new IndexedDAryHeap(n, d);
+            double[] keys = new double[n];
+            for (int i = 0; i < n; i++) {
+                keys[i] = rng.nextDouble();
+                heap.insert(i, keys[i]);
+            }
+            assertEquals(n, heap.size());
+
+            double prev = Double.NEGATIVE_INFINITY;
+            while (!heap.isEmpty()) {
+                double key = heap.findMinKey();
+                int element = heap.removeMin();
+                assertEquals(keys[element], key, 0d);
+                assertTrue(prev <= key);
+                assertFalse(heap.contains(element));
+                prev = key;
+            }
+        }
+    }
+
+    @Test
+    public void testDecreaseKey()
+    {
+        IndexedDAryHeap heap = new IndexedDAryHeap(10);
+        for (int i = 0; i < 10; i++) {
+            heap.insert(i, 100 + i);
+        }
+        heap.decreaseKey(7, 5);
+        heap.decreaseKey(3, 1);
+        heap.decreaseKey(9, 5);
+        assertEquals(1d, heap.getKey(3), 0d);
+
+        assertEquals(3, heap.removeMin());
+        int a = heap.removeMin();
+        int b = heap.removeMin();
+        assertEquals(new HashSet<>(Arrays.asList(7, 9)), new HashSet<>(Arrays.asList(a, b)));
+        assertEquals(0, heap.removeMin());
+        assertEquals(6, heap.size());
+    }
+
+    @Test
+    public void testClearAndReuse()
+    {
+        IndexedDAryHeap heap = new IndexedDAryHeap(5);
+        heap.insert(4, 1.0);
+        heap.insert(2, 0.5);
+        heap.clear();
+        assertTrue(heap.isEmpty());
+        assertFalse(heap.contains(4));
+        assertFalse(heap.contains(2));
+
+        heap.insert(4, 3.0);
+        heap.insert(1, 2.0);
+        assertEquals(1, heap.findMin());
+        assertEquals(1, heap.removeMin());
+        assertEquals(4, heap.removeMin());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDoubleInsert()
+    {
+        IndexedDAryHeap heap = new IndexedDAryHeap(5);
+        heap.insert(1, 1.0);
+        heap.insert(1, 2.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIncreaseKey()
+    {
+        IndexedDAryHeap heap = new IndexedDAryHeap(5);
+        heap.insert(1, 1.0);
+        heap.decreaseKey(1, 2.0);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testRemoveFromEmpty()
+    {
+        new IndexedDAryHeap(5).removeMin();
+    }
+
+}
+
+// End IndexedDAryHeapTest.java
@@ -0,0 +1,395 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.io;
+
+import java.io.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.io.BinaryUtils.*;
+
+/**
+ * Exports a graph into a compact binary format.
+ *
+ * <p>
+ * The format stores the graph in compressed sparse row form using little-endian blocks, which can
+ * be loaded by {@link BinaryImporter} without any parsing. It contains a versioned header, the
+ * vertex identifiers, the adjacency of the graph, the edge weights if
+ * {@link Parameter#EXPORT_EDGE_WEIGHTS} is set, and optionally columns with the vertex and edge
+ * attributes. See {@link BinaryImporter} for a description of the layout.
+ *
+ * <p>
+ * The edges are stored grouped by their source vertex, with vertices in the iteration order of the
+ * vertex set. The exporter iterates the vertices and edges of the graph several times and thus the
+ * graph must not be modified during the export. Since the format is binary, a graph cannot be
+ * exported to a {@link Writer}; use an {@link OutputStream} or a {@link File} instead.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+public class BinaryExporter<V, E>
+    extends AbstractBaseExporter<V, E>
+    implements GraphExporter<V, E>
+{
+    private final Set<Parameter> parameters;
+    private ComponentAttributeProvider<V> vertexAttributeProvider;
+    private ComponentAttributeProvider<E> edgeAttributeProvider;
+
+    /**
+     * Parameters that affect the behavior of the {@link BinaryExporter} exporter.
+     */
+    public enum Parameter
+    {
+        /**
+         * If set the exporter outputs edge weights
+         */
+        EXPORT_EDGE_WEIGHTS,
+    }
+
+    /**
+     * Constructs a new exporter.
+     */
+    public BinaryExporter()
+    {
+        this(new IntegerComponentNameProvider<>());
+    }
+
+    /**
+     * Constructs a new exporter with a given vertex ID provider.
+     *
+     * @param vertexIDProvider for generating vertex IDs. Must not be null.
+     */
+    public BinaryExporter(ComponentNameProvider<V> vertexIDProvider)
+    {
+        this(vertexIDProvider, null, null);
+    }
+
+    /**
+     * Constructs a new exporter with a given vertex ID provider and attribute providers.
+     *
+     * @param vertexIDProvider for generating vertex IDs. Must not be null.
+     * @param vertexAttributeProvider for generating vertex attributes. If null, vertex attributes
+     *        are not written.
+     * @param edgeAttributeProvider for generating edge attributes. If null, edge attributes are not
+     *        written.
+     */
+    public BinaryExporter(
+        ComponentNameProvider<V> vertexIDProvider,
+        ComponentAttributeProvider<V> vertexAttributeProvider,
+        ComponentAttributeProvider<E> edgeAttributeProvider)
+    {
+        super(vertexIDProvider);
+        this.vertexAttributeProvider = vertexAttributeProvider;
+        this.edgeAttributeProvider = edgeAttributeProvider;
+        this.parameters = new HashSet<>();
+    }
+
+    /**
+     * Always throws an exception, since a binary graph cannot be written to a character stream.
+     *
+     * @param g the graph to export
+     * @param writer the output writer
+     * @throws ExportException always
+     */
+    @Override
+    public void exportGraph(Graph<V, E> g, Writer writer)
+        throws ExportException
+    {
+        throw new ExportException("Binary graphs cannot be written to a character stream");
+    }
+
+    /**
+     * Export a graph. The output stream is not closed.
+     *
+     * @param g the graph to export
+     * @param out the output stream
+     * @throws ExportException in case any error occurs
+     */
+    @Override
+    public void exportGraph(Graph<V, E> g, OutputStream out)
+        throws ExportException
+    {
+        try {
+            BlockOutput output = new BlockOutput(Channels.newChannel(out));
+            writeGraph(g, output);
+            output.flush();
+            out.flush();
+        } catch (IOException e) {
+            throw new ExportException(e);
+        }
+    }
+
+    /**
+     * Export a graph
+     *
+     * @param g the graph to export
+     * @param file the file to write to
+     * @throws ExportException in case any error occurs
+     */
+    @Override
+    public void exportGraph(Graph<V, E> g, File file)
+        throws ExportException
+    {
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            BlockOutput output = new BlockOutput(out.getChannel());
+            writeGraph(g, output);
+            output.flush();
+        } catch (IOException e) {
+            throw new ExportException(e);
+        }
+    }
+
+    /**
+     * Return if a particular parameter of the exporter is enabled
+     *
+     * @param p the parameter
+     * @return {@code true} if the parameter is set, {@code false} otherwise
+     */
+    public boolean isParameter(Parameter p)
+    {
+        return parameters.contains(p);
+    }
+
+    /**
+     * Set the value of a parameter of the exporter
+     *
+     * @param p the parameter
+     * @param value the value to set
+     */
+    public void setParameter(Parameter p, boolean value)
+    {
+        if (value) {
+            parameters.add(p);
+        } else {
+            parameters.remove(p);
+        }
+    }
+
+    /**
+     * Get the vertex attribute provider
+     *
+     * @return the vertex attribute provider
+     */
+    public ComponentAttributeProvider<V> getVertexAttributeProvider()
+    {
+        return vertexAttributeProvider;
+    }
+
+    /**
+     * Set the vertex attribute provider
+     *
+     * @param vertexAttributeProvider the vertex attribute provider, or null to not write vertex
+     *        attributes
+     */
+    public void setVertexAttributeProvider(ComponentAttributeProvider<V> vertexAttributeProvider)
+    {
+        this.vertexAttributeProvider = vertexAttributeProvider;
+    }
+
+    /**
+     * Get the edge attribute provider
+     *
+     * @return the edge attribute provider
+     */
+    public ComponentAttributeProvider<E> getEdgeAttributeProvider()
+    {
+        return edgeAttributeProvider;
+    }
+
+    /**
+     * Set the edge attribute provider
+     *
+     * @param edgeAttributeProvider the edge attribute provider, or null to not write edge
+     *        attributes
+     */
+    public void setEdgeAttributeProvider(ComponentAttributeProvider<E> edgeAttributeProvider)
+    {
+        this.edgeAttributeProvider = edgeAttributeProvider;
+    }
+
+    private void writeGraph(Graph<V, E> g, BlockOutput out)
+        throws IOException,
+        ExportException
+    {
+        boolean directed = g.getType().isDirected();
+        boolean exportEdgeWeights = parameters.contains(Parameter.EXPORT_EDGE_WEIGHTS);
+        int n = g.vertexSet().size();
+        long m = g.edgeSet().size();
+
+        List<String> vertexKeys = attributeKeys(g.vertexSet(), vertexAttributeProvider);
+        List<String> edgeKeys = attributeKeys(g.edgeSet(), edgeAttributeProvider);
+
+        // header
+        out.putBytes(BinaryUtils.MAGIC);
+        out.putInt(BinaryUtils.VERSION);
+        int flags = 0;
+        if (directed) {
+            flags |= BinaryUtils.FLAG_DIRECTED;
+        }
+        if (exportEdgeWeights) {
+            flags |= BinaryUtils.FLAG_WEIGHTED;
+        }
+        out.putInt(flags);
+        out.putInt(n);
+        out.putLong(m);
+        out.putInt(vertexKeys.size());
+        out.putInt(edgeKeys.size());
+
+        // vertex identifiers
+        List<byte[]> ids = new ArrayList<>(n);
+        for (V v : g.vertexSet()) {
+            ids.add(vertexIDProvider.getName(v).getBytes(StandardCharsets.UTF_8));
+        }
+        writeStringTable(out, ids);
+
+        // adjacency
+        Map<V, Integer> index = new HashMap<>();
+        long offset = 0;
+        for (V v : g.vertexSet()) {
+            index.put(v, index.size());
+            out.putLong(offset);
+            if (directed) {
+                offset += g.outDegreeOf(v);
+            } else {
+                for (E e : g.edgesOf(v)) {
+                    if (g.getEdgeSource(e).equals(v)) {
+                        offset++;
+                    }
+                }
+            }
+        }
+        out.putLong(offset);
+        if (offset != m) {
+            throw new ExportException("Edges do not match their endpoints");
+        }
+        forEachEdge(g, e -> out.putInt(index.get(g.getEdgeTarget(e))));
+        out.align();
+
+        // weights
+        if (exportEdgeWeights) {
+            forEachEdge(g, e -> out.putDouble(g.getEdgeWeight(e)));
+        }
+
+        // attributes
+        for (String key : vertexKeys) {
+            List<Attribute> column = new ArrayList<>(n);
+            for (V v : g.vertexSet()) {
+                column.add(getAttribute(vertexAttributeProvider, v, key));
+            }
+            writeAttributeColumn(out, key, column);
+        }
+        for (String key : edgeKeys) {
+            List<Attribute> column = new ArrayList<>();
+            forEachEdge(g, e -> column.add(getAttribute(edgeAttributeProvider, e, key)));
+            writeAttributeColumn(out, key, column);
+        }
+    }
+
+    /**
+     * Visit the edges in the order of the compressed sparse row layout.
+     */
+    private void forEachEdge(Graph<V, E> g, EdgeVisitor<E> visitor)
+        throws IOException
+    {
+        boolean directed = g.getType().isDirected();
+        for (V v : g.vertexSet()) {
+            Set<E> edges = directed ? g.outgoingEdgesOf(v) : g.edgesOf(v);
+            for (E e : edges) {
+                if (directed || g.getEdgeSource(e).equals(v)) {
+                    visitor.visit(e);
+                }
+            }
+        }
+    }
+
+    private static <T> List<String> attributeKeys(
+        Set<T> components, ComponentAttributeProvider<T> provider)
+    {
+        if (provider == null) {
+            return Collections.emptyList();
+        }
+        Set<String> keys = new LinkedHashSet<>();
+        for (T c : components) {
+            Map<String, Attribute> attributes = provider.getComponentAttributes(c);
+            if (attributes != null) {
+                keys.addAll(attributes.keySet());
+            }
+        }
+        return new ArrayList<>(keys);
+    }
+
+    private static <T> Attribute getAttribute(
+        ComponentAttributeProvider<T> provider, T component, String key)
+    {
+        Map<String, Attribute> attributes = provider.getComponentAttributes(component);
+        return attributes == null ? null : attributes.get(key);
+    }
+
+    private static void writeStringTable(BlockOutput out, List<byte[]> values)
+        throws IOException
+    {
+        long offset = 0;
+        for (byte[] value : values) {
+            out.putLong(offset);
+            offset += value.length;
+        }
+        out.putLong(offset);
+        for (byte[] value : values) {
+            out.putBytes(value);
+        }
+        out.align();
+    }
+
+    private static void writeAttributeColumn(BlockOutput out, String key, List<Attribute> column)
+        throws IOException
+    {
+        byte[] name = key.getBytes(StandardCharsets.UTF_8);
+        out.putInt(name.length);
+        out.putBytes(name);
+        out.align();
+
+        List<byte[]> values = new ArrayList<>(column.size());
+        for (Attribute a : column) {
+            if (a == null) {
+                out.putByte(BinaryUtils.MISSING_ATTRIBUTE);
+                values.add(new byte[0]);
+            } else {
+                out.putByte((byte) a.getType().ordinal());
+                values.add(a.getValue().getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        out.align();
+        writeStringTable(out, values);
+    }
+
+    /**
+     * An edge visitor which may throw an I/O exception.
+     */
+    private interface EdgeVisitor<E>
+    {
+        void visit(E e)
+            throws IOException;
+    }
+
+}
+
+// End BinaryExporter.java
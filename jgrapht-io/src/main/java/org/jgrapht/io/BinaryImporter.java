@@ -0,0 +1,420 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.io;
+
+import java.io.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.sparse.*;
+import org.jgrapht.io.BinaryUtils.*;
+
+/**
+ * Imports a graph from the binary format written by {@link BinaryExporter}.
+ *
+ * <p>
+ * When importing from a file, the file is memory-mapped and the graph is constructed directly
+ * from the mapped blocks, without any parsing. A file can also be loaded as an immutable sparse
+ * graph using {@link #importSparseGraph(File)}, which avoids creating vertex and edge objects
+ * altogether.
+ *
+ * <p>
+ * The format consists of the following blocks, each starting at a multiple of eight bytes. All
+ * values are little-endian.
+ * <ul>
+ * <li>A header of 32 bytes: the magic bytes {@code JGTB}, the format version ({@code int}), the
+ * flags ({@code int}) where bit $0$ denotes a directed graph and bit $1$ the presence of edge
+ * weights, the number of vertices $n$ ({@code int}), the number of edges $m$ ({@code long}), the
+ * number of vertex attribute columns ({@code int}) and the number of edge attribute columns
+ * ({@code int}).</li>
+ * <li>The vertex identifiers as a string table.</li>
+ * <li>The adjacency in compressed sparse row format: $n+1$ edge offsets ({@code long}) followed
+ * by the $m$ edge targets ({@code int}). The edges at positions $[offsets[i], offsets[i+1])$ have
+ * vertex $i$ as their source.</li>
+ * <li>If present, the $m$ edge weights ({@code double}).</li>
+ * <li>The vertex attribute columns followed by the edge attribute columns. Each column consists of
+ * its name (an {@code int} length followed by the UTF-8 bytes), one byte per vertex or edge with
+ * the ordinal of the {@link AttributeType} of the value or $-1$ if missing, and a string table
+ * with the values.</li>
+ * </ul>
+ * A string table with $k$ entries consists of $k+1$ byte offsets ({@code long}) followed by the
+ * UTF-8 bytes of all strings.
+ *
+ * <p>
+ * The provided graph must be able to support the features of the graph that is read. For example
+ * if the input contains self-loops then the graph provided must also support self-loops. The same
+ * for multiple edges. Vertices are created in the order of the file, with the vertex identifier as
+ * their label, and the edges with a label of the form "e_source_target".
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+public class BinaryImporter<V, E>
+    extends AbstractBaseImporter<V, E>
+    implements GraphImporter<V, E>
+{
+    /**
+     * Constructs a new importer.
+     *
+     * @param vertexProvider provider for the generation of vertices. Must not be null.
+     * @param edgeProvider provider for the generation of edges. Must not be null.
+     */
+    public BinaryImporter(VertexProvider<V> vertexProvider, EdgeProvider<V, E> edgeProvider)
+    {
+        super(vertexProvider, edgeProvider);
+    }
+
+    /**
+     * Always throws an exception, since a binary graph cannot be read from a character stream.
+     *
+     * @param graph the graph
+     * @param input the input reader
+     * @throws ImportException always
+     */
+    @Override
+    public void importGraph(Graph<V, E> graph, Reader input)
+        throws ImportException
+    {
+        throw new ImportException("Binary graphs cannot be read from a character stream");
+    }
+
+    /**
+     * Import a graph. The whole input is read into memory.
+     *
+     * @param graph the graph
+     * @param input the input stream
+     * @throws ImportException in case an error occurs, such as I/O or parse error
+     */
+    @Override
+    public void importGraph(Graph<V, E> graph, InputStream input)
+        throws ImportException
+    {
+        try {
+            importGraph(graph, BlockInput.read(input));
+        } catch (IOException e) {
+            throw new ImportException("Failed to import binary graph: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Import a graph from a file, which is memory-mapped.
+     *
+     * @param graph the graph
+     * @param file the file to read from
+     * @throws ImportException in case an error occurs, such as I/O or parse error
+     */
+    @Override
+    public void importGraph(Graph<V, E> graph, File file)
+        throws ImportException
+    {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            importGraph(graph, BlockInput.map(channel));
+        } catch (IOException e) {
+            throw new ImportException("Failed to import binary graph: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Import a file as an immutable sparse graph from package {@link org.jgrapht.graph.sparse}.
+     * Vertex $i$ of the resulting graph is the $i$-th vertex of the file and edge $i$ is the
+     * $i$-th edge of the file. The graph is directed if the exported graph was directed and
+     * weighted if the file contains edge weights. Vertex identifiers and attributes are ignored.
+     *
+     * @param file the file to read from
+     * @return the graph
+     * @throws ImportException in case an error occurs, such as I/O or parse error
+     */
+    public static Graph<Integer, Integer> importSparseGraph(File file)
+        throws ImportException
+    {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            Layout layout = new Layout(BlockInput.map(channel));
+            BlockInput in = layout.in;
+            int n = layout.n;
+            int m = (int) layout.m;
+
+            int[] sources = new int[m];
+            int[] targets = new int[m];
+            for (int v = 0; v < n; v++) {
+                int start = (int) in.getLong(layout.edgeOffsets + 8L * v);
+                int end = (int) in.getLong(layout.edgeOffsets + 8L * (v + 1));
+                Arrays.fill(sources, start, end, v);
+            }
+            for (int i = 0; i < m; i++) {
+                int u = in.getInt(layout.targets + 4L * i);
+                if (u < 0 || u >= n) {
+                    throw new ImportException(
+                        "Failed to import binary graph: no such vertex: " + u);
+                }
+                targets[i] = u;
+            }
+
+            try {
+                if (layout.weights < 0) {
+                    return layout.directed ? new SparseIntDirectedGraph(n, sources, targets)
+                        : new SparseIntUndirectedGraph(n, sources, targets);
+                }
+                double[] weights = new double[m];
+                for (int i = 0; i < m; i++) {
+                    weights[i] = in.getDouble(layout.weights + 8L * i);
+                }
+                return layout.directed
+                    ? new SparseIntDirectedWeightedGraph(n, sources, targets, weights)
+                    : new SparseIntUndirectedWeightedGraph(n, sources, targets, weights);
+            } catch (IllegalArgumentException e) {
+                throw new ImportException("Failed to import binary graph: " + e.getMessage(), e);
+            }
+        } catch (IOException e) {
+            throw new ImportException("Failed to import binary graph: " + e.getMessage(), e);
+        }
+    }
+
+    private void importGraph(Graph<V, E> graph, BlockInput in)
+        throws ImportException
+    {
+        Layout layout = new Layout(in);
+        boolean setWeights = layout.weights >= 0 && graph.getType().isWeighted();
+
+        List<String> ids = new ArrayList<>(layout.n);
+        List<V> vertices = new ArrayList<>(layout.n);
+        for (int v = 0; v < layout.n; v++) {
+            String id = layout.vertexIds.get(v);
+            V vertex = vertexProvider
+                .buildVertex(id, layout.getAttributes(layout.vertexAttributes, v));
+            graph.addVertex(vertex);
+            ids.add(id);
+            vertices.add(vertex);
+        }
+
+        for (int v = 0; v < layout.n; v++) {
+            V source = vertices.get(v);
+            long start = in.getLong(layout.edgeOffsets + 8L * v);
+            long end = in.getLong(layout.edgeOffsets + 8L * (v + 1));
+            for (long i = start; i < end; i++) {
+                int u = in.getInt(layout.targets + 4 * i);
+                if (u < 0 || u >= layout.n) {
+                    throw new ImportException(
+                        "Failed to import binary graph: no such vertex: " + u);
+                }
+                V target = vertices.get(u);
+                String label = "e_" + ids.get(v) + "_" + ids.get(u);
+                try {
+                    E e = edgeProvider.buildEdge(
+                        source, target, label, layout.getAttributes(layout.edgeAttributes, i));
+                    graph.addEdge(source, target, e);
+                    if (setWeights) {
+                        graph.setEdgeWeight(e, in.getDouble(layout.weights + 8 * i));
+                    }
+                } catch (IllegalArgumentException e) {
+                    throw new ImportException(
+                        "Failed to import binary graph: Provided graph does not support input: "
+                            + e.getMessage(),
+                        e);
+                }
+            }
+        }
+    }
+
+    /**
+     * The positions of the blocks of a file.
+     */
+    private static class Layout
+    {
+        final BlockInput in;
+        final boolean directed;
+        final int n;
+        final long m;
+        final StringTable vertexIds;
+        final long edgeOffsets;
+        final long targets;
+        final long weights;
+        final List<Column> vertexAttributes;
+        final List<Column> edgeAttributes;
+
+        Layout(BlockInput in)
+            throws ImportException
+        {
+            this.in = in;
+            if (in.size() < BinaryUtils.HEADER_SIZE) {
+                throw new ImportException("Failed to import binary graph: missing header");
+            }
+            for (int i = 0; i < BinaryUtils.MAGIC.length; i++) {
+                if (in.getByte(i) != BinaryUtils.MAGIC[i]) {
+                    throw new ImportException("Failed to import binary graph: not a binary graph");
+                }
+            }
+            int version = in.getInt(4);
+            if (version != BinaryUtils.VERSION) {
+                throw new ImportException(
+                    "Failed to import binary graph: unsupported version " + version);
+            }
+            int flags = in.getInt(8);
+            this.directed = (flags & BinaryUtils.FLAG_DIRECTED) != 0;
+            this.n = in.getInt(12);
+            this.m = in.getLong(16);
+            int vertexColumns = in.getInt(24);
+            int edgeColumns = in.getInt(28);
+            if (n < 0 || m < 0 || m > Integer.MAX_VALUE || vertexColumns < 0 || edgeColumns < 0) {
+                throw new ImportException("Failed to import binary graph: invalid header");
+            }
+
+            this.vertexIds = new StringTable(BinaryUtils.HEADER_SIZE, n);
+            long position = vertexIds.end;
+            this.edgeOffsets = position;
+            position += 8L * (n + 1);
+            this.targets = position;
+            position = BinaryUtils.align(position + 4 * m);
+            if ((flags & BinaryUtils.FLAG_WEIGHTED) != 0) {
+                this.weights = position;
+                position += 8 * m;
+            } else {
+                this.weights = -1;
+            }
+
+            this.vertexAttributes = new ArrayList<>(vertexColumns);
+            for (int i = 0; i < vertexColumns; i++) {
+                Column column = new Column(position, n);
+                position = column.end;
+                vertexAttributes.add(column);
+            }
+            this.edgeAttributes = new ArrayList<>(edgeColumns);
+            for (int i = 0; i < edgeColumns; i++) {
+                Column column = new Column(position, m);
+                position = column.end;
+                edgeAttributes.add(column);
+            }
+            if (position > in.size()) {
+                throw new ImportException("Failed to import binary graph: truncated input");
+            }
+
+            // offsets must start at zero, be non-decreasing and end at the number of edges
+            long previous = 0;
+            for (int v = 0; v <= n; v++) {
+                long offset = in.getLong(edgeOffsets + 8L * v);
+                if (offset < previous || offset > m || (v == 0 && offset != 0)) {
+                    throw new ImportException(
+                        "Failed to import binary graph: invalid edge offsets");
+                }
+                previous = offset;
+            }
+            if (previous != m) {
+                throw new ImportException("Failed to import binary graph: invalid edge offsets");
+            }
+        }
+
+        Map<String, Attribute> getAttributes(List<Column> columns, long i)
+            throws ImportException
+        {
+            AttributeType[] types = AttributeType.values();
+            Map<String, Attribute> attributes = new HashMap<>();
+            for (Column column : columns) {
+                byte type = in.getByte(column.types + i);
+                if (type == BinaryUtils.MISSING_ATTRIBUTE) {
+                    continue;
+                }
+                if (type < 0 || type >= types.length) {
+                    throw new ImportException(
+                        "Failed to import binary graph: unknown attribute type " + type);
+                }
+                attributes.put(
+                    column.name, new DefaultAttribute<>(column.values.get(i), types[type]));
+            }
+            return attributes;
+        }
+
+        /**
+         * A table of strings.
+         */
+        class StringTable
+        {
+            final long offsets;
+            final long bytes;
+            final long length;
+            final long end;
+
+            StringTable(long position, long count)
+                throws ImportException
+            {
+                this.offsets = position;
+                this.bytes = position + 8 * (count + 1);
+                if (bytes > in.size()) {
+                    throw new ImportException("Failed to import binary graph: truncated input");
+                }
+                this.length = in.getLong(bytes - 8);
+                if (length < 0) {
+                    throw new ImportException(
+                        "Failed to import binary graph: invalid string table");
+                }
+                if (bytes + length > in.size()) {
+                    throw new ImportException("Failed to import binary graph: truncated input");
+                }
+                this.end = BinaryUtils.align(bytes + length);
+            }
+
+            String get(long i)
+                throws ImportException
+            {
+                long start = in.getLong(offsets + 8 * i);
+                long end = in.getLong(offsets + 8 * (i + 1));
+                if (start < 0 || end < start || end > length || end - start > Integer.MAX_VALUE) {
+                    throw new ImportException(
+                        "Failed to import binary graph: invalid string table");
+                }
+                return in.getString(bytes + start, (int) (end - start));
+            }
+        }
+
+        /**
+         * An attribute column.
+         */
+        class Column
+        {
+            final String name;
+            final long types;
+            final StringTable values;
+            final long end;
+
+            Column(long position, long count)
+                throws ImportException
+            {
+                if (position + 4 > in.size()) {
+                    throw new ImportException("Failed to import binary graph: truncated input");
+                }
+                int length = in.getInt(position);
+                if (length < 0) {
+                    throw new ImportException(
+                        "Failed to import binary graph: invalid attribute column");
+                }
+                if (position + 4 + length > in.size()) {
+                    throw new ImportException("Failed to import binary graph: truncated input");
+                }
+                this.name = in.getString(position + 4, length);
+                this.types = BinaryUtils.align(position + 4 + length);
+                this.values = new StringTable(BinaryUtils.align(types + count), count);
+                this.end = values.end;
+            }
+        }
+    }
+
+}
+
+// End BinaryImporter.java
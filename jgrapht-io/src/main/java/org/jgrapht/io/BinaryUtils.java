@@ -0,0 +1,271 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.io;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.util.*;
+
+/**
+ * Class with binary format related utilities. The layout of the format is described in
+ * {@link BinaryImporter}.
+ *
+ * @author agent
+ */
+class BinaryUtils
+{
+    static final byte[] MAGIC = { 'J', 'G', 'T', 'B' };
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 32;
+
+    static final int FLAG_DIRECTED = 1;
+    static final int FLAG_WEIGHTED = 2;
+
+    static final byte MISSING_ATTRIBUTE = -1;
+
+    private BinaryUtils()
+    {
+    }
+
+    /**
+     * Round up a position to the next multiple of eight.
+     *
+     * @param position the position
+     * @return the aligned position
+     */
+    static long align(long position)
+    {
+        return (position + 7) & ~7L;
+    }
+
+    /**
+     * Buffered little-endian output which keeps track of its position.
+     */
+    static class BlockOutput
+    {
+        private static final int BUFFER_SIZE = 1 << 16;
+
+        private final WritableByteChannel channel;
+        private final ByteBuffer buffer;
+        private long position;
+
+        BlockOutput(WritableByteChannel channel)
+        {
+            this.channel = channel;
+            this.buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        long position()
+        {
+            return position;
+        }
+
+        void putByte(byte value)
+            throws IOException
+        {
+            ensureRemaining(1);
+            buffer.put(value);
+            position++;
+        }
+
+        void putInt(int value)
+            throws IOException
+        {
+            ensureRemaining(4);
+            buffer.putInt(value);
+            position += 4;
+        }
+
+        void putLong(long value)
+            throws IOException
+        {
+            ensureRemaining(8);
+            buffer.putLong(value);
+            position += 8;
+        }
+
+        void putDouble(double value)
+            throws IOException
+        {
+            ensureRemaining(8);
+            buffer.putDouble(value);
+            position += 8;
+        }
+
+        void putBytes(byte[] value)
+            throws IOException
+        {
+            int offset = 0;
+            while (offset < value.length) {
+                ensureRemaining(1);
+                int length = Math.min(buffer.remaining(), value.length - offset);
+                buffer.put(value, offset, length);
+                offset += length;
+            }
+            position += value.length;
+        }
+
+        /**
+         * Pad with zeros up to the next multiple of eight.
+         */
+        void align()
+            throws IOException
+        {
+            while ((position & 7) != 0) {
+                putByte((byte) 0);
+            }
+        }
+
+        void flush()
+            throws IOException
+        {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        private void ensureRemaining(int bytes)
+            throws IOException
+        {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+    }
+
+    /**
+     * Random access little-endian input over a sequence of buffers. Each buffer except the last
+     * one has a size of {@link #SEGMENT_SIZE} bytes, which is a multiple of eight. Thus values
+     * aligned to their own size never span two buffers.
+     */
+    static class BlockInput
+    {
+        static final int SEGMENT_SIZE = 1 << 30;
+
+        private final ByteBuffer[] segments;
+        private final long size;
+
+        private BlockInput(ByteBuffer[] segments, long size)
+        {
+            this.segments = segments;
+            this.size = size;
+            for (ByteBuffer segment : segments) {
+                segment.order(ByteOrder.LITTLE_ENDIAN);
+            }
+        }
+
+        /**
+         * Memory-map a file channel in read-only mode.
+         *
+         * @param channel the channel
+         * @return the input
+         * @throws IOException in case of an I/O error
+         */
+        static BlockInput map(FileChannel channel)
+            throws IOException
+        {
+            long size = channel.size();
+            int count = (int) ((size + SEGMENT_SIZE - 1) / SEGMENT_SIZE);
+            ByteBuffer[] segments = new ByteBuffer[count];
+            for (int i = 0; i < count; i++) {
+                long position = (long) i * SEGMENT_SIZE;
+                long length = Math.min(SEGMENT_SIZE, size - position);
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            }
+            return new BlockInput(segments, size);
+        }
+
+        /**
+         * Read a stream fully into memory.
+         *
+         * @param in the input stream
+         * @return the input
+         * @throws IOException in case of an I/O error
+         */
+        static BlockInput read(InputStream in)
+            throws IOException
+        {
+            List<ByteBuffer> segments = new ArrayList<>();
+            long size = 0;
+            while (true) {
+                byte[] segment = new byte[1 << 16];
+                int length = 0;
+                int read;
+                while ((read = in.read(segment, length, segment.length - length)) >= 0) {
+                    length += read;
+                    if (length == segment.length) {
+                        if (length == SEGMENT_SIZE) {
+                            break;
+                        }
+                        segment = Arrays.copyOf(segment, Math.min(2 * length, SEGMENT_SIZE));
+                    }
+                }
+                segments.add(ByteBuffer.wrap(segment, 0, length).slice());
+                size += length;
+                if (read < 0) {
+                    break;
+                }
+            }
+            return new BlockInput(segments.toArray(new ByteBuffer[0]), size);
+        }
+
+        long size()
+        {
+            return size;
+        }
+
+        byte getByte(long position)
+        {
+            return segments[(int) (position / SEGMENT_SIZE)].get((int) (position % SEGMENT_SIZE));
+        }
+
+        int getInt(long position)
+        {
+            return segments[(int) (position / SEGMENT_SIZE)]
+                .getInt((int) (position % SEGMENT_SIZE));
+        }
+
+        long getLong(long position)
+        {
+            return segments[(int) (position / SEGMENT_SIZE)]
+                .getLong((int) (position % SEGMENT_SIZE));
+        }
+
+        double getDouble(long position)
+        {
+            return segments[(int) (position / SEGMENT_SIZE)]
+                .getDouble((int) (position % SEGMENT_SIZE));
+        }
+
+        String getString(long position, int length)
+        {
+            byte[] bytes = new byte[length];
+            for (int i = 0; i < length; i++) {
+                bytes[i] = getByte(position + i);
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+}
+
+// End BinaryUtils.java
@@ -0,0 +1,596 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.io;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
+
+/**
+ * Imports a graph from a CSV file in the {@link CSVFormat#EDGE_LIST} or
+ * {@link CSVFormat#ADJACENCY_LIST} format, without using a parser generator.
+ *
+ * <p>
+ * This importer reads the same formats as {@link CSVImporter} for these two cases and builds the
+ * same graph, but is designed for very large inputs. The input is parsed directly as UTF-8 bytes.
+ * When importing from a file, the file is memory-mapped in regions of up to 1GB instead of being
+ * read into memory. Other inputs are read in blocks. Each region or block is split at line
+ * boundaries into chunks which are parsed in parallel using a {@link ForkJoinPool}, and the rows
+ * of each chunk are then added to the graph in input order. At most two chunks per thread of the
+ * pool are parsed ahead of the chunk being added, thus the memory used by parsed rows does not
+ * depend on the size of the input. Vertices and edges are created in exactly the same order as by
+ * {@link CSVImporter}.
+ *
+ * <p>
+ * Fields may be quoted according to <a href="http://www.ietf.org/rfc/rfc4180.txt">rfc4180</a>, but
+ * quoted fields must not contain line breaks, since lines are split before parsing. Empty lines are
+ * ignored. Matrix formats are not supported, use {@link CSVImporter} instead.
+ *
+ * @see CSVImporter
+ * @see CSVFormat
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+public class FastCSVImporter<V, E>
+    extends AbstractBaseImporter<V, E>
+    implements GraphImporter<V, E>
+{
+    private static final char DEFAULT_DELIMITER = ',';
+
+    private static final byte QUOTE = '"';
+    private static final byte LF = '\n';
+    private static final byte CR = '\r';
+
+    private static final int MAX_MAPPED_REGION_SIZE = 1 << 30;
+    private static final int INITIAL_BLOCK_SIZE = 1 << 16;
+    private static final int MAX_BLOCK_SIZE = 1 << 26;
+    private static final int MIN_CHUNK_SIZE = 1 << 20;
+    private static final int MAX_CHUNK_SIZE = 1 << 24;
+    private static final int CHUNKS_PER_THREAD = 4;
+    private static final int CHUNKS_IN_FLIGHT_PER_THREAD = 2;
+
+    private CSVFormat format;
+    private char delimiter;
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructs a new importer using the {@link CSVFormat#ADJACENCY_LIST} format and the common
+     * fork-join pool.
+     *
+     * @param vertexProvider provider for the generation of vertices. Must not be null.
+     * @param edgeProvider provider for the generation of edges. Must not be null.
+     */
+    public FastCSVImporter(VertexProvider<V> vertexProvider, EdgeProvider<V, E> edgeProvider)
+    {
+        this(
+            vertexProvider, edgeProvider, CSVFormat.ADJACENCY_LIST, DEFAULT_DELIMITER,
+            ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a new importer.
+     *
+     * @param vertexProvider provider for the generation of vertices. Must not be null.
+     * @param edgeProvider provider for the generation of edges. Must not be null.
+     * @param format format to use, either {@link CSVFormat#EDGE_LIST} or
+     *        {@link CSVFormat#ADJACENCY_LIST}
+     * @param delimiter delimiter to use (comma, semicolon, pipe, etc.)
+     * @param pool the fork-join pool used to parse the input
+     */
+    public FastCSVImporter(
+        VertexProvider<V> vertexProvider, EdgeProvider<V, E> edgeProvider, CSVFormat format,
+        char delimiter, ForkJoinPool pool)
+    {
+        super(vertexProvider, edgeProvider);
+        setFormat(format);
+        setDelimiter(delimiter);
+        this.pool = Objects.requireNonNull(pool, "Fork-join pool cannot be null");
+    }
+
+    /**
+     * Get the format that the importer is using.
+     *
+     * @return the input format
+     */
+    public CSVFormat getFormat()
+    {
+        return format;
+    }
+
+    /**
+     * Set the format of the importer
+     *
+     * @param format the format to use, either {@link CSVFormat#EDGE_LIST} or
+     *        {@link CSVFormat#ADJACENCY_LIST}
+     * @throws IllegalArgumentException in case of an unsupported format
+     */
+    public void setFormat(CSVFormat format)
+    {
+        if (format != CSVFormat.EDGE_LIST && format != CSVFormat.ADJACENCY_LIST) {
+            throw new IllegalArgumentException("Format not supported: " + format);
+        }
+        this.format = format;
+    }
+
+    /**
+     * Get the delimiter (comma, semicolon, pipe, etc).
+     *
+     * @return the delimiter
+     */
+    public char getDelimiter()
+    {
+        return delimiter;
+    }
+
+    /**
+     * Set the delimiter (comma, semicolon, pipe, etc). The delimiter must be an ASCII character.
+     *
+     * @param delimiter the delimiter to use
+     */
+    public void setDelimiter(char delimiter)
+    {
+        if (!DSVUtils.isValidDelimiter(delimiter) || delimiter >= 0x80) {
+            throw new IllegalArgumentException("Character cannot be used as a delimiter");
+        }
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * Import a graph.
+     *
+     * <p>
+     * The provided graph must be able to support the features of the graph that is read. For
+     * example if the input contains self-loops then the graph provided must also support
+     * self-loops. The same for multiple edges.
+     *
+     * @param graph the graph
+     * @param input the input reader
+     * @throws ImportException in case an error occurs, such as I/O or parse error
+     */
+    @Override
+    public void importGraph(Graph<V, E> graph, Reader input)
+        throws ImportException
+    {
+        Map<String, V> vertices = new HashMap<>();
+        try {
+            char[] block = new char[INITIAL_BLOCK_SIZE];
+            int length = 0;
+            long offset = 0;
+            boolean eof = false;
+            while (!eof) {
+                while (length < block.length) {
+                    int read = input.read(block, length, block.length - length);
+                    if (read < 0) {
+                        eof = true;
+                        break;
+                    }
+                    length += read;
+                }
+
+                int cut = length;
+                if (!eof) {
+                    cut = lastLineEnd(block, length);
+                    if (cut == 0) {
+                        block = grow(block);
+                        continue;
+                    }
+                }
+
+                ByteBuffer bytes = StandardCharsets.UTF_8.encode(CharBuffer.wrap(block, 0, cut));
+                importBlock(graph, vertices, bytes, bytes.position(), bytes.limit(), offset);
+                offset += bytes.remaining();
+
+                System.arraycopy(block, cut, block, 0, length - cut);
+                length -= cut;
+                if (block.length < MAX_BLOCK_SIZE) {
+                    block = Arrays.copyOf(block, 2 * block.length);
+                }
+            }
+        } catch (IOException e) {
+            throw new ImportException("Failed to import CSV graph: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Import a graph. The input is assumed to be UTF-8 encoded.
+     *
+     * @param graph the graph
+     * @param input the input stream
+     * @throws ImportException in case an error occurs, such as I/O or parse error
+     */
+    @Override
+    public void importGraph(Graph<V, E> graph, InputStream input)
+        throws ImportException
+    {
+        Map<String, V> vertices = new HashMap<>();
+        try {
+            byte[] block = new byte[INITIAL_BLOCK_SIZE];
+            int length = 0;
+            long offset = 0;
+            boolean eof = false;
+            while (!eof) {
+                while (length < block.length) {
+                    int read = input.read(block, length, block.length - length);
+                    if (read < 0) {
+                        eof = true;
+                        break;
+                    }
+                    length += read;
+                }
+
+                int cut = length;
+                if (!eof) {
+                    cut = lastLineEnd(ByteBuffer.wrap(block), length);
+                    if (cut == 0) {
+                        block = grow(block);
+                        continue;
+                    }
+                }
+
+                importBlock(graph, vertices, ByteBuffer.wrap(block), 0, cut, offset);
+                offset += cut;
+
+                System.arraycopy(block, cut, block, 0, length - cut);
+                length -= cut;
+                if (block.length < MAX_BLOCK_SIZE) {
+                    block = Arrays.copyOf(block, 2 * block.length);
+                }
+            }
+        } catch (IOException e) {
+            throw new ImportException("Failed to import CSV graph: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Import a graph from a file. The file is assumed to be UTF-8 encoded and is memory-mapped.
+     *
+     * @param graph the graph
+     * @param file the file to read from
+     * @throws ImportException in case an error occurs, such as I/O or parse error
+     */
+    @Override
+    public void importGraph(Graph<V, E> graph, File file)
+        throws ImportException
+    {
+        Map<String, V> vertices = new HashMap<>();
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                int length = (int) Math.min(size - position, MAX_MAPPED_REGION_SIZE);
+                MappedByteBuffer region =
+                    channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                int cut = length;
+                if (position + length < size) {
+                    cut = lastLineEnd(region, length);
+                    if (cut == 0) {
+                        throw new ImportException(
+                            "Failed to import CSV graph: line too long at byte " + position);
+                    }
+                }
+                importBlock(graph, vertices, region, 0, cut, position);
+                position += cut;
+            }
+        } catch (IOException e) {
+            throw new ImportException("Failed to import CSV graph: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Import a graph from the remaining bytes of a buffer, which are assumed to be UTF-8 encoded.
+     * The position of the buffer is not modified.
+     *
+     * @param graph the graph
+     * @param input the input buffer
+     * @throws ImportException in case an error occurs, such as a parse error
+     */
+    public void importGraph(Graph<V, E> graph, ByteBuffer input)
+        throws ImportException
+    {
+        importBlock(graph, new HashMap<>(), input, input.position(), input.limit(), 0);
+    }
+
+    /**
+     * Parse the bytes in the range $[from, to)$ of a buffer in parallel and add the rows to the
+     * graph in order. The range must end at a line boundary. The number of chunks submitted but
+     * not yet added to the graph is bounded, in order to bound the memory used by parsed rows.
+     */
+    private void importBlock(
+        Graph<V, E> graph, Map<String, V> vertices, ByteBuffer buffer, int from, int to,
+        long offset)
+        throws ImportException
+    {
+        int parallelism = pool.getParallelism();
+        int chunkSize = Math.min(
+            MAX_CHUNK_SIZE,
+            Math.max(MIN_CHUNK_SIZE, (to - from) / (CHUNKS_PER_THREAD * parallelism)));
+        int maxInFlight = CHUNKS_IN_FLIGHT_PER_THREAD * parallelism;
+
+        Deque<ForkJoinTask<Rows>> tasks = new ArrayDeque<>();
+        try {
+            int start = from;
+            while (start < to || !tasks.isEmpty()) {
+                while (start < to && tasks.size() < maxInFlight) {
+                    int end = start + chunkSize;
+                    if (end >= to || end < 0) {
+                        end = to;
+                    } else {
+                        while (end < to && buffer.get(end - 1) != LF) {
+                            end++;
+                        }
+                    }
+                    int chunkStart = start;
+                    int chunkEnd = end;
+                    tasks.addLast(
+                        pool.submit(() -> parse(buffer, chunkStart, chunkEnd, offset - from)));
+                    start = end;
+                }
+                addRows(graph, vertices, tasks.removeFirst().join());
+            }
+        } catch (CSVParseException e) {
+            tasks.forEach(t -> t.cancel(false));
+            throw new ImportException("Failed to import CSV graph: " + e.getMessage(), e);
+        } catch (IllegalArgumentException e) {
+            tasks.forEach(t -> t.cancel(false));
+            throw new ImportException(
+                "Failed to import CSV graph: Provided graph does not support input: "
+                    + e.getMessage(),
+                e);
+        }
+    }
+
+    /**
+     * Add parsed rows to the graph. The first field of each row is the source and the remaining
+     * fields are the targets.
+     */
+    private void addRows(Graph<V, E> graph, Map<String, V> vertices, Rows rows)
+    {
+        int f = 0;
+        for (int r = 0; r < rows.rowCount; r++) {
+            int end = rows.rowEnds[r];
+
+            // first is source
+            String sourceKey = rows.fields[f++];
+            if (sourceKey.isEmpty()) {
+                throw new CSVParseException("Source vertex cannot be empty");
+            }
+            V source = getOrCreateVertex(graph, vertices, sourceKey);
+
+            // remaining are targets
+            for (; f < end; f++) {
+                String key = rows.fields[f];
+                if (key.isEmpty()) {
+                    throw new CSVParseException("Target vertex cannot be empty");
+                }
+                V target = getOrCreateVertex(graph, vertices, key);
+
+                String label = "e_" + source + "_" + target;
+                E e = edgeProvider.buildEdge(source, target, label, new HashMap<>());
+                graph.addEdge(source, target, e);
+            }
+        }
+    }
+
+    private V getOrCreateVertex(Graph<V, E> graph, Map<String, V> vertices, String key)
+    {
+        V v = vertices.get(key);
+        if (v == null) {
+            v = vertexProvider.buildVertex(key, new HashMap<>());
+            vertices.put(key, v);
+            graph.addVertex(v);
+        }
+        return v;
+    }
+
+    /**
+     * Parse the rows in the range $[from, to)$ of a buffer. Only absolute reads are used, thus the
+     * same buffer can be parsed concurrently.
+     */
+    private Rows parse(ByteBuffer buffer, int from, int to, long offset)
+    {
+        byte sep = (byte) delimiter;
+        Rows rows = new Rows();
+        byte[] scratch = new byte[64];
+
+        int p = from;
+        while (p < to) {
+            // skip empty lines
+            byte b = buffer.get(p);
+            if (b == LF) {
+                p++;
+                continue;
+            }
+            if (b == CR && p + 1 < to && buffer.get(p + 1) == LF) {
+                p += 2;
+                continue;
+            }
+
+            boolean endOfRow = false;
+            while (!endOfRow) {
+                int length = 0;
+                String field;
+                if (p < to && buffer.get(p) == QUOTE) {
+                    // keep the quotes, since unescaping is delegated
+                    scratch[length++] = QUOTE;
+                    p++;
+                    while (true) {
+                        if (p >= to) {
+                            throw new CSVParseException(
+                                "unterminated quoted field at byte " + (offset + p));
+                        }
+                        b = buffer.get(p++);
+                        if (b == LF || b == CR) {
+                            throw new CSVParseException(
+                                "line break inside quoted field at byte " + (offset + p - 1));
+                        }
+                        if (length + 2 > scratch.length) {
+                            scratch = Arrays.copyOf(scratch, 2 * scratch.length);
+                        }
+                        scratch[length++] = b;
+                        if (b == QUOTE) {
+                            if (p < to && buffer.get(p) == QUOTE) {
+                                scratch[length++] = QUOTE;
+                                p++;
+                            } else {
+                                break;
+                            }
+                        }
+                    }
+                    field = DSVUtils.unescapeDSV(
+                        new String(scratch, 0, length, StandardCharsets.UTF_8), delimiter);
+                } else {
+                    while (p < to) {
+                        b = buffer.get(p);
+                        if (b == sep || b == LF || b == CR) {
+                            break;
+                        }
+                        if (b == QUOTE) {
+                            throw new CSVParseException("unexpected quote at byte " + (offset + p));
+                        }
+                        if (length == scratch.length) {
+                            scratch = Arrays.copyOf(scratch, 2 * scratch.length);
+                        }
+                        scratch[length++] = b;
+                        p++;
+                    }
+                    field = new String(scratch, 0, length, StandardCharsets.UTF_8);
+                }
+                rows.addField(field);
+
+                // delimiter or end of row
+                if (p >= to) {
+                    endOfRow = true;
+                } else {
+                    b = buffer.get(p);
+                    if (b == sep) {
+                        p++;
+                    } else if (b == LF) {
+                        p++;
+                        endOfRow = true;
+                    } else if (b == CR && p + 1 < to && buffer.get(p + 1) == LF) {
+                        p += 2;
+                        endOfRow = true;
+                    } else {
+                        throw new CSVParseException(
+                            "unexpected character at byte " + (offset + p));
+                    }
+                }
+            }
+            rows.endRow();
+        }
+        return rows;
+    }
+
+    /*
+     * Position after the last line feed in the first length bytes of a buffer, or zero if none.
+     */
+    private static int lastLineEnd(ByteBuffer buffer, int length)
+    {
+        for (int i = length - 1; i >= 0; i--) {
+            if (buffer.get(i) == LF) {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    /*
+     * Position after the last line feed in the first length characters of an array, or zero if
+     * none.
+     */
+    private static int lastLineEnd(char[] block, int length)
+    {
+        for (int i = length - 1; i >= 0; i--) {
+            if (block[i] == LF) {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    private static char[] grow(char[] block)
+        throws ImportException
+    {
+        if (block.length >= MAX_BLOCK_SIZE) {
+            throw new ImportException("Failed to import CSV graph: line too long");
+        }
+        return Arrays.copyOf(block, 2 * block.length);
+    }
+
+    private static byte[] grow(byte[] block)
+        throws ImportException
+    {
+        if (block.length >= MAX_BLOCK_SIZE) {
+            throw new ImportException("Failed to import CSV graph: line too long");
+        }
+        return Arrays.copyOf(block, 2 * block.length);
+    }
+
+    /**
+     * The fields of consecutive rows.
+     */
+    private static class Rows
+    {
+        String[] fields = new String[1024];
+        int fieldCount;
+        int[] rowEnds = new int[256];
+        int rowCount;
+
+        void addField(String field)
+        {
+            if (fieldCount == fields.length) {
+                fields = Arrays.copyOf(fields, 2 * fieldCount);
+            }
+            fields[fieldCount++] = field;
+        }
+
+        void endRow()
+        {
+            if (rowCount == rowEnds.length) {
+                rowEnds = Arrays.copyOf(rowEnds, 2 * rowCount);
+            }
+            rowEnds[rowCount++] = fieldCount;
+        }
+    }
+
+    /**
+     * Signals a malformed input.
+     */
+    private static class CSVParseException
+        extends RuntimeException
+    {
+        private static final long serialVersionUID = 4307946624618407562L;
+
+        CSVParseException(String message)
+        {
+            super(message);
+        }
+    }
+
+}
+
+// End FastCSVImporter.java
@@ -20,6 +20,7 @@ package org.jgrapht.io;
 import java.io.*;
 import java.util.*;
 import java.util.Map.*;
+import java.util.function.*;
 
 import javax.xml.*;
 import javax.xml.parsers.*;
@@ -112,6 +113,16 @@ import org.xml.sax.helpers.*;
  * <a href="http://graphml.graphdrawing.org/xmlns/1.0/graphml.xsd">GraphML Schema</a>. The user can
  * (not recommended) disable the validation by calling {@link #setSchemaValidation(boolean)}.
  *
+ * <p>
+ * By default the importer collects all nodes and edges of the input and creates the graph after
+ * the whole input has been parsed. For large inputs the importer can be switched to streaming mode
+ * using {@link #setStreaming(boolean)}. In streaming mode each vertex and edge is created as soon
+ * as its end tag is read, and only the edges which refer to a node which has not been read yet are
+ * buffered until the end of the input. The memory used is therefore proportional to the graph
+ * instead of the input. Since the keys must be known when a node or edge is created, streaming mode
+ * requires the keys to precede the graph, as required by the GraphML Schema. Attributes which are
+ * not needed can be skipped while parsing using {@link #setAttributeFilter(Predicate)}.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  * 
@@ -130,6 +141,8 @@ public class GraphMLImporter<V, E>
     private String edgeWeightAttributeName = EDGE_WEIGHT_DEFAULT_ATTRIBUTE_NAME;
 
     private boolean schemaValidation;
+    private boolean streaming;
+    private Predicate<String> attributeFilter;
 
     /**
      * Constructs a new importer.
@@ -141,6 +154,8 @@ public class GraphMLImporter<V, E>
     {
         super(vertexProvider, edgeProvider);
         this.schemaValidation = true;
+        this.streaming = false;
+        this.attributeFilter = attributeName -> true;
     }
 
     /**
@@ -186,6 +201,54 @@ public class GraphMLImporter<V, E>
         this.schemaValidation = schemaValidation;
     }
 
+    /**
+     * Whether the importer creates vertices and edges while parsing the input
+     * 
+     * @return true if the importer creates vertices and edges while parsing the input
+     */
+    public boolean isStreaming()
+    {
+        return streaming;
+    }
+
+    /**
+     * Set whether the importer should create vertices and edges while parsing the input, instead
+     * of after the whole input has been parsed. In streaming mode vertices are added to the graph
+     * in the order of the input, while edges which refer to a node defined later in the input are
+     * added at the end.
+     * 
+     * @param streaming value for streaming mode
+     */
+    public void setStreaming(boolean streaming)
+    {
+        this.streaming = streaming;
+    }
+
+    /**
+     * Get the filter on the attribute names which are passed to the vertex and edge providers.
+     * 
+     * @return the attribute filter
+     */
+    public Predicate<String> getAttributeFilter()
+    {
+        return attributeFilter;
+    }
+
+    /**
+     * Set a filter on the attribute names which are passed to the vertex and edge providers. The
+     * values of attributes which are not accepted are skipped while parsing. The edge weight
+     * attribute is always read in case of weighted graphs, even if not accepted by the filter.
+     * 
+     * @param attributeFilter the attribute filter
+     */
+    public void setAttributeFilter(Predicate<String> attributeFilter)
+    {
+        if (attributeFilter == null) {
+            throw new IllegalArgumentException("Attribute filter cannot be null");
+        }
+        this.attributeFilter = attributeFilter;
+    }
+
     /**
      * Import a graph.
      * 
@@ -212,13 +275,13 @@ public class GraphMLImporter<V, E>
         try {
             // parse
             XMLReader xmlReader = createXMLReader();
-            GraphMLHandler handler = new GraphMLHandler();
+            GraphMLHandler handler = new GraphMLHandler(graph);
             xmlReader.setContentHandler(handler);
             xmlReader.setErrorHandler(handler);
             xmlReader.parse(new InputSource(input));
 
             // read result
-            handler.updateGraph(graph);
+            handler.updateGraph();
         } catch (Exception se) {
             throw new ImportException("Failed to parse GraphML", se);
         }
@@ -285,10 +348,15 @@ public class GraphMLImporter<V, E>
         private static final String DATA = "data";
         private static final String DATA_KEY = "key";
 
+        private final Graph<V, E> graph;
+
         // collect graph elements here
         private Map<String, GraphElement> nodes;
         private List<GraphElement> edges;
 
+        // vertices already created, only in streaming mode
+        private Map<String, V> graphNodes;
+
         // record state of parser
         private boolean insideDefault;
         private boolean insideData;
@@ -303,54 +371,135 @@ public class GraphMLImporter<V, E>
         private Map<String, Key> nodeValidKeys;
         private Map<String, Key> edgeValidKeys;
 
+        // single instance of each key identifier
+        private Map<String, String> keyIds;
+
+        // special edge weight, resolved before creating the first edge
+        private boolean edgeWeightResolved;
+        private Key edgeWeightKey;
+        private double defaultSpecialEdgeWeight;
+
+        public GraphMLHandler(Graph<V, E> graph)
+        {
+            this.graph = graph;
+        }
+
         // construct the actual graph after parsing
-        public void updateGraph(Graph<V, E> graph)
+        public void updateGraph()
             throws ImportException
         {
+            if (streaming) {
+                // create edges with forward references
+                for (GraphElement p : edges) {
+                    createEdge(p);
+                }
+                return;
+            }
+
             if (nodes.isEmpty()) {
                 return;
             }
 
             // create nodes
-            Map<String, V> graphNodes = new HashMap<String, V>();
-
             for (Entry<String, GraphElement> en : nodes.entrySet()) {
                 String nodeId = en.getKey();
                 if (nodeId == null) {
                     throw new ImportException("Node id missing");
                 }
+                createNode(nodeId, en.getValue());
+            }
+
+            // create edges
+            for (GraphElement p : edges) {
+                createEdge(p);
+            }
+        }
+
+        private void createNode(String nodeId, GraphElement p)
+        {
+            Map<String, Attribute> finalAttributes = createAttributes(nodeValidKeys, p.attributes);
 
-                // create attributes
-                Map<String, String> collectedAttributes = en.getValue().attributes;
-                Map<String, Attribute> finalAttributes = new LinkedHashMap<>();
-
-                for (Key validKey : nodeValidKeys.values()) {
-                    String validId = validKey.id;
-                    AttributeType validType = validKey.type;
-                    if (collectedAttributes.containsKey(validId)) {
-                        finalAttributes.put(
-                            validKey.attributeName,
-                            new DefaultAttribute<>(collectedAttributes.get(validId), validType));
-                    } else if (validKey.defaultValue != null) {
-                        finalAttributes.put(
-                            validKey.attributeName,
-                            new DefaultAttribute<>(validKey.defaultValue, validType));
+            // create the actual node
+            V v = vertexProvider.buildVertex(nodeId, finalAttributes);
+            graphNodes.put(nodeId, v);
+            graph.addVertex(v);
+        }
+
+        private void createEdge(GraphElement p)
+            throws ImportException
+        {
+            if (p.id1 == null) {
+                throw new ImportException("Edge source vertex missing");
+            }
+            V from = graphNodes.get(p.id1);
+            if (from == null) {
+                throw new ImportException("Source vertex " + p.id1 + " not found");
+            }
+            if (p.id2 == null) {
+                throw new ImportException("Edge target vertex missing");
+            }
+            V to = graphNodes.get(p.id2);
+            if (to == null) {
+                throw new ImportException("Target vertex " + p.id2 + " not found");
+            }
+
+            Map<String, Attribute> finalAttributes = createAttributes(edgeValidKeys, p.attributes);
+
+            E e = edgeProvider.buildEdge(from, to, "e_" + from + "_" + to, finalAttributes);
+            graph.addEdge(from, to, e);
+
+            // special handling for weighted graphs
+            resolveEdgeWeight();
+            if (edgeWeightKey != null) {
+                String value = p.attributes.get(edgeWeightKey.id);
+                if (value == null) {
+                    value = edgeWeightKey.defaultValue;
+                }
+                if (value != null) {
+                    try {
+                        graph.setEdgeWeight(e, Double.parseDouble(value));
+                    } catch (NumberFormatException nfe) {
+                        graph.setEdgeWeight(e, defaultSpecialEdgeWeight);
                     }
                 }
+            }
+        }
 
-                // create the actual node
-                V v = vertexProvider.buildVertex(nodeId, finalAttributes);
-                graphNodes.put(nodeId, v);
-                graph.addVertex(v);
+        private Map<String, Attribute> createAttributes(
+            Map<String, Key> validKeys, Map<String, String> collectedAttributes)
+        {
+            Map<String, Attribute> finalAttributes = new LinkedHashMap<>();
+            for (Key validKey : validKeys.values()) {
+                if (!validKey.accepted) {
+                    continue;
+                }
+                String validId = validKey.id;
+                AttributeType validType = validKey.type;
+                if (collectedAttributes.containsKey(validId)) {
+                    finalAttributes.put(
+                        validKey.attributeName,
+                        new DefaultAttribute<>(collectedAttributes.get(validId), validType));
+                } else if (validKey.defaultValue != null) {
+                    finalAttributes.put(
+                        validKey.attributeName,
+                        new DefaultAttribute<>(validKey.defaultValue, validType));
+                }
             }
+            return finalAttributes;
+        }
 
-            // check how to handle special edge weight
-            boolean handleSpecialEdgeWeights = false;
-            double defaultSpecialEdgeWeight = Graph.DEFAULT_EDGE_WEIGHT;
+        // check how to handle special edge weight
+        private void resolveEdgeWeight()
+        {
+            if (edgeWeightResolved) {
+                return;
+            }
+            edgeWeightResolved = true;
+            defaultSpecialEdgeWeight = Graph.DEFAULT_EDGE_WEIGHT;
             if (graph.getType().isWeighted()) {
                 for (Key k : edgeValidKeys.values()) {
                     if (k.attributeName.equals(edgeWeightAttributeName)) {
-                        handleSpecialEdgeWeights = true;
+                        edgeWeightKey = k;
                         String defaultValue = k.defaultValue;
                         try {
                             if (defaultValue != null) {
@@ -363,64 +512,30 @@ public class GraphMLImporter<V, E>
                         break;
                     }
                 }
-
             }
+        }
 
-            // create edges
-            for (GraphElement p : edges) {
-                if (p.id1 == null) {
-                    throw new ImportException("Edge source vertex missing");
-                }
-                V from = graphNodes.get(p.id1);
-                if (from == null) {
-                    throw new ImportException("Source vertex " + p.id1 + " not found");
-                }
-                if (p.id2 == null) {
-                    throw new ImportException("Edge target vertex missing");
-                }
-                V to = graphNodes.get(p.id2);
-                if (to == null) {
-                    throw new ImportException("Target vertex " + p.id2 + " not found");
-                }
-
-                // create attributes
-                Map<String, String> collectedAttributes = p.attributes;
-                Map<String, Attribute> finalAttributes = new LinkedHashMap<>();
-
-                for (Key validKey : edgeValidKeys.values()) {
-                    String validId = validKey.id;
-                    AttributeType validType = validKey.type;
-                    if (collectedAttributes.containsKey(validId)) {
-                        finalAttributes.put(
-                            validKey.attributeName,
-                            new DefaultAttribute<>(collectedAttributes.get(validId), validType));
-                    } else {
-                        if (validKey.defaultValue != null) {
-                            finalAttributes.put(
-                                validKey.attributeName,
-                                new DefaultAttribute<>(validKey.defaultValue, validType));
-                        }
-                    }
-                }
-
-                E e = edgeProvider.buildEdge(from, to, "e_" + from + "_" + to, finalAttributes);
-                graph.addEdge(from, to, e);
-
-                // special handling for weighted graphs
-                if (handleSpecialEdgeWeights) {
-                    if (finalAttributes.containsKey(edgeWeightAttributeName)) {
-                        try {
-                            graph.setEdgeWeight(
-                                e, Double.parseDouble(
-                                    finalAttributes.get(edgeWeightAttributeName).getValue()));
-                        } catch (NumberFormatException nfe) {
-                            graph.setEdgeWeight(e, defaultSpecialEdgeWeight);
-                        }
-                    }
-
+        /*
+         * Whether the value of a data element should be kept, given the element which contains it.
+         * Outside streaming mode the keys may follow the data and all values are kept.
+         */
+        private boolean isNeeded(GraphElement element, String keyId)
+        {
+            if (!streaming) {
+                return true;
+            }
+            Key key;
+            if (element.target == KeyTarget.NODE) {
+                key = nodeValidKeys.get(keyId);
+            } else if (element.target == KeyTarget.EDGE) {
+                key = edgeValidKeys.get(keyId);
+                if (key != null && key.attributeName.equals(edgeWeightAttributeName)) {
+                    return true;
                 }
+            } else {
+                return false;
             }
-
+            return key != null && key.accepted;
         }
 
         @Override
@@ -429,8 +544,12 @@ public class GraphMLImporter<V, E>
         {
             nodes = new HashMap<>();
             edges = new ArrayList<>();
+            graphNodes = new HashMap<>();
             nodeValidKeys = new HashMap<>();
             edgeValidKeys = new HashMap<>();
+            keyIds = new HashMap<>();
+            edgeWeightResolved = false;
+            edgeWeightKey = null;
             insideDefault = false;
             insideData = false;
             currentKey = null;
@@ -448,20 +567,26 @@ public class GraphMLImporter<V, E>
                 currentGraphElement.push(new GraphElement(findAttribute(GRAPH_ID, attributes)));
                 break;
             case NODE:
-                currentGraphElement.push(new GraphElement(findAttribute(NODE_ID, attributes)));
+                GraphElement node = new GraphElement(findAttribute(NODE_ID, attributes));
+                node.target = KeyTarget.NODE;
+                currentGraphElement.push(node);
                 break;
             case EDGE:
-                currentGraphElement.push(
-                    new GraphElement(
-                        findAttribute(EDGE_SOURCE, attributes),
-                        findAttribute(EDGE_TARGET, attributes)));
+                GraphElement edge = new GraphElement(
+                    findAttribute(EDGE_SOURCE, attributes), findAttribute(EDGE_TARGET, attributes));
+                edge.target = KeyTarget.EDGE;
+                currentGraphElement.push(edge);
                 break;
             case KEY:
                 String keyId = findAttribute(KEY_ID, attributes);
                 String keyFor = findAttribute(KEY_FOR, attributes);
                 String keyAttrName = findAttribute(KEY_ATTR_NAME, attributes);
                 String keyAttrType = findAttribute(KEY_ATTR_TYPE, attributes);
+                if (keyId != null) {
+                    keyIds.putIfAbsent(keyId, keyId);
+                }
                 currentKey = new Key(keyId, keyAttrName, null, null);
+                currentKey.accepted = keyAttrName != null && attributeFilter.test(keyAttrName);
                 if (keyAttrType != null) {
                     currentKey.type = AttributeType.create(keyAttrType);
                 }
@@ -501,6 +626,17 @@ public class GraphMLImporter<V, E>
                 break;
             case NODE:
                 GraphElement currentNode = currentGraphElement.pop();
+                if (streaming) {
+                    if (currentNode.id1 == null) {
+                        throw new SAXException("Node id missing");
+                    }
+                    if (graphNodes.containsKey(currentNode.id1)) {
+                        throw new SAXException(
+                            "Node with id " + currentNode.id1 + " already exists");
+                    }
+                    createNode(currentNode.id1, currentNode);
+                    break;
+                }
                 if (nodes.containsKey(currentNode.id1)) {
                     throw new SAXException("Node with id " + currentNode.id1 + " already exists");
                 }
@@ -508,6 +644,17 @@ public class GraphMLImporter<V, E>
                 break;
             case EDGE:
                 GraphElement currentEdge = currentGraphElement.pop();
+                if (streaming && graphNodes.containsKey(currentEdge.id1)
+                    && graphNodes.containsKey(currentEdge.id2))
+                {
+                    try {
+                        createEdge(currentEdge);
+                    } catch (ImportException e) {
+                        throw new SAXException(e);
+                    }
+                    break;
+                }
+                // in streaming mode only edges with forward references are kept
                 edges.add(currentEdge);
                 break;
             case KEY:
@@ -531,8 +678,10 @@ public class GraphMLImporter<V, E>
                 insideDefault = false;
                 break;
             case DATA:
-                if (currentData.isValid()) {
-                    currentGraphElement.peek().attributes.put(currentData.key, currentData.value);
+                GraphElement element = currentGraphElement.peek();
+                if (currentData.isValid() && isNeeded(element, currentData.key)) {
+                    String key = keyIds.getOrDefault(currentData.key, currentData.key);
+                    element.attributes.put(key, currentData.value);
                 }
                 insideData = false;
                 currentData = null;
@@ -546,10 +695,11 @@ public class GraphMLImporter<V, E>
         public void characters(char ch[], int start, int length)
             throws SAXException
         {
+            // the parser may report the characters of an element in multiple chunks
             if (insideDefault) {
-                currentKey.defaultValue = new String(ch, start, length);
+                currentKey.defaultValue = concat(currentKey.defaultValue, ch, start, length);
             } else if (insideData) {
-                currentData.value = new String(ch, start, length);
+                currentData.value = concat(currentData.value, ch, start, length);
             }
         }
 
@@ -572,6 +722,12 @@ public class GraphMLImporter<V, E>
             throw e;
         }
 
+        private String concat(String value, char ch[], int start, int length)
+        {
+            String chunk = new String(ch, start, length);
+            return value == null ? chunk : value + chunk;
+        }
+
         private String findAttribute(String localName, Attributes attributes)
         {
             for (int i = 0; i < attributes.getLength(); i++) {
@@ -601,6 +757,7 @@ public class GraphMLImporter<V, E>
         String defaultValue;
         KeyTarget target;
         AttributeType type;
+        boolean accepted;
 
         public Key(String id, String attributeName, String defaultValue, KeyTarget target)
         {
@@ -639,6 +796,7 @@ public class GraphMLImporter<V, E>
     {
         String id1;
         String id2;
+        KeyTarget target;
         Map<String, String> attributes;
 
         public GraphElement(String id1)
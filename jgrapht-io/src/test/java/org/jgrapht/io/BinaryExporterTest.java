@@ -0,0 +1,197 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.io;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.nio.*;
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+
+/**
+ * Tests for {@link BinaryExporter}.
+ *
+ * @author agent
+ */
+public class BinaryExporterTest
+{
+
+    private static <E> BinaryImporter<String, E> createImporter(Graph<String, E> g)
+    {
+        return new BinaryImporter<>((l, a) -> l, (f, t, l, a) -> g.getEdgeSupplier().get());
+    }
+
+    private static <E> byte[] export(BinaryExporter<String, E> exporter, Graph<String, E> g)
+        throws ExportException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exporter.exportGraph(g, out);
+        return out.toByteArray();
+    }
+
+    @Test
+    public void testHeader()
+        throws ExportException
+    {
+        Graph<String, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b", "c"));
+        g.addEdge("a", "b");
+        g.addEdge("b", "c");
+
+        byte[] bytes = export(new BinaryExporter<>(new StringComponentNameProvider<>()), g);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+
+        assertEquals('J', buffer.get(0));
+        assertEquals('G', buffer.get(1));
+        assertEquals('T', buffer.get(2));
+        assertEquals('B', buffer.get(3));
+        assertEquals(1, buffer.getInt(4));
+        assertEquals(BinaryUtils.FLAG_DIRECTED, buffer.getInt(8));
+        assertEquals(3, buffer.getInt(12));
+        assertEquals(2L, buffer.getLong(16));
+        assertEquals(0, bytes.length % 8);
+    }
+
+    @Test
+    public void testDirectedWeightedRoundTrip()
+        throws ExportException, ImportException
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b", "c", "δ"));
+        g.setEdgeWeight(g.addEdge("a", "b"), 1.5);
+        g.setEdgeWeight(g.addEdge("b", "a"), 2.5);
+        g.setEdgeWeight(g.addEdge("b", "b"), 3.5);
+        g.setEdgeWeight(g.addEdge("c", "δ"), -1.0);
+        g.setEdgeWeight(g.addEdge("c", "δ"), 4.0);
+
+        BinaryExporter<String, DefaultWeightedEdge> exporter =
+            new BinaryExporter<>(new StringComponentNameProvider<>());
+        exporter.setParameter(BinaryExporter.Parameter.EXPORT_EDGE_WEIGHTS, true);
+        byte[] bytes = export(exporter, g);
+
+        Graph<String, DefaultWeightedEdge> h =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        createImporter(h).importGraph(h, new ByteArrayInputStream(bytes));
+
+        assertEquals(new ArrayList<>(g.vertexSet()), new ArrayList<>(h.vertexSet()));
+        assertEquals(5, h.edgeSet().size());
+        assertEquals(1.5, h.getEdgeWeight(h.getEdge("a", "b")), 1e-9);
+        assertEquals(2.5, h.getEdgeWeight(h.getEdge("b", "a")), 1e-9);
+        assertEquals(3.5, h.getEdgeWeight(h.getEdge("b", "b")), 1e-9);
+        double sum = 0d;
+        for (DefaultWeightedEdge e : h.getAllEdges("c", "δ")) {
+            sum += h.getEdgeWeight(e);
+        }
+        assertEquals(2, h.getAllEdges("c", "δ").size());
+        assertEquals(3.0, sum, 1e-9);
+    }
+
+    @Test
+    public void testUndirectedRoundTripFile()
+        throws ExportException, ImportException, IOException
+    {
+        Graph<String, DefaultEdge> g = new Pseudograph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("1", "2", "3", "4", "5"));
+        g.addEdge("1", "2");
+        g.addEdge("3", "2");
+        g.addEdge("3", "3");
+        g.addEdge("4", "1");
+        g.addEdge("1", "4");
+
+        File file = File.createTempFile("jgrapht", ".bin");
+        try {
+            new BinaryExporter<String, DefaultEdge>(new StringComponentNameProvider<>())
+                .exportGraph(g, file);
+            Graph<String, DefaultEdge> h = new Pseudograph<>(DefaultEdge.class);
+            createImporter(h).importGraph(h, file);
+
+            assertEquals(new ArrayList<>(g.vertexSet()), new ArrayList<>(h.vertexSet()));
+            assertEquals(5, h.edgeSet().size());
+            assertTrue(h.containsEdge("2", "1"));
+            assertTrue(h.containsEdge("2", "3"));
+            assertTrue(h.containsEdge("3", "3"));
+            assertEquals(2, h.getAllEdges("1", "4").size());
+            assertEquals(0, h.degreeOf("5"));
+            for (String v : g.vertexSet()) {
+                assertEquals(g.degreeOf(v), h.degreeOf(v));
+            }
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void testAttributes()
+        throws ExportException, ImportException
+    {
+        Graph<String, DefaultEdge> g = new SimpleDirectedGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b", "c"));
+        DefaultEdge ab = g.addEdge("a", "b");
+        g.addEdge("b", "c");
+
+        BinaryExporter<String, DefaultEdge> exporter =
+            new BinaryExporter<>(new StringComponentNameProvider<>(), v -> {
+                Map<String, Attribute> m = new HashMap<>();
+                m.put("name", DefaultAttribute.createAttribute("vertex " + v));
+                if (v.equals("b")) {
+                    m.put("size", DefaultAttribute.createAttribute(42));
+                }
+                return m;
+            }, e -> e == ab
+                ? Collections.singletonMap("color", DefaultAttribute.createAttribute("red"))
+                : null);
+        byte[] bytes = export(exporter, g);
+
+        Map<String, Map<String, Attribute>> vertexAttributes = new HashMap<>();
+        Map<String, Map<String, Attribute>> edgeAttributes = new HashMap<>();
+        Graph<String, DefaultEdge> h = new SimpleDirectedGraph<>(DefaultEdge.class);
+        new BinaryImporter<String, DefaultEdge>((l, a) -> {
+            vertexAttributes.put(l, a);
+            return l;
+        }, (f, t, l, a) -> {
+            edgeAttributes.put(l, a);
+            return new DefaultEdge();
+        }).importGraph(h, new ByteArrayInputStream(bytes));
+
+        assertEquals(3, h.vertexSet().size());
+        assertEquals(2, h.edgeSet().size());
+        assertEquals("vertex a", vertexAttributes.get("a").get("name").getValue());
+        assertEquals(AttributeType.STRING, vertexAttributes.get("a").get("name").getType());
+        assertFalse(vertexAttributes.get("a").containsKey("size"));
+        assertEquals("42", vertexAttributes.get("b").get("size").getValue());
+        assertEquals(AttributeType.INT, vertexAttributes.get("b").get("size").getType());
+        assertEquals("red", edgeAttributes.get("e_a_b").get("color").getValue());
+        assertTrue(edgeAttributes.get("e_b_c").isEmpty());
+    }
+
+    @Test(expected = ExportException.class)
+    public void testWriterNotSupported()
+        throws ExportException
+    {
+        new BinaryExporter<String, DefaultEdge>()
+            .exportGraph(new SimpleGraph<>(DefaultEdge.class), new StringWriter());
+    }
+
+}
+
+// End BinaryExporterTest.java
@@ -0,0 +1,274 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.io;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.file.*;
+import java.util.*;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+/**
+ * Tests for {@link BinaryImporter}.
+ *
+ * @author agent
+ */
+public class BinaryImporterTest
+{
+
+    private static byte[] export(Graph<Integer, DefaultWeightedEdge> g)
+        throws ExportException
+    {
+        BinaryExporter<Integer, DefaultWeightedEdge> exporter = new BinaryExporter<>();
+        exporter.setParameter(BinaryExporter.Parameter.EXPORT_EDGE_WEIGHTS, true);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exporter.exportGraph(g, out);
+        return out.toByteArray();
+    }
+
+    private static Graph<Integer, DefaultWeightedEdge> randomGraph(boolean directed)
+    {
+        Graph<Integer, DefaultWeightedEdge> g = directed
+            ? new DirectedWeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER)
+            : new WeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(200, 1000, 7, true, true)
+            .generateGraph(g);
+        Random rng = new Random(7);
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            g.setEdgeWeight(e, rng.nextDouble());
+        }
+        return g;
+    }
+
+    @Test
+    public void testSparseGraph()
+        throws ExportException, ImportException, IOException
+    {
+        for (boolean directed : new boolean[] { true, false }) {
+            Graph<Integer, DefaultWeightedEdge> g = randomGraph(directed);
+            File file = File.createTempFile("jgrapht", ".bin");
+            try {
+                BinaryExporter<Integer, DefaultWeightedEdge> exporter = new BinaryExporter<>();
+                exporter.setParameter(BinaryExporter.Parameter.EXPORT_EDGE_WEIGHTS, true);
+                exporter.exportGraph(g, file);
+
+                Graph<Integer, Integer> s = BinaryImporter.importSparseGraph(file);
+                assertEquals(directed, s.getType().isDirected());
+                assertTrue(s.getType().isWeighted());
+                assertEquals(g.vertexSet().size(), s.vertexSet().size());
+                assertEquals(g.edgeSet().size(), s.edgeSet().size());
+
+                // vertices of g are 0..n-1 in iteration order
+                double weight = 0d;
+                for (Integer v : g.vertexSet()) {
+                    assertEquals(g.degreeOf(v), s.degreeOf(v));
+                    if (directed) {
+                        assertEquals(g.outDegreeOf(v), s.outDegreeOf(v));
+                    }
+                }
+                for (DefaultWeightedEdge e : g.edgeSet()) {
+                    weight += g.getEdgeWeight(e);
+                }
+                for (Integer e : s.edgeSet()) {
+                    weight -= s.getEdgeWeight(e);
+                    assertTrue(g.containsEdge(s.getEdgeSource(e), s.getEdgeTarget(e)));
+                }
+                assertEquals(0d, weight, 1e-9);
+            } finally {
+                file.delete();
+            }
+        }
+    }
+
+    @Test
+    public void testUnweightedTarget()
+        throws ExportException, ImportException
+    {
+        Graph<Integer, DefaultWeightedEdge> g = randomGraph(true);
+        Graph<String, DefaultEdge> h = new DirectedPseudograph<>(DefaultEdge.class);
+        new BinaryImporter<String, DefaultEdge>((l, a) -> l, (f, t, l, a) -> new DefaultEdge())
+            .importGraph(h, new ByteArrayInputStream(export(g)));
+
+        assertEquals(g.vertexSet().size(), h.vertexSet().size());
+        assertEquals(g.edgeSet().size(), h.edgeSet().size());
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            assertTrue(
+                h.containsEdge(
+                    String.valueOf(g.getEdgeSource(e) + 1),
+                    String.valueOf(g.getEdgeTarget(e) + 1)));
+        }
+    }
+
+    @Test
+    public void testBadMagic()
+    {
+        byte[] bytes = new byte[32];
+        bytes[0] = 'X';
+        try {
+            importGraph(bytes);
+            fail("No!");
+        } catch (ImportException e) {
+            assertEquals("Failed to import binary graph: not a binary graph", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testUnsupportedVersion()
+        throws ExportException
+    {
+        byte[] bytes = export(randomGraph(true));
+        bytes[4] = 2;
+        try {
+            importGraph(bytes);
+            fail("No!");
+        } catch (ImportException e) {
+            assertEquals("Failed to import binary graph: unsupported version 2", e.getMessage());
+        }
+    }
+
+    @Test(expected = ImportException.class)
+    public void testTruncated()
+        throws ExportException, ImportException
+    {
+        byte[] bytes = export(randomGraph(false));
+        importGraph(Arrays.copyOf(bytes, bytes.length - 8));
+    }
+
+    @Test
+    public void testTruncatedSparseGraph()
+        throws ExportException, IOException
+    {
+        byte[] bytes = export(randomGraph(true));
+        assertSparseImportFails(Arrays.copyOf(bytes, bytes.length / 2), "truncated input");
+    }
+
+    @Test
+    public void testInvalidEdgeOffsets()
+        throws ExportException, IOException
+    {
+        byte[] bytes = export(randomGraph(true));
+        ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        long edgeOffsets = edgeOffsets(buffer);
+
+        // offset larger than the number of edges
+        buffer.putLong((int) edgeOffsets + 8, buffer.getLong(16) + 1);
+        assertImportFails(bytes, "invalid edge offsets");
+        assertSparseImportFails(bytes, "invalid edge offsets");
+
+        // decreasing offsets
+        buffer.putLong((int) edgeOffsets + 8, 5);
+        buffer.putLong((int) edgeOffsets + 16, 4);
+        assertImportFails(bytes, "invalid edge offsets");
+        assertSparseImportFails(bytes, "invalid edge offsets");
+    }
+
+    @Test
+    public void testInvalidStringTable()
+        throws ExportException
+    {
+        byte[] bytes = export(randomGraph(true));
+        ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        int n = buffer.getInt(12);
+
+        // negative string length
+        buffer.putLong(32 + 8, buffer.getLong(32) - 1);
+        assertImportFails(bytes, "invalid string table");
+
+        // negative total length
+        buffer.putLong(32 + 8 * n, -1);
+        assertImportFails(bytes, "invalid string table");
+    }
+
+    @Test(expected = ImportException.class)
+    public void testUnsupportedGraph()
+        throws ExportException, ImportException
+    {
+        Graph<Integer, DefaultWeightedEdge> g = new DirectedWeightedPseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        g.addVertex(0);
+        g.addEdge(0, 0);
+        Graph<String, DefaultEdge> h = new SimpleDirectedGraph<>(DefaultEdge.class);
+        new BinaryImporter<String, DefaultEdge>((l, a) -> l, (f, t, l, a) -> new DefaultEdge())
+            .importGraph(h, new ByteArrayInputStream(export(g)));
+    }
+
+    @Test(expected = ImportException.class)
+    public void testReaderNotSupported()
+        throws ImportException
+    {
+        Graph<String, DefaultEdge> h = new SimpleDirectedGraph<>(DefaultEdge.class);
+        new BinaryImporter<String, DefaultEdge>((l, a) -> l, (f, t, l, a) -> new DefaultEdge())
+            .importGraph(h, new StringReader(""));
+    }
+
+    /**
+     * Position of the edge offsets, which follow the string table of the vertex identifiers.
+     */
+    private static long edgeOffsets(ByteBuffer buffer)
+    {
+        int n = buffer.getInt(12);
+        long bytes = 32 + 8L * (n + 1);
+        long end = bytes + buffer.getLong((int) bytes - 8);
+        return BinaryUtils.align(end);
+    }
+
+    private static void assertImportFails(byte[] bytes, String reason)
+    {
+        try {
+            importGraph(bytes);
+            fail("No!");
+        } catch (ImportException e) {
+            assertEquals("Failed to import binary graph: " + reason, e.getMessage());
+        }
+    }
+
+    private static void assertSparseImportFails(byte[] bytes, String reason)
+        throws IOException
+    {
+        File file = File.createTempFile("jgrapht", ".bin");
+        try {
+            Files.write(file.toPath(), bytes);
+            BinaryImporter.importSparseGraph(file);
+            fail("No!");
+        } catch (ImportException e) {
+            assertEquals("Failed to import binary graph: " + reason, e.getMessage());
+        } finally {
+            file.delete();
+        }
+    }
+
+    private static void importGraph(byte[] bytes)
+        throws ImportException
+    {
+        Graph<String, DefaultEdge> h = new DirectedPseudograph<>(DefaultEdge.class);
+        new BinaryImporter<String, DefaultEdge>((l, a) -> l, (f, t, l, a) -> new DefaultEdge())
+            .importGraph(h, new ByteArrayInputStream(bytes));
+    }
+
+}
+
+// End BinaryImporterTest.java
@@ -0,0 +1,240 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.io;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+
+/**
+ * Tests for {@link FastCSVImporter}.
+ *
+ * @author agent
+ */
+public class FastCSVImporterTest
+{
+
+    private static FastCSVImporter<String, DefaultEdge> createImporter(
+        Graph<String, DefaultEdge> g, CSVFormat format, char delimiter, ForkJoinPool pool)
+    {
+        return new FastCSVImporter<>(
+            (l, a) -> l, (f, t, l, a) -> g.getEdgeSupplier().get(), format, delimiter, pool);
+    }
+
+    private static Graph<String, DefaultEdge> readGraph(
+        String input, CSVFormat format, char delimiter)
+        throws ImportException
+    {
+        Graph<String, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        createImporter(g, format, delimiter, ForkJoinPool.commonPool())
+            .importGraph(g, new StringReader(input));
+        return g;
+    }
+
+    @Test
+    public void testEdgeList()
+        throws ImportException
+    {
+        // @formatter:off
+        String input = "1,2\n"
+                     + "2,3\n"
+                     + "3,4\n"
+                     + "4,1\n";
+        // @formatter:on
+
+        Graph<String, DefaultEdge> g = readGraph(input, CSVFormat.EDGE_LIST, ',');
+
+        assertEquals(Arrays.asList("1", "2", "3", "4"), new ArrayList<>(g.vertexSet()));
+        assertEquals(4, g.edgeSet().size());
+        assertTrue(g.containsEdge("1", "2"));
+        assertTrue(g.containsEdge("2", "3"));
+        assertTrue(g.containsEdge("3", "4"));
+        assertTrue(g.containsEdge("4", "1"));
+    }
+
+    @Test
+    public void testAdjacencyListWithSemicolon()
+        throws ImportException
+    {
+        // @formatter:off
+        String input = "1;2;3;4\n"
+                     + "2;3\r\n"
+                     + "\n"
+                     + "5\n"
+                     + "4;1;5";
+        // @formatter:on
+
+        Graph<String, DefaultEdge> g = readGraph(input, CSVFormat.ADJACENCY_LIST, ';');
+
+        assertEquals(Arrays.asList("1", "2", "3", "4", "5"), new ArrayList<>(g.vertexSet()));
+        assertEquals(6, g.edgeSet().size());
+        assertTrue(g.containsEdge("1", "2"));
+        assertTrue(g.containsEdge("1", "3"));
+        assertTrue(g.containsEdge("1", "4"));
+        assertTrue(g.containsEdge("2", "3"));
+        assertTrue(g.containsEdge("4", "1"));
+        assertTrue(g.containsEdge("4", "5"));
+    }
+
+    @Test
+    public void testQuotedFields()
+        throws ImportException
+    {
+        // @formatter:off
+        String input = "\"a,b\",\"c\"\"d\"\n"
+                     + "\"c\"\"d\",α\n";
+        // @formatter:on
+
+        Graph<String, DefaultEdge> g = readGraph(input, CSVFormat.EDGE_LIST, ',');
+
+        assertEquals(3, g.vertexSet().size());
+        assertTrue(g.containsEdge("a,b", "c\"d"));
+        assertTrue(g.containsEdge("c\"d", "α"));
+    }
+
+    @Test
+    public void testEmptySource()
+    {
+        try {
+            readGraph("1,2\n,3\n", CSVFormat.EDGE_LIST, ',');
+            fail("No!");
+        } catch (ImportException e) {
+            assertEquals(
+                "Failed to import CSV graph: Source vertex cannot be empty", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testEmptyTarget()
+    {
+        try {
+            readGraph("1,2,\n", CSVFormat.ADJACENCY_LIST, ',');
+            fail("No!");
+        } catch (ImportException e) {
+            assertEquals(
+                "Failed to import CSV graph: Target vertex cannot be empty", e.getMessage());
+        }
+    }
+
+    @Test(expected = ImportException.class)
+    public void testUnexpectedQuote()
+        throws ImportException
+    {
+        readGraph("1,2\"3\n", CSVFormat.EDGE_LIST, ',');
+    }
+
+    @Test(expected = ImportException.class)
+    public void testLineBreakInQuotedField()
+        throws ImportException
+    {
+        readGraph("1,\"2\n3\"\n", CSVFormat.EDGE_LIST, ',');
+    }
+
+    @Test(expected = ImportException.class)
+    public void testUnsupportedGraph()
+        throws ImportException
+    {
+        Graph<String, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        createImporter(g, CSVFormat.EDGE_LIST, ',', ForkJoinPool.commonPool())
+            .importGraph(g, new StringReader("1,1\n"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMatrixNotSupported()
+    {
+        new FastCSVImporter<String, DefaultEdge>(
+            (l, a) -> l, (f, t, l, a) -> new DefaultEdge(), CSVFormat.MATRIX, ',',
+            ForkJoinPool.commonPool());
+    }
+
+    @Test
+    public void testLargeInputAllSources()
+        throws ImportException, IOException
+    {
+        final int n = 25000;
+        final int m = 150000;
+        Random rng = new Random(17);
+        StringBuilder sb = new StringBuilder();
+        Graph<String, DefaultEdge> expected = new DirectedPseudograph<>(DefaultEdge.class);
+        for (int i = 0; i < m; i++) {
+            String s = "v" + rng.nextInt(n);
+            String t = "v" + rng.nextInt(n);
+            sb.append(s).append(',').append(t).append(i % 2 == 0 ? "\n" : "\r\n");
+            expected.addVertex(s);
+            expected.addVertex(t);
+            expected.addEdge(s, t);
+        }
+        String input = sb.toString();
+        byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            Graph<String, DefaultEdge> g1 = new DirectedPseudograph<>(DefaultEdge.class);
+            createImporter(g1, CSVFormat.EDGE_LIST, ',', pool)
+                .importGraph(g1, new StringReader(input));
+            assertSameGraph(expected, g1);
+
+            Graph<String, DefaultEdge> g2 = new DirectedPseudograph<>(DefaultEdge.class);
+            createImporter(g2, CSVFormat.EDGE_LIST, ',', pool)
+                .importGraph(g2, new ByteArrayInputStream(bytes));
+            assertSameGraph(expected, g2);
+
+            Graph<String, DefaultEdge> g3 = new DirectedPseudograph<>(DefaultEdge.class);
+            createImporter(g3, CSVFormat.EDGE_LIST, ',', pool)
+                .importGraph(g3, ByteBuffer.wrap(bytes));
+            assertSameGraph(expected, g3);
+
+            File file = File.createTempFile("jgrapht", ".csv");
+            try {
+                Files.write(file.toPath(), bytes);
+                Graph<String, DefaultEdge> g4 = new DirectedPseudograph<>(DefaultEdge.class);
+                createImporter(g4, CSVFormat.EDGE_LIST, ',', pool).importGraph(g4, file);
+                assertSameGraph(expected, g4);
+            } finally {
+                file.delete();
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static void assertSameGraph(
+        Graph<String, DefaultEdge> expected, Graph<String, DefaultEdge> actual)
+    {
+        assertEquals(new ArrayList<>(expected.vertexSet()), new ArrayList<>(actual.vertexSet()));
+        assertEquals(expected.edgeSet().size(), actual.edgeSet().size());
+        Iterator<DefaultEdge> it = actual.edgeSet().iterator();
+        for (DefaultEdge e : expected.edgeSet()) {
+            DefaultEdge a = it.next();
+            assertEquals(expected.getEdgeSource(e), actual.getEdgeSource(a));
+            assertEquals(expected.getEdgeTarget(e), actual.getEdgeTarget(a));
+        }
+    }
+
+}
+
+// End FastCSVImporterTest.java
@@ -1020,6 +1020,213 @@ public class GraphMLImporterTest
         importer.importGraph(g, new StringReader(input));
     }
 
+    @Test
+    public void testStreaming()
+        throws ImportException
+    {
+        // @formatter:off
+        String input =
+            "<?xml version=\"1.0\" encoding=\"UTF-8\"?> " + NL +
+            "<graphml xmlns=\"http://graphml.graphdrawing.org/xmlns\" " + 
+            "xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"" + NL +
+            "xsi:schemaLocation=\"http://graphml.graphdrawing.org/xmlns " + 
+            "http://graphml.graphdrawing.org/xmlns/1.0/graphml.xsd\">" + NL +
+            "<key id=\"d0\" for=\"node\" attr.name=\"color\" attr.type=\"string\">" + NL +
+            "<default>yellow</default>" + NL +
+            "</key>" + NL +
+            "<key id=\"d1\" for=\"edge\" attr.name=\"weight\" attr.type=\"double\">" + NL +
+            "<default>3.0</default>" + NL +
+            "</key>" + NL +
+            "<graph id=\"G\" edgedefault=\"directed\">" + NL +
+            "<node id=\"n0\">" + NL +
+            "<data key=\"d0\">green</data>" + NL +
+            "</node>" + NL +
+            "<edge id=\"e0\" source=\"n0\" target=\"n2\">" + NL +
+            "<data key=\"d1\">2.0</data>" + NL +
+            "</edge>" + NL +
+            "<node id=\"n1\"/>" + NL +
+            "<edge id=\"e1\" source=\"n0\" target=\"n1\">" + NL +
+            "<data key=\"d1\">1.0</data>" + NL +
+            "</edge>" + NL +
+            "<node id=\"n2\">" + NL +
+            "<data key=\"d0\">blue</data>" + NL +
+            "</node>" + NL+
+            "<edge id=\"e2\" source=\"n1\" target=\"n2\"/>" + NL +
+            "</graph>" + NL +
+            "</graphml>";
+        // @formatter:on
+
+        Graph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Map<String, Map<String, Attribute>> vAttributes = new HashMap<>();
+        Map<DefaultWeightedEdge, Map<String, Attribute>> eAttributes = new HashMap<>();
+        List<DefaultWeightedEdge> edgeOrder = new ArrayList<>();
+        GraphMLImporter<String, DefaultWeightedEdge> importer =
+            createGraphImporter(g, (label, attributes) -> {
+                vAttributes.put(label, attributes);
+                return label;
+            }, (from, to, label, attributes) -> {
+                DefaultWeightedEdge e = g.getEdgeFactory().createEdge(from, to);
+                eAttributes.put(e, attributes);
+                edgeOrder.add(e);
+                return e;
+            });
+        importer.setStreaming(true);
+        importer.importGraph(g, new StringReader(input));
+
+        assertEquals(Arrays.asList("n0", "n1", "n2"), new ArrayList<>(g.vertexSet()));
+        assertEquals(3, g.edgeSet().size());
+        assertEquals(g.getEdge("n0", "n1"), edgeOrder.get(0));
+        assertEquals(g.getEdge("n1", "n2"), edgeOrder.get(1));
+        assertEquals(g.getEdge("n0", "n2"), edgeOrder.get(2));
+        assertEquals(2.0, g.getEdgeWeight(g.getEdge("n0", "n2")), 1e-9);
+        assertEquals(1.0, g.getEdgeWeight(g.getEdge("n0", "n1")), 1e-9);
+        assertEquals(3.0, g.getEdgeWeight(g.getEdge("n1", "n2")), 1e-9);
+        assertEquals("green", vAttributes.get("n0").get("color").getValue());
+        assertEquals("yellow", vAttributes.get("n1").get("color").getValue());
+        assertEquals("blue", vAttributes.get("n2").get("color").getValue());
+        assertEquals("2.0", eAttributes.get(g.getEdge("n0", "n2")).get("weight").getValue());
+    }
+
+    @Test
+    public void testStreamingDuplicateNode()
+    {
+        // @formatter:off
+        String input = 
+            "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + NL +  
+            "<graphml xmlns=\"http://graphml.graphdrawing.org/xmlns\"" + NL +  
+            "xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"" + NL +
+            "xsi:schemaLocation=\"http://graphml.graphdrawing.org/xmlns " + 
+            "http://graphml.graphdrawing.org/xmlns/1.0/graphml.xsd\">" + NL + 
+            "<graph id=\"G\" edgedefault=\"undirected\">" + NL + 
+            "<node id=\"1\"/>" + NL +
+            "<node id=\"1\"/>" + NL +
+            "</graph>" + NL + 
+            "</graphml>";
+        // @formatter:on
+
+        Graph<String, DefaultEdge> g = new Pseudograph<>(DefaultEdge.class);
+        GraphMLImporter<String, DefaultEdge> importer =
+            createGraphImporter(g, new HashMap<>(), new HashMap<>());
+        importer.setStreaming(true);
+        try {
+            importer.importGraph(g, new StringReader(input));
+            fail("No!");
+        } catch (ImportException e) {
+        }
+    }
+
+    @Test
+    public void testStreamingMissingVertex()
+    {
+        // @formatter:off
+        String input = 
+            "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + NL +  
+            "<graphml xmlns=\"http://graphml.graphdrawing.org/xmlns\"" + NL +  
+            "xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"" + NL +
+            "xsi:schemaLocation=\"http://graphml.graphdrawing.org/xmlns " + 
+            "http://graphml.graphdrawing.org/xmlns/1.0/graphml.xsd\">" + NL + 
+            "<graph id=\"G\" edgedefault=\"undirected\">" + NL + 
+            "<node id=\"1\"/>" + NL +
+            "<edge source=\"1\" target=\"2\"/>" + NL +
+            "</graph>" + NL + 
+            "</graphml>";
+        // @formatter:on
+
+        Graph<String, DefaultEdge> g = new Pseudograph<>(DefaultEdge.class);
+        GraphMLImporter<String, DefaultEdge> importer =
+            createGraphImporter(g, new HashMap<>(), new HashMap<>());
+        importer.setStreaming(true);
+        try {
+            importer.importGraph(g, new StringReader(input));
+            fail("No!");
+        } catch (ImportException e) {
+        }
+    }
+
+    @Test
+    public void testAttributeFilter()
+        throws ImportException
+    {
+        // @formatter:off
+        String input =
+            "<?xml version=\"1.0\" encoding=\"UTF-8\"?> " + NL +
+            "<graphml xmlns=\"http://graphml.graphdrawing.org/xmlns\" " + 
+            "xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"" + NL +
+            "xsi:schemaLocation=\"http://graphml.graphdrawing.org/xmlns " + 
+            "http://graphml.graphdrawing.org/xmlns/1.0/graphml.xsd\">" + NL +
+            "<key id=\"d0\" for=\"node\" attr.name=\"color\" attr.type=\"string\"/>" + NL +
+            "<key id=\"d1\" for=\"node\" attr.name=\"label\" attr.type=\"string\"/>" + NL +
+            "<key id=\"d2\" for=\"edge\" attr.name=\"weight\" attr.type=\"double\"/>" + NL +
+            "<graph id=\"G\" edgedefault=\"undirected\">" + NL +
+            "<node id=\"n0\">" + NL +
+            "<data key=\"d0\">green</data>" + NL +
+            "<data key=\"d1\">first</data>" + NL +
+            "</node>" + NL +
+            "<node id=\"n1\">" + NL +
+            "<data key=\"d0\">blue</data>" + NL +
+            "</node>" + NL +
+            "<edge source=\"n0\" target=\"n1\">" + NL +
+            "<data key=\"d2\">2.5</data>" + NL +
+            "</edge>" + NL +
+            "</graph>" + NL +
+            "</graphml>";
+        // @formatter:on
+
+        for (boolean streaming : new boolean[] { false, true }) {
+            Graph<String, DefaultWeightedEdge> g =
+                new WeightedPseudograph<>(DefaultWeightedEdge.class);
+            Map<String, Map<String, Attribute>> vAttributes = new HashMap<>();
+            Map<DefaultWeightedEdge, Map<String, Attribute>> eAttributes = new HashMap<>();
+            GraphMLImporter<String, DefaultWeightedEdge> importer =
+                createGraphImporter(g, vAttributes, eAttributes);
+            importer.setStreaming(streaming);
+            importer.setAttributeFilter(name -> name.equals("label"));
+            importer.importGraph(g, new StringReader(input));
+
+            assertEquals(2, g.vertexSet().size());
+            assertEquals("first", vAttributes.get("n0").get("label").getValue());
+            assertFalse(vAttributes.get("n0").containsKey("color"));
+            assertTrue(vAttributes.get("n1").isEmpty());
+            DefaultWeightedEdge e = g.getEdge("n0", "n1");
+            assertTrue(eAttributes.get(e).isEmpty());
+            assertEquals(2.5, g.getEdgeWeight(e), 1e-9);
+        }
+    }
+
+    @Test
+    public void testStreamingExportImport()
+        throws Exception
+    {
+        DirectedPseudograph<String, DefaultEdge> g1 =
+            new DirectedPseudograph<String, DefaultEdge>(DefaultEdge.class);
+        for (int i = 0; i < 100; i++) {
+            g1.addVertex(String.valueOf(i));
+        }
+        for (int i = 0; i < 100; i++) {
+            g1.addEdge(String.valueOf(i), String.valueOf((7 * i) % 100));
+        }
+
+        GraphMLExporter<String, DefaultEdge> exporter = new GraphMLExporter<String, DefaultEdge>();
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        exporter.exportGraph(g1, os);
+
+        String output = new String(os.toByteArray(), "UTF-8");
+
+        Graph<String, DefaultEdge> g2 = readGraph(output, DefaultEdge.class, true, false);
+        Graph<String, DefaultEdge> g3 = new DirectedPseudograph<>(DefaultEdge.class);
+        GraphMLImporter<String, DefaultEdge> importer =
+            createGraphImporter(g3, new HashMap<>(), new HashMap<>());
+        importer.setStreaming(true);
+        importer.importGraph(g3, new StringReader(output));
+
+        assertEquals(g2.vertexSet(), g3.vertexSet());
+        assertEquals(100, g3.edgeSet().size());
+        for (DefaultEdge e : g2.edgeSet()) {
+            assertTrue(g3.containsEdge(g2.getEdgeSource(e), g2.getEdgeTarget(e)));
+        }
+    }
+
     public <E> Graph<String, E> readGraph(
         String input, Class<? extends E> edgeClass, boolean directed, boolean weighted)
         throws ImportException